@@ -17,6 +17,7 @@
 package org.geotools.gml2.simple;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -176,7 +177,8 @@ private void encodeFeature(
                 continue;
             }
 
-            String gmlId = encodeGeometryIds ? f.getID() + "." + name.getLocalPart() : null;
+            String gmlId =
+                    encodeGeometryIds && value instanceof Geometry ? f.getID() + "." + name.getLocalPart() : null;
             encodeValue(output, ee, value, attribute, gmlId);
         }
 
@@ -195,14 +197,14 @@ private void encodeValue(
         if (value instanceof Geometry) {
             Geometry g = (Geometry) value;
             Integer dimension = GML2EncodingUtils.getGeometryDimension(g, encoder.getConfiguration());
-            AttributesImpl atts = buildSrsAttributes(
+            AttributesImpl atts = attribute.getSrsAttributes(
                     ((GeometryDescriptor) attribute.descriptor).getCoordinateReferenceSystem(), dimension);
             GeometryEncoder<Geometry> geometryEncoder = getGeometryEncoder(value, attribute);
             geometryEncoder.encode(g, atts, output, featureId);
         } else if (value instanceof Envelope) {
             ReferencedEnvelope e = (ReferencedEnvelope) value;
             Integer dimension = GML2EncodingUtils.getEnvelopeDimension(e, encoder.getConfiguration());
-            AttributesImpl atts = buildSrsAttributes(e.getCoordinateReferenceSystem(), dimension);
+            AttributesImpl atts = attribute.getSrsAttributes(e.getCoordinateReferenceSystem(), dimension);
             ee.encode(e, atts, output);
         } else if (attribute.binding instanceof SimpleBinding) {
             encodeSimpleBinding(output, value, attribute.binding);
@@ -283,7 +285,7 @@ private void encodeSimpleBinding(GMLWriter output, Object value, Binding binding
      *
      * @author Andrea Aime - GeoSolutions
      */
-    static final class AttributeContext {
+    final class AttributeContext {
         QualifiedName name;
 
         int attributeIndex;
@@ -294,9 +296,37 @@ static final class AttributeContext {
 
         FeatureType featureType;
 
+        /** The CRS the srs attributes below have been built for */
+        CoordinateReferenceSystem srsCrs;
+
+        /** The srs attributes, by dimension (the null dimension is at index 0) */
+        AttributesImpl[] srsAttributes = new AttributesImpl[5];
+
         public AttributeContext(QualifiedName name) {
             this.name = name;
         }
+
+        /**
+         * Returns the srs attributes for the given CRS and dimension, building them only when the CRS changes, as
+         * turning a CRS into a srsName is expensive compared to the encoding of a small geometry. The encoders do not
+         * modify the attributes they are given, so they can be shared among values.
+         */
+        AttributesImpl getSrsAttributes(CoordinateReferenceSystem crs, Integer dimension) {
+            int idx = dimension == null ? 0 : dimension;
+            if (idx >= srsAttributes.length) {
+                return buildSrsAttributes(crs, dimension);
+            }
+            if (crs != srsCrs) {
+                srsCrs = crs;
+                Arrays.fill(srsAttributes, null);
+            }
+            AttributesImpl atts = srsAttributes[idx];
+            if (atts == null) {
+                atts = buildSrsAttributes(crs, dimension);
+                srsAttributes[idx] = atts;
+            }
+            return atts;
+        }
     }
 
     /**
@@ -40,6 +40,9 @@ public class GMLWriter {
 
     static final QualifiedName POS_LIST = new QualifiedName(GML.NAMESPACE, "posList", "gml");
 
+    /** Shared by all the elements without attributes, the handlers do not modify the attributes they receive */
+    static final Attributes NO_ATTRIBUTES = new AttributesImpl();
+
     private final CoordinateFormatter coordFormatter;
 
     /** The actual XML encoder */
@@ -167,17 +170,21 @@ public void endPrefixMapping(String prefix) throws SAXException {
      *     org.xml.sax.Attributes)
      */
     public void startElement(QualifiedName qn, Attributes atts) throws SAXException {
-        String qualifiedName = qn.getQualifiedName();
-        if (qualifiedName == null) {
-            qualifiedName = qualify(qn.getNamespaceURI(), qn.getLocalPart(), null);
-        }
         if (atts == null) {
-            atts = new AttributesImpl();
+            atts = NO_ATTRIBUTES;
+        }
+        String qualifiedName = qn.getQualifiedName();
+        if (qualifiedName != null) {
+            // common case, the name has been built with a prefix, no need to split it
+            handler.startElement(qn.getNamespaceURI(), qn.getLocalPart(), qualifiedName, atts);
+            return;
         }
+        qualifiedName = qualify(qn.getNamespaceURI(), qn.getLocalPart(), null);
         if (qualifiedName != null) {
             String localName = null;
-            if (qualifiedName.contains(":")) {
-                localName = qualifiedName.split(":")[1];
+            int idx = qualifiedName.indexOf(':');
+            if (idx >= 0) {
+                localName = qualifiedName.substring(idx + 1);
             }
             handler.startElement(qn.getNamespaceURI(), localName, qualifiedName, atts);
         } else {
@@ -280,16 +287,14 @@ void coordinates(CoordinateSequence coordinates, char cs, char ts, StringBuffer
         sb.setLength(0);
         int n = coordinates.size();
         int dim = CoordinateSequences.coordinateDimension(coordinates);
+        int totalDimensions = dim > 2 && !encodeMeasures ? dim - coordinates.getMeasures() : dim;
         for (int i = 0; i < n; i++) {
             coordFormatter.format(coordinates.getX(i), sb).append(cs);
             coordFormatter.format(coordinates.getY(i), sb);
-            if (dim > 2) {
-                int totalDimensions = encodeMeasures ? dim : dim - coordinates.getMeasures();
-                // encoding the remaining ordinates, typically Z and M values
-                for (int j = 2; j < totalDimensions; j++) {
-                    sb.append(cs);
-                    coordFormatter.format(coordinates.getOrdinate(i, j), sb);
-                }
+            // encoding the remaining ordinates, typically Z and M values
+            for (int j = 2; j < totalDimensions; j++) {
+                sb.append(cs);
+                coordFormatter.format(coordinates.getOrdinate(i, j), sb);
             }
             sb.append(ts);
         }
@@ -42,11 +42,14 @@
 import org.geotools.xsd.Encoder;
 import org.junit.Before;
 import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateXYZM;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
 import org.w3c.dom.Document;
 import org.xml.sax.helpers.AttributesImpl;
 
@@ -123,6 +126,19 @@ public void testCoordinatesFormatting() throws Exception {
         assertThat(doc, hasXPath("//gml:coordinates", equalTo("2.1396814969E7,0,50")));
     }
 
+    @Test
+    public void testEncodeMeasures() throws Exception {
+        LineStringEncoder encoder = new LineStringEncoder(gtEncoder, "gml");
+        CoordinateArraySequence cs = new CoordinateArraySequence(
+                new Coordinate[] {new CoordinateXYZM(0, 0, 50, 1), new CoordinateXYZM(120, 0, 100, 2)}, 4, 1);
+        LineString geometry = new GeometryFactory().createLineString(cs);
+        Document doc = encode(encoder, geometry, 6, false, false, true);
+        assertThat(doc, hasXPath("//gml:coordinates", equalTo("0,0,50,1 120,0,100,2")));
+
+        doc = encode(encoder, geometry, 6, false, false, false);
+        assertThat(doc, hasXPath("//gml:coordinates", equalTo("0,0,50 120,0,100")));
+    }
+
     @Override
     protected Configuration createConfiguration() {
         return new GMLConfiguration();
@@ -135,6 +151,17 @@ protected <T extends Geometry> Document encode(GeometryEncoder<T> encoder, T geo
     protected <T extends Geometry> Document encode(
             GeometryEncoder<T> encoder, T geometry, int numDecimals, boolean forceDecimals, boolean padWithZeros)
             throws Exception {
+        return encode(encoder, geometry, numDecimals, forceDecimals, padWithZeros, true);
+    }
+
+    protected <T extends Geometry> Document encode(
+            GeometryEncoder<T> encoder,
+            T geometry,
+            int numDecimals,
+            boolean forceDecimals,
+            boolean padWithZeros,
+            boolean encodeMeasures)
+            throws Exception {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
 
         // create the document serializer
@@ -152,8 +179,8 @@ protected <T extends Geometry> Document encode(
         xmls.getTransformer().setOutputProperty(OutputKeys.METHOD, "XML");
         xmls.setResult(new StreamResult(out));
 
-        GMLWriter handler =
-                new GMLWriter(xmls, gtEncoder.getNamespaces(), numDecimals, forceDecimals, padWithZeros, "gml");
+        GMLWriter handler = new GMLWriter(
+                xmls, gtEncoder.getNamespaces(), numDecimals, forceDecimals, padWithZeros, "gml", encodeMeasures);
         handler.startDocument();
         handler.startPrefixMapping("gml", GML.NAMESPACE);
         handler.endPrefixMapping("gml");
@@ -0,0 +1,309 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.coverage.processing.operation;
+
+import it.geosolutions.jaiext.range.NoDataContainer;
+import it.geosolutions.jaiext.range.Range;
+import java.awt.image.DataBuffer;
+import java.awt.image.RenderedImage;
+import java.awt.image.SampleModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.media.jai.PlanarImage;
+import javax.media.jai.ROI;
+import javax.media.jai.RasterFactory;
+import javax.media.jai.TiledImage;
+import org.geotools.api.coverage.Coverage;
+import org.geotools.api.parameter.ParameterDescriptor;
+import org.geotools.api.parameter.ParameterValueGroup;
+import org.geotools.coverage.grid.GridCoverage2D;
+import org.geotools.coverage.grid.GridGeometry2D;
+import org.geotools.coverage.processing.CoverageProcessingException;
+import org.geotools.coverage.processing.Operation2D;
+import org.geotools.coverage.util.CoverageUtilities;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.parameter.DefaultParameterDescriptor;
+import org.geotools.parameter.DefaultParameterDescriptorGroup;
+import org.geotools.referencing.CRS;
+import org.geotools.util.SharedThreadPool;
+import org.geotools.util.factory.Hints;
+
+/**
+ * Computes a single band coverage from an arithmetic expression over a set of aligned grid coverages, such as
+ * {@code (nir - red) / (nir + red)}. The whole expression is evaluated in a single pass over the source rasters,
+ * instead of building a chain of {@code Add}, {@code Subtract}, {@code Divide} operations each materializing an
+ * intermediate image. See {@link BandMathExpression} for the supported grammar.
+ *
+ * <p>All the sources must share the same grid geometry. The result is a {@code float} coverage, or a {@code double} one
+ * if any of the referenced sources is {@code double}. A destination pixel is set to the {@code "NoData"} value when any
+ * referenced source is NoData or outside its ROI at that location, or when the result is not a finite number.
+ *
+ * <p>The result is computed eagerly, with the tiles evaluated in parallel by the executor set in the
+ * {@link Hints#EXECUTOR_SERVICE} hint, or by the {@link SharedThreadPool} otherwise.
+ *
+ * <p><STRONG>Name:</STRONG>&nbsp;<CODE>"BandMath"</CODE><br>
+ * <STRONG>JAI operator:</STRONG>&nbsp;N/A<br>
+ * <STRONG>Parameters:</STRONG>
+ *
+ * <table border='3' cellpadding='6' bgcolor='F4F8FF'>
+ *   <tr bgcolor='#B9DCFF'>
+ *     <th>Name</th>
+ *     <th>Class</th>
+ *     <th>Default value</th>
+ *     <th>Minimum value</th>
+ *     <th>Maximum value</th>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code "Sources"}</td>
+ *     <td>{@link java.util.Collection}</td>
+ *     <td align="center">N/A</td>
+ *     <td align="center">N/A</td>
+ *     <td align="center">N/A</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code "Expression"}</td>
+ *     <td>{@link java.lang.String}</td>
+ *     <td align="center">N/A</td>
+ *     <td align="center">N/A</td>
+ *     <td align="center">N/A</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code "Variables"}</td>
+ *     <td>{@code String[]}</td>
+ *     <td align="center">{@code a, b, c, ...}</td>
+ *     <td align="center">N/A</td>
+ *     <td align="center">N/A</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code "NoData"}</td>
+ *     <td>{@link java.lang.Double}</td>
+ *     <td align="center">{@code NaN}</td>
+ *     <td align="center">N/A</td>
+ *     <td align="center">N/A</td>
+ *   </tr>
+ * </table>
+ *
+ * @since 34.0
+ * @see BandMathExpression
+ */
+public class BandMath extends Operation2D {
+
+    private static final long serialVersionUID = -3806383217473545627L;
+
+    /** The parameter descriptor for the source coverages. */
+    public static final ParameterDescriptor<Collection> SOURCES = new DefaultParameterDescriptor<>(
+            Citations.GEOTOOLS,
+            "Sources",
+            Collection.class, // Value class (mandatory)
+            null, // Array of valid values
+            null, // Default value
+            null, // Minimal value
+            null, // Maximal value
+            null, // Unit of measure
+            true); // Parameter is mandatory
+
+    /** The parameter descriptor for the expression. */
+    public static final ParameterDescriptor<String> EXPRESSION = new DefaultParameterDescriptor<>(
+            Citations.GEOTOOLS,
+            "Expression",
+            String.class, // Value class (mandatory)
+            null, // Array of valid values
+            null, // Default value
+            null, // Minimal value
+            null, // Maximal value
+            null, // Unit of measure
+            true); // Parameter is mandatory
+
+    /** The parameter descriptor for the variable names, one per source. */
+    public static final ParameterDescriptor<String[]> VARIABLES = new DefaultParameterDescriptor<>(
+            Citations.GEOTOOLS,
+            "Variables",
+            String[].class, // Value class (mandatory)
+            null, // Array of valid values
+            null, // Default value
+            null, // Minimal value
+            null, // Maximal value
+            null, // Unit of measure
+            false); // Parameter is optional
+
+    /** The parameter descriptor for the destination NoData. */
+    public static final ParameterDescriptor<Double> NODATA = new DefaultParameterDescriptor<>(
+            Citations.GEOTOOLS,
+            "NoData",
+            Double.class, // Value class (mandatory)
+            null, // Array of valid values
+            Double.NaN, // Default value
+            null, // Minimal value
+            null, // Maximal value
+            null, // Unit of measure
+            false); // Parameter is optional
+
+    /** Constructs a default {@code "BandMath"} operation. */
+    public BandMath() {
+        super(new DefaultParameterDescriptorGroup(
+                "BandMath", new ParameterDescriptor[] {SOURCES, EXPRESSION, VARIABLES, NODATA}));
+    }
+
+    /**
+     * Applies the band math operation.
+     *
+     * @param parameters List of name value pairs for the parameters.
+     * @param hints A set of rendering hints, or {@code null} if none.
+     * @return The result as a grid coverage.
+     */
+    @Override
+    public Coverage doOperation(final ParameterValueGroup parameters, final Hints hints) {
+        GridCoverage2D[] sources = getSources(parameters);
+        List<String> variables = getVariables(parameters, sources.length);
+        BandMathExpression expression;
+        try {
+            expression = BandMathExpression.parse(
+                    (String) parameters.parameter("Expression").getValue(), variables);
+        } catch (IllegalArgumentException e) {
+            throw new CoverageProcessingException(e);
+        }
+        Object noDataValue = parameters.parameter("NoData").getValue();
+        double destinationNoData = noDataValue != null ? ((Number) noDataValue).doubleValue() : Double.NaN;
+
+        GridCoverage2D reference = sources[0];
+        GridGeometry2D gridGeometry = reference.getGridGeometry();
+        RenderedImage referenceImage = reference.getRenderedImage();
+        RenderedImage[] images = new RenderedImage[sources.length];
+        RenderedImage[] rois = new RenderedImage[sources.length];
+        double[][] noData = new double[sources.length][];
+        boolean useDouble = false;
+        for (int s = 0; s < sources.length; s++) {
+            GridCoverage2D source = sources[s];
+            RenderedImage image = source.getRenderedImage();
+            ensureAligned(reference, referenceImage, source, image, variables.get(s));
+            images[s] = image;
+            if (!expression.usedSources[s]) {
+                continue;
+            }
+            NoDataContainer container = CoverageUtilities.getNoDataProperty(source);
+            if (container != null) {
+                Range range = container.getAsRange();
+                noData[s] = new double[] {
+                    range.getMin().doubleValue(), range.getMax().doubleValue()
+                };
+            }
+            ROI roi = CoverageUtilities.getROIProperty(source);
+            if (roi != null) {
+                rois[s] = roi.getAsImage();
+            }
+            useDouble |= image.getSampleModel().getDataType() == DataBuffer.TYPE_DOUBLE;
+        }
+        for (int i = 0; i < expression.opcodes.length; i++) {
+            if (expression.opcodes[i] == BandMathExpression.LOAD) {
+                int bands = images[expression.first[i]].getSampleModel().getNumBands();
+                if (expression.second[i] >= bands) {
+                    throw new CoverageProcessingException("Band " + expression.second[i] + " of "
+                            + variables.get(expression.first[i]) + " does not exist, the coverage has " + bands
+                            + " bands");
+                }
+            }
+        }
+
+        SampleModel sampleModel = RasterFactory.createPixelInterleavedSampleModel(
+                useDouble ? DataBuffer.TYPE_DOUBLE : DataBuffer.TYPE_FLOAT,
+                referenceImage.getTileWidth(),
+                referenceImage.getTileHeight(),
+                1);
+        TiledImage image = new TiledImage(
+                referenceImage.getMinX(),
+                referenceImage.getMinY(),
+                referenceImage.getWidth(),
+                referenceImage.getHeight(),
+                referenceImage.getTileGridXOffset(),
+                referenceImage.getTileGridYOffset(),
+                sampleModel,
+                PlanarImage.createColorModel(sampleModel));
+        BandMathEvaluator evaluator = new BandMathEvaluator(expression, noData, destinationNoData);
+        evaluator.compute(images, rois, image, SharedThreadPool.getExecutor(hints));
+
+        Map<String, Object> properties = new HashMap<>();
+        CoverageUtilities.setNoDataProperty(properties, destinationNoData);
+        return getFactory(hints).create("BandMath", image, gridGeometry, null, sources, properties);
+    }
+
+    private static GridCoverage2D[] getSources(ParameterValueGroup parameters) {
+        Object value = parameters.parameter("Sources").getValue();
+        if (!(value instanceof Collection) || ((Collection<?>) value).isEmpty()) {
+            throw new CoverageProcessingException("At least one source coverage is required");
+        }
+        Collection<?> collection = (Collection<?>) value;
+        GridCoverage2D[] sources = new GridCoverage2D[collection.size()];
+        int i = 0;
+        for (Object source : collection) {
+            if (!(source instanceof GridCoverage2D)) {
+                throw new CoverageProcessingException("Sources must be GridCoverage2D instances, found " + source);
+            }
+            sources[i++] = (GridCoverage2D) source;
+        }
+        return sources;
+    }
+
+    private static List<String> getVariables(ParameterValueGroup parameters, int sourceCount) {
+        String[] names = (String[]) parameters.parameter("Variables").getValue();
+        if (names != null) {
+            if (names.length != sourceCount) {
+                throw new CoverageProcessingException(
+                        "Found " + names.length + " variable names for " + sourceCount + " sources");
+            }
+            return Arrays.asList(names);
+        }
+        List<String> variables = new ArrayList<>(sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            variables.add(defaultVariableName(i));
+        }
+        return variables;
+    }
+
+    /** Returns the default variable name for a source, {@code a} to {@code z} followed by {@code a1}, {@code b1}... */
+    static String defaultVariableName(int index) {
+        String name = String.valueOf((char) ('a' + index % 26));
+        return index < 26 ? name : name + index / 26;
+    }
+
+    private static void ensureAligned(
+            GridCoverage2D reference,
+            RenderedImage referenceImage,
+            GridCoverage2D source,
+            RenderedImage image,
+            String variable) {
+        if (source == reference) {
+            return;
+        }
+        GridGeometry2D expected = reference.getGridGeometry();
+        GridGeometry2D actual = source.getGridGeometry();
+        if (!expected.getGridRange2D().equals(actual.getGridRange2D())
+                || !expected.getGridToCRS2D().equals(actual.getGridToCRS2D())
+                || !CRS.equalsIgnoreMetadata(
+                        reference.getCoordinateReferenceSystem2D(), source.getCoordinateReferenceSystem2D())
+                || referenceImage.getMinX() != image.getMinX()
+                || referenceImage.getMinY() != image.getMinY()
+                || referenceImage.getWidth() != image.getWidth()
+                || referenceImage.getHeight() != image.getHeight()) {
+            throw new CoverageProcessingException(
+                    "Source " + variable + " does not have the same grid geometry as the first source");
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.coverage.processing.operation;
+
+import java.awt.Rectangle;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferDouble;
+import java.awt.image.DataBufferFloat;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DataBufferShort;
+import java.awt.image.DataBufferUShort;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.awt.image.WritableRenderedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Evaluates a {@link BandMathExpression} over a set of aligned images in a single pass, tile by tile. Source samples
+ * are read straight from the data banks with loops specialized on the data type, and the whole expression is computed
+ * on one row of pixels at a time.
+ *
+ * <p>A destination pixel is set to the destination NoData when any of the sources referenced by the expression is
+ * NoData or outside its ROI, or when the expression result is not a finite number.
+ */
+final class BandMathEvaluator {
+
+    private final BandMathExpression expression;
+
+    private final double[][] noData;
+
+    private final double destinationNoData;
+
+    /**
+     * @param expression the compiled expression
+     * @param noData for each source, the inclusive <code>{min, max}</code> NoData range, or null if the source has no
+     *     NoData. A NaN minimum matches NaN samples.
+     * @param destinationNoData the value used for invalid destination pixels
+     */
+    BandMathEvaluator(BandMathExpression expression, double[][] noData, double destinationNoData) {
+        this.expression = expression;
+        this.noData = noData;
+        this.destinationNoData = destinationNoData;
+    }
+
+    /**
+     * Computes all the tiles of the destination image, in parallel if an executor is provided.
+     *
+     * @param sources the source images, all having the same bounds as the destination
+     * @param rois for each source, an optional mask image where non zero values are inside the ROI
+     * @param destination the destination image
+     * @param executor the executor used to compute tiles concurrently, or null to compute them on the calling thread
+     */
+    void compute(
+            RenderedImage[] sources,
+            RenderedImage[] rois,
+            WritableRenderedImage destination,
+            ExecutorService executor) {
+        Rectangle imageBounds = new Rectangle(
+                destination.getMinX(), destination.getMinY(), destination.getWidth(), destination.getHeight());
+        int minTileX = destination.getMinTileX();
+        int minTileY = destination.getMinTileY();
+        int tilesX = destination.getNumXTiles();
+        int tilesY = destination.getNumYTiles();
+        // grab all the tiles on the calling thread, the destination is not required to be thread safe
+        WritableRaster[] tiles = new WritableRaster[tilesX * tilesY];
+        for (int ty = 0; ty < tilesY; ty++) {
+            for (int tx = 0; tx < tilesX; tx++) {
+                tiles[ty * tilesX + tx] = destination.getWritableTile(minTileX + tx, minTileY + ty);
+            }
+        }
+        try {
+            if (executor == null || tiles.length == 1) {
+                for (WritableRaster tile : tiles) {
+                    computeTile(sources, rois, tile, imageBounds);
+                }
+            } else {
+                List<Future<?>> futures = new ArrayList<>(tiles.length);
+                for (WritableRaster tile : tiles) {
+                    futures.add(executor.submit(() -> computeTile(sources, rois, tile, imageBounds)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing band math", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            for (int ty = 0; ty < tilesY; ty++) {
+                for (int tx = 0; tx < tilesX; tx++) {
+                    destination.releaseWritableTile(minTileX + tx, minTileY + ty);
+                }
+            }
+        }
+    }
+
+    /** Computes the portion of a destination tile falling inside the image bounds */
+    void computeTile(RenderedImage[] sources, RenderedImage[] rois, WritableRaster tile, Rectangle imageBounds) {
+        Rectangle bounds = tile.getBounds().intersection(imageBounds);
+        if (bounds.isEmpty()) {
+            return;
+        }
+        if (!bounds.equals(tile.getBounds())) {
+            tile = tile.createWritableChild(bounds.x, bounds.y, bounds.width, bounds.height, bounds.x, bounds.y, null);
+        }
+        Raster[] sourceRasters = new Raster[sources.length];
+        Raster[] roiRasters = new Raster[sources.length];
+        for (int s = 0; s < sources.length; s++) {
+            if (expression.usedSources[s]) {
+                sourceRasters[s] = getRaster(sources[s], bounds);
+                if (rois != null && rois[s] != null) {
+                    roiRasters[s] = getRaster(rois[s], bounds);
+                }
+            }
+        }
+        computeRaster(sourceRasters, roiRasters, tile);
+    }
+
+    /**
+     * Computes the destination raster from source rasters covering at least the same area.
+     *
+     * @param sources the source rasters, null for sources not used by the expression
+     * @param rois the ROI masks, null for sources without a ROI
+     * @param destination the destination raster
+     */
+    void computeRaster(Raster[] sources, Raster[] rois, WritableRaster destination) {
+        int x = destination.getMinX();
+        int width = destination.getWidth();
+        int[] opcodes = expression.opcodes;
+        double[][] registers = new double[expression.getRegisterCount()][width];
+        double[] result = registers[expression.getResultRegister()];
+        boolean[] valid = new boolean[width];
+        int[] mask = new int[width];
+
+        for (int y = destination.getMinY(), maxY = y + destination.getHeight(); y < maxY; y++) {
+            Arrays.fill(valid, true);
+            for (Raster roi : rois) {
+                if (roi != null) {
+                    roi.getSamples(x, y, width, 1, 0, mask);
+                    for (int i = 0; i < width; i++) {
+                        if (mask[i] == 0) {
+                            valid[i] = false;
+                        }
+                    }
+                }
+            }
+            for (int i = 0; i < opcodes.length; i++) {
+                if (opcodes[i] == BandMathExpression.LOAD) {
+                    int source = expression.first[i];
+                    double[] samples = registers[i];
+                    readRow(sources[source], expression.second[i], x, y, width, samples);
+                    maskNoData(noData[source], samples, valid, width);
+                }
+            }
+            expression.execute(registers, width);
+            for (int i = 0; i < width; i++) {
+                if (!valid[i] || !Double.isFinite(result[i])) {
+                    result[i] = destinationNoData;
+                }
+            }
+            writeRow(destination, x, y, width, result);
+        }
+    }
+
+    private static void maskNoData(double[] range, double[] samples, boolean[] valid, int width) {
+        if (range == null) {
+            return;
+        }
+        double min = range[0];
+        double max = range[1];
+        if (Double.isNaN(min)) {
+            for (int i = 0; i < width; i++) {
+                if (Double.isNaN(samples[i])) {
+                    valid[i] = false;
+                }
+            }
+        } else {
+            for (int i = 0; i < width; i++) {
+                double v = samples[i];
+                if (v >= min && v <= max) {
+                    valid[i] = false;
+                }
+            }
+        }
+    }
+
+    /** Returns a raster covering the requested area, avoiding copies when it matches a source tile */
+    static Raster getRaster(RenderedImage image, Rectangle bounds) {
+        int tileWidth = image.getTileWidth();
+        int tileHeight = image.getTileHeight();
+        int tx = Math.floorDiv(bounds.x - image.getTileGridXOffset(), tileWidth);
+        int ty = Math.floorDiv(bounds.y - image.getTileGridYOffset(), tileHeight);
+        Raster tile = image.getTile(tx, ty);
+        if (tile != null && tile.getBounds().contains(bounds)) {
+            return tile;
+        }
+        return image.getData(bounds);
+    }
+
+    /** Reads a row of samples of a band, accessing the data bank directly when the layout allows it */
+    static void readRow(Raster raster, int band, int x, int y, int width, double[] samples) {
+        SampleModel sm = raster.getSampleModel();
+        if (!(sm instanceof ComponentSampleModel)) {
+            raster.getSamples(x, y, width, 1, band, samples);
+            return;
+        }
+        ComponentSampleModel csm = (ComponentSampleModel) sm;
+        DataBuffer buffer = raster.getDataBuffer();
+        int bank = csm.getBankIndices()[band];
+        int stride = csm.getPixelStride();
+        int start = buffer.getOffsets()[bank]
+                + csm.getBandOffsets()[band]
+                + (y - raster.getSampleModelTranslateY()) * csm.getScanlineStride()
+                + (x - raster.getSampleModelTranslateX()) * stride;
+        if (buffer instanceof DataBufferByte) {
+            byte[] data = ((DataBufferByte) buffer).getData(bank);
+            for (int i = 0, j = start; i < width; i++, j += stride) {
+                samples[i] = data[j] & 0xFF;
+            }
+        } else if (buffer instanceof DataBufferUShort) {
+            short[] data = ((DataBufferUShort) buffer).getData(bank);
+            for (int i = 0, j = start; i < width; i++, j += stride) {
+                samples[i] = data[j] & 0xFFFF;
+            }
+        } else if (buffer instanceof DataBufferShort) {
+            short[] data = ((DataBufferShort) buffer).getData(bank);
+            for (int i = 0, j = start; i < width; i++, j += stride) {
+                samples[i] = data[j];
+            }
+        } else if (buffer instanceof DataBufferInt) {
+            int[] data = ((DataBufferInt) buffer).getData(bank);
+            for (int i = 0, j = start; i < width; i++, j += stride) {
+                samples[i] = data[j];
+            }
+        } else if (buffer instanceof DataBufferFloat) {
+            float[] data = ((DataBufferFloat) buffer).getData(bank);
+            for (int i = 0, j = start; i < width; i++, j += stride) {
+                samples[i] = data[j];
+            }
+        } else if (buffer instanceof DataBufferDouble) {
+            double[] data = ((DataBufferDouble) buffer).getData(bank);
+            for (int i = 0, j = start; i < width; i++, j += stride) {
+                samples[i] = data[j];
+            }
+        } else {
+            for (int i = 0, j = start; i < width; i++, j += stride) {
+                samples[i] = buffer.getElemDouble(bank, j);
+            }
+        }
+    }
+
+    /** Writes a row of samples in the first band, accessing the data bank directly when the layout allows it */
+    static void writeRow(WritableRaster raster, int x, int y, int width, double[] samples) {
+        SampleModel sm = raster.getSampleModel();
+        DataBuffer buffer = raster.getDataBuffer();
+        if (sm instanceof ComponentSampleModel
+                && (buffer instanceof DataBufferFloat || buffer instanceof DataBufferDouble)) {
+            ComponentSampleModel csm = (ComponentSampleModel) sm;
+            int bank = csm.getBankIndices()[0];
+            int stride = csm.getPixelStride();
+            int start = buffer.getOffsets()[bank]
+                    + csm.getBandOffsets()[0]
+                    + (y - raster.getSampleModelTranslateY()) * csm.getScanlineStride()
+                    + (x - raster.getSampleModelTranslateX()) * stride;
+            if (buffer instanceof DataBufferFloat) {
+                float[] data = ((DataBufferFloat) buffer).getData(bank);
+                for (int i = 0, j = start; i < width; i++, j += stride) {
+                    data[j] = (float) samples[i];
+                }
+            } else {
+                double[] data = ((DataBufferDouble) buffer).getData(bank);
+                for (int i = 0, j = start; i < width; i++, j += stride) {
+                    data[j] = samples[i];
+                }
+            }
+        } else {
+            raster.setSamples(x, y, width, 1, 0, samples);
+        }
+    }
+}
@@ -0,0 +1,518 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.coverage.processing.operation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A band math expression, compiled into a flat list of instructions working on arrays of samples. Each instruction
+ * reads one or two registers and writes a new one, so that a whole row of pixels is processed by a single tight loop
+ * per instruction, without intermediate images and without per pixel dispatch.
+ *
+ * <p>The grammar supports:
+ *
+ * <ul>
+ *   <li>the {@code +}, {@code -}, {@code *}, {@code /} binary operators and the unary minus
+ *   <li>numeric literals, such as {@code 2}, {@code 0.5} or {@code 1e-3}
+ *   <li>variables, referring to the first band of a source ({@code a}) or to a specific band ({@code a[2]})
+ *   <li>the {@code abs}, {@code sqrt}, {@code exp}, {@code log}, {@code log10} unary functions and the {@code min},
+ *       {@code max}, {@code pow} binary functions
+ * </ul>
+ *
+ * For example the normalized difference vegetation index between two single band coverages can be expressed as
+ * {@code (nir - red) / (nir + red)}.
+ *
+ * @see BandMath
+ */
+public final class BandMathExpression {
+
+    static final int LOAD = 0;
+    static final int CONST = 1;
+    static final int ADD = 2;
+    static final int SUB = 3;
+    static final int MUL = 4;
+    static final int DIV = 5;
+    static final int NEG = 6;
+    static final int ABS = 7;
+    static final int SQRT = 8;
+    static final int EXP = 9;
+    static final int LOG = 10;
+    static final int LOG10 = 11;
+    static final int MIN = 12;
+    static final int MAX = 13;
+    static final int POW = 14;
+
+    private static final List<String> UNARY_FUNCTIONS = Arrays.asList("abs", "sqrt", "exp", "log", "log10");
+
+    private static final List<String> BINARY_FUNCTIONS = Arrays.asList("min", "max", "pow");
+
+    private final String expression;
+
+    private final List<String> variables;
+
+    /** Opcode of each instruction */
+    final int[] opcodes;
+
+    /** First operand register, or source index for {@link #LOAD} */
+    final int[] first;
+
+    /** Second operand register, or band index for {@link #LOAD} */
+    final int[] second;
+
+    /** Constant value for {@link #CONST} */
+    final double[] constants;
+
+    /** Sources actually referenced by the expression */
+    final boolean[] usedSources;
+
+    private BandMathExpression(String expression, List<String> variables, List<Instruction> program) {
+        this.expression = expression;
+        this.variables = Collections.unmodifiableList(new ArrayList<>(variables));
+        int size = program.size();
+        this.opcodes = new int[size];
+        this.first = new int[size];
+        this.second = new int[size];
+        this.constants = new double[size];
+        this.usedSources = new boolean[variables.size()];
+        for (int i = 0; i < size; i++) {
+            Instruction instruction = program.get(i);
+            opcodes[i] = instruction.opcode;
+            first[i] = instruction.first;
+            second[i] = instruction.second;
+            constants[i] = instruction.constant;
+            if (opcodes[i] == LOAD) {
+                usedSources[first[i]] = true;
+            }
+        }
+    }
+
+    /**
+     * Parses and compiles an expression.
+     *
+     * @param expression the expression to parse
+     * @param variables the variable names, the position of each name being the index of the source it refers to
+     * @throws IllegalArgumentException if the expression cannot be parsed, or refers to an unknown variable
+     */
+    public static BandMathExpression parse(String expression, List<String> variables) {
+        if (expression == null) {
+            throw new IllegalArgumentException("The expression cannot be null");
+        }
+        Parser parser = new Parser(expression, variables);
+        parser.parseAll();
+        return new BandMathExpression(expression, variables, parser.program);
+    }
+
+    /** The source expression */
+    public String getExpression() {
+        return expression;
+    }
+
+    /** The variable names, in source order */
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    /** The number of registers needed to evaluate the expression, each one being as long as a row of pixels */
+    int getRegisterCount() {
+        return opcodes.length;
+    }
+
+    /** The register holding the result once all instructions have been executed */
+    int getResultRegister() {
+        return opcodes.length - 1;
+    }
+
+    /**
+     * Runs all the instructions but the loads, which are expected to have been already performed by the caller filling
+     * the corresponding registers.
+     *
+     * @param registers the registers, one per instruction
+     * @param length the number of samples to process in each register
+     */
+    void execute(double[][] registers, int length) {
+        for (int i = 0; i < opcodes.length; i++) {
+            double[] r = registers[i];
+            double[] a = opcodes[i] > CONST ? registers[first[i]] : null;
+            double[] b = null;
+            switch (opcodes[i]) {
+                case LOAD:
+                    break;
+                case CONST:
+                    Arrays.fill(r, 0, length, constants[i]);
+                    break;
+                case ADD:
+                    b = registers[second[i]];
+                    for (int j = 0; j < length; j++) {
+                        r[j] = a[j] + b[j];
+                    }
+                    break;
+                case SUB:
+                    b = registers[second[i]];
+                    for (int j = 0; j < length; j++) {
+                        r[j] = a[j] - b[j];
+                    }
+                    break;
+                case MUL:
+                    b = registers[second[i]];
+                    for (int j = 0; j < length; j++) {
+                        r[j] = a[j] * b[j];
+                    }
+                    break;
+                case DIV:
+                    b = registers[second[i]];
+                    for (int j = 0; j < length; j++) {
+                        r[j] = a[j] / b[j];
+                    }
+                    break;
+                case NEG:
+                    for (int j = 0; j < length; j++) {
+                        r[j] = -a[j];
+                    }
+                    break;
+                case ABS:
+                    for (int j = 0; j < length; j++) {
+                        r[j] = Math.abs(a[j]);
+                    }
+                    break;
+                case SQRT:
+                    for (int j = 0; j < length; j++) {
+                        r[j] = Math.sqrt(a[j]);
+                    }
+                    break;
+                case EXP:
+                    for (int j = 0; j < length; j++) {
+                        r[j] = Math.exp(a[j]);
+                    }
+                    break;
+                case LOG:
+                    for (int j = 0; j < length; j++) {
+                        r[j] = Math.log(a[j]);
+                    }
+                    break;
+                case LOG10:
+                    for (int j = 0; j < length; j++) {
+                        r[j] = Math.log10(a[j]);
+                    }
+                    break;
+                case MIN:
+                    b = registers[second[i]];
+                    for (int j = 0; j < length; j++) {
+                        r[j] = Math.min(a[j], b[j]);
+                    }
+                    break;
+                case MAX:
+                    b = registers[second[i]];
+                    for (int j = 0; j < length; j++) {
+                        r[j] = Math.max(a[j], b[j]);
+                    }
+                    break;
+                case POW:
+                    b = registers[second[i]];
+                    for (int j = 0; j < length; j++) {
+                        r[j] = Math.pow(a[j], b[j]);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown opcode " + opcodes[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Recursive descent parser, emitting instructions in evaluation order. Constant sub-expressions are folded at parse
+     * time.
+     */
+    private static class Parser {
+
+        private final String text;
+
+        private final List<String> variables;
+
+        private int pos;
+
+        final List<Instruction> program = new ArrayList<>();
+
+        Parser(String text, List<String> variables) {
+            this.text = text;
+            this.variables = variables;
+        }
+
+        void parseAll() {
+            int result = parseSum();
+            skipSpaces();
+            if (pos < text.length()) {
+                throw error("Unexpected character '" + text.charAt(pos) + "'");
+            }
+            // make sure the result is in the last register
+            if (result != program.size() - 1) {
+                emit(ADD, result, emitConstant(0), 0);
+            }
+        }
+
+        private int parseSum() {
+            int left = parseProduct();
+            while (true) {
+                skipSpaces();
+                if (accept('+')) {
+                    left = binary(ADD, left, parseProduct());
+                } else if (accept('-')) {
+                    left = binary(SUB, left, parseProduct());
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private int parseProduct() {
+            int left = parseUnary();
+            while (true) {
+                skipSpaces();
+                if (accept('*')) {
+                    left = binary(MUL, left, parseUnary());
+                } else if (accept('/')) {
+                    left = binary(DIV, left, parseUnary());
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private int parseUnary() {
+            skipSpaces();
+            if (accept('-')) {
+                return unary(NEG, parseUnary());
+            }
+            if (accept('+')) {
+                return parseUnary();
+            }
+            return parsePrimary();
+        }
+
+        private int parsePrimary() {
+            skipSpaces();
+            if (pos >= text.length()) {
+                throw error("Unexpected end of expression");
+            }
+            char c = text.charAt(pos);
+            if (accept('(')) {
+                int result = parseSum();
+                expect(')');
+                return result;
+            }
+            if (Character.isDigit(c) || c == '.') {
+                return emitConstant(parseNumber());
+            }
+            if (Character.isJavaIdentifierStart(c)) {
+                String name = parseIdentifier();
+                skipSpaces();
+                if (accept('(')) {
+                    return parseFunction(name);
+                }
+                return parseVariable(name);
+            }
+            throw error("Unexpected character '" + c + "'");
+        }
+
+        private int parseFunction(String name) {
+            String function = name.toLowerCase(Locale.ENGLISH);
+            int opcode;
+            boolean binary = BINARY_FUNCTIONS.contains(function);
+            if (UNARY_FUNCTIONS.contains(function)) {
+                opcode = ABS + UNARY_FUNCTIONS.indexOf(function);
+            } else if (binary) {
+                opcode = MIN + BINARY_FUNCTIONS.indexOf(function);
+            } else {
+                throw error("Unknown function " + name);
+            }
+            int arg = parseSum();
+            if (binary) {
+                expect(',');
+                int arg2 = parseSum();
+                expect(')');
+                return binary(opcode, arg, arg2);
+            }
+            expect(')');
+            return unary(opcode, arg);
+        }
+
+        private int parseVariable(String name) {
+            int source = variables.indexOf(name);
+            if (source < 0) {
+                throw error("Unknown variable " + name + ", valid names are " + variables);
+            }
+            int band = 0;
+            if (accept('[')) {
+                skipSpaces();
+                int start = pos;
+                while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+                    pos++;
+                }
+                if (start == pos) {
+                    throw error("Expected band index");
+                }
+                band = Integer.parseInt(text.substring(start, pos));
+                expect(']');
+            }
+            return emit(LOAD, source, band, 0);
+        }
+
+        private double parseNumber() {
+            int start = pos;
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (Character.isDigit(c) || c == '.') {
+                    pos++;
+                } else if ((c == 'e' || c == 'E') && pos > start) {
+                    pos++;
+                    if (pos < text.length() && (text.charAt(pos) == '+' || text.charAt(pos) == '-')) {
+                        pos++;
+                    }
+                } else {
+                    break;
+                }
+            }
+            try {
+                return Double.parseDouble(text.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error("Invalid number " + text.substring(start, pos));
+            }
+        }
+
+        private String parseIdentifier() {
+            int start = pos;
+            while (pos < text.length() && Character.isJavaIdentifierPart(text.charAt(pos))) {
+                pos++;
+            }
+            return text.substring(start, pos);
+        }
+
+        private int unary(int opcode, int arg) {
+            Instruction a = program.get(arg);
+            if (a.opcode == CONST && arg == program.size() - 1) {
+                double value = fold(opcode, a.constant, 0);
+                program.remove(arg);
+                return emitConstant(value);
+            }
+            return emit(opcode, arg, 0, 0);
+        }
+
+        private int binary(int opcode, int left, int right) {
+            Instruction a = program.get(left);
+            Instruction b = program.get(right);
+            // both constants are the last two instructions, fold them
+            if (a.opcode == CONST && b.opcode == CONST && left == program.size() - 2 && right == program.size() - 1) {
+                double value = fold(opcode, a.constant, b.constant);
+                program.remove(right);
+                program.remove(left);
+                return emitConstant(value);
+            }
+            return emit(opcode, left, right, 0);
+        }
+
+        private int emitConstant(double value) {
+            return emit(CONST, 0, 0, value);
+        }
+
+        private int emit(int opcode, int a, int b, double constant) {
+            program.add(new Instruction(opcode, a, b, constant));
+            return program.size() - 1;
+        }
+
+        private void skipSpaces() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private boolean accept(char c) {
+            skipSpaces();
+            if (pos < text.length() && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!accept(c)) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + pos + " in expression: " + text);
+        }
+    }
+
+    /** Evaluates an operation on constants, used for constant folding */
+    static double fold(int opcode, double a, double b) {
+        switch (opcode) {
+            case ADD:
+                return a + b;
+            case SUB:
+                return a - b;
+            case MUL:
+                return a * b;
+            case DIV:
+                return a / b;
+            case NEG:
+                return -a;
+            case ABS:
+                return Math.abs(a);
+            case SQRT:
+                return Math.sqrt(a);
+            case EXP:
+                return Math.exp(a);
+            case LOG:
+                return Math.log(a);
+            case LOG10:
+                return Math.log10(a);
+            case MIN:
+                return Math.min(a, b);
+            case MAX:
+                return Math.max(a, b);
+            case POW:
+                return Math.pow(a, b);
+            default:
+                throw new IllegalStateException("Cannot fold opcode " + opcode);
+        }
+    }
+
+    /** A single compiled instruction */
+    private static final class Instruction {
+        final int opcode;
+        final int first;
+        final int second;
+        final double constant;
+
+        Instruction(int opcode, int first, int second, double constant) {
+            this.opcode = opcode;
+            this.first = first;
+            this.second = second;
+            this.constant = constant;
+        }
+    }
+}
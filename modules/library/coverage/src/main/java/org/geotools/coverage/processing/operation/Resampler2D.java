@@ -42,6 +42,7 @@
 import javax.media.jai.PlanarImage;
 import javax.media.jai.ROI;
 import javax.media.jai.RenderedOp;
+import javax.media.jai.TileScheduler;
 import javax.media.jai.Warp;
 import javax.media.jai.WarpGrid;
 import javax.media.jai.operator.MosaicDescriptor;
@@ -118,6 +119,15 @@ final class Resampler2D extends GridCoverage2D {
     /** The logging level for defails about resampling operation applied. */
     private static final Level LOGGING_LEVEL = Level.FINE;
 
+    /**
+     * System property setting the number of threads computing the tiles of the resampled images. If not set, the JAI
+     * default tile scheduler is used.
+     */
+    static final String PARALLELISM_KEY = "org.geotools.coverage.resample.parallelism";
+
+    /** The tile scheduler used when {@link #PARALLELISM_KEY} is set, lazily created. */
+    private static TileScheduler tileScheduler;
+
     /**
      * Constructs a new grid coverage for the specified grid geometry.
      *
@@ -518,6 +528,12 @@ public static GridCoverage2D reproject(
         if (hints != null) {
             targetHints.add(hints);
         }
+        if (!targetHints.containsKey(JAI.KEY_TILE_SCHEDULER)) {
+            final TileScheduler scheduler = getTileScheduler();
+            if (scheduler != null) {
+                targetHints.put(JAI.KEY_TILE_SCHEDULER, scheduler);
+            }
+        }
         ImageLayout layout = (ImageLayout) targetHints.get(JAI.KEY_IMAGE_LAYOUT);
         if (layout != null) {
             layout = (ImageLayout) layout.clone();
@@ -995,6 +1011,12 @@ private static Warp createWarp(
         if (tolerance == null) {
             tolerance = Hints.DEFAULT_RESAMPLE_TOLERANCE;
         }
+        // the same grid geometry pair is often resampled over and over, reuse the warp if possible
+        final WarpCache.Key key = WarpCache.key(allSteps2D, targetBB, tolerance);
+        final Warp cached = WarpCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
         WarpBuilder wb = new WarpBuilder(tolerance);
 
         MathTransform2D transform = allSteps2D;
@@ -1025,10 +1047,28 @@ private static Warp createWarp(
              * progressive empirical adjustment in order to get the rectangles to fit.
              */
             final Warp warp = wb.buildWarp(transform, targetBB);
+            WarpCache.put(key, warp);
             return warp;
         } while (step++ <= EMPIRICAL_ADJUSTMENT_STEPS);
     }
 
+    /**
+     * Returns the tile scheduler computing the resampled tiles in parallel, or {@code null} for the JAI default one.
+     * The scheduler is shared by all the resampled images, so that the number of threads stays bounded.
+     */
+    private static synchronized TileScheduler getTileScheduler() {
+        if (tileScheduler == null) {
+            final Integer parallelism = Integer.getInteger(PARALLELISM_KEY);
+            if (parallelism == null || parallelism <= 0) {
+                return null;
+            }
+            tileScheduler = JAI.createTileScheduler();
+            tileScheduler.setParallelism(parallelism);
+            tileScheduler.setPrefetchParallelism(parallelism);
+        }
+        return tileScheduler;
+    }
+
     /** Logs a message. */
     private static void log(final LogRecord record) {
         record.setSourceClassName("Resample");
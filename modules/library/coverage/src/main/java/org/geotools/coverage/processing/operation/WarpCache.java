@@ -0,0 +1,137 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.coverage.processing.operation;
+
+import java.awt.Rectangle;
+import java.util.Map;
+import java.util.Objects;
+import javax.media.jai.Warp;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.util.SoftValueHashMap;
+
+/**
+ * Cache of the {@link Warp} objects built by {@link Resampler2D}. Building an approximated warp requires transforming a
+ * mesh of points through the full target to source transform, which is expensive for map projections, and the same
+ * source/target grid geometry pair tends to repeat across requests (e.g., a mosaic reprojected over and over in the
+ * same tiling scheme).
+ *
+ * <p>Warps are keyed by the target to source grid transform, which embeds both grid to world transforms and the CRS
+ * pair, by the target bounds and by the tolerance. The transforms are compared with their own
+ * {@link Object#equals(Object) equals} and {@link Object#hashCode() hashCode}, which the referencing module implements
+ * on the transform parameters, so that a transform chain rebuilt for the same grid geometry pair finds the cached warp.
+ *
+ * <p>The number of warps kept with strong references can be configured with the {@value #SIZE_KEY} system property, 0
+ * disabling the cache. Additional warps are softly referenced.
+ */
+final class WarpCache {
+
+    /** System property controlling the number of warps strongly referenced by the cache */
+    static final String SIZE_KEY = "org.geotools.coverage.resample.warpCacheSize";
+
+    private static final int SIZE = Integer.getInteger(SIZE_KEY, 64);
+
+    private static final Map<Key, Warp> CACHE = new SoftValueHashMap<>(Math.max(SIZE, 0));
+
+    private WarpCache() {}
+
+    /**
+     * Returns the cache key for the given parameters.
+     *
+     * @param transform the target to source grid transform
+     * @param targetBB the target image bounds
+     * @param tolerance the warp approximation tolerance
+     * @return the key, or null if the warp cannot be cached
+     */
+    static Key key(MathTransform2D transform, Rectangle targetBB, double tolerance) {
+        if (SIZE <= 0) {
+            return null;
+        }
+        return new Key(transform, targetBB, tolerance);
+    }
+
+    /** Returns the cached warp, or null if not found */
+    static Warp get(Key key) {
+        if (key == null) {
+            return null;
+        }
+        synchronized (CACHE) {
+            return CACHE.get(key);
+        }
+    }
+
+    /** Caches a warp */
+    static void put(Key key, Warp warp) {
+        if (key != null && warp != null) {
+            synchronized (CACHE) {
+                CACHE.put(key, warp);
+            }
+        }
+    }
+
+    /** Removes all the cached warps */
+    static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /** Number of cached warps, for testing purposes */
+    static int size() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    static final class Key {
+
+        final MathTransform2D transform;
+
+        final Rectangle targetBB;
+
+        final double tolerance;
+
+        /** Computed once, hashing a transform chain walks all of its steps */
+        private final int hash;
+
+        private Key(MathTransform2D transform, Rectangle targetBB, double tolerance) {
+            this.transform = transform;
+            this.targetBB = new Rectangle(targetBB);
+            this.tolerance = tolerance;
+            this.hash = Objects.hash(transform, this.targetBB, tolerance);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash
+                    && Double.compare(tolerance, other.tolerance) == 0
+                    && targetBB.equals(other.targetBB)
+                    && transform.equals(other.transform);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.coverage.processing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import it.geosolutions.jaiext.range.NoDataContainer;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.media.jai.RasterFactory;
+import org.geotools.api.parameter.ParameterValueGroup;
+import org.geotools.coverage.CoverageFactoryFinder;
+import org.geotools.coverage.grid.GridCoverage2D;
+import org.geotools.coverage.grid.GridCoverageFactory;
+import org.geotools.coverage.util.CoverageUtilities;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests the {@code "BandMath"} operation. */
+public class BandMathTest extends GridProcessingTestBase {
+
+    private static final int WIDTH = 300;
+
+    private static final int HEIGHT = 200;
+
+    private static final ReferencedEnvelope ENVELOPE = new ReferencedEnvelope(0, 30, 0, 20, DefaultGeographicCRS.WGS84);
+
+    private CoverageProcessor processor;
+
+    private GridCoverageFactory factory;
+
+    @Before
+    public void setUp() {
+        processor = CoverageProcessor.getInstance(null);
+        factory = CoverageFactoryFinder.getGridCoverageFactory(null);
+    }
+
+    @Test
+    public void testNdvi() {
+        GridCoverage2D nir = createCoverage("nir", DataBuffer.TYPE_FLOAT, 1, null);
+        GridCoverage2D red = createCoverage("red", DataBuffer.TYPE_SHORT, 2, null);
+
+        GridCoverage2D result =
+                bandMath(Arrays.asList(nir, red), "(nir - red) / (nir + red)", new String[] {"nir", "red"});
+
+        Raster raster = result.getRenderedImage().getData();
+        assertEquals(DataBuffer.TYPE_FLOAT, raster.getSampleModel().getDataType());
+        assertEquals(1, raster.getNumBands());
+        for (int y = 0; y < HEIGHT; y += 7) {
+            for (int x = 0; x < WIDTH; x += 11) {
+                double n = value(x, y, 1);
+                double r = value(x, y, 2);
+                assertEquals((n - r) / (n + r), raster.getSampleDouble(x, y, 0), 1e-6);
+            }
+        }
+        assertEquals(ENVELOPE, new ReferencedEnvelope(result.getEnvelope()));
+    }
+
+    @Test
+    public void testBandsAndFunctions() {
+        GridCoverage2D source = createCoverage("source", DataBuffer.TYPE_BYTE, 1, null);
+        GridCoverage2D result = bandMath(List.of(source), "max(sqrt(a[0] * a[1]), 3) + -a[2] / 2", null);
+
+        Raster raster = result.getRenderedImage().getData();
+        for (int y = 0; y < HEIGHT; y += 13) {
+            for (int x = 0; x < WIDTH; x += 17) {
+                double b0 = sample(x, y, 0, 1);
+                double b1 = sample(x, y, 1, 1);
+                double b2 = sample(x, y, 2, 1);
+                double expected = Math.max(Math.sqrt(b0 * b1), 3) - b2 / 2;
+                assertEquals(expected, raster.getSampleDouble(x, y, 0), 1e-4);
+            }
+        }
+    }
+
+    @Test
+    public void testNoData() {
+        GridCoverage2D a = createCoverage("a", DataBuffer.TYPE_INT, 1, 0d);
+        GridCoverage2D b = createCoverage("b", DataBuffer.TYPE_DOUBLE, 2, null);
+
+        ParameterValueGroup param = processor.getOperation("BandMath").getParameters();
+        param.parameter("Sources").setValue(Arrays.asList(a, b));
+        param.parameter("Expression").setValue("a / b");
+        param.parameter("NoData").setValue(-9999d);
+        GridCoverage2D result = (GridCoverage2D) processor.doOperation(param);
+
+        Raster raster = result.getRenderedImage().getData();
+        assertEquals(DataBuffer.TYPE_DOUBLE, raster.getSampleModel().getDataType());
+        NoDataContainer noData = CoverageUtilities.getNoDataProperty(result);
+        assertEquals(-9999d, noData.getAsSingleValue(), 0d);
+        int noDataCount = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                double av = sample(x, y, 0, 1);
+                double bv = value(x, y, 2);
+                double actual = raster.getSampleDouble(x, y, 0);
+                if (av == 0 || bv == 0) {
+                    assertEquals(-9999d, actual, 0d);
+                    noDataCount++;
+                } else {
+                    assertEquals(av / bv, actual, 1e-9);
+                }
+            }
+        }
+        assertTrue(noDataCount > 0);
+    }
+
+    @Test(expected = CoverageProcessingException.class)
+    public void testUnknownVariable() {
+        GridCoverage2D a = createCoverage("a", DataBuffer.TYPE_FLOAT, 1, null);
+        bandMath(List.of(a), "a + b", null);
+    }
+
+    @Test(expected = CoverageProcessingException.class)
+    public void testMissingBand() {
+        GridCoverage2D a = createCoverage("a", DataBuffer.TYPE_FLOAT, 1, null);
+        bandMath(List.of(a), "a[1]", null);
+    }
+
+    @Test(expected = CoverageProcessingException.class)
+    public void testMisaligned() {
+        GridCoverage2D a = createCoverage("a", DataBuffer.TYPE_FLOAT, 1, null);
+        WritableRaster raster = RasterFactory.createBandedRaster(DataBuffer.TYPE_FLOAT, WIDTH / 2, HEIGHT, 1, null);
+        GridCoverage2D b = factory.create("b", raster, ENVELOPE);
+        bandMath(Arrays.asList(a, b), "a + b", null);
+    }
+
+    private GridCoverage2D bandMath(List<GridCoverage2D> sources, String expression, String[] variables) {
+        ParameterValueGroup param = processor.getOperation("BandMath").getParameters();
+        param.parameter("Sources").setValue(sources);
+        param.parameter("Expression").setValue(expression);
+        if (variables != null) {
+            param.parameter("Variables").setValue(variables);
+        }
+        return (GridCoverage2D) processor.doOperation(param);
+    }
+
+    /** Creates a three bands coverage filled with {@link #sample} */
+    private GridCoverage2D createCoverage(String name, int dataType, int seed, Double noData) {
+        WritableRaster raster = RasterFactory.createBandedRaster(dataType, WIDTH, HEIGHT, 3, null);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                raster.setSample(x, y, 0, value(x, y, seed));
+                raster.setSample(x, y, 1, (x * y) % 251);
+                raster.setSample(x, y, 2, (x + 3 * y) % 97);
+            }
+        }
+        GridCoverage2D coverage = factory.create(name, raster, ENVELOPE);
+        if (noData == null) {
+            return coverage;
+        }
+        Map<String, Object> properties = new HashMap<>();
+        CoverageUtilities.setNoDataProperty(properties, noData);
+        return factory.create(name, coverage.getRenderedImage(), ENVELOPE, null, null, properties);
+    }
+
+    private static double value(int x, int y, int seed) {
+        return (x * seed + y * (seed + 1)) % 200;
+    }
+
+    private static double sample(int x, int y, int band, int seed) {
+        if (band == 0) {
+            return value(x, y, seed);
+        }
+        return band == 1 ? (x * y) % 251 : (x + 3 * y) % 97;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.coverage.processing.operation;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+public class BandMathExpressionTest {
+
+    private static final List<String> VARIABLES = List.of("a", "b");
+
+    @Test
+    public void testPrecedence() {
+        assertEquals(7, evaluate("1 + 2 * 3", 0, 0), 0d);
+        assertEquals(9, evaluate("(1 + 2) * 3", 0, 0), 0d);
+        assertEquals(-1, evaluate("-a + b", 3, 2), 0d);
+        assertEquals(0.5, evaluate("a / b / 2", 4, 4), 0d);
+        assertEquals(-2, evaluate("a - b - 3", 3, 2), 0d);
+        assertEquals(2e-3, evaluate("2e-3", 0, 0), 0d);
+    }
+
+    @Test
+    public void testFunctions() {
+        assertEquals(3, evaluate("sqrt(a)", 9, 0), 0d);
+        assertEquals(4, evaluate("abs(a - b)", 1, 5), 0d);
+        assertEquals(8, evaluate("pow(a, b)", 2, 3), 0d);
+        assertEquals(2, evaluate("min(a, b)", 2, 3), 0d);
+        assertEquals(3, evaluate("max(a, b)", 2, 3), 0d);
+        assertEquals(2, evaluate("log10(a)", 100, 0), 1e-12);
+        assertEquals(1, evaluate("log(exp(a))", 1, 0), 1e-12);
+    }
+
+    @Test
+    public void testConstantFolding() {
+        BandMathExpression expression = BandMathExpression.parse("a * (2 + 3) - sqrt(16)", VARIABLES);
+        int constants = 0;
+        for (int opcode : expression.opcodes) {
+            if (opcode == BandMathExpression.CONST) {
+                constants++;
+            }
+        }
+        assertEquals(2, constants);
+        assertTrue(expression.usedSources[0]);
+        assertFalse(expression.usedSources[1]);
+        assertEquals(6, evaluate("a * (2 + 3) - sqrt(16)", 2, 0), 0d);
+    }
+
+    @Test
+    public void testBandSelection() {
+        BandMathExpression expression = BandMathExpression.parse("a[2] + b", VARIABLES);
+        assertEquals(BandMathExpression.LOAD, expression.opcodes[0]);
+        assertEquals(0, expression.first[0]);
+        assertEquals(2, expression.second[0]);
+        assertEquals(1, expression.first[1]);
+        assertEquals(0, expression.second[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVariable() {
+        BandMathExpression.parse("a + c", VARIABLES);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnbalancedParentheses() {
+        BandMathExpression.parse("(a + b", VARIABLES);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownFunction() {
+        BandMathExpression.parse("sin(a)", VARIABLES);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTrailingInput() {
+        BandMathExpression.parse("a b", VARIABLES);
+    }
+
+    @Test
+    public void testEvaluatorNoData() {
+        BandMathExpression expression = BandMathExpression.parse("a / b", VARIABLES);
+        double[][] noData = {{0, 0}, {Double.NaN, Double.NaN}};
+        BandMathEvaluator evaluator = new BandMathEvaluator(expression, noData, -1);
+
+        WritableRaster a = Raster.createBandedRaster(DataBuffer.TYPE_USHORT, 4, 1, 1, null);
+        a.setSamples(0, 0, 4, 1, 0, new int[] {0, 6, 6, 6});
+        WritableRaster b = new BufferedImage(4, 1, BufferedImage.TYPE_BYTE_GRAY).getRaster();
+        b.setSamples(0, 0, 4, 1, 0, new int[] {1, 2, 0, 3});
+        WritableRaster roi = new BufferedImage(4, 1, BufferedImage.TYPE_BYTE_GRAY).getRaster();
+        roi.setSamples(0, 0, 4, 1, 0, new int[] {1, 1, 1, 0});
+        WritableRaster destination = Raster.createBandedRaster(DataBuffer.TYPE_INT, 4, 1, 1, null);
+
+        evaluator.computeRaster(new Raster[] {a, b}, new Raster[] {roi, null}, destination);
+        assertArrayEquals(new int[] {-1, 3, -1, -1}, destination.getSamples(0, 0, 4, 1, 0, (int[]) null));
+    }
+
+    @Test
+    public void testEvaluatorParallel() {
+        BandMathExpression expression = BandMathExpression.parse("a[1] * 2 + b", VARIABLES);
+        BandMathEvaluator evaluator = new BandMathEvaluator(expression, new double[2][], Double.NaN);
+        BufferedImage a = new BufferedImage(97, 61, BufferedImage.TYPE_3BYTE_BGR);
+        BufferedImage b = new BufferedImage(97, 61, BufferedImage.TYPE_USHORT_GRAY);
+        for (int y = 0; y < 61; y++) {
+            for (int x = 0; x < 97; x++) {
+                a.getRaster().setSample(x, y, 1, (x + y) % 256);
+                b.getRaster().setSample(x, y, 0, x * y);
+            }
+        }
+        BufferedImage destination = new BufferedImage(97, 61, BufferedImage.TYPE_USHORT_GRAY);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            evaluator.compute(new BufferedImage[] {a, b}, null, destination, executor);
+        } finally {
+            executor.shutdown();
+        }
+        for (int y = 0; y < 61; y++) {
+            for (int x = 0; x < 97; x++) {
+                assertEquals(
+                        ((x + y) % 256) * 2 + x * y, destination.getRaster().getSample(x, y, 0));
+            }
+        }
+    }
+
+    private static double evaluate(String text, double a, double b) {
+        BandMathExpression expression = BandMathExpression.parse(text, VARIABLES);
+        double[][] registers = new double[expression.getRegisterCount()][1];
+        for (int i = 0; i < expression.opcodes.length; i++) {
+            if (expression.opcodes[i] == BandMathExpression.LOAD) {
+                registers[i][0] = expression.first[i] == 0 ? a : b;
+            }
+        }
+        expression.execute(registers, 1);
+        return registers[expression.getResultRegister()][0];
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.coverage.processing.operation;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import javax.media.jai.Interpolation;
+import javax.media.jai.Warp;
+import javax.media.jai.WarpAffine;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.coverage.grid.GridCoverage2D;
+import org.geotools.coverage.grid.GridCoverageFactory;
+import org.geotools.coverage.processing.Operations;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.referencing.operation.transform.ConcatenatedTransform;
+import org.geotools.referencing.operation.transform.ProjectiveTransform;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WarpCacheTest {
+
+    @Before
+    @After
+    public void clearCache() {
+        WarpCache.clear();
+    }
+
+    @Test
+    public void testKeyEquality() throws Exception {
+        CoordinateReferenceSystem mercator = CRS.decode("EPSG:3857");
+        MathTransform2D t1 = (MathTransform2D) CRS.findMathTransform(DefaultGeographicCRS.WGS84, mercator);
+        MathTransform2D t2 = (MathTransform2D) CRS.findMathTransform(DefaultGeographicCRS.WGS84, mercator);
+        Rectangle bounds = new Rectangle(0, 0, 256, 256);
+
+        assertEquals(WarpCache.key(t1, bounds, 0.333), WarpCache.key(t2, bounds, 0.333));
+        assertNotEquals(WarpCache.key(t1, bounds, 0.333), WarpCache.key(t1, bounds, 0.1));
+        assertNotEquals(WarpCache.key(t1, bounds, 0.333), WarpCache.key(t1, new Rectangle(0, 0, 256, 255), 0.333));
+        assertNotEquals(WarpCache.key(t1, bounds, 0.333), WarpCache.key((MathTransform2D) t1.inverse(), bounds, 0.333));
+
+        // the grid to grid chain is rebuilt on each resample, equal chains must share the key
+        MathTransform2D c1 = (MathTransform2D)
+                ConcatenatedTransform.create(ProjectiveTransform.create(AffineTransform.getScaleInstance(2, 2)), t1);
+        MathTransform2D c2 = (MathTransform2D)
+                ConcatenatedTransform.create(ProjectiveTransform.create(AffineTransform.getScaleInstance(2, 2)), t2);
+        MathTransform2D c3 = (MathTransform2D)
+                ConcatenatedTransform.create(ProjectiveTransform.create(AffineTransform.getScaleInstance(3, 3)), t1);
+        assertNotSame(c1, c2);
+        assertEquals(WarpCache.key(c1, bounds, 0.333), WarpCache.key(c2, bounds, 0.333));
+        assertNotEquals(WarpCache.key(c1, bounds, 0.333), WarpCache.key(c3, bounds, 0.333));
+
+        Warp warp = new WarpAffine(new AffineTransform());
+        assertNull(WarpCache.get(WarpCache.key(t1, bounds, 0.333)));
+        WarpCache.put(WarpCache.key(t1, bounds, 0.333), warp);
+        assertSame(warp, WarpCache.get(WarpCache.key(t2, bounds, 0.333)));
+    }
+
+    @Test
+    public void testRepeatedReprojection() throws Exception {
+        BufferedImage image = new BufferedImage(360, 160, BufferedImage.TYPE_BYTE_GRAY);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.getRaster().setSample(x, y, 0, (x + y) % 256);
+            }
+        }
+        ReferencedEnvelope envelope = new ReferencedEnvelope(-180, 180, -80, 80, DefaultGeographicCRS.WGS84);
+        GridCoverage2D coverage = new GridCoverageFactory().create("test", image, envelope);
+        CoordinateReferenceSystem mercator = CRS.decode("EPSG:3857");
+
+        Interpolation nearest = Interpolation.getInstance(Interpolation.INTERP_NEAREST);
+        GridCoverage2D first = (GridCoverage2D) Operations.DEFAULT.resample(coverage, mercator, null, nearest);
+        assertEquals(1, WarpCache.size());
+        GridCoverage2D second = (GridCoverage2D) Operations.DEFAULT.resample(coverage, mercator, null, nearest);
+        assertEquals(1, WarpCache.size());
+        Raster r1 = first.getRenderedImage().getData();
+        Raster r2 = second.getRenderedImage().getData();
+        assertEquals(r1.getBounds(), r2.getBounds());
+        assertArrayEquals(
+                r1.getSamples(r1.getMinX(), r1.getMinY(), r1.getWidth(), r1.getHeight(), 0, (int[]) null),
+                r2.getSamples(r2.getMinX(), r2.getMinY(), r2.getWidth(), r2.getHeight(), 0, (int[]) null));
+    }
+}
@@ -39,7 +39,9 @@
 import org.geotools.feature.FeatureCollection;
 import org.geotools.feature.FeatureIterator;
 import org.geotools.feature.FeatureTypes;
+import org.geotools.feature.simple.CompactSimpleFeature;
 import org.geotools.util.SuppressFBWarnings;
+import org.locationtech.jts.geom.PrecisionModel;
 
 /**
  * This is an example implementation of a DataStore used for testing.
@@ -52,6 +54,9 @@
  *
  * <p>This class will also illustrate the use of In-Process locking when the time comes.
  *
+ * <p>When {@linkplain #setCompactGeometries(boolean) compact geometries} are enabled, the features added afterwards are
+ * stored as {@link CompactSimpleFeature}, trading some decoding time on access for a much smaller memory footprint.
+ *
  * @author jgarnett
  */
 // This code synchronizes on a ConcurrentHashMap, which does not seem very sensible (the structure
@@ -59,10 +64,42 @@
 @SuppressFBWarnings("JLM_JSR166_UTILCONCURRENT_MONITORENTER")
 public class MemoryDataStore extends ContentDataStore {
 
+    /** Whether the features are stored with compact geometries */
+    private volatile boolean compactGeometries;
+
+    /** The precision of the compact geometries, null for lossless storage */
+    private volatile PrecisionModel geometryPrecision;
+
     public MemoryDataStore() {
         super();
     }
 
+    /**
+     * Enables the storage of the features added from now on as {@link CompactSimpleFeature}, whose geometries are kept
+     * encoded and decoded on access.
+     */
+    public void setCompactGeometries(boolean compactGeometries) {
+        this.compactGeometries = compactGeometries;
+    }
+
+    /** Returns true if the features are stored with compact geometries. */
+    public boolean isCompactGeometries() {
+        return compactGeometries;
+    }
+
+    /**
+     * Sets the precision of the compact geometries. With a fixed precision model the geometries are quantised to its
+     * grid, which makes them much smaller, with a floating one (or null, the default) they are stored losslessly.
+     */
+    public void setGeometryPrecision(PrecisionModel geometryPrecision) {
+        this.geometryPrecision = geometryPrecision;
+    }
+
+    /** Returns the precision of the compact geometries, or null if they are stored losslessly. */
+    public PrecisionModel getGeometryPrecision() {
+        return geometryPrecision;
+    }
+
     /** Use MemoryState to manage internal storage. */
     @Override
     protected MemoryState createContentState(ContentEntry entry) {
@@ -22,6 +22,7 @@
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.data.store.ContentEntry;
+import org.geotools.feature.simple.CompactSimpleFeature;
 
 /**
  * Entry used to store features (of a single FeatureType).
@@ -92,6 +93,10 @@ void addFeature(SimpleFeature feature) {
                     + feature.getFeatureType().getTypeName()
                     + ")");
         }
+        MemoryDataStore store = (MemoryDataStore) getDataStore();
+        if (store.isCompactGeometries() && !(feature instanceof CompactSimpleFeature)) {
+            feature = CompactSimpleFeature.compact(feature, store.getGeometryPrecision());
+        }
         getMemory().put(feature.getID(), feature);
     }
 }
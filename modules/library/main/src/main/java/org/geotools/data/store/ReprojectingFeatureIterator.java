@@ -17,6 +17,7 @@
 package org.geotools.data.store;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.geotools.api.feature.IllegalAttributeException;
 import org.geotools.api.feature.simple.SimpleFeature;
@@ -33,8 +34,19 @@
 import org.geotools.util.factory.FactoryRegistryException;
 import org.locationtech.jts.geom.Geometry;
 
+/**
+ * Reprojects the geometries of the features returned by a delegate iterator.
+ *
+ * <p>Features are read ahead in batches of {@value #BATCH_SIZE}, and the geometries of a batch are transformed at once
+ * with {@link GeometryCoordinateSequenceTransformer#transform(List)}. If a geometry of the batch can not be
+ * transformed, the features of the batch are reprojected one by one, so that the error is reported on the right
+ * feature.
+ */
 public class ReprojectingFeatureIterator implements SimpleFeatureIterator {
 
+    /** The number of features reprojected at once. */
+    static final int BATCH_SIZE = 256;
+
     /** decorated iterator */
     SimpleFeatureIterator delegate;
 
@@ -47,6 +59,15 @@ public class ReprojectingFeatureIterator implements SimpleFeatureIterator {
     /** Transformer */
     GeometryCoordinateSequenceTransformer tx;
 
+    /** The features read ahead */
+    List<SimpleFeature> batch = new ArrayList<>();
+
+    /** The reprojected attributes of the features read ahead, or null if they have to be reprojected one by one */
+    List<List<Object>> batchAttributes;
+
+    /** The index of the next feature in {@link #batch} */
+    int batchIndex;
+
     public ReprojectingFeatureIterator(
             SimpleFeatureIterator delegate,
             MathTransform transform,
@@ -85,19 +106,68 @@ public SimpleFeatureIterator getDelegate() {
 
     @Override
     public boolean hasNext() {
-        return delegate.hasNext();
+        return batchIndex < batch.size() || delegate.hasNext();
     }
 
     @Override
     public SimpleFeature next() {
-        SimpleFeature feature = delegate.next();
+        if (batchIndex >= batch.size()) {
+            batch.clear();
+            batchIndex = 0;
+            batch.add(delegate.next());
+            while (batch.size() < BATCH_SIZE && delegate.hasNext()) {
+                batch.add(delegate.next());
+            }
+            batchAttributes = reproject(batch);
+        }
+        SimpleFeature feature = batch.get(batchIndex);
         try {
+            if (batchAttributes != null) {
+                return build(feature, batchAttributes.get(batchIndex));
+            }
             return reproject(feature);
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            batch.set(batchIndex++, null);
         }
     }
 
+    /**
+     * Reprojects the geometries of all the features at once.
+     *
+     * @return the attributes of the features, with reprojected geometries, or null if a geometry can not be reprojected
+     */
+    List<List<Object>> reproject(List<SimpleFeature> features) {
+        List<List<Object>> attributes = new ArrayList<>(features.size());
+        List<Geometry> geometries = new ArrayList<>();
+        for (SimpleFeature feature : features) {
+            List<Object> values = new ArrayList<>(feature.getAttributes());
+            for (Object value : values) {
+                if (value instanceof Geometry) {
+                    geometries.add((Geometry) value);
+                }
+            }
+            attributes.add(values);
+        }
+        List<Geometry> transformed;
+        try {
+            transformed = tx.transform(geometries);
+        } catch (TransformException | RuntimeException e) {
+            // reproject one feature at a time, to report the error on the right one
+            return null;
+        }
+        int g = 0;
+        for (List<Object> values : attributes) {
+            for (int i = 0; i < values.size(); i++) {
+                if (values.get(i) instanceof Geometry) {
+                    values.set(i, transformed.get(g++));
+                }
+            }
+        }
+        return attributes;
+    }
+
     SimpleFeature reproject(SimpleFeature feature) throws IOException {
 
         List<Object> attributes = feature.getAttributes();
@@ -116,6 +186,10 @@ SimpleFeature reproject(SimpleFeature feature) throws IOException {
             }
         }
 
+        return build(feature, attributes);
+    }
+
+    SimpleFeature build(SimpleFeature feature, List<Object> attributes) throws IOException {
         try {
             SimpleFeature result = SimpleFeatureBuilder.build(schema, attributes, feature.getID());
             if (feature.hasUserData()) {
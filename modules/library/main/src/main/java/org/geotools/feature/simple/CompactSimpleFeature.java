@@ -0,0 +1,164 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.simple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import org.geotools.api.feature.Property;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.identity.FeatureId;
+import org.geotools.api.geometry.BoundingBox;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.geometry.jts.CompactGeometry;
+import org.geotools.geometry.jts.JTS;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * A {@link SimpleFeature} holding its geometries as {@link CompactGeometry}, for features kept in memory for a long
+ * time (e.g., in a {@link org.geotools.data.memory.MemoryDataStore} or a
+ * {@link org.geotools.data.collection.SpatialIndexFeatureCollection}). The geometries are decoded every time they are
+ * accessed, so callers get their own copy, while {@link #getBounds()} is computed from the encoded envelopes, without
+ * decoding.
+ *
+ * <p>Geometries that cannot be encoded (e.g., curved ones) are kept as they are.
+ *
+ * @since 34.0
+ */
+public class CompactSimpleFeature extends SimpleFeatureImpl {
+
+    /** The precision used to encode the geometries, null to encode them losslessly */
+    private final PrecisionModel precision;
+
+    /**
+     * Builds a new feature, encoding its geometries.
+     *
+     * @param values The attribute values, the array is owned by the feature and the geometries replaced by their
+     *     encoded form
+     * @param featureType The feature type
+     * @param id The feature identifier
+     * @param precision The precision used to encode the geometries, null to encode them losslessly
+     */
+    public CompactSimpleFeature(
+            Object[] values, SimpleFeatureType featureType, FeatureId id, PrecisionModel precision) {
+        super(values, featureType, id, false);
+        this.precision = precision;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = encode(values[i]);
+        }
+    }
+
+    /**
+     * Returns a compact copy of the feature, sharing its attribute values (other than the geometries) and user data.
+     *
+     * @param feature The feature to copy
+     * @param precision The precision used to encode the geometries, null to encode them losslessly
+     */
+    public static CompactSimpleFeature compact(SimpleFeature feature, PrecisionModel precision) {
+        CompactSimpleFeature result = new CompactSimpleFeature(
+                feature.getAttributes().toArray(), feature.getFeatureType(), feature.getIdentifier(), precision);
+        if (feature.hasUserData()) {
+            result.userData = new HashMap<>(feature.getUserData());
+        }
+        return result;
+    }
+
+    /** Returns the precision used to encode the geometries, or null if they are encoded losslessly. */
+    public PrecisionModel getPrecision() {
+        return precision;
+    }
+
+    private Object encode(Object value) {
+        if (value instanceof Geometry && CompactGeometry.canEncode((Geometry) value)) {
+            return CompactGeometry.encode((Geometry) value, precision);
+        }
+        return value;
+    }
+
+    @Override
+    public Object getAttribute(int index) throws IndexOutOfBoundsException {
+        Object value = values[index];
+        if (value instanceof CompactGeometry) {
+            return ((CompactGeometry) value).toGeometry();
+        }
+        return value;
+    }
+
+    @Override
+    public List<Object> getAttributes() {
+        List<Object> result = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            result.add(getAttribute(i));
+        }
+        return result;
+    }
+
+    @Override
+    public void setAttribute(int index, Object value) throws IndexOutOfBoundsException {
+        super.setAttribute(index, value);
+        values[index] = encode(values[index]);
+    }
+
+    @Override
+    public void setAttributes(List<Object> values) {
+        for (int i = 0; i < this.values.length; i++) {
+            this.values[i] = encode(values.get(i));
+        }
+    }
+
+    @Override
+    public void setAttributes(Object[] values) {
+        setAttributes(Arrays.asList(values));
+    }
+
+    @Override
+    public void setValue(Collection<Property> values) {
+        int i = 0;
+        for (Property p : values) {
+            this.values[i++] = encode(p.getValue());
+        }
+    }
+
+    /** Computes the bounds from the encoded envelopes, without decoding the geometries. */
+    @Override
+    public BoundingBox getBounds() {
+        CoordinateReferenceSystem crs = featureType.getCoordinateReferenceSystem();
+        Envelope bounds = ReferencedEnvelope.create(crs);
+        for (Object o : values) {
+            Envelope envelope;
+            if (o instanceof CompactGeometry) {
+                envelope = ((CompactGeometry) o).getEnvelope();
+            } else if (o instanceof Geometry) {
+                envelope = JTS.bounds((Geometry) o, crs);
+            } else {
+                continue;
+            }
+            if (bounds.isNull()) {
+                bounds.init(envelope);
+            } else {
+                bounds.expandToInclude(envelope);
+            }
+        }
+        return (BoundingBox) bounds;
+    }
+}
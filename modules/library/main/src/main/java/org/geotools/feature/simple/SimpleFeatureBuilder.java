@@ -174,8 +174,8 @@ public SimpleFeatureType getFeatureType() {
     public void init(SimpleFeature feature) {
         reset();
 
-        // optimize the case in which we just build
-        if (feature instanceof SimpleFeatureImpl) {
+        // optimize the case in which we just build (compact features hold encoded geometries in their values)
+        if (feature instanceof SimpleFeatureImpl && !(feature instanceof CompactSimpleFeature)) {
             SimpleFeatureImpl impl = (SimpleFeatureImpl) feature;
             System.arraycopy(impl.values, 0, values, 0, impl.values.length);
 
@@ -330,7 +330,7 @@ public Property getProperty(String name) {
             int index = idx.intValue();
             AttributeDescriptor descriptor = featureType.getDescriptor(index);
             if (descriptor instanceof GeometryDescriptor) {
-                return new GeometryAttributeImpl(values[index], (GeometryDescriptor) descriptor, null);
+                return new GeometryAttributeImpl(getAttribute(index), (GeometryDescriptor) descriptor, null);
             } else {
                 return new Attribute(index);
             }
@@ -438,20 +438,21 @@ public boolean equals(Object obj) {
         }
 
         for (int i = 0, ii = values.length; i < ii; i++) {
+            Object att = getAttribute(i);
             Object otherAtt = feat.getAttribute(i);
 
-            if (values[i] == null) {
+            if (att == null) {
                 if (otherAtt != null) {
                     return false;
                 }
             } else {
-                if (values[i] instanceof Geometry) {
+                if (att instanceof Geometry) {
                     if (!(otherAtt instanceof Geometry)) {
                         return false;
-                    } else if (!CoordinateSequences.equalsND((Geometry) values[i], (Geometry) otherAtt)) {
+                    } else if (!CoordinateSequences.equalsND((Geometry) att, (Geometry) otherAtt)) {
                         return false;
                     }
-                } else if (!values[i].equals(otherAtt)) {
+                } else if (!att.equals(otherAtt)) {
                     return false;
                 }
             }
@@ -464,7 +465,7 @@ public boolean equals(Object obj) {
     public void validate() {
         for (int i = 0; i < values.length; i++) {
             AttributeDescriptor descriptor = getType().getDescriptor(i);
-            Types.validate(descriptor, values[i]);
+            Types.validate(descriptor, getAttribute(i));
         }
     }
 
@@ -482,7 +483,7 @@ public Property get(int index) {
 
         @Override
         public Attribute set(int index, Property element) {
-            values[index] = element.getValue();
+            setAttribute(index, element.getValue());
             return null;
         }
 
@@ -542,7 +543,7 @@ public Map<Object, Object> getUserData() {
 
         @Override
         public Object getValue() {
-            return values[index];
+            return getAttribute(index);
         }
 
         @Override
@@ -552,7 +553,7 @@ public boolean isNillable() {
 
         @Override
         public void setValue(Object newValue) {
-            values[index] = newValue;
+            setAttribute(index, newValue);
         }
         /**
          * Override of hashCode; uses descriptor name to agree with AttributeImpl
@@ -592,7 +593,7 @@ public boolean equals(Object obj) {
 
         @Override
         public void validate() {
-            Types.validate(getDescriptor(), values[index]);
+            Types.validate(getDescriptor(), getAttribute(index));
         }
 
         @Override
@@ -613,7 +614,7 @@ public String toString() {
                 sb.append(">");
             }
             sb.append("=");
-            sb.append(values[index]);
+            sb.append(getAttribute(index));
             return sb.toString();
         }
     }
@@ -0,0 +1,179 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geometry.jts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.geotools.api.geometry.MismatchedDimensionException;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.util.SharedThreadPool;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+
+/**
+ * A {@linkplain CoordinateSequenceTransformer coordinate sequence transformer} able to transform many sequences at
+ * once. The coordinates of all the sequences are packed in a single array and transformed with a single
+ * {@link MathTransform#transform(double[], int, double[], int, int)} call, split across threads when the number of
+ * points is large enough. This amortizes the per call overhead of the math transforms (and lets map projections use
+ * their batch code paths) when reprojecting many small geometries, e.g. the features of a collection.
+ *
+ * <p>The work is split across the {@link SharedThreadPool}, and the minimum number of points transformed by each thread
+ * can be configured with the {@value #PARALLEL_THRESHOLD_KEY} system property.
+ *
+ * <p>As {@link DefaultCoordinateSequenceTransformer}, this transformer supports math transforms with up to 3 source
+ * dimensions, and copies the extra ordinates of the source sequences. The math transforms are assumed to be thread
+ * safe, as all the GeoTools ones are.
+ *
+ * @since 34.0
+ */
+public class BulkCoordinateSequenceTransformer implements CoordinateSequenceTransformer {
+
+    /** System property setting the minimum number of points transformed by each thread. */
+    public static final String PARALLEL_THRESHOLD_KEY = "org.geotools.geometry.bulkTransform.threshold";
+
+    static final int PARALLEL_THRESHOLD = Integer.getInteger(PARALLEL_THRESHOLD_KEY, 65536);
+
+    /** The coordinate sequence factory to use. */
+    private final CoordinateSequenceFactory csFactory;
+
+    /** Constructs a bulk coordinate sequence transformer creating {@code CoordinateArraySequence}s. */
+    public BulkCoordinateSequenceTransformer() {
+        this(CoordinateArraySequenceFactory.instance());
+    }
+
+    /**
+     * Constructs a bulk coordinate sequence transformer.
+     *
+     * @param csFactory the factory used to create the transformed sequences
+     */
+    public BulkCoordinateSequenceTransformer(CoordinateSequenceFactory csFactory) {
+        this.csFactory = csFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoordinateSequence transform(CoordinateSequence sequence, MathTransform transform)
+            throws TransformException {
+        return transform(List.of(sequence), transform).get(0);
+    }
+
+    /**
+     * Transforms all the given sequences.
+     *
+     * @param sequences the sequences to transform
+     * @param transform the math transform to apply
+     * @return the transformed sequences, in the same order as the source ones
+     * @throws TransformException if a coordinate can not be transformed
+     */
+    public List<CoordinateSequence> transform(List<CoordinateSequence> sequences, MathTransform transform)
+            throws TransformException {
+        final int sourceDim = transform.getSourceDimensions();
+        final int targetDim = transform.getTargetDimensions();
+        if (sourceDim > 3) {
+            throw new MismatchedDimensionException();
+        }
+        int total = 0;
+        for (CoordinateSequence sequence : sequences) {
+            total += sequence.size();
+        }
+
+        // pack
+        final double[] source = new double[total * sourceDim];
+        int ib = 0;
+        for (CoordinateSequence sequence : sequences) {
+            final int size = sequence.size();
+            for (int i = 0; i < size; i++) {
+                for (int d = 0; d < sourceDim; d++) {
+                    source[ib++] = sequence.getOrdinate(i, d);
+                }
+            }
+        }
+
+        // transform, in place if the dimensions allow it
+        final double[] target = sourceDim == targetDim ? source : new double[total * targetDim];
+        transform(transform, source, target, total);
+
+        // unpack, copying over the dimensions not contemplated in the source sequences
+        final List<CoordinateSequence> result = new ArrayList<>(sequences.size());
+        int it = 0;
+        for (CoordinateSequence sequence : sequences) {
+            final int size = sequence.size();
+            final int targetCSDim = targetDim + (sequence.getDimension() - sourceDim);
+            final CoordinateSequence transformed = JTS.createCS(csFactory, size, targetCSDim, sequence.getMeasures());
+            for (int i = 0; i < size; i++) {
+                int oi = 0;
+                for (; oi < targetDim; oi++) {
+                    transformed.setOrdinate(i, oi, target[it++]);
+                }
+                for (; oi < targetCSDim; oi++) {
+                    transformed.setOrdinate(i, oi, sequence.getOrdinate(i, oi + (targetDim - sourceDim)));
+                }
+                // see DefaultCoordinateSequenceTransformer about fixed size sequences
+                for (; oi < transformed.getDimension(); oi++) {
+                    transformed.setOrdinate(i, oi, Double.NaN);
+                }
+            }
+            result.add(transformed);
+        }
+        return result;
+    }
+
+    /** Transforms the packed coordinates, splitting the work across threads for large arrays. */
+    private static void transform(MathTransform transform, double[] source, double[] target, int numPts)
+            throws TransformException {
+        final ExecutorService executor = numPts >= 2 * PARALLEL_THRESHOLD ? SharedThreadPool.getExecutor() : null;
+        if (executor == null) {
+            transform.transform(source, 0, target, 0, numPts);
+            return;
+        }
+        final int sourceDim = transform.getSourceDimensions();
+        final int targetDim = transform.getTargetDimensions();
+        final int threads = SharedThreadPool.getParallelism();
+        final int chunk = Math.max(PARALLEL_THRESHOLD, (numPts + threads - 1) / threads);
+        final List<Future<Void>> futures = new ArrayList<>();
+        for (int start = 0; start < numPts; start += chunk) {
+            final int offset = start;
+            final int count = Math.min(chunk, numPts - start);
+            futures.add(executor.submit(() -> {
+                transform.transform(source, offset * sourceDim, target, offset * targetDim, count);
+                return null;
+            }));
+        }
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransformException("Interrupted while transforming coordinates", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TransformException) {
+                throw (TransformException) e.getCause();
+            }
+            throw new TransformException("Failed to transform coordinates", e.getCause());
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+}
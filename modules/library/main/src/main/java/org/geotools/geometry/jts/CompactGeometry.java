@@ -0,0 +1,459 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geometry.jts;
+
+import java.util.Arrays;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * An immutable, compact encoding of a JTS geometry, meant to keep large amounts of geometries in memory. A JTS geometry
+ * backed by {@link org.locationtech.jts.geom.Coordinate} objects uses 40 or more bytes per vertex, the encoded form
+ * stores the differences between consecutive ordinates as variable length integers:
+ *
+ * <ul>
+ *   <li>with a fixed {@link PrecisionModel} the x and y ordinates are quantised to its grid, and consecutive vertices
+ *       usually differ by a few bytes
+ *   <li>otherwise the ordinates are stored losslessly, as the difference between the bits of consecutive values (which
+ *       is small for close values with the same sign and exponent)
+ * </ul>
+ *
+ * The other ordinates (z, m) are always stored losslessly. The geometry is decoded on demand by {@link #toGeometry()},
+ * while its envelope is kept decoded, so that spatial filters can be evaluated without decoding the vertices.
+ *
+ * <p>Only the plain JTS geometry classes can be encoded, see {@link #canEncode(Geometry)}.
+ *
+ * @since 34.0
+ */
+public final class CompactGeometry {
+
+    private static final byte POINT = 1;
+    private static final byte LINESTRING = 2;
+    private static final byte LINEARRING = 3;
+    private static final byte POLYGON = 4;
+    private static final byte MULTIPOINT = 5;
+    private static final byte MULTILINESTRING = 6;
+    private static final byte MULTIPOLYGON = 7;
+    private static final byte GEOMETRYCOLLECTION = 8;
+
+    /** The encoded geometry */
+    private final byte[] data;
+
+    /** The scale of the quantised x and y ordinates, or 0 if they are stored losslessly */
+    private final double scale;
+
+    private final double minX, minY, maxX, maxY;
+
+    /** The factory used to decode the geometry */
+    private final GeometryFactory factory;
+
+    private final int srid;
+
+    private final Object userData;
+
+    private CompactGeometry(byte[] data, double scale, Envelope envelope, Geometry geometry) {
+        this.data = data;
+        this.scale = scale;
+        if (envelope.isNull()) {
+            minX = minY = Double.NaN;
+            maxX = maxY = Double.NaN;
+        } else {
+            minX = envelope.getMinX();
+            minY = envelope.getMinY();
+            maxX = envelope.getMaxX();
+            maxY = envelope.getMaxY();
+        }
+        this.factory = geometry.getFactory();
+        this.srid = geometry.getSRID();
+        this.userData = geometry.getUserData();
+    }
+
+    /**
+     * Returns true if the geometry can be encoded, that is, if it and its components are plain JTS geometries (curved
+     * geometries, as an example, cannot).
+     */
+    public static boolean canEncode(Geometry geometry) {
+        if (geometry == null) {
+            return false;
+        }
+        Class<?> type = geometry.getClass();
+        if (type == Point.class
+                || type == LineString.class
+                || type == LinearRing.class
+                || type == Polygon.class
+                || type == MultiPoint.class
+                || type == MultiLineString.class
+                || type == MultiPolygon.class) {
+            return true;
+        } else if (type == GeometryCollection.class) {
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                if (!canEncode(geometry.getGeometryN(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Encodes the geometry losslessly.
+     *
+     * @throws IllegalArgumentException if the geometry {@linkplain #canEncode(Geometry) cannot be encoded}
+     */
+    public static CompactGeometry encode(Geometry geometry) {
+        return encode(geometry, null);
+    }
+
+    /**
+     * Encodes the geometry, quantising the x and y ordinates to the given precision model grid if it is a fixed one.
+     *
+     * @param geometry The geometry to encode
+     * @param precision The precision model, null or floating to encode the geometry losslessly
+     * @throws IllegalArgumentException if the geometry {@linkplain #canEncode(Geometry) cannot be encoded}
+     */
+    public static CompactGeometry encode(Geometry geometry, PrecisionModel precision) {
+        if (!canEncode(geometry)) {
+            throw new IllegalArgumentException("Cannot encode " + (geometry == null ? null : geometry.getClass()));
+        }
+        double scale = precision == null || precision.isFloating() ? 0 : precision.getScale();
+        Encoder encoder = new Encoder(scale);
+        encoder.write(geometry);
+        Envelope envelope = geometry.getEnvelopeInternal();
+        if (scale > 0 && !envelope.isNull()) {
+            // rounding is monotonic, the quantised envelope is the envelope of the quantised geometry
+            envelope = new Envelope(
+                    encoder.quantise(envelope.getMinX()),
+                    encoder.quantise(envelope.getMaxX()),
+                    encoder.quantise(envelope.getMinY()),
+                    encoder.quantise(envelope.getMaxY()));
+        }
+        return new CompactGeometry(encoder.toByteArray(), scale, envelope, geometry);
+    }
+
+    /** Decodes the geometry, using the factory of the original one. */
+    public Geometry toGeometry() {
+        return toGeometry(factory);
+    }
+
+    /** Decodes the geometry using the given factory. */
+    public Geometry toGeometry(GeometryFactory factory) {
+        Decoder decoder = new Decoder(data, scale, factory);
+        Geometry geometry = decoder.read();
+        geometry.setSRID(srid);
+        geometry.setUserData(userData);
+        return geometry;
+    }
+
+    /** Returns the envelope of the geometry, without decoding it. */
+    public Envelope getEnvelope() {
+        if (isEmpty()) {
+            return new Envelope();
+        }
+        return new Envelope(minX, maxX, minY, maxY);
+    }
+
+    /** Returns true if the geometry envelope intersects the given one, without decoding the geometry. */
+    public boolean intersects(Envelope envelope) {
+        return !isEmpty()
+                && !envelope.isNull()
+                && envelope.getMinX() <= maxX
+                && envelope.getMaxX() >= minX
+                && envelope.getMinY() <= maxY
+                && envelope.getMaxY() >= minY;
+    }
+
+    /** Returns true if the encoded geometry is empty. */
+    public boolean isEmpty() {
+        return Double.isNaN(minX);
+    }
+
+    /** Returns the size of the encoded geometry, in bytes. */
+    public int getEncodedSize() {
+        return data.length;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactGeometry[" + data.length + " bytes, " + getEnvelope() + "]";
+    }
+
+    /**
+     * Writes the geometries. Each coordinate sequence starts with its size and a byte holding its dimension and
+     * measures, the ordinates are delta encoded against the previous coordinate, also across sequences.
+     */
+    private static final class Encoder {
+        private final double scale;
+
+        private byte[] buffer = new byte[64];
+
+        private int position;
+
+        /** The previous x and y, quantised or as raw bits */
+        private long prevX, prevY;
+
+        /** The raw bits of the previous extra ordinates */
+        private final long[] prevOrdinates = new long[14];
+
+        Encoder(double scale) {
+            this.scale = scale;
+        }
+
+        double quantise(double value) {
+            return Math.round(value * scale) / scale;
+        }
+
+        void write(Geometry geometry) {
+            if (geometry instanceof Point) {
+                writeByte(POINT);
+                writeSequence(((Point) geometry).getCoordinateSequence());
+            } else if (geometry instanceof LinearRing) {
+                writeByte(LINEARRING);
+                writeSequence(((LinearRing) geometry).getCoordinateSequence());
+            } else if (geometry instanceof LineString) {
+                writeByte(LINESTRING);
+                writeSequence(((LineString) geometry).getCoordinateSequence());
+            } else if (geometry instanceof Polygon) {
+                Polygon polygon = (Polygon) geometry;
+                writeByte(POLYGON);
+                if (polygon.isEmpty()) {
+                    writeVarInt(0);
+                } else {
+                    writeVarInt(polygon.getNumInteriorRing() + 1);
+                    writeSequence(polygon.getExteriorRing().getCoordinateSequence());
+                    for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                        writeSequence(polygon.getInteriorRingN(i).getCoordinateSequence());
+                    }
+                }
+            } else {
+                if (geometry instanceof MultiPoint) {
+                    writeByte(MULTIPOINT);
+                } else if (geometry instanceof MultiLineString) {
+                    writeByte(MULTILINESTRING);
+                } else if (geometry instanceof MultiPolygon) {
+                    writeByte(MULTIPOLYGON);
+                } else {
+                    writeByte(GEOMETRYCOLLECTION);
+                }
+                writeVarInt(geometry.getNumGeometries());
+                for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                    write(geometry.getGeometryN(i));
+                }
+            }
+        }
+
+        void writeSequence(CoordinateSequence cs) {
+            final int size = cs.size();
+            final int dimension = cs.getDimension();
+            final int measures = cs.getMeasures();
+            writeVarInt(size);
+            if (size == 0) {
+                return;
+            }
+            writeByte((byte) (dimension << 4 | measures));
+            for (int i = 0; i < size; i++) {
+                if (scale > 0) {
+                    long x = Math.round(cs.getX(i) * scale);
+                    long y = Math.round(cs.getY(i) * scale);
+                    writeVarLong(zigZag(x - prevX));
+                    writeVarLong(zigZag(y - prevY));
+                    prevX = x;
+                    prevY = y;
+                } else {
+                    long x = Double.doubleToRawLongBits(cs.getX(i));
+                    long y = Double.doubleToRawLongBits(cs.getY(i));
+                    writeVarLong(zigZag(x - prevX));
+                    writeVarLong(zigZag(y - prevY));
+                    prevX = x;
+                    prevY = y;
+                }
+                for (int d = 2; d < dimension; d++) {
+                    long bits = Double.doubleToRawLongBits(cs.getOrdinate(i, d));
+                    writeVarLong(zigZag(bits - prevOrdinates[d - 2]));
+                    prevOrdinates[d - 2] = bits;
+                }
+            }
+        }
+
+        static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void ensureCapacity(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /** Reads back the geometries written by {@link Encoder}. */
+    private static final class Decoder {
+        private final byte[] data;
+
+        private final double scale;
+
+        private final GeometryFactory factory;
+
+        private int position;
+
+        private long prevX, prevY;
+
+        private final long[] prevOrdinates = new long[14];
+
+        Decoder(byte[] data, double scale, GeometryFactory factory) {
+            this.data = data;
+            this.scale = scale;
+            this.factory = factory;
+        }
+
+        Geometry read() {
+            byte type = data[position++];
+            switch (type) {
+                case POINT:
+                    return factory.createPoint(readSequence());
+                case LINESTRING:
+                    return factory.createLineString(readSequence());
+                case LINEARRING:
+                    return factory.createLinearRing(readSequence());
+                case POLYGON: {
+                    int rings = readVarInt();
+                    if (rings == 0) {
+                        return factory.createPolygon();
+                    }
+                    LinearRing shell = factory.createLinearRing(readSequence());
+                    LinearRing[] holes = new LinearRing[rings - 1];
+                    for (int i = 0; i < holes.length; i++) {
+                        holes[i] = factory.createLinearRing(readSequence());
+                    }
+                    return factory.createPolygon(shell, holes);
+                }
+                case MULTIPOINT: {
+                    Point[] points = new Point[readVarInt()];
+                    for (int i = 0; i < points.length; i++) {
+                        points[i] = (Point) read();
+                    }
+                    return factory.createMultiPoint(points);
+                }
+                case MULTILINESTRING: {
+                    LineString[] lines = new LineString[readVarInt()];
+                    for (int i = 0; i < lines.length; i++) {
+                        lines[i] = (LineString) read();
+                    }
+                    return factory.createMultiLineString(lines);
+                }
+                case MULTIPOLYGON: {
+                    Polygon[] polygons = new Polygon[readVarInt()];
+                    for (int i = 0; i < polygons.length; i++) {
+                        polygons[i] = (Polygon) read();
+                    }
+                    return factory.createMultiPolygon(polygons);
+                }
+                case GEOMETRYCOLLECTION: {
+                    Geometry[] geometries = new Geometry[readVarInt()];
+                    for (int i = 0; i < geometries.length; i++) {
+                        geometries[i] = read();
+                    }
+                    return factory.createGeometryCollection(geometries);
+                }
+                default:
+                    throw new IllegalStateException("Unexpected geometry type " + type);
+            }
+        }
+
+        CoordinateSequence readSequence() {
+            final int size = readVarInt();
+            if (size == 0) {
+                return factory.getCoordinateSequenceFactory().create(0, 2);
+            }
+            final int flags = data[position++];
+            final int dimension = flags >> 4;
+            final int measures = flags & 0x0F;
+            CoordinateSequence cs = JTS.createCS(factory.getCoordinateSequenceFactory(), size, dimension, measures);
+            for (int i = 0; i < size; i++) {
+                if (scale > 0) {
+                    prevX += unZigZag(readVarLong());
+                    prevY += unZigZag(readVarLong());
+                    cs.setOrdinate(i, 0, prevX / scale);
+                    cs.setOrdinate(i, 1, prevY / scale);
+                } else {
+                    prevX += unZigZag(readVarLong());
+                    prevY += unZigZag(readVarLong());
+                    cs.setOrdinate(i, 0, Double.longBitsToDouble(prevX));
+                    cs.setOrdinate(i, 1, Double.longBitsToDouble(prevY));
+                }
+                for (int d = 2; d < dimension; d++) {
+                    prevOrdinates[d - 2] += unZigZag(readVarLong());
+                    cs.setOrdinate(i, d, Double.longBitsToDouble(prevOrdinates[d - 2]));
+                }
+            }
+            return cs;
+        }
+
+        static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        long readVarLong() {
+            long result = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                result |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return result;
+        }
+    }
+}
@@ -63,6 +63,15 @@ public final class Decimator {
 
     private static final double EPS = 1e-9;
 
+    /** Per thread scratch buffer, used when the coordinates cannot be generalized in place */
+    private static final ThreadLocal<double[]> SCRATCH = new ThreadLocal<>();
+
+    /**
+     * Largest scratch buffer kept by a thread, in ordinates (512kB). Larger sequences get a temporary array, so that a
+     * single huge geometry does not pin its memory in every rendering thread.
+     */
+    static final int MAX_SCRATCH_LENGTH = 64 * 1024;
+
     private double spanx = -1;
 
     private double spany = -1;
@@ -399,31 +408,18 @@ private final void decimateTransformGeneralize(
             throws TransformException {
         // decimates before XFORM
         int ncoords = seq.size();
-        double[] coords = null;
-        int sourceDimensions = 2;
-        if (transform != null) {
-            sourceDimensions = transform.getSourceDimensions();
-            coords = seq.getOrdinateArray(sourceDimensions);
-        } else {
-            coords = seq.getXYArray();
-        }
+        int sourceDimensions = transform != null ? transform.getSourceDimensions() : 2;
+        // work in place when the sequence has the layout the transform expects, otherwise
+        // in the per thread scratch buffer, to avoid allocating a temporary array
+        boolean inPlace = seq.getDimension() == sourceDimensions && seq.getMeasures() == 0;
+        double[] coords = inPlace ? seq.getArray() : getScratch(seq, sourceDimensions);
 
         if (ncoords < 2) {
             if (ncoords == 1) // 1 coordinate -- just xform it
             {
-                // double[] newCoordsXformed2 = new double[2];
                 if (transform != null) {
                     transform.transform(coords, 0, coords, 0, 1);
-                    if (sourceDimensions > 2) {
-                        double[] flatCoords = new double[seq.size() * 2];
-                        for (int i = 0; i < seq.size(); i++) {
-                            flatCoords[i * 2] = coords[i * sourceDimensions];
-                            flatCoords[i * 2 + 1] = coords[i * sourceDimensions + 1];
-                        }
-                        seq.setArray(flatCoords, 2);
-                    } else {
-                        seq.setArray(coords, 2);
-                    }
+                    setCoordinates(seq, coords, 2, inPlace);
                 }
                 return;
             } else return; // ncoords =0
@@ -435,7 +431,7 @@ private final void decimateTransformGeneralize(
             // do the xform if needed
             if ((transform != null) && (!transform.isIdentity())) {
                 transform.transform(coords, 0, coords, 0, ncoords);
-                seq.setArray(coords, 2);
+                setCoordinates(seq, coords, ncoords * 2, inPlace);
             }
             return;
         }
@@ -448,17 +444,11 @@ private final void decimateTransformGeneralize(
 
         // handle rings
         if (ring && actualCoords <= 3) {
-            if (coords.length > 6) {
-                // normal rings
-                coords[2] = coords[2];
-                coords[3] = coords[3];
-                coords[4] = coords[4];
-                coords[5] = coords[5];
+            if (ncoords > 3) {
+                // normal rings, keep the first three points
                 actualCoords = 3;
-            } else if (coords.length > 4) {
+            } else if (ncoords > 2) {
                 // invalid rings, they do A-B-A, that is, two overlapping lines
-                coords[2] = coords[2];
-                coords[3] = coords[3];
                 actualCoords = 2;
             }
         }
@@ -474,12 +464,50 @@ private final void decimateTransformGeneralize(
         }
 
         // stick back into the coordinate sequence
-        if (actualCoords * 2 < coords.length) {
-            double[] seqDouble = new double[2 * actualCoords];
-            System.arraycopy(coords, 0, seqDouble, 0, actualCoords * 2);
-            seq.setArray(seqDouble, 2);
+        setCoordinates(seq, coords, actualCoords * 2, inPlace);
+    }
+
+    /**
+     * Copies the first {@code dimensions} ordinates of the sequence in the scratch buffer of the current thread, which
+     * is grown as needed, up to {@link #MAX_SCRATCH_LENGTH}, and reused across calls.
+     */
+    static double[] getScratch(LiteCoordinateSequence seq, int dimensions) {
+        final int size = seq.size();
+        final int length = Math.max(size * dimensions, 2);
+        double[] scratch;
+        if (length > MAX_SCRATCH_LENGTH) {
+            scratch = new double[length];
         } else {
+            scratch = SCRATCH.get();
+            if (scratch == null || scratch.length < length) {
+                int grown = scratch == null ? 256 : scratch.length * 2;
+                scratch = new double[Math.min(Math.max(length, grown), MAX_SCRATCH_LENGTH)];
+                SCRATCH.set(scratch);
+            }
+        }
+        final int copied = Math.min(dimensions, seq.getDimension());
+        for (int i = 0; i < size; i++) {
+            for (int d = 0; d < copied; d++) {
+                scratch[i * dimensions + d] = seq.getOrdinate(i, d);
+            }
+            for (int d = copied; d < dimensions; d++) {
+                scratch[i * dimensions + d] = Double.NaN;
+            }
+        }
+        return scratch;
+    }
+
+    /**
+     * Sets the first {@code length} values of the array as the 2D coordinates of the sequence, copying them in an array
+     * of the exact size if the array is the scratch buffer or is too long.
+     */
+    private static void setCoordinates(LiteCoordinateSequence seq, double[] coords, int length, boolean inPlace) {
+        if (inPlace && coords.length == length) {
             seq.setArray(coords, 2);
+        } else {
+            double[] exact = new double[length];
+            System.arraycopy(coords, 0, exact, 0, length);
+            seq.setArray(exact, 2);
         }
     }
 
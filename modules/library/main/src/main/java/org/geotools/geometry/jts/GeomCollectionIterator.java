@@ -34,6 +34,9 @@
  * @version $Id$
  */
 public final class GeomCollectionIterator extends AbstractLiteIterator {
+    /** Transform used when none is provided, never modified */
+    private static final AffineTransform NO_TRANSFORM = new AffineTransform();
+
     /** Transform applied on the coordinates during iteration */
     private AffineTransform at;
 
@@ -55,12 +58,22 @@ public final class GeomCollectionIterator extends AbstractLiteIterator {
     /** Maximum distance for point elision when generalizing */
     private double maxDistance = 1.0;
 
+    /**
+     * Sub-iterators, created on first use and reinitialized for each element, since the elements are iterated one after
+     * the other
+     */
+    private LineIterator lineIterator;
+
+    private PolygonIterator polygonIterator;
+
+    private GeomCollectionIterator collectionIterator;
+
     public GeomCollectionIterator() {}
 
     /** */
     public void init(GeometryCollection gc, AffineTransform at, boolean generalize, double maxDistance) {
         this.gc = gc;
-        this.at = at == null ? new AffineTransform() : at;
+        this.at = at == null ? NO_TRANSFORM : at;
         this.generalize = generalize;
         this.maxDistance = maxDistance;
         currentGeom = 0;
@@ -111,13 +124,25 @@ private AbstractLiteIterator getIterator(Geometry g) {
         if (g.isEmpty()) return EmptyIterator.INSTANCE;
         if (g instanceof Polygon) {
             Polygon p = (Polygon) g;
-            pi = new PolygonIterator(p, at, generalize, maxDistance);
+            if (polygonIterator == null) {
+                polygonIterator = new PolygonIterator();
+            }
+            polygonIterator.init(p, at, generalize, maxDistance);
+            pi = polygonIterator;
         } else if (g instanceof GeometryCollection) {
             GeometryCollection gc = (GeometryCollection) g;
-            pi = new GeomCollectionIterator(gc, at, generalize, maxDistance);
+            if (collectionIterator == null) {
+                collectionIterator = new GeomCollectionIterator();
+            }
+            collectionIterator.init(gc, at, generalize, maxDistance);
+            pi = collectionIterator;
         } else if (g instanceof LineString || g instanceof LinearRing) {
             LineString ls = (LineString) g;
-            pi = new LineIterator(ls, at, generalize, (float) maxDistance);
+            if (lineIterator == null) {
+                lineIterator = new LineIterator();
+            }
+            lineIterator.init(ls, at, generalize, (float) maxDistance);
+            pi = lineIterator;
         } else if (g instanceof Point) {
             Point p = (Point) g;
             pi = new PointIterator(p, at);
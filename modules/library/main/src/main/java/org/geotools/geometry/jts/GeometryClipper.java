@@ -34,6 +34,7 @@
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 import org.locationtech.jts.precision.GeometryPrecisionReducer;
 
 /**
@@ -353,7 +354,9 @@ private LinearRing cleanupRings(LinearRing ring) {
     private LinearRing polygonClip(LinearRing ring) {
         final double INFINITY = Double.MAX_VALUE;
 
-        CoordinateSequence cs = ring.getCoordinateSequence();
+        final CoordinateSequence cs = ring.getCoordinateSequence();
+        final double[] ordinates = getOrdinates(cs);
+        final int stride = getStride(cs);
         Ordinates out = new Ordinates();
 
         // Coordinates of intersection between the infinite line hosting the segment and the clip
@@ -370,12 +373,14 @@ private LinearRing polygonClip(LinearRing ring) {
         int i;
 
         // for each edge
-        for (i = 0; i < cs.size() - 1; i++) {
+        final int edges = cs.size() - 1;
+        for (i = 0; i < edges; i++) {
             // extract the edge
-            double x0 = cs.getOrdinate(i, 0);
-            double x1 = cs.getOrdinate(i + 1, 0);
-            double y0 = cs.getOrdinate(i, 1);
-            double y1 = cs.getOrdinate(i + 1, 1);
+            final int offset = i * stride;
+            double x0 = ordinates[offset];
+            double y0 = ordinates[offset + 1];
+            double x1 = ordinates[offset + stride];
+            double y1 = ordinates[offset + stride + 1];
 
             // determine direction of edge
             deltaX = x1 - x0;
@@ -506,6 +511,35 @@ private LinearRing polygonClip(LinearRing ring) {
                 .createLinearRing(out.toCoordinateSequence(ring.getFactory().getCoordinateSequenceFactory()));
     }
 
+    /**
+     * Returns the ordinates of the sequence in a flat array. The packed sequences (as the
+     * {@link LiteCoordinateSequence} used by the renderer) are read in place, the others are copied into a x/y array.
+     */
+    static double[] getOrdinates(CoordinateSequence cs) {
+        if (cs instanceof LiteCoordinateSequence) {
+            return ((LiteCoordinateSequence) cs).getArray();
+        } else if (cs instanceof PackedCoordinateSequence.Double) {
+            return ((PackedCoordinateSequence.Double) cs).getRawCoordinates();
+        }
+        final int size = cs.size();
+        final double[] ordinates = new double[size * 2];
+        for (int i = 0; i < size; i++) {
+            ordinates[i * 2] = cs.getX(i);
+            ordinates[i * 2 + 1] = cs.getY(i);
+        }
+        return ordinates;
+    }
+
+    /**
+     * Returns the distance between two coordinates in the array returned by {@link #getOrdinates(CoordinateSequence)}
+     */
+    static int getStride(CoordinateSequence cs) {
+        if (cs instanceof LiteCoordinateSequence || cs instanceof PackedCoordinateSequence.Double) {
+            return cs.getDimension();
+        }
+        return 2;
+    }
+
     /** Builds a linear ring representing the clipping area */
     LinearRing buildBoundsString(final GeometryFactory gf, final CoordinateSequenceFactory csf) {
         CoordinateSequence cs = JTS.createCS(csf, 5, 2);
@@ -594,11 +628,13 @@ Geometry clipLineString(LineString line) {
         final GeometryFactory gf = line.getFactory();
         final CoordinateSequenceFactory csf = gf.getCoordinateSequenceFactory();
         final CoordinateSequence coords = line.getCoordinateSequence();
+        final double[] source = getOrdinates(coords);
+        final int stride = getStride(coords);
 
         // first step
         final Ordinates ordinates = new Ordinates(coords.size());
-        double x0 = coords.getX(0);
-        double y0 = coords.getY(0);
+        double x0 = source[0];
+        double y0 = source[1];
         boolean prevInside = contained(x0, y0);
         if (prevInside) {
             ordinates.add(x0, y0);
@@ -607,8 +643,8 @@ Geometry clipLineString(LineString line) {
         final int size = coords.size();
         // loop over the other coordinates
         for (int i = 1; i < size; i++) {
-            final double x1 = coords.getX(i);
-            final double y1 = coords.getY(i);
+            final double x1 = source[i * stride];
+            final double y1 = source[i * stride + 1];
 
             boolean inside = contained(x1, y1);
             if (inside == prevInside) {
@@ -17,6 +17,7 @@
 package org.geotools.geometry.jts;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.api.referencing.operation.MathTransform;
@@ -112,42 +113,48 @@ private void init(GeometryFactory gf) {
      * @return a new transformed geometry
      */
     public Geometry transform(Geometry g) throws TransformException {
+        // lazily init csTransformer using geometry's CSFactory
+        init(g.getFactory());
+        return transform(g, csTransformer);
+    }
+
+    /**
+     * Applies the transform to the provided geometry, transforming its coordinate sequences with the given transformer.
+     */
+    private Geometry transform(Geometry g, CoordinateSequenceTransformer cst) throws TransformException {
         GeometryFactory factory = g.getFactory();
         Geometry transformed = null;
 
-        // lazily init csTransformer using geometry's CSFactory
-        init(factory);
-
         if (g instanceof Point) {
-            transformed = transformPoint((Point) g, factory);
+            transformed = transformPoint((Point) g, factory, cst);
         } else if (g instanceof MultiPoint) {
             MultiPoint mp = (MultiPoint) g;
             Point[] points = new Point[mp.getNumGeometries()];
 
             for (int i = 0; i < points.length; i++) {
-                points[i] = transformPoint((Point) mp.getGeometryN(i), factory);
+                points[i] = transformPoint((Point) mp.getGeometryN(i), factory, cst);
             }
 
             transformed = factory.createMultiPoint(points);
         } else if (g instanceof LineString) {
-            transformed = transformLineString((LineString) g, factory);
+            transformed = transformLineString((LineString) g, factory, cst);
         } else if (g instanceof MultiLineString) {
             MultiLineString mls = (MultiLineString) g;
             LineString[] lines = new LineString[mls.getNumGeometries()];
 
             for (int i = 0; i < lines.length; i++) {
-                lines[i] = transformLineString((LineString) mls.getGeometryN(i), factory);
+                lines[i] = transformLineString((LineString) mls.getGeometryN(i), factory, cst);
             }
 
             transformed = factory.createMultiLineString(lines);
         } else if (g instanceof Polygon) {
-            transformed = transformPolygon((Polygon) g, factory);
+            transformed = transformPolygon((Polygon) g, factory, cst);
         } else if (g instanceof MultiPolygon) {
             MultiPolygon mp = (MultiPolygon) g;
             Polygon[] polygons = new Polygon[mp.getNumGeometries()];
 
             for (int i = 0; i < polygons.length; i++) {
-                polygons[i] = transformPolygon((Polygon) mp.getGeometryN(i), factory);
+                polygons[i] = transformPolygon((Polygon) mp.getGeometryN(i), factory, cst);
             }
 
             transformed = factory.createMultiPolygon(polygons);
@@ -156,7 +163,7 @@ public Geometry transform(Geometry g) throws TransformException {
             Geometry[] geoms = new Geometry[gc.getNumGeometries()];
 
             for (int i = 0; i < geoms.length; i++) {
-                geoms[i] = transform(gc.getGeometryN(i));
+                geoms[i] = transform(gc.getGeometryN(i), cst);
             }
 
             transformed = factory.createGeometryCollection(geoms);
@@ -178,12 +185,81 @@ public Geometry transform(Geometry g) throws TransformException {
         return transformed;
     }
 
+    /**
+     * Applies the transform to the provided geometries, creating new transformed geometries. When the geometries share
+     * the same {@link GeometryFactory} and no {@link CoordinateSequenceTransformer} has been specified explicitly, the
+     * coordinates of all the geometries are transformed at once by a {@link BulkCoordinateSequenceTransformer}.
+     * Otherwise this method is equivalent to invoking {@link #transform(Geometry)} for each geometry.
+     *
+     * @param geometries the geometries to transform
+     * @return the transformed geometries, in the same order as the source ones
+     * @since 34.0
+     */
+    public List<Geometry> transform(List<Geometry> geometries) throws TransformException {
+        final List<Geometry> result = new ArrayList<>(geometries.size());
+        final GeometryFactory factory =
+                geometries.isEmpty() ? null : geometries.get(0).getFactory();
+        boolean bulk = inputCSTransformer == null && !curveCompatible;
+        for (Geometry g : geometries) {
+            bulk &= g.getFactory() == factory;
+        }
+        if (!bulk) {
+            for (Geometry g : geometries) {
+                result.add(transform(g));
+            }
+            return result;
+        }
+
+        final List<CoordinateSequence> sequences = new ArrayList<>();
+        for (Geometry g : geometries) {
+            collectSequences(g, sequences);
+        }
+        final BulkCoordinateSequenceTransformer bulkTransformer =
+                new BulkCoordinateSequenceTransformer(factory.getCoordinateSequenceFactory());
+        final Iterator<CoordinateSequence> transformed =
+                bulkTransformer.transform(sequences, transform).iterator();
+        // rebuild the geometries, replaying the transformed sequences in the order they have been collected
+        final CoordinateSequenceTransformer replay = (cs, mt) -> transformed.next();
+        for (Geometry g : geometries) {
+            result.add(transform(g, replay));
+        }
+        return result;
+    }
+
+    /** Collects the sequences of a geometry, in the order they are visited by {@link #transform(Geometry)}. */
+    private static void collectSequences(Geometry g, List<CoordinateSequence> sequences) {
+        if (g instanceof Point) {
+            sequences.add(((Point) g).getCoordinateSequence());
+        } else if (g instanceof LineString) {
+            sequences.add(((LineString) g).getCoordinateSequence());
+        } else if (g instanceof Polygon) {
+            final Polygon polygon = (Polygon) g;
+            sequences.add(polygon.getExteriorRing().getCoordinateSequence());
+            for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                sequences.add(polygon.getInteriorRingN(i).getCoordinateSequence());
+            }
+        } else if (g instanceof GeometryCollection) {
+            for (int i = 0; i < g.getNumGeometries(); i++) {
+                collectSequences(g.getGeometryN(i), sequences);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported geometry type " + g.getClass());
+        }
+    }
+
     /** @throws TransformException */
     public LineString transformLineString(LineString ls, GeometryFactory gf) throws TransformException {
+        // if required, init csTransformer using geometry's CSFactory
+        init(gf);
+        return transformLineString(ls, gf, csTransformer);
+    }
+
+    private LineString transformLineString(LineString ls, GeometryFactory gf, CoordinateSequenceTransformer cst)
+            throws TransformException {
         if (ls instanceof CurvedGeometry<?> && curveCompatible) {
-            return transformCurvedLineString((CurvedGeometry) ls, gf);
+            return transformCurvedLineString((CurvedGeometry) ls, gf, cst);
         } else {
-            return transformStraightLineString(ls, gf);
+            return transformStraightLineString(ls, gf, cst);
         }
     }
 
@@ -198,11 +274,9 @@ private boolean isCurveCompatible(MathTransform mt) {
         return at.getScaleX() == at.getScaleY() && Math.abs(at.getShearX()) == Math.abs(at.getShearY());
     }
 
-    private LineString transformStraightLineString(LineString ls, GeometryFactory gf) throws TransformException {
-        // if required, init csTransformer using geometry's CSFactory
-        init(gf);
-
-        CoordinateSequence cs = projectCoordinateSequence(ls.getCoordinateSequence());
+    private LineString transformStraightLineString(LineString ls, GeometryFactory gf, CoordinateSequenceTransformer cst)
+            throws TransformException {
+        CoordinateSequence cs = cst.transform(ls.getCoordinateSequence(), transform);
         LineString transformed = null;
 
         if (ls instanceof LinearRing) {
@@ -215,8 +289,8 @@ private LineString transformStraightLineString(LineString ls, GeometryFactory gf
         return transformed;
     }
 
-    private LineString transformCurvedLineString(CurvedGeometry<?> curved, GeometryFactory gf)
-            throws TransformException {
+    private LineString transformCurvedLineString(
+            CurvedGeometry<?> curved, GeometryFactory gf, CoordinateSequenceTransformer cst) throws TransformException {
         CurvedGeometryFactory cf = CurvedGeometries.getFactory(curved);
         if (curved instanceof SingleCurvedGeometry<?>) {
             SingleCurvedGeometry<?> single = (SingleCurvedGeometry<?>) curved;
@@ -228,7 +302,7 @@ private LineString transformCurvedLineString(CurvedGeometry<?> curved, GeometryF
             CompoundCurvedGeometry<?> compound = (CompoundCurvedGeometry<?>) curved;
             List<LineString> reprojected = new ArrayList<>();
             for (LineString component : compound.getComponents()) {
-                LineString ls = transformLineString(component, gf);
+                LineString ls = transformLineString(component, gf, cst);
                 reprojected.add(ls);
             }
             return cf.createCurvedGeometry(reprojected);
@@ -240,25 +314,31 @@ public Point transformPoint(Point point, GeometryFactory gf) throws TransformExc
 
         // if required, init csTransformer using geometry's CSFactory
         init(gf);
+        return transformPoint(point, gf, csTransformer);
+    }
 
-        CoordinateSequence cs = projectCoordinateSequence(point.getCoordinateSequence());
+    private Point transformPoint(Point point, GeometryFactory gf, CoordinateSequenceTransformer cst)
+            throws TransformException {
+        CoordinateSequence cs = cst.transform(point.getCoordinateSequence(), transform);
         Point transformed = gf.createPoint(cs);
         transformed.setUserData(point.getUserData());
         return transformed;
     }
 
-    /** @param cs a CoordinateSequence */
-    private CoordinateSequence projectCoordinateSequence(CoordinateSequence cs) throws TransformException {
-        return csTransformer.transform(cs, transform);
-    }
-
     /** */
     public Polygon transformPolygon(Polygon polygon, GeometryFactory gf) throws TransformException {
-        LinearRing exterior = (LinearRing) transformLineString(polygon.getExteriorRing(), gf);
+        // if required, init csTransformer using geometry's CSFactory
+        init(gf);
+        return transformPolygon(polygon, gf, csTransformer);
+    }
+
+    private Polygon transformPolygon(Polygon polygon, GeometryFactory gf, CoordinateSequenceTransformer cst)
+            throws TransformException {
+        LinearRing exterior = (LinearRing) transformLineString(polygon.getExteriorRing(), gf, cst);
         LinearRing[] interiors = new LinearRing[polygon.getNumInteriorRing()];
 
         for (int i = 0; i < interiors.length; i++) {
-            interiors[i] = (LinearRing) transformLineString(polygon.getInteriorRingN(i), gf);
+            interiors[i] = (LinearRing) transformLineString(polygon.getInteriorRingN(i), gf, cst);
         }
 
         Polygon transformed = gf.createPolygon(exterior, interiors);
@@ -35,6 +35,12 @@ public final class LineIterator extends AbstractLiteIterator {
     /** The array of coordinates that represents the line geometry */
     private CoordinateSequence coordinates = null;
 
+    /** The packed ordinates of {@link #coordinates} when it is a {@link LiteCoordinateSequence}, null otherwise */
+    private double[] packed;
+
+    /** The dimension of {@link #packed} */
+    private int packedDimension;
+
     /** Current line coordinate */
     private int currentCoord = 0;
 
@@ -117,7 +123,7 @@ public void init(
 
     /** */
     public void init(LineString ls, AffineTransform at, boolean generalize, float maxDistance) {
-        if (at == null) at = new AffineTransform();
+        if (at == null) at = NO_TRANSFORM;
         _init(ls, at, generalize, maxDistance);
 
         xScale = (float) Math.sqrt((at.getScaleX() * at.getScaleX()) + (at.getShearX() * at.getShearX()));
@@ -133,6 +139,12 @@ private void _init(LineString ls, AffineTransform at, boolean generalize, float
         this.at = at;
         coordinates = ls.getCoordinateSequence();
         coordinateCount = coordinates.size();
+        if (coordinates instanceof LiteCoordinateSequence) {
+            packed = ((LiteCoordinateSequence) coordinates).getArray();
+            packedDimension = coordinates.getDimension();
+        } else {
+            packed = null;
+        }
         isClosed = ls instanceof LinearRing;
 
         this.generalize = generalize;
@@ -297,19 +309,18 @@ public void next() {
     /** @see java.awt.geom.PathIterator#currentSegment(double[]) */
     @Override
     public int currentSegment(double[] coords) {
-        if (currentCoord == 0) {
-            coords[0] = coordinates.getX(0);
-            coords[1] = coordinates.getY(0);
-            at.transform(coords, 0, coords, 0, 1);
-            return SEG_MOVETO;
-        } else if ((currentCoord == coordinateCount) && isClosed) {
+        if ((currentCoord == coordinateCount) && isClosed && currentCoord != 0) {
             return SEG_CLOSE;
+        }
+        if (packed != null) {
+            coords[0] = packed[currentCoord * packedDimension];
+            coords[1] = packed[currentCoord * packedDimension + 1];
         } else {
             coords[0] = coordinates.getX(currentCoord);
             coords[1] = coordinates.getY(currentCoord);
-            at.transform(coords, 0, coords, 0, 1);
-
-            return SEG_LINETO;
         }
+        at.transform(coords, 0, coords, 0, 1);
+
+        return currentCoord == 0 ? SEG_MOVETO : SEG_LINETO;
     }
 }
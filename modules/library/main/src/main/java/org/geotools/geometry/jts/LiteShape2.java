@@ -149,9 +149,8 @@ private void transformGeometry(Geometry geometry) throws TransformException, Fac
         } else if (geometry instanceof Point) {
             LiteCoordinateSequence seq = (LiteCoordinateSequence) ((Point) geometry).getCoordinateSequence();
             double[] coords = seq.getArray();
-            double[] newCoords = new double[coords.length];
-            mathTransform.transform(coords, 0, newCoords, 0, seq.size());
-            seq.setArray(newCoords);
+            mathTransform.transform(coords, 0, coords, 0, seq.size());
+            seq.setArray(coords);
         } else if (geometry instanceof Polygon) {
             Polygon polygon = (Polygon) geometry;
             transformGeometry(polygon.getExteriorRing());
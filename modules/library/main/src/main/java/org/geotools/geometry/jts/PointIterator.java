@@ -25,6 +25,9 @@
  * @author Andrea Aime
  */
 public final class PointIterator extends AbstractLiteIterator {
+    /** Transform used when none is provided, never modified */
+    private static final AffineTransform NO_TRANSFORM = new AffineTransform();
+
     /** Transform applied on the coordinates during iteration */
     private AffineTransform at;
 
@@ -45,7 +48,7 @@ public final class PointIterator extends AbstractLiteIterator {
      */
     public PointIterator(Point point, AffineTransform at) {
         if (at == null) {
-            at = new AffineTransform();
+            at = NO_TRANSFORM;
         }
 
         this.at = at;
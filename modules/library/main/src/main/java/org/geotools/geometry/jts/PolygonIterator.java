@@ -17,9 +17,7 @@
 package org.geotools.geometry.jts;
 
 import java.awt.geom.AffineTransform;
-import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
-import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Polygon;
 
 /**
@@ -30,11 +28,17 @@
  * @version $Id$
  */
 public final class PolygonIterator extends AbstractLiteIterator {
+    /** Transform used when none is provided, never modified */
+    private static final AffineTransform NO_TRANSFORM = new AffineTransform();
+
     /** Transform applied on the coordinates during iteration */
     private AffineTransform at;
 
-    /** The rings describing the polygon geometry */
-    private LineString[] rings;
+    /** The polygon whose rings are iterated, the exterior ring being ring 0 */
+    private Polygon polygon;
+
+    /** The number of rings of the polygon */
+    private int ringCount;
 
     /** The current ring during iteration */
     private int currentRing = 0;
@@ -45,8 +49,16 @@ public final class PolygonIterator extends AbstractLiteIterator {
     /** The array of coordinates that represents the line geometry */
     private CoordinateSequence coords = null;
 
-    /** The previous coordinate (during iteration) */
-    private Coordinate oldCoord = null;
+    /** The packed ordinates of {@link #coords} when it is a {@link LiteCoordinateSequence}, null otherwise */
+    private double[] packed;
+
+    /** The dimension of {@link #packed} */
+    private int packedDimension;
+
+    /** The previous coordinate (during iteration), NaN if none */
+    private double oldX = Double.NaN;
+
+    private double oldY = Double.NaN;
 
     /** True when the iteration is terminated */
     private boolean done = false;
@@ -63,6 +75,9 @@ public final class PolygonIterator extends AbstractLiteIterator {
     /** Vertical scale, got from the affine transform and cached */
     private double yScale;
 
+    /** Creates an uninitialized PolygonIterator, to be set up with {@link #init}. */
+    public PolygonIterator() {}
+
     /**
      * Creates a new PolygonIterator object.
      *
@@ -70,23 +85,7 @@ public final class PolygonIterator extends AbstractLiteIterator {
      * @param at The affine transform applied to coordinates during iteration
      */
     public PolygonIterator(Polygon p, AffineTransform at) {
-        int numInteriorRings = p.getNumInteriorRing();
-        rings = new LineString[numInteriorRings + 1];
-        rings[0] = p.getExteriorRing();
-
-        for (int i = 0; i < numInteriorRings; i++) {
-            rings[i + 1] = p.getInteriorRingN(i);
-        }
-
-        if (at == null) {
-            at = new AffineTransform();
-        }
-
-        this.at = at;
-        xScale = Math.sqrt((at.getScaleX() * at.getScaleX()) + (at.getShearX() * at.getShearX()));
-        yScale = Math.sqrt((at.getScaleY() * at.getScaleY()) + (at.getShearY() * at.getShearY()));
-
-        coords = rings[0].getCoordinateSequence();
+        this(p, at, false);
     }
 
     /**
@@ -97,8 +96,7 @@ public PolygonIterator(Polygon p, AffineTransform at) {
      * @param generalize if true apply simple distance based generalization
      */
     public PolygonIterator(Polygon p, AffineTransform at, boolean generalize) {
-        this(p, at);
-        this.generalize = generalize;
+        this(p, at, generalize, 1.0);
     }
 
     /**
@@ -111,8 +109,48 @@ public PolygonIterator(Polygon p, AffineTransform at, boolean generalize) {
      *     maxDistance
      */
     public PolygonIterator(Polygon p, AffineTransform at, boolean generalize, double maxDistance) {
-        this(p, at, generalize);
+        init(p, at, generalize, maxDistance);
+    }
+
+    /**
+     * (Re)initializes this iterator, allowing to reuse it over many polygons.
+     *
+     * @param p The polygon
+     * @param at The affine transform applied to coordinates during iteration
+     * @param generalize if true apply simple distance based generalization
+     * @param maxDistance during iteration, a point will be skipped if it's distance from the previous is less than
+     *     maxDistance
+     */
+    public void init(Polygon p, AffineTransform at, boolean generalize, double maxDistance) {
+        if (at == null) {
+            at = NO_TRANSFORM;
+        }
+
+        this.at = at;
+        this.polygon = p;
+        this.generalize = generalize;
         this.maxDistance = maxDistance;
+        xScale = Math.sqrt((at.getScaleX() * at.getScaleX()) + (at.getShearX() * at.getShearX()));
+        yScale = Math.sqrt((at.getScaleY() * at.getScaleY()) + (at.getShearY() * at.getShearY()));
+
+        ringCount = p.getNumInteriorRing() + 1;
+        currentRing = 0;
+        currentCoord = 0;
+        oldX = Double.NaN;
+        oldY = Double.NaN;
+        done = false;
+        setCoordinates(p.getExteriorRing().getCoordinateSequence());
+    }
+
+    /** Sets the coordinates of the current ring, reading them directly from the packed array when possible */
+    private void setCoordinates(CoordinateSequence coords) {
+        this.coords = coords;
+        if (coords instanceof LiteCoordinateSequence) {
+            packed = ((LiteCoordinateSequence) coords).getArray();
+            packedDimension = coords.getDimension();
+        } else {
+            packed = null;
+        }
     }
 
     /**
@@ -154,19 +192,17 @@ public int currentSegment(double[] coords) {
         // in the case where coords.size() == 0
         if (currentCoord == this.coords.size()) {
             return SEG_CLOSE;
-        } else if (currentCoord == 0) {
-            coords[0] = this.coords.getX(0);
-            coords[1] = this.coords.getY(0);
-            transform(coords, 0, coords, 0, 1);
-
-            return SEG_MOVETO;
+        }
+        if (packed != null) {
+            coords[0] = packed[currentCoord * packedDimension];
+            coords[1] = packed[currentCoord * packedDimension + 1];
         } else {
             coords[0] = this.coords.getX(currentCoord);
             coords[1] = this.coords.getY(currentCoord);
-            transform(coords, 0, coords, 0, 1);
-
-            return SEG_LINETO;
         }
+        transform(coords, 0, coords, 0, 1);
+
+        return currentCoord == 0 ? SEG_MOVETO : SEG_LINETO;
     }
 
     protected void transform(double[] src, int index, double[] dest, int destIndex, int numPoints) {
@@ -200,18 +236,21 @@ public boolean isDone() {
     @Override
     public void next() {
         if (currentCoord == coords.size()) {
-            if (currentRing < (rings.length - 1)) {
+            if (currentRing < (ringCount - 1)) {
                 currentCoord = 0;
                 currentRing++;
-                coords = rings[currentRing].getCoordinateSequence();
+                setCoordinates(polygon.getInteriorRingN(currentRing - 1).getCoordinateSequence());
             } else {
                 done = true;
             }
         } else {
             if (generalize) {
-                if (oldCoord == null) {
+                if (Double.isNaN(oldX)) {
                     currentCoord++;
-                    oldCoord = coords.getCoordinate(currentCoord);
+                    if (currentCoord < coords.size()) {
+                        oldX = coords.getX(currentCoord);
+                        oldY = coords.getY(currentCoord);
+                    }
                 } else {
                     double distx = 0;
                     double disty = 0;
@@ -220,17 +259,19 @@ public void next() {
                         currentCoord++;
 
                         if (currentCoord < coords.size()) {
-                            distx = Math.abs(coords.getX(currentCoord) - oldCoord.x);
-                            disty = Math.abs(coords.getY(currentCoord) - oldCoord.y);
+                            distx = Math.abs(coords.getX(currentCoord) - oldX);
+                            disty = Math.abs(coords.getY(currentCoord) - oldY);
                         }
                     } while (((distx * xScale) < maxDistance)
                             && ((disty * yScale) < maxDistance)
                             && (currentCoord < coords.size()));
 
                     if (currentCoord < coords.size()) {
-                        oldCoord = coords.getCoordinate(currentCoord);
+                        oldX = coords.getX(currentCoord);
+                        oldY = coords.getY(currentCoord);
                     } else {
-                        oldCoord = null;
+                        oldX = Double.NaN;
+                        oldY = Double.NaN;
                     }
                 }
             } else {
@@ -38,6 +38,7 @@
 import org.geotools.geometry.util.XRectangle2D;
 import org.geotools.metadata.i18n.ErrorKeys;
 import org.geotools.referencing.CRS;
+import org.geotools.referencing.EnvelopeTransformCache;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
 import org.geotools.util.Classes;
 import org.locationtech.jts.geom.Coordinate;
@@ -713,6 +714,11 @@ public ReferencedEnvelope transform(
         CoordinateOperationFactory coordinateOperationFactory = CRS.getCoordinateOperationFactory(lenient);
 
         final CoordinateOperation operation = coordinateOperationFactory.createOperation(crs, targetCRS);
+        final GeneralBounds cached = EnvelopeTransformCache.get(operation, this, numPointsForTransformation);
+        if (cached != null) {
+            cached.setCoordinateReferenceSystem(targetCRS);
+            return new ReferencedEnvelope(cached);
+        }
         final GeneralBounds transformed = CRS.transform(operation, this);
         transformed.setCoordinateReferenceSystem(targetCRS);
 
@@ -723,6 +729,7 @@ public ReferencedEnvelope transform(
         final MathTransform transform = operation.getMathTransform();
         JTS.transform(this, target, transform, numPointsForTransformation);
 
+        EnvelopeTransformCache.put(operation, this, numPointsForTransformation, target);
         return target;
     }
 
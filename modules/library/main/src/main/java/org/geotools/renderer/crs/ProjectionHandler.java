@@ -63,6 +63,9 @@
  * <p>This basic implementation will cut the geometries that get outside of the area of validity of the projection (as
  * provided by the constructor)
  *
+ * <p>Geometries whose envelope falls inside a {@linkplain #getSafeEnvelope() safe envelope}, the part of the source CRS
+ * that maps inside the valid area, are not cut, without transforming their envelope.
+ *
  * <p>WARNING: this API is not finalized and is meant to be used by StreamingRenderer only
  *
  * @author Andrea Aime - OpenGeo
@@ -87,6 +90,15 @@ public class ProjectionHandler {
     /** The maximum number of coordinates to densify a geometry to. */
     private static final int DENSIFICATION_LIMIT = initDensificationLimit();
 
+    /** Number of times the safe envelope candidate is shrunk before giving up */
+    private static final int SAFE_ENVELOPE_ATTEMPTS = 8;
+
+    /** Marks a safe envelope that could not be computed */
+    private static final Envelope NO_SAFE_ENVELOPE = new Envelope();
+
+    /** The safe envelope in the geometry CRS, computed on first use */
+    private volatile Envelope safeEnvelope;
+
     protected CRS.AxisOrder sourceAxisOrder;
     protected CRS.AxisOrder targetAxisOrder;
 
@@ -642,6 +654,13 @@ public Geometry preProcess(Geometry geometry) throws TransformException, Factory
             return densify(geometry, false);
         }
 
+        // if the geometry is within the area of the source CRS that maps inside the valid area
+        // skip both the envelope transformation and the cutting
+        Envelope safe = getSafeEnvelope();
+        if (safe != null && safe.contains(geometry.getEnvelopeInternal())) {
+            return densify(geometry, validArea == null);
+        }
+
         Geometry mask;
         ReferencedEnvelope ge = new ReferencedEnvelope(geometry.getEnvelopeInternal(), geometryCRS);
         ReferencedEnvelope geWGS84 = ge.transform(WGS84, true);
@@ -719,6 +738,70 @@ public Geometry preProcess(Geometry geometry) throws TransformException, Factory
         return densify(intersect(geometry, mask, geometryCRS), false);
     }
 
+    /**
+     * Returns an envelope in the native srs of the geometries whose content is known to map inside the valid area, so
+     * that the geometries it contains need no cutting. It is computed on first use by transforming the valid area
+     * bounds (or the ones of its largest part) to the native srs, and shrinking the result until it transforms back
+     * inside the valid area.
+     *
+     * @return The safe envelope, or null if there is no valid area or a safe envelope could not be found
+     */
+    public Envelope getSafeEnvelope() {
+        if (validAreaBounds == null) {
+            return null;
+        }
+        Envelope result = safeEnvelope;
+        if (result == null) {
+            result = computeSafeEnvelope();
+            safeEnvelope = result;
+        }
+        return result == NO_SAFE_ENVELOPE ? null : result;
+    }
+
+    private Envelope computeSafeEnvelope() {
+        try {
+            // a safe envelope can cover only one part of a multi-part valid area, start from the largest
+            ReferencedEnvelope start = validAreaBounds;
+            if (validArea != null && validArea.getNumGeometries() > 1) {
+                Geometry largest = validArea.getGeometryN(0);
+                for (int i = 1; i < validArea.getNumGeometries(); i++) {
+                    if (validArea.getGeometryN(i).getArea() > largest.getArea()) {
+                        largest = validArea.getGeometryN(i);
+                    }
+                }
+                start = new ReferencedEnvelope(largest.getEnvelopeInternal(), WGS84);
+            }
+            ReferencedEnvelope candidate = start.transform(geometryCRS, true);
+            double width = candidate.getWidth();
+            double height = candidate.getHeight();
+            if (!Double.isFinite(width) || !Double.isFinite(height) || width <= 0 || height <= 0) {
+                return NO_SAFE_ENVELOPE;
+            }
+            // shrink by 10% of the original size at each attempt
+            for (int i = 0; i < SAFE_ENVELOPE_ATTEMPTS; i++) {
+                if (isSafe(candidate)) {
+                    return new Envelope(candidate);
+                }
+                candidate.expandBy(-width * 0.05, -height * 0.05);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Could not compute the safe envelope of the valid area", e);
+        }
+        return NO_SAFE_ENVELOPE;
+    }
+
+    /** Checks if the envelope, in the geometry CRS, maps fully inside the valid area */
+    private boolean isSafe(ReferencedEnvelope envelope) throws TransformException, FactoryException {
+        ReferencedEnvelope envelopeWGS84 = envelope.transform(WGS84, true);
+        // same tolerance as the per geometry check in preProcess
+        envelopeWGS84.expandBy(EPS);
+        if (validArea == null) {
+            return validAreaBounds.contains((Envelope) envelopeWGS84);
+        } else {
+            return validaAreaTester.contains(JTS.toGeometry(envelopeWGS84));
+        }
+    }
+
     /**
      * Densifies the given geometry using the current densification configuration.
      *
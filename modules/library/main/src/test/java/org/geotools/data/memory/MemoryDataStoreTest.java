@@ -19,6 +19,7 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -42,6 +43,7 @@
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.data.SimpleFeatureStore;
 import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.Property;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
@@ -62,6 +64,8 @@
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.data.store.ContentFeatureStore;
 import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.GeometryAttributeImpl;
+import org.geotools.feature.simple.CompactSimpleFeature;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.geometry.jts.GeometryCoordinateSequenceTransformer;
@@ -199,6 +203,47 @@ public void testMemoryDataStoreFeatureReader() throws IOException {
         }
     }
 
+    @Test
+    public void testCompactGeometries() throws Exception {
+        MemoryDataStore store = new MemoryDataStore();
+        store.setCompactGeometries(true);
+        store.addFeatures(roadFeatures);
+        for (SimpleFeature stored : store.entry("road").getMemory().values()) {
+            assertTrue(stored instanceof CompactSimpleFeature);
+        }
+
+        // features are decoded back as they were
+        SimpleFeatureSource source = store.getFeatureSource("road");
+        assertEquals(roadBounds, source.getBounds());
+        try (SimpleFeatureIterator it = source.getFeatures(rd1Filter).features()) {
+            SimpleFeature feature = it.next();
+            assertFalse(feature instanceof CompactSimpleFeature);
+            assertEquals(roadFeatures[0], feature);
+            assertFalse(it.hasNext());
+        }
+
+        // modifications are encoded again
+        SimpleFeatureStore featureStore = (SimpleFeatureStore) source;
+        Geometry line = gf.createLineString(new Coordinate[] {new Coordinate(1, 2), new Coordinate(3, 4)});
+        featureStore.modifyFeatures("geom", line, rd1Filter);
+        SimpleFeature stored = store.entry("road").getMemory().get(roadFeatures[0].getID());
+        assertTrue(stored instanceof CompactSimpleFeature);
+        assertTrue(line.equalsExact((Geometry) stored.getDefaultGeometry()));
+        assertEquals(new Envelope(1, 3, 2, 4), new Envelope((Envelope) stored.getBounds()));
+
+        // so are the ones made through the properties, geometries being decoded into a new copy on each access
+        Geometry other = gf.createLineString(new Coordinate[] {new Coordinate(5, 6), new Coordinate(7, 8)});
+        List<Property> properties = (List<Property>) stored.getProperties();
+        int index = stored.getFeatureType().indexOf("geom");
+        properties.get(index).setValue(other);
+        assertTrue(other.equalsExact((Geometry) stored.getDefaultGeometry()));
+        assertNotSame(stored.getDefaultGeometry(), stored.getDefaultGeometry());
+        properties.set(
+                index, new GeometryAttributeImpl(line, stored.getFeatureType().getGeometryDescriptor(), null));
+        assertTrue(line.equalsExact((Geometry) stored.getDefaultGeometry()));
+        assertNotSame(stored.getDefaultGeometry(), stored.getDefaultGeometry());
+    }
+
     private void assertStoreHasFeatureType(DataStore store, String featureType) throws IOException {
         assertNotNull(store);
         assertNotNull(featureType);
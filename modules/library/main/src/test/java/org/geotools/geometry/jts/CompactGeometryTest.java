@@ -0,0 +1,121 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geometry.jts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateXYZM;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.util.GeometryEditor;
+import org.locationtech.jts.io.WKTReader;
+
+public class CompactGeometryTest {
+
+    WKTReader reader = new WKTReader();
+
+    @Test
+    public void testLossless() throws Exception {
+        String[] wkts = {
+            "POINT (10.123456789 45.987654321)",
+            "LINESTRING (0 0, 10.1 10.2, 20.3 -5.4)",
+            "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 3, 3 3, 3 2, 2 2))",
+            "MULTIPOINT ((1 1), (2 2))",
+            "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))",
+            "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))",
+            "GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1))",
+            "LINESTRING Z (0 0 1, 1 1 NaN, 2 2 3)",
+            "POINT EMPTY",
+            "POLYGON EMPTY",
+            "GEOMETRYCOLLECTION EMPTY"
+        };
+        for (String wkt : wkts) {
+            Geometry geometry = reader.read(wkt);
+            CompactGeometry compact = CompactGeometry.encode(geometry);
+            Geometry decoded = compact.toGeometry();
+            assertEquals(wkt, geometry.getClass(), decoded.getClass());
+            assertTrue(wkt, geometry.equalsExact(decoded));
+            assertEquals(wkt, geometry.getEnvelopeInternal(), compact.getEnvelope());
+            assertEquals(wkt, geometry.isEmpty(), compact.isEmpty());
+        }
+    }
+
+    @Test
+    public void testMeasures() throws Exception {
+        GeometryFactory gf = new GeometryFactory();
+        LineString line =
+                gf.createLineString(new Coordinate[] {new CoordinateXYZM(0, 1, 2, 3), new CoordinateXYZM(4, 5, 6, 7)});
+        LineString decoded = (LineString) CompactGeometry.encode(line).toGeometry();
+        assertEquals(4, decoded.getCoordinateSequence().getDimension());
+        assertEquals(1, decoded.getCoordinateSequence().getMeasures());
+        assertEquals(6, decoded.getCoordinateSequence().getZ(1), 0d);
+        assertEquals(7, decoded.getCoordinateSequence().getM(1), 0d);
+    }
+
+    @Test
+    public void testQuantised() throws Exception {
+        PrecisionModel precision = new PrecisionModel(1e6);
+        Geometry geometry = reader.read(
+                "POLYGON ((10.1234567 45.7654321, 10.2345678 45.7654321, 10.2 45.9, 10.1234567 45.7654321))");
+        CompactGeometry compact = CompactGeometry.encode(geometry, precision);
+        Geometry expected = new GeometryEditor().edit(geometry.copy(), new GeometryEditor.CoordinateOperation() {
+            @Override
+            public Coordinate[] edit(Coordinate[] coordinates, Geometry geometry) {
+                for (Coordinate c : coordinates) {
+                    precision.makePrecise(c);
+                }
+                return coordinates;
+            }
+        });
+        assertTrue(expected.equalsExact(compact.toGeometry()));
+        assertEquals(expected.getEnvelopeInternal(), compact.getEnvelope());
+
+        // quantised deltas are much smaller than the lossless encoding
+        assertTrue(compact.getEncodedSize() < CompactGeometry.encode(geometry).getEncodedSize());
+    }
+
+    @Test
+    public void testMetadata() throws Exception {
+        Geometry geometry = reader.read("LINESTRING (0 0, 10 10)");
+        geometry.setSRID(4326);
+        geometry.setUserData("test");
+        CompactGeometry compact = CompactGeometry.encode(geometry);
+        Geometry decoded = compact.toGeometry();
+        assertEquals(4326, decoded.getSRID());
+        assertEquals("test", decoded.getUserData());
+        assertSame(geometry.getFactory(), decoded.getFactory());
+
+        assertTrue(compact.intersects(new Envelope(5, 20, 5, 20)));
+        assertFalse(compact.intersects(new Envelope(11, 20, 5, 20)));
+        assertFalse(compact.intersects(new Envelope()));
+    }
+
+    @Test
+    public void testCurvesNotEncoded() throws Exception {
+        Geometry curve = new WKTReader2().read("CIRCULARSTRING (0 0, 1 1, 2 0)");
+        assertFalse(CompactGeometry.canEncode(curve));
+        assertTrue(CompactGeometry.canEncode(reader.read("LINESTRING (0 0, 1 1)")));
+    }
+}
@@ -16,16 +16,20 @@
  */
 package org.geotools.geometry.jts;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
 import org.geotools.api.referencing.operation.MathTransform;
 import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.operation.matrix.GeneralMatrix;
 import org.geotools.referencing.operation.transform.AbstractMathTransform;
 import org.geotools.referencing.operation.transform.AffineTransform2D;
+import org.geotools.referencing.operation.transform.ProjectiveTransform;
 import org.junit.Test;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
@@ -192,4 +196,32 @@ public void testDecimateCollection() throws Exception {
         assertEquals("CircularString", origin.getGeometryN(1).getGeometryType());
         assertEquals("LineString", simplified.getGeometryN(1).getGeometryType());
     }
+
+    @Test
+    public void testTransform3DLineTo2D() throws Exception {
+        LineString ls = gf.createLineString(csf.create(new double[] {0, 0, 10, 1, 1, 11, 2, 2, 12}, 3));
+        // drops the third ordinate, and scales the other two
+        MathTransform dropZ =
+                ProjectiveTransform.create(new GeneralMatrix(3, 4, new double[] {2, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 1}));
+
+        Decimator d = new Decimator(-1, -1);
+        d.decimateTransformGeneralize(ls, dropZ);
+        LiteCoordinateSequence seq = (LiteCoordinateSequence) ls.getCoordinateSequence();
+        assertEquals(2, seq.getDimension());
+        assertArrayEquals(new double[] {0, 0, 2, 2, 4, 4}, seq.getArray(), 0d);
+    }
+
+    @Test
+    public void testScratchBufferBounded() {
+        LiteCoordinateSequence small = new LiteCoordinateSequence(new double[] {0, 0, 10, 1, 1, 11, 2, 2, 12}, 3);
+        double[] scratch = Decimator.getScratch(small, 3);
+        assertSame(scratch, Decimator.getScratch(small, 3));
+
+        // sequences larger than the cap get a temporary array, the thread keeps its small buffer
+        int length = 3 * (Decimator.MAX_SCRATCH_LENGTH / 3 + 1);
+        LiteCoordinateSequence large = new LiteCoordinateSequence(new double[length], 3);
+        double[] temporary = Decimator.getScratch(large, 3);
+        assertEquals(length, temporary.length);
+        assertSame(scratch, Decimator.getScratch(small, 3));
+    }
 }
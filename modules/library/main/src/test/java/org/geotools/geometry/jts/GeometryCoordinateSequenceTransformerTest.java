@@ -19,10 +19,13 @@
 // J2SE dependencies
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.api.referencing.operation.MathTransform;
 import org.geotools.api.referencing.operation.TransformException;
@@ -114,6 +117,52 @@ public void testFullTransformOnCurved() throws Exception {
         assertTrue(ls.getCoordinateSequence().size() > 3);
     }
 
+    @Test
+    public void testBulkTransform() throws Exception {
+        GeometryCoordinateSequenceTransformer transformer = new GeometryCoordinateSequenceTransformer();
+        transformer.setMathTransform(
+                CRS.findMathTransform(CRS.decode("EPSG:4326", true), CRS.decode("EPSG:3857"), true));
+
+        List<Geometry> geometries = Arrays.asList(
+                gb.point(10, 11),
+                gb.lineStringZ(10, 11, 1, 20, 21, 2),
+                gb.polygon(gb.boxZ(10, 10, 20, 20, 99), gb.boxZ(11, 11, 19, 19, 99)),
+                gb.multiPolygon(gb.box(10, 10, 20, 20), gb.box(-11, -11, -19, -19)),
+                gb.geometryCollection(gb.point(10, 11), gb.lineString(10, 10, 20, 20), gb.box(10, 10, 20, 20)));
+        List<Geometry> transformed = transformer.transform(geometries);
+        assertEquals(geometries.size(), transformed.size());
+        for (int i = 0; i < geometries.size(); i++) {
+            Geometry expected = transformer.transform(geometries.get(i));
+            assertTrue(hasSameValuesAndStructure(expected, transformed.get(i)));
+        }
+    }
+
+    @Test
+    public void testBulkTransformLargeSequences() throws Exception {
+        // enough points to split the work across threads
+        double[] ordinates = new double[2 * (2 * BulkCoordinateSequenceTransformer.PARALLEL_THRESHOLD + 100)];
+        for (int i = 0; i < ordinates.length; i += 2) {
+            ordinates[i] = -180 + (i % 360);
+            ordinates[i + 1] = -80 + (i % 160);
+        }
+        List<CoordinateSequence> sequences = Arrays.asList(
+                new LiteCoordinateSequence(ordinates), new LiteCoordinateSequence(new double[] {10, 20, 30, 40}));
+        MathTransform mt = CRS.findMathTransform(CRS.decode("EPSG:4326", true), CRS.decode("EPSG:3857"), true);
+
+        List<CoordinateSequence> transformed =
+                new BulkCoordinateSequenceTransformer(new LiteCoordinateSequenceFactory()).transform(sequences, mt);
+        DefaultCoordinateSequenceTransformer reference =
+                new DefaultCoordinateSequenceTransformer(new LiteCoordinateSequenceFactory());
+        for (int i = 0; i < sequences.size(); i++) {
+            CoordinateSequence expected = reference.transform(sequences.get(i), mt);
+            assertEquals(expected.size(), transformed.get(i).size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.getX(j), transformed.get(i).getX(j), 1e-6);
+                assertEquals(expected.getY(j), transformed.get(i).getY(j), 1e-6);
+            }
+        }
+    }
+
     /** Confirm that testing method is accurate! */
     @Test
     public void testDifferentDimensionsFailure() throws Exception {
@@ -21,6 +21,7 @@
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
 import java.awt.geom.Rectangle2D;
 import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.operation.MathTransform;
@@ -33,8 +34,10 @@
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.io.WKTReader;
 
 /** @author jamesm,iant */
 public class LiteShapeTest {
@@ -170,4 +173,38 @@ private org.locationtech.jts.geom.Polygon makeSamplePolygon(
         }
         return null;
     }
+
+    @Test
+    public void testMultiPolygonIterator() throws Exception {
+        GeometryFactory geomFac = new GeometryFactory(new LiteCoordinateSequenceFactory());
+        MultiPolygon mp = (MultiPolygon) new WKTReader(geomFac)
+                .read("MULTIPOLYGON(((0 0, 10 0, 10 10, 0 0)), ((20 0, 30 0, 30 10, 20 0), (22 1, 28 1, 28 7, 22 1)))");
+        LiteShape2 shape = new LiteShape2(mp, null, null, false, false);
+
+        // the sub-iterators are reused across the elements, check each ring is still visited once
+        PathIterator pi = shape.getPathIterator(AffineTransform.getTranslateInstance(1, 2));
+        double[] coords = new double[6];
+        int moves = 0;
+        int closes = 0;
+        int points = 0;
+        double firstX = Double.NaN;
+        for (; !pi.isDone(); pi.next()) {
+            int type = pi.currentSegment(coords);
+            if (type == PathIterator.SEG_MOVETO) {
+                if (moves == 2) {
+                    firstX = coords[0];
+                }
+                moves++;
+                points++;
+            } else if (type == PathIterator.SEG_LINETO) {
+                points++;
+            } else if (type == PathIterator.SEG_CLOSE) {
+                closes++;
+            }
+        }
+        Assert.assertEquals(3, moves);
+        Assert.assertEquals(3, closes);
+        Assert.assertEquals(12, points);
+        Assert.assertEquals(23, firstX, 0d);
+    }
 }
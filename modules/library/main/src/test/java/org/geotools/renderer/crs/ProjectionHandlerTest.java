@@ -25,6 +25,7 @@
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -324,6 +325,21 @@ public void testCutGeometryLambertConformal() throws Exception {
         assertTrue("Should have sliced the geometry in two parts", preProcessed instanceof MultiPolygon);
     }
 
+    @Test
+    public void testSafeEnvelopeLambertConformal() throws Exception {
+        ReferencedEnvelope wgs84South = new ReferencedEnvelope(-180, -90, -40, 0, WGS84);
+        ReferencedEnvelope laeSouth = wgs84South.transform(CRS.decode("EPSG:2194"), true);
+        ProjectionHandler handler = ProjectionHandlerFinder.getHandler(laeSouth, WGS84, true);
+
+        // the safe envelope maps inside the valid area
+        Envelope safe = handler.getSafeEnvelope();
+        assertNotNull(safe);
+        assertTrue(handler.getValidAreaBounds().contains(safe));
+        Polygon inside = JTS.toGeometry(new Envelope(-130, -120, -20, -10));
+        assertTrue(safe.contains(inside.getEnvelopeInternal()));
+        assertSame(inside, handler.preProcess(inside));
+    }
+
     @Test
     public void testRobustCutting() throws Exception {
         String wkt = "PROJCS[\"Asia_South_Lambert_Conformal_Conic\", \n"
@@ -0,0 +1,151 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.geotools.util.factory.Hints;
+
+/**
+ * The thread pool shared by the GeoTools modules that split their work in parallel tasks, such as prefetching remote
+ * data, parsing large files or encoding tiles.
+ *
+ * <p>The pool size is set by the {@value #THREADS_KEY} system property, and defaults to the number of available
+ * processors. A value of 1 (or less) disables parallelism, {@link #getExecutor()} returning {@code null} and callers
+ * doing the work in the calling thread. An application can also provide its own executor through the
+ * {@link Hints#EXECUTOR_SERVICE} hint, for the operations accepting hints.
+ *
+ * <p>Tasks running in the shared pool do not fork further work into it: {@link #getExecutor()} returns {@code null}
+ * when invoked from one of its threads, so that nested parallel operations cannot deadlock waiting on each other.
+ *
+ * @since 34.0
+ */
+public final class SharedThreadPool {
+
+    /** System property setting the number of threads of the shared pool, 1 to disable parallelism */
+    public static final String THREADS_KEY = "org.geotools.threads";
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static ExecutorService executor;
+
+    private SharedThreadPool() {}
+
+    /** Returns the configured number of threads, at least 1. */
+    public static int getParallelism() {
+        return Math.max(1, Integer.getInteger(THREADS_KEY, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Returns the maximum number of tasks a caller should keep in flight, to keep the pool busy while bounding the
+     * memory used by the pending results.
+     */
+    public static int getMaxPending() {
+        return 2 * getParallelism();
+    }
+
+    /**
+     * Returns the shared executor, or {@code null} if the work should be done in the calling thread, either because
+     * parallelism is disabled or because the caller is already running in the shared pool.
+     */
+    public static ExecutorService getExecutor() {
+        if (getParallelism() <= 1 || Thread.currentThread() instanceof Worker) {
+            return null;
+        }
+        return getPool();
+    }
+
+    /**
+     * Returns the executor set by the {@link Hints#EXECUTOR_SERVICE} hint, if any, or falls back on
+     * {@link #getExecutor()}.
+     */
+    public static ExecutorService getExecutor(Hints hints) {
+        if (hints != null) {
+            Object executor = hints.get(Hints.EXECUTOR_SERVICE);
+            if (executor instanceof ExecutorService) {
+                return (ExecutorService) executor;
+            }
+        }
+        return getExecutor();
+    }
+
+    /**
+     * Waits for the result of a task. Unchecked exceptions and errors thrown by the task are rethrown as is, other
+     * exceptions are wrapped in an {@link IOException}.
+     */
+    public static <T> T get(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException ie = new InterruptedIOException("Interrupted while waiting for a parallel task");
+            ie.initCause(e);
+            throw ie;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Shuts down the shared pool, waiting for the running tasks to complete. A new pool is created if parallel work is
+     * requested afterwards.
+     */
+    public static void shutdown() {
+        ExecutorService service;
+        synchronized (SharedThreadPool.class) {
+            service = executor;
+            executor = null;
+        }
+        if (service != null) {
+            service.shutdown();
+            try {
+                service.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static synchronized ExecutorService getPool() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(getParallelism(), Worker::new);
+        }
+        return executor;
+    }
+
+    /** The daemon threads of the shared pool, recognized to avoid nested submissions */
+    private static final class Worker extends Thread {
+        Worker(Runnable r) {
+            super(r, "geotools-worker-" + COUNTER.incrementAndGet());
+            setDaemon(true);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.geotools.util.factory.Hints;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SharedThreadPoolTest {
+
+    private String threads;
+
+    @Before
+    public void setThreads() {
+        threads = System.getProperty(SharedThreadPool.THREADS_KEY);
+        System.setProperty(SharedThreadPool.THREADS_KEY, "2");
+    }
+
+    @After
+    public void resetThreads() {
+        if (threads == null) {
+            System.clearProperty(SharedThreadPool.THREADS_KEY);
+        } else {
+            System.setProperty(SharedThreadPool.THREADS_KEY, threads);
+        }
+        SharedThreadPool.shutdown();
+    }
+
+    @Test
+    public void testSequential() {
+        System.setProperty(SharedThreadPool.THREADS_KEY, "1");
+        assertEquals(1, SharedThreadPool.getParallelism());
+        assertNull(SharedThreadPool.getExecutor());
+    }
+
+    @Test
+    public void testNoNestedSubmission() throws Exception {
+        ExecutorService executor = SharedThreadPool.getExecutor();
+        assertNotNull(executor);
+        assertSame(executor, SharedThreadPool.getExecutor());
+        assertEquals(4, SharedThreadPool.getMaxPending());
+        // tasks running in the pool are told to work sequentially
+        Future<ExecutorService> nested = executor.submit(() -> SharedThreadPool.getExecutor());
+        assertNull(SharedThreadPool.get(nested));
+    }
+
+    @Test
+    public void testHints() {
+        ExecutorService custom = Executors.newSingleThreadExecutor();
+        try {
+            assertSame(custom, SharedThreadPool.getExecutor(new Hints(Hints.EXECUTOR_SERVICE, custom)));
+            assertSame(SharedThreadPool.getExecutor(), SharedThreadPool.getExecutor(new Hints()));
+        } finally {
+            custom.shutdown();
+        }
+    }
+
+    @Test
+    public void testExceptions() {
+        ExecutorService executor = SharedThreadPool.getExecutor();
+        Future<Object> io = executor.submit(() -> {
+            throw new IOException("io");
+        });
+        assertEquals(
+                "io",
+                assertThrows(IOException.class, () -> SharedThreadPool.get(io)).getMessage());
+        Future<Object> runtime = executor.submit(() -> {
+            throw new IllegalStateException("runtime");
+        });
+        assertThrows(IllegalStateException.class, () -> SharedThreadPool.get(runtime));
+        Future<Object> checked = executor.submit(() -> {
+            throw new Exception("checked");
+        });
+        IOException e = assertThrows(IOException.class, () -> SharedThreadPool.get(checked));
+        assertEquals("checked", e.getCause().getMessage());
+    }
+}
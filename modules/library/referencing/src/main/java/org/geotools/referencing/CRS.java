@@ -152,13 +152,13 @@ public static enum AxisOrder {
      * A factory for CRS creation with (<var>latitude</var>, <var>longitude</var>) axis order (unless otherwise
      * specified in system property). Will be created only when first needed.
      */
-    private static CRSAuthorityFactory defaultFactory;
+    private static volatile CRSAuthorityFactory defaultFactory;
 
     /**
      * A factory for CRS creation with (<var>longitude</var>, <var>latitude</var>) axis order. Will be created only when
      * first needed.
      */
-    private static CRSAuthorityFactory xyFactory;
+    private static volatile CRSAuthorityFactory xyFactory;
 
     /** A factory for default (non-lenient) operations. */
     private static volatile CoordinateOperationFactory strictFactory;
@@ -212,24 +212,31 @@ private CRS() {}
      * @throws FactoryRegistryException if the factory can't be created.
      * @since 2.3
      */
-    public static synchronized CRSAuthorityFactory getAuthorityFactory(final boolean longitudeFirst)
+    public static CRSAuthorityFactory getAuthorityFactory(final boolean longitudeFirst)
             throws FactoryRegistryException {
         CRSAuthorityFactory factory = (longitudeFirst) ? xyFactory : defaultFactory;
-        if (factory == null)
-            try {
-                // what matters is the value of the flag when the factories are created,. do updated
-                updateForcedLonLat();
-                factory = new DefaultAuthorityFactory(longitudeFirst);
-                if (longitudeFirst) {
-                    xyFactory = factory;
-                } else {
-                    defaultFactory = factory;
+        if (factory != null) {
+            // lock free path, taken by all decodes once the factories are setup
+            return factory;
+        }
+        synchronized (CRS.class) {
+            factory = (longitudeFirst) ? xyFactory : defaultFactory;
+            if (factory == null)
+                try {
+                    // what matters is the value of the flag when the factories are created,. do updated
+                    updateForcedLonLat();
+                    factory = new DefaultAuthorityFactory(longitudeFirst);
+                    if (longitudeFirst) {
+                        xyFactory = factory;
+                    } else {
+                        defaultFactory = factory;
+                    }
+                } catch (NoSuchElementException exception) {
+                    // No factory registered in FactoryFinder.
+                    throw new FactoryNotFoundException(null, exception);
                 }
-            } catch (NoSuchElementException exception) {
-                // No factory registered in FactoryFinder.
-                throw new FactoryNotFoundException(null, exception);
-            }
-        return factory;
+            return factory;
+        }
     }
 
     private static void updateForcedLonLat() {
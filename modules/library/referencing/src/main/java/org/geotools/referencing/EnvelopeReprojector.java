@@ -19,7 +19,9 @@
 import static org.geotools.referencing.CRS.AxisOrder.NORTH_EAST;
 import static org.geotools.referencing.CRS.findMathTransform;
 import static org.geotools.referencing.CRS.getMapProjection;
+import static org.geotools.referencing.EnvelopeTransformCache.DEFAULT_DENSIFICATION;
 
+import java.util.Arrays;
 import java.util.logging.Level;
 import org.geotools.api.geometry.Bounds;
 import org.geotools.api.geometry.MismatchedDimensionException;
@@ -32,6 +34,7 @@
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.api.referencing.crs.GeographicCRS;
 import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.api.referencing.cs.AxisDirection;
 import org.geotools.api.referencing.cs.CoordinateSystem;
 import org.geotools.api.referencing.cs.CoordinateSystemAxis;
 import org.geotools.api.referencing.operation.CoordinateOperation;
@@ -45,11 +48,15 @@
 import org.geotools.referencing.CRS.AxisOrder;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
 import org.geotools.referencing.cs.DefaultCoordinateSystemAxis;
+import org.geotools.referencing.operation.LinearTransform;
 import org.geotools.referencing.operation.projection.AzimuthalEquidistant;
 import org.geotools.referencing.operation.projection.LambertAzimuthalEqualArea;
 import org.geotools.referencing.operation.projection.MapProjection;
+import org.geotools.referencing.operation.projection.Mercator;
 import org.geotools.referencing.operation.projection.Orthographic;
 import org.geotools.referencing.operation.projection.PolarStereographic;
+import org.geotools.referencing.operation.projection.TransverseMercator;
+import si.uom.NonSI;
 
 /**
  * Handles reprojection of envelopes based on a {@link CoordinateOperation}. Takes into account a number of notable
@@ -60,6 +67,9 @@ class EnvelopeReprojector {
 
     private static final int MAX_BISECT_DEPTH = 6;
 
+    /** Maximum distance from the central meridian, in degrees, for the analytic Transverse Mercator extrema. */
+    private static final double TM_MAX_SPAN = 30;
+
     /**
      * Transforms an envelope using the given {@linkplain CoordinateOperation coordinate operation}. The transformation
      * is only approximative. It may be bigger than the smallest possible bounding box, but should not be smaller. Note
@@ -87,6 +97,24 @@ static GeneralBounds transform(final CoordinateOperation operation, final Bounds
                 throw new MismatchedReferenceSystemException(ErrorKeys.MISMATCHED_COORDINATE_REFERENCE_SYSTEM);
             }
         }
+        GeneralBounds transformed = EnvelopeTransformCache.get(operation, envelope, DEFAULT_DENSIFICATION);
+        if (transformed == null) {
+            transformed = analyticTransform(operation, envelope);
+            if (transformed == null) {
+                transformed = sampledTransform(operation, envelope);
+            }
+            EnvelopeTransformCache.put(operation, envelope, DEFAULT_DENSIFICATION, transformed);
+        }
+        return transformed;
+    }
+
+    /**
+     * Transforms an envelope by sampling it, then expanding the result on the poles, the anti-meridian and the
+     * singularities of the source and target CRS.
+     */
+    private static GeneralBounds sampledTransform(final CoordinateOperation operation, final Bounds envelope)
+            throws TransformException {
+        final CoordinateReferenceSystem sourceCRS = operation.getSourceCRS();
         MathTransform mt = operation.getMathTransform();
         final GeneralPosition centerPt = new GeneralPosition(mt.getTargetDimensions());
         GeneralBounds transformed;
@@ -159,6 +187,140 @@ static GeneralBounds transform(final CoordinateOperation operation, final Bounds
         return transformed;
     }
 
+    /**
+     * Transforms an envelope from a geographic CRS to a Mercator, Transverse Mercator or Polar Stereographic projection
+     * of the same geographic CRS by projecting the points where the extrema are known to be, instead of sampling the
+     * envelope. The result is the exact bounding box of the projected envelope, up to rounding errors:
+     *
+     * <ul>
+     *   <li>Mercator projects meridians and parallels to straight lines, the extrema are at the corners.
+     *   <li>Transverse Mercator parallels are curves symmetric around the central meridian, and meridians curves
+     *       symmetric around the equator, the extrema are on the edges, at the corners, at the central meridian or at
+     *       the equator.
+     *   <li>Polar Stereographic projects parallels to circles centered on the pole, the extrema are on the northern and
+     *       southern edges, at the corners or at the central meridian quadrants.
+     * </ul>
+     *
+     * @return The transformed envelope, or {@code null} if the operation is not one of the above, or the envelope is
+     *     outside of the domain where the extrema are known.
+     */
+    static GeneralBounds analyticTransform(final CoordinateOperation operation, final Bounds envelope)
+            throws TransformException {
+        final CoordinateReferenceSystem sourceCRS = operation.getSourceCRS();
+        final CoordinateReferenceSystem targetCRS = operation.getTargetCRS();
+        if (!(sourceCRS instanceof GeographicCRS)
+                || !(targetCRS instanceof ProjectedCRS)
+                || envelope.getDimension() != 2
+                || targetCRS.getCoordinateSystem().getDimension() != 2) {
+            return null;
+        }
+        final MapProjection projection = getMapProjection(targetCRS);
+        if (!(projection instanceof Mercator
+                || projection instanceof TransverseMercator
+                || projection instanceof PolarStereographic)) {
+            return null;
+        }
+        // the operation must be the projection alone, no datum shift (axis swaps are fine)
+        final GeographicCRS baseCRS = ((ProjectedCRS) targetCRS).getBaseCRS();
+        if (!CRS.equalsIgnoreMetadata(sourceCRS, baseCRS)) {
+            try {
+                if (!(findMathTransform(sourceCRS, baseCRS, true) instanceof LinearTransform)) {
+                    return null;
+                }
+            } catch (FactoryException e) {
+                return null;
+            }
+        }
+        final CoordinateSystem cs = sourceCRS.getCoordinateSystem();
+        int lonDim = -1;
+        for (int i = 0; i < 2; i++) {
+            final CoordinateSystemAxis axis = cs.getAxis(i);
+            if (!NonSI.DEGREE_ANGLE.equals(axis.getUnit())) {
+                return null;
+            }
+            if (AxisDirection.EAST.equals(axis.getDirection())) {
+                lonDim = i;
+            } else if (!AxisDirection.NORTH.equals(axis.getDirection())) {
+                return null;
+            }
+        }
+        if (lonDim < 0) {
+            return null;
+        }
+        final int latDim = 1 - lonDim;
+        final double minLon = envelope.getMinimum(lonDim);
+        final double maxLon = envelope.getMaximum(lonDim);
+        final double minLat = envelope.getMinimum(latDim);
+        final double maxLat = envelope.getMaximum(latDim);
+        if (!(minLon <= maxLon && minLat <= maxLat && minLat >= -90 && maxLat <= 90)) {
+            return null;
+        }
+        final double centralMeridian =
+                getProjectionCenterLonLat(targetCRS, new GeneralPosition(2)).getOrdinate(0);
+
+        final double[] lons;
+        final double[] lats;
+        if (projection instanceof Mercator) {
+            // longitudes are rolled around the central meridian, monotonic only within half a turn
+            if (minLon < centralMeridian - 180 || maxLon > centralMeridian + 180 || minLat <= -90 || maxLat >= 90) {
+                return null;
+            }
+            lons = new double[] {minLon, maxLon};
+            lats = new double[] {minLat, maxLat};
+        } else if (projection instanceof TransverseMercator) {
+            // the symmetries hold only in the area where the series expansions are accurate
+            if (minLon < centralMeridian - TM_MAX_SPAN || maxLon > centralMeridian + TM_MAX_SPAN) {
+                return null;
+            }
+            lons = new double[] {minLon, maxLon, Math.max(minLon, Math.min(maxLon, centralMeridian))};
+            lats = new double[] {minLat, maxLat, Math.max(minLat, Math.min(maxLat, 0))};
+        } else {
+            if (maxLon - minLon >= 360) {
+                return null;
+            }
+            final double[] candidates = new double[6];
+            int n = 0;
+            candidates[n++] = minLon;
+            candidates[n++] = maxLon;
+            for (double lon = centralMeridian + 90 * Math.ceil((minLon - centralMeridian) / 90);
+                    lon < maxLon;
+                    lon += 90) {
+                candidates[n++] = lon;
+            }
+            lons = Arrays.copyOf(candidates, n);
+            lats = new double[] {minLat, maxLat};
+        }
+
+        final double[] points = new double[lons.length * lats.length * 2];
+        int i = 0;
+        for (final double lon : lons) {
+            for (final double lat : lats) {
+                points[i + lonDim] = lon;
+                points[i + latDim] = lat;
+                i += 2;
+            }
+        }
+        final MathTransform mt = operation.getMathTransform();
+        mt.transform(points, 0, points, 0, points.length / 2);
+        double xmin = Double.POSITIVE_INFINITY, ymin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY, ymax = Double.NEGATIVE_INFINITY;
+        for (i = 0; i < points.length; i += 2) {
+            final double x = points[i];
+            final double y = points[i + 1];
+            if (!Double.isFinite(x) || !Double.isFinite(y)) {
+                // the opposite pole in polar stereographic, let the sampling handle it
+                return null;
+            }
+            xmin = Math.min(xmin, x);
+            xmax = Math.max(xmax, x);
+            ymin = Math.min(ymin, y);
+            ymax = Math.max(ymax, y);
+        }
+        final GeneralBounds transformed = new GeneralBounds(new double[] {xmin, ymin}, new double[] {xmax, ymax});
+        transformed.setCoordinateReferenceSystem(targetCRS);
+        return transformed;
+    }
+
     /**
      * Recursively split by 4 the envelope, and transform each quadrant. If the transformed envelope is not valid, then
      * the envelope is split again. The process is repeated until the envelope is not growing any longer.
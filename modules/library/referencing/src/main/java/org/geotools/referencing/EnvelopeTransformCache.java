@@ -0,0 +1,152 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.geotools.api.geometry.Bounds;
+import org.geotools.api.referencing.operation.CoordinateOperation;
+import org.geotools.geometry.GeneralBounds;
+
+/**
+ * A bounded cache of transformed envelopes, keyed by coordinate operation, source envelope and densification. The same
+ * envelopes are transformed over and over by the renderer, the projection handlers and the mosaic readers, and the
+ * envelope transformation is much more expensive than a point transformation since it samples the envelope and checks
+ * the poles, the anti-meridian and the projection singularities.
+ *
+ * <p>Operations are compared by identity: they are cached by the {@linkplain CRS#getCoordinateOperationFactory
+ * coordinate operation factories}, so the same pair of CRS usually yields the same operation instance, and comparing
+ * identities avoids comparing the CRS on every lookup. The cache keeps the most recently used entries only, their
+ * number can be set with the {@value #SIZE_KEY} system property (0 disables the cache).
+ *
+ * <p>This class is thread safe. Envelopes are copied on the way in and out, so callers are free to modify them.
+ *
+ * @since 34.0
+ */
+public final class EnvelopeTransformCache {
+
+    /** System property setting the maximum number of cached envelopes. */
+    public static final String SIZE_KEY = "org.geotools.referencing.envelopeCacheSize";
+
+    /** Densification value used for the envelopes transformed by {@link CRS#transform(CoordinateOperation, Bounds)}. */
+    public static final int DEFAULT_DENSIFICATION = -1;
+
+    private static final int SIZE = Integer.getInteger(SIZE_KEY, 512);
+
+    /** The cached envelopes, in access order. */
+    private static final Map<Key, GeneralBounds> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, GeneralBounds> eldest) {
+            return size() > SIZE;
+        }
+    };
+
+    /** Do not allow instantiation of this class. */
+    private EnvelopeTransformCache() {}
+
+    /**
+     * Returns the cached transformation of the given envelope.
+     *
+     * @param operation The operation used to transform the envelope.
+     * @param envelope The source envelope.
+     * @param densification The number of points sampled on the envelope edges, or {@link #DEFAULT_DENSIFICATION}.
+     * @return A copy of the cached envelope, or {@code null} if none.
+     */
+    public static GeneralBounds get(
+            final CoordinateOperation operation, final Bounds envelope, final int densification) {
+        if (SIZE <= 0) {
+            return null;
+        }
+        final GeneralBounds cached;
+        synchronized (CACHE) {
+            cached = CACHE.get(new Key(operation, envelope, densification));
+        }
+        return cached != null ? new GeneralBounds(cached) : null;
+    }
+
+    /**
+     * Caches the transformation of the given envelope.
+     *
+     * @param operation The operation used to transform the envelope.
+     * @param envelope The source envelope.
+     * @param densification The number of points sampled on the envelope edges, or {@link #DEFAULT_DENSIFICATION}.
+     * @param transformed The transformed envelope, which is copied.
+     */
+    public static void put(
+            final CoordinateOperation operation,
+            final Bounds envelope,
+            final int densification,
+            final Bounds transformed) {
+        if (SIZE <= 0) {
+            return;
+        }
+        final Key key = new Key(operation, envelope, densification);
+        final GeneralBounds copy = new GeneralBounds(transformed);
+        synchronized (CACHE) {
+            CACHE.put(key, copy);
+        }
+    }
+
+    /** Removes all the cached envelopes. */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /** Key of the cache, holding the operation by identity and a copy of the envelope ordinates. */
+    private static final class Key {
+        private final CoordinateOperation operation;
+
+        private final double[] ordinates;
+
+        private final int densification;
+
+        private final int hash;
+
+        Key(final CoordinateOperation operation, final Bounds envelope, final int densification) {
+            final int dimension = envelope.getDimension();
+            this.operation = operation;
+            this.densification = densification;
+            this.ordinates = new double[dimension * 2];
+            for (int i = 0; i < dimension; i++) {
+                ordinates[i] = envelope.getMinimum(i);
+                ordinates[i + dimension] = envelope.getMaximum(i);
+            }
+            this.hash = 31 * (31 * System.identityHashCode(operation) + Arrays.hashCode(ordinates)) + densification;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) object;
+            return operation == that.operation
+                    && densification == that.densification
+                    && Arrays.equals(ordinates, that.ordinates);
+        }
+    }
+}
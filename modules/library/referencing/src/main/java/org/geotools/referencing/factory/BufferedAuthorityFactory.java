@@ -19,12 +19,9 @@
  */
 package org.geotools.referencing.factory;
 
-import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -90,12 +87,16 @@
  * instead of a strong one. This means that this buffered factory will continue to returns them as long as they are in
  * use somewhere else in the Java virtual machine, but will be discarted (and recreated on the fly if needed) otherwise.
  *
+ * <p>Cache lookups do not lock, so that threads decoding different codes do not wait for each others. When the same
+ * missing code is requested concurrently, the object is created only once and the other threads wait for it, see
+ * {@link ReferencingObjectPool}.
+ *
  * @since 2.1
  * @version $Id$
  * @author Martin Desruisseaux (IRD)
  */
 public class BufferedAuthorityFactory extends AbstractAuthorityFactory implements BufferedFactory {
-    /** The default value for {@link #maxStrongReferences}. */
+    /** The default maximum number of objects to keep by strong reference. */
     static final int DEFAULT_MAX = 20;
 
     /**
@@ -109,14 +110,11 @@ public class BufferedAuthorityFactory extends AbstractAuthorityFactory implement
      */
     volatile AbstractAuthorityFactory backingStore;
 
-    /** The pool of cached objects. */
-    private final LinkedHashMap<Object, Object> pool = new LinkedHashMap<>(32, 0.75f, true);
-
     /**
-     * The maximum number of objects to keep by strong reference. If a greater amount of objects are created, then the
-     * strong references for the oldest ones are replaced by weak references.
+     * The pool of cached objects. The most recently used objects are kept by strong references, up to the maximum
+     * number specified at construction time, and the oldest ones by weak references.
      */
-    private final int maxStrongReferences;
+    private final ReferencingObjectPool pool;
 
     /** The pool of objects identified by {@link #find}. */
     private final Map<IdentifiedObject, IdentifiedObject> findPool = new WeakHashMap<>();
@@ -153,7 +151,7 @@ protected BufferedAuthorityFactory(AbstractAuthorityFactory factory, final int m
             factory = ((BufferedAuthorityFactory) factory).backingStore;
         }
         this.backingStore = factory;
-        this.maxStrongReferences = maxStrongReferences;
+        this.pool = new ReferencingObjectPool(maxStrongReferences);
         completeHints();
     }
 
@@ -169,7 +167,7 @@ protected BufferedAuthorityFactory(AbstractAuthorityFactory factory, final int m
      */
     BufferedAuthorityFactory(final int priority, final int maxStrongReferences) {
         super(priority);
-        this.maxStrongReferences = maxStrongReferences;
+        this.pool = new ReferencingObjectPool(maxStrongReferences);
         // completeHints() will be invoked by DeferredAuthorityFactory.getBackingStore()
     }
 
@@ -235,7 +233,7 @@ AbstractAuthorityFactory getBackingStore() throws FactoryException {
     @Override
     boolean isAvailable() {
         try {
-            return getBackingStore().isAvailable();
+            return useBackingStore(store -> store.isAvailable());
         } catch (FactoryNotFoundException exception) {
             /*
              * The factory is not available. This is error may be normal; it happens
@@ -310,7 +308,7 @@ public Citation getAuthority() {
      */
     @Override
     public String getBackingStoreDescription() throws FactoryException {
-        return getBackingStore().getBackingStoreDescription();
+        return useBackingStore(store -> store.getBackingStoreDescription());
     }
 
     /**
@@ -324,7 +322,7 @@ public String getBackingStoreDescription() throws FactoryException {
      */
     @Override
     public Set<String> getAuthorityCodes(final Class<? extends IdentifiedObject> type) throws FactoryException {
-        return getBackingStore().getAuthorityCodes(type);
+        return useBackingStore(store -> store.getAuthorityCodes(type));
     }
 
     /**
@@ -339,7 +337,7 @@ public Set<String> getAuthorityCodes(final Class<? extends IdentifiedObject> typ
     @Override
     public InternationalString getDescriptionText(final String code)
             throws NoSuchAuthorityCodeException, FactoryException {
-        return getBackingStore().getDescriptionText(code);
+        return useBackingStore(store -> store.getDescriptionText(code));
     }
 
     /**
@@ -348,17 +346,8 @@ public InternationalString getDescriptionText(final String code)
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized IdentifiedObject createObject(final String code) throws FactoryException {
-        final IdentifiedObject object;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof IdentifiedObject) {
-            object = (IdentifiedObject) cached;
-        } else {
-            object = getBackingStore().createObject(code);
-        }
-        put(key, object);
-        return object;
+    public IdentifiedObject createObject(final String code) throws FactoryException {
+        return get(trimAuthority(code), IdentifiedObject.class, store -> store.createObject(code));
     }
 
     /**
@@ -367,17 +356,8 @@ public synchronized IdentifiedObject createObject(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized Datum createDatum(final String code) throws FactoryException {
-        final Datum datum;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof Datum) {
-            datum = (Datum) cached;
-        } else {
-            datum = getBackingStore().createDatum(code);
-        }
-        put(key, datum);
-        return datum;
+    public Datum createDatum(final String code) throws FactoryException {
+        return get(trimAuthority(code), Datum.class, store -> store.createDatum(code));
     }
 
     /**
@@ -386,17 +366,8 @@ public synchronized Datum createDatum(final String code) throws FactoryException
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized EngineeringDatum createEngineeringDatum(final String code) throws FactoryException {
-        final EngineeringDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof EngineeringDatum) {
-            datum = (EngineeringDatum) cached;
-        } else {
-            datum = getBackingStore().createEngineeringDatum(code);
-        }
-        put(key, datum);
-        return datum;
+    public EngineeringDatum createEngineeringDatum(final String code) throws FactoryException {
+        return get(trimAuthority(code), EngineeringDatum.class, store -> store.createEngineeringDatum(code));
     }
 
     /**
@@ -405,17 +376,8 @@ public synchronized EngineeringDatum createEngineeringDatum(final String code) t
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized ImageDatum createImageDatum(final String code) throws FactoryException {
-        final ImageDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof ImageDatum) {
-            datum = (ImageDatum) cached;
-        } else {
-            datum = getBackingStore().createImageDatum(code);
-        }
-        put(key, datum);
-        return datum;
+    public ImageDatum createImageDatum(final String code) throws FactoryException {
+        return get(trimAuthority(code), ImageDatum.class, store -> store.createImageDatum(code));
     }
 
     /**
@@ -424,17 +386,8 @@ public synchronized ImageDatum createImageDatum(final String code) throws Factor
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized VerticalDatum createVerticalDatum(final String code) throws FactoryException {
-        final VerticalDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof VerticalDatum) {
-            datum = (VerticalDatum) cached;
-        } else {
-            datum = getBackingStore().createVerticalDatum(code);
-        }
-        put(key, datum);
-        return datum;
+    public VerticalDatum createVerticalDatum(final String code) throws FactoryException {
+        return get(trimAuthority(code), VerticalDatum.class, store -> store.createVerticalDatum(code));
     }
 
     /**
@@ -443,17 +396,8 @@ public synchronized VerticalDatum createVerticalDatum(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized TemporalDatum createTemporalDatum(final String code) throws FactoryException {
-        final TemporalDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof TemporalDatum) {
-            datum = (TemporalDatum) cached;
-        } else {
-            datum = getBackingStore().createTemporalDatum(code);
-        }
-        put(key, datum);
-        return datum;
+    public TemporalDatum createTemporalDatum(final String code) throws FactoryException {
+        return get(trimAuthority(code), TemporalDatum.class, store -> store.createTemporalDatum(code));
     }
 
     /**
@@ -462,17 +406,8 @@ public synchronized TemporalDatum createTemporalDatum(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized GeodeticDatum createGeodeticDatum(final String code) throws FactoryException {
-        final GeodeticDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof GeodeticDatum) {
-            datum = (GeodeticDatum) cached;
-        } else {
-            datum = getBackingStore().createGeodeticDatum(code);
-        }
-        put(key, datum);
-        return datum;
+    public GeodeticDatum createGeodeticDatum(final String code) throws FactoryException {
+        return get(trimAuthority(code), GeodeticDatum.class, store -> store.createGeodeticDatum(code));
     }
 
     /**
@@ -481,17 +416,8 @@ public synchronized GeodeticDatum createGeodeticDatum(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized Ellipsoid createEllipsoid(final String code) throws FactoryException {
-        final Ellipsoid ellipsoid;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof Ellipsoid) {
-            ellipsoid = (Ellipsoid) cached;
-        } else {
-            ellipsoid = getBackingStore().createEllipsoid(code);
-        }
-        put(key, ellipsoid);
-        return ellipsoid;
+    public Ellipsoid createEllipsoid(final String code) throws FactoryException {
+        return get(trimAuthority(code), Ellipsoid.class, store -> store.createEllipsoid(code));
     }
 
     /**
@@ -500,17 +426,8 @@ public synchronized Ellipsoid createEllipsoid(final String code) throws FactoryE
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
-        final PrimeMeridian meridian;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof PrimeMeridian) {
-            meridian = (PrimeMeridian) cached;
-        } else {
-            meridian = getBackingStore().createPrimeMeridian(code);
-        }
-        put(key, meridian);
-        return meridian;
+    public PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
+        return get(trimAuthority(code), PrimeMeridian.class, store -> store.createPrimeMeridian(code));
     }
 
     /**
@@ -519,17 +436,8 @@ public synchronized PrimeMeridian createPrimeMeridian(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized Extent createExtent(final String code) throws FactoryException {
-        final Extent extent;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof Extent) {
-            extent = (Extent) cached;
-        } else {
-            extent = getBackingStore().createExtent(code);
-        }
-        put(key, extent);
-        return extent;
+    public Extent createExtent(final String code) throws FactoryException {
+        return get(trimAuthority(code), Extent.class, store -> store.createExtent(code));
     }
 
     /**
@@ -538,17 +446,8 @@ public synchronized Extent createExtent(final String code) throws FactoryExcepti
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CoordinateSystem createCoordinateSystem(final String code) throws FactoryException {
-        final CoordinateSystem cs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof CoordinateSystem) {
-            cs = (CoordinateSystem) cached;
-        } else {
-            cs = getBackingStore().createCoordinateSystem(code);
-        }
-        put(key, cs);
-        return cs;
+    public CoordinateSystem createCoordinateSystem(final String code) throws FactoryException {
+        return get(trimAuthority(code), CoordinateSystem.class, store -> store.createCoordinateSystem(code));
     }
 
     /**
@@ -557,17 +456,8 @@ public synchronized CoordinateSystem createCoordinateSystem(final String code) t
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CartesianCS createCartesianCS(final String code) throws FactoryException {
-        final CartesianCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof CartesianCS) {
-            cs = (CartesianCS) cached;
-        } else {
-            cs = getBackingStore().createCartesianCS(code);
-        }
-        put(key, cs);
-        return cs;
+    public CartesianCS createCartesianCS(final String code) throws FactoryException {
+        return get(trimAuthority(code), CartesianCS.class, store -> store.createCartesianCS(code));
     }
 
     /**
@@ -576,17 +466,8 @@ public synchronized CartesianCS createCartesianCS(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized PolarCS createPolarCS(final String code) throws FactoryException {
-        final PolarCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof PolarCS) {
-            cs = (PolarCS) cached;
-        } else {
-            cs = getBackingStore().createPolarCS(code);
-        }
-        put(key, cs);
-        return cs;
+    public PolarCS createPolarCS(final String code) throws FactoryException {
+        return get(trimAuthority(code), PolarCS.class, store -> store.createPolarCS(code));
     }
 
     /**
@@ -595,17 +476,8 @@ public synchronized PolarCS createPolarCS(final String code) throws FactoryExcep
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CylindricalCS createCylindricalCS(final String code) throws FactoryException {
-        final CylindricalCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof CylindricalCS) {
-            cs = (CylindricalCS) cached;
-        } else {
-            cs = getBackingStore().createCylindricalCS(code);
-        }
-        put(key, cs);
-        return cs;
+    public CylindricalCS createCylindricalCS(final String code) throws FactoryException {
+        return get(trimAuthority(code), CylindricalCS.class, store -> store.createCylindricalCS(code));
     }
 
     /**
@@ -614,17 +486,8 @@ public synchronized CylindricalCS createCylindricalCS(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized SphericalCS createSphericalCS(final String code) throws FactoryException {
-        final SphericalCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof SphericalCS) {
-            cs = (SphericalCS) cached;
-        } else {
-            cs = getBackingStore().createSphericalCS(code);
-        }
-        put(key, cs);
-        return cs;
+    public SphericalCS createSphericalCS(final String code) throws FactoryException {
+        return get(trimAuthority(code), SphericalCS.class, store -> store.createSphericalCS(code));
     }
 
     /**
@@ -633,17 +496,8 @@ public synchronized SphericalCS createSphericalCS(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized EllipsoidalCS createEllipsoidalCS(final String code) throws FactoryException {
-        final EllipsoidalCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof EllipsoidalCS) {
-            cs = (EllipsoidalCS) cached;
-        } else {
-            cs = getBackingStore().createEllipsoidalCS(code);
-        }
-        put(key, cs);
-        return cs;
+    public EllipsoidalCS createEllipsoidalCS(final String code) throws FactoryException {
+        return get(trimAuthority(code), EllipsoidalCS.class, store -> store.createEllipsoidalCS(code));
     }
 
     /**
@@ -652,17 +506,8 @@ public synchronized EllipsoidalCS createEllipsoidalCS(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized VerticalCS createVerticalCS(final String code) throws FactoryException {
-        final VerticalCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof VerticalCS) {
-            cs = (VerticalCS) cached;
-        } else {
-            cs = getBackingStore().createVerticalCS(code);
-        }
-        put(key, cs);
-        return cs;
+    public VerticalCS createVerticalCS(final String code) throws FactoryException {
+        return get(trimAuthority(code), VerticalCS.class, store -> store.createVerticalCS(code));
     }
 
     /**
@@ -671,17 +516,8 @@ public synchronized VerticalCS createVerticalCS(final String code) throws Factor
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized TimeCS createTimeCS(final String code) throws FactoryException {
-        final TimeCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof TimeCS) {
-            cs = (TimeCS) cached;
-        } else {
-            cs = getBackingStore().createTimeCS(code);
-        }
-        put(key, cs);
-        return cs;
+    public TimeCS createTimeCS(final String code) throws FactoryException {
+        return get(trimAuthority(code), TimeCS.class, store -> store.createTimeCS(code));
     }
 
     /**
@@ -690,17 +526,8 @@ public synchronized TimeCS createTimeCS(final String code) throws FactoryExcepti
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CoordinateSystemAxis createCoordinateSystemAxis(final String code) throws FactoryException {
-        final CoordinateSystemAxis axis;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof CoordinateSystemAxis) {
-            axis = (CoordinateSystemAxis) cached;
-        } else {
-            axis = getBackingStore().createCoordinateSystemAxis(code);
-        }
-        put(key, axis);
-        return axis;
+    public CoordinateSystemAxis createCoordinateSystemAxis(final String code) throws FactoryException {
+        return get(trimAuthority(code), CoordinateSystemAxis.class, store -> store.createCoordinateSystemAxis(code));
     }
 
     /**
@@ -709,17 +536,8 @@ public synchronized CoordinateSystemAxis createCoordinateSystemAxis(final String
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized Unit<?> createUnit(final String code) throws FactoryException {
-        final Unit<?> unit;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof Unit) {
-            unit = (Unit) cached;
-        } else {
-            unit = getBackingStore().createUnit(code);
-        }
-        put(key, unit);
-        return unit;
+    public Unit<?> createUnit(final String code) throws FactoryException {
+        return get(trimAuthority(code), Unit.class, store -> store.createUnit(code));
     }
 
     /**
@@ -728,18 +546,11 @@ public synchronized Unit<?> createUnit(final String code) throws FactoryExceptio
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(final String code)
-            throws FactoryException {
-        final CoordinateReferenceSystem crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof CoordinateReferenceSystem) {
-            crs = (CoordinateReferenceSystem) cached;
-        } else {
-            crs = getBackingStore().createCoordinateReferenceSystem(code);
-        }
-        put(key, crs);
-        return crs;
+    public CoordinateReferenceSystem createCoordinateReferenceSystem(final String code) throws FactoryException {
+        return get(
+                trimAuthority(code),
+                CoordinateReferenceSystem.class,
+                store -> store.createCoordinateReferenceSystem(code));
     }
 
     /**
@@ -748,17 +559,8 @@ public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(fi
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CompoundCRS createCompoundCRS(final String code) throws FactoryException {
-        final CompoundCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof CompoundCRS) {
-            crs = (CompoundCRS) cached;
-        } else {
-            crs = getBackingStore().createCompoundCRS(code);
-        }
-        put(key, crs);
-        return crs;
+    public CompoundCRS createCompoundCRS(final String code) throws FactoryException {
+        return get(trimAuthority(code), CompoundCRS.class, store -> store.createCompoundCRS(code));
     }
 
     /**
@@ -767,17 +569,8 @@ public synchronized CompoundCRS createCompoundCRS(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized DerivedCRS createDerivedCRS(final String code) throws FactoryException {
-        final DerivedCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof DerivedCRS) {
-            crs = (DerivedCRS) cached;
-        } else {
-            crs = getBackingStore().createDerivedCRS(code);
-        }
-        put(key, crs);
-        return crs;
+    public DerivedCRS createDerivedCRS(final String code) throws FactoryException {
+        return get(trimAuthority(code), DerivedCRS.class, store -> store.createDerivedCRS(code));
     }
 
     /**
@@ -786,17 +579,8 @@ public synchronized DerivedCRS createDerivedCRS(final String code) throws Factor
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized EngineeringCRS createEngineeringCRS(final String code) throws FactoryException {
-        final EngineeringCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof EngineeringCRS) {
-            crs = (EngineeringCRS) cached;
-        } else {
-            crs = getBackingStore().createEngineeringCRS(code);
-        }
-        put(key, crs);
-        return crs;
+    public EngineeringCRS createEngineeringCRS(final String code) throws FactoryException {
+        return get(trimAuthority(code), EngineeringCRS.class, store -> store.createEngineeringCRS(code));
     }
 
     /**
@@ -805,17 +589,8 @@ public synchronized EngineeringCRS createEngineeringCRS(final String code) throw
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized GeographicCRS createGeographicCRS(final String code) throws FactoryException {
-        final GeographicCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof GeographicCRS) {
-            crs = (GeographicCRS) cached;
-        } else {
-            crs = getBackingStore().createGeographicCRS(code);
-        }
-        put(key, crs);
-        return crs;
+    public GeographicCRS createGeographicCRS(final String code) throws FactoryException {
+        return get(trimAuthority(code), GeographicCRS.class, store -> store.createGeographicCRS(code));
     }
 
     /**
@@ -824,17 +599,8 @@ public synchronized GeographicCRS createGeographicCRS(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized GeocentricCRS createGeocentricCRS(final String code) throws FactoryException {
-        final GeocentricCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof GeocentricCRS) {
-            crs = (GeocentricCRS) cached;
-        } else {
-            crs = getBackingStore().createGeocentricCRS(code);
-        }
-        put(key, crs);
-        return crs;
+    public GeocentricCRS createGeocentricCRS(final String code) throws FactoryException {
+        return get(trimAuthority(code), GeocentricCRS.class, store -> store.createGeocentricCRS(code));
     }
 
     /**
@@ -843,17 +609,8 @@ public synchronized GeocentricCRS createGeocentricCRS(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized ImageCRS createImageCRS(final String code) throws FactoryException {
-        final ImageCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof ImageCRS) {
-            crs = (ImageCRS) cached;
-        } else {
-            crs = getBackingStore().createImageCRS(code);
-        }
-        put(key, crs);
-        return crs;
+    public ImageCRS createImageCRS(final String code) throws FactoryException {
+        return get(trimAuthority(code), ImageCRS.class, store -> store.createImageCRS(code));
     }
 
     /**
@@ -862,17 +619,8 @@ public synchronized ImageCRS createImageCRS(final String code) throws FactoryExc
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized ProjectedCRS createProjectedCRS(final String code) throws FactoryException {
-        final ProjectedCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof ProjectedCRS) {
-            crs = (ProjectedCRS) cached;
-        } else {
-            crs = getBackingStore().createProjectedCRS(code);
-        }
-        put(key, crs);
-        return crs;
+    public ProjectedCRS createProjectedCRS(final String code) throws FactoryException {
+        return get(trimAuthority(code), ProjectedCRS.class, store -> store.createProjectedCRS(code));
     }
 
     /**
@@ -881,17 +629,8 @@ public synchronized ProjectedCRS createProjectedCRS(final String code) throws Fa
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized TemporalCRS createTemporalCRS(final String code) throws FactoryException {
-        final TemporalCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof TemporalCRS) {
-            crs = (TemporalCRS) cached;
-        } else {
-            crs = getBackingStore().createTemporalCRS(code);
-        }
-        put(key, crs);
-        return crs;
+    public TemporalCRS createTemporalCRS(final String code) throws FactoryException {
+        return get(trimAuthority(code), TemporalCRS.class, store -> store.createTemporalCRS(code));
     }
 
     /**
@@ -900,17 +639,8 @@ public synchronized TemporalCRS createTemporalCRS(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized VerticalCRS createVerticalCRS(final String code) throws FactoryException {
-        final VerticalCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof VerticalCRS) {
-            crs = (VerticalCRS) cached;
-        } else {
-            crs = getBackingStore().createVerticalCRS(code);
-        }
-        put(key, crs);
-        return crs;
+    public VerticalCRS createVerticalCRS(final String code) throws FactoryException {
+        return get(trimAuthority(code), VerticalCRS.class, store -> store.createVerticalCRS(code));
     }
 
     /**
@@ -920,17 +650,8 @@ public synchronized VerticalCRS createVerticalCRS(final String code) throws Fact
      * @since 2.2
      */
     @Override
-    public synchronized ParameterDescriptor createParameterDescriptor(final String code) throws FactoryException {
-        final ParameterDescriptor parameter;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof ParameterDescriptor) {
-            parameter = (ParameterDescriptor) cached;
-        } else {
-            parameter = getBackingStore().createParameterDescriptor(code);
-        }
-        put(key, parameter);
-        return parameter;
+    public ParameterDescriptor createParameterDescriptor(final String code) throws FactoryException {
+        return get(trimAuthority(code), ParameterDescriptor.class, store -> store.createParameterDescriptor(code));
     }
 
     /**
@@ -940,17 +661,8 @@ public synchronized ParameterDescriptor createParameterDescriptor(final String c
      * @since 2.2
      */
     @Override
-    public synchronized OperationMethod createOperationMethod(final String code) throws FactoryException {
-        final OperationMethod method;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof OperationMethod) {
-            method = (OperationMethod) cached;
-        } else {
-            method = getBackingStore().createOperationMethod(code);
-        }
-        put(key, method);
-        return method;
+    public OperationMethod createOperationMethod(final String code) throws FactoryException {
+        return get(trimAuthority(code), OperationMethod.class, store -> store.createOperationMethod(code));
     }
 
     /**
@@ -960,17 +672,8 @@ public synchronized OperationMethod createOperationMethod(final String code) thr
      * @since 2.2
      */
     @Override
-    public synchronized CoordinateOperation createCoordinateOperation(final String code) throws FactoryException {
-        final CoordinateOperation operation;
-        final String key = trimAuthority(code);
-        final Object cached = get(key);
-        if (cached instanceof CoordinateOperation) {
-            operation = (CoordinateOperation) cached;
-        } else {
-            operation = getBackingStore().createCoordinateOperation(code);
-        }
-        put(key, operation);
-        return operation;
+    public CoordinateOperation createCoordinateOperation(final String code) throws FactoryException {
+        return get(trimAuthority(code), CoordinateOperation.class, store -> store.createCoordinateOperation(code));
     }
 
     /**
@@ -980,21 +683,15 @@ public synchronized CoordinateOperation createCoordinateOperation(final String c
      * @since 2.2
      */
     @Override
-    public synchronized Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
+    @SuppressWarnings("unchecked")
+    public Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
             final String sourceCRS, final String targetCRS) throws FactoryException {
-        final Set<CoordinateOperation> operations;
         final CodePair key = new CodePair(trimAuthority(sourceCRS), trimAuthority(targetCRS));
-        final Object cached = get(key);
-        if (cached instanceof Set) {
-            @SuppressWarnings("unchecked")
-            Set<CoordinateOperation> cast = (Set<CoordinateOperation>) cached;
-            operations = cast;
-        } else {
-            operations = Collections.unmodifiableSet(
-                    getBackingStore().createFromCoordinateReferenceSystemCodes(sourceCRS, targetCRS));
-        }
-        put(key, operations);
-        return operations;
+        return get(
+                key,
+                Set.class,
+                store -> Collections.unmodifiableSet(
+                        store.createFromCoordinateReferenceSystemCodes(sourceCRS, targetCRS)));
     }
 
     /** A pair of codes for operations to cache with {@link #createFromCoordinateReferenceSystemCodes}. */
@@ -1037,9 +734,9 @@ public String toString() {
      * @since 2.4
      */
     @Override
-    public synchronized IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
+    public IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
             throws FactoryException {
-        return new Finder(getBackingStore().getIdentifiedObjectFinder(type));
+        return new Finder(useBackingStore(store -> store.getIdentifiedObjectFinder(type)));
     }
 
     /**
@@ -1065,7 +762,7 @@ public IdentifiedObject find(final IdentifiedObject object) throws FactoryExcept
             /*
              * Do not synchronize on 'BufferedAuthorityFactory.this'. This method may take a
              * while to execute and we don't want to block other threads. The synchronizations
-             * in the 'create' methods and in the 'findPool' map should be suffisient.
+             * in the object pool and in the 'findPool' map should be suffisient.
              *
              * TODO: avoid to search for the same object twice. For now we consider that this
              *       is not a big deal if the same object is searched twice; it is "just" a
@@ -1104,6 +801,36 @@ public String findIdentifier(final IdentifiedObject object) throws FactoryExcept
         }
     }
 
+    /** A task using the backing store. */
+    @FunctionalInterface
+    interface StoreTask<T> {
+        /** Runs the task with the given backing store. */
+        T run(AbstractAuthorityFactory store) throws FactoryException;
+    }
+
+    /**
+     * Runs a task with the backing store. {@link DeferredAuthorityFactory} overrides this method so that the backing
+     * store can not be disposed while the task is running.
+     */
+    <T> T useBackingStore(final StoreTask<T> task) throws FactoryException {
+        return task.run(getBackingStore());
+    }
+
+    /** Returns the pooled object for the given key, creating it with the backing store if needed. */
+    private <T> T get(final Object key, final Class<T> type, final StoreTask<? extends T> task)
+            throws FactoryException {
+        return pool.get(key, type, () -> useBackingStore(task));
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the cache of created objects, for monitoring purposes.
+     *
+     * @since 34.0
+     */
+    public ReferencingObjectPool.Statistics getCacheStatistics() {
+        return pool.getStatistics();
+    }
+
     /**
      * Releases resources immediately instead of waiting for the garbage collector.
      *
@@ -1116,50 +843,9 @@ public synchronized void dispose() throws FactoryException {
             backingStore = null;
         }
         pool.clear();
-        findPool.clear();
-        super.dispose();
-    }
-
-    /**
-     * Returns an object from the pool for the specified code. If the object was retained as a {@linkplain Reference
-     * weak reference}, the {@link Reference#get referent} is returned.
-     *
-     * @todo Consider logging a message here to the finer or finest level.
-     */
-    private Object get(final Object key) {
-        assert Thread.holdsLock(this);
-        Object object = pool.get(key);
-        if (object instanceof Reference) {
-            object = ((Reference<?>) object).get();
-        }
-        return object;
-    }
-
-    /**
-     * Put an element in the pool. This method is invoked everytime a {@code createFoo(...)} method is invoked, even if
-     * an object was already in the pool for the given code, for the following reasons: 1) Replaces weak reference by
-     * strong reference (if applicable) and 2) Alters the linked hash set order, so that this object is declared as the
-     * last one used.
-     */
-    private void put(final Object key, final Object object) {
-        assert Thread.holdsLock(this);
-        pool.put(key, object);
-        int toReplace = pool.size() - maxStrongReferences;
-        if (toReplace > 0) {
-            for (final Iterator<Map.Entry<Object, Object>> it = pool.entrySet().iterator(); it.hasNext(); ) {
-                final Map.Entry<Object, Object> entry = it.next();
-                final Object value = entry.getValue();
-                if (value instanceof Reference) {
-                    if (((Reference) value).get() == null) {
-                        it.remove();
-                    }
-                    continue;
-                }
-                entry.setValue(new WeakReference<>(value));
-                if (--toReplace == 0) {
-                    break;
-                }
-            }
+        synchronized (findPool) {
+            findPool.clear();
         }
+        super.dispose();
     }
 }
@@ -0,0 +1,213 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import org.geotools.api.parameter.GeneralParameterValue;
+import org.geotools.api.parameter.ParameterValue;
+import org.geotools.api.parameter.ParameterValueGroup;
+import org.geotools.api.referencing.crs.CompoundCRS;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.crs.DerivedCRS;
+import org.geotools.api.referencing.crs.EngineeringCRS;
+import org.geotools.api.referencing.crs.GeneralDerivedCRS;
+import org.geotools.api.referencing.crs.GeocentricCRS;
+import org.geotools.api.referencing.crs.GeographicCRS;
+import org.geotools.api.referencing.crs.ImageCRS;
+import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.api.referencing.crs.SingleCRS;
+import org.geotools.api.referencing.crs.TemporalCRS;
+import org.geotools.api.referencing.crs.VerticalCRS;
+import org.geotools.api.referencing.cs.CoordinateSystem;
+import org.geotools.api.referencing.cs.CoordinateSystemAxis;
+import org.geotools.api.referencing.datum.Datum;
+import org.geotools.api.referencing.datum.Ellipsoid;
+import org.geotools.api.referencing.datum.GeodeticDatum;
+import org.geotools.api.referencing.datum.PrimeMeridian;
+import org.geotools.api.referencing.datum.VerticalDatum;
+import org.geotools.api.referencing.operation.Conversion;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.projection.MapProjection;
+import si.uom.NonSI;
+import si.uom.SI;
+
+/**
+ * Computes a canonical fingerprint of a coordinate reference system, made of the numerical properties compared by
+ * {@link CRS#equalsIgnoreMetadata equalsIgnoreMetadata} and ignoring names, identifiers and axis order. Two CRS equal
+ * ignoring metadata usually share the same fingerprint, the opposite being not true. Fingerprints are hence meant for
+ * narrowing the set of candidates to be compared, not as a replacement of the comparison.
+ *
+ * <p>Numbers are rounded to 10 significant digits, so CRS which are equal only within the comparison tolerance may have
+ * different fingerprints. Callers should fallback on an exhaustive comparison when the candidates do not match.
+ *
+ * @since 34.0
+ * @see CRSFingerprintIndex
+ */
+public final class CRSFingerprint {
+
+    /** The CRS interfaces, most specific first. */
+    private static final List<Class<? extends CoordinateReferenceSystem>> KINDS = List.of(
+            ProjectedCRS.class,
+            DerivedCRS.class,
+            GeographicCRS.class,
+            GeocentricCRS.class,
+            VerticalCRS.class,
+            TemporalCRS.class,
+            ImageCRS.class,
+            EngineeringCRS.class);
+
+    /** Do not allow instantiation of this class. */
+    private CRSFingerprint() {}
+
+    /**
+     * Returns the canonical fingerprint of the given CRS.
+     *
+     * @param crs The coordinate reference system.
+     * @return The fingerprint, as a string.
+     */
+    public static String canonical(final CoordinateReferenceSystem crs) {
+        final StringBuilder buffer = new StringBuilder(128);
+        append(buffer, crs);
+        return buffer.toString();
+    }
+
+    /**
+     * Returns a 64 bits hash of the {@linkplain #canonical canonical fingerprint} of the given CRS.
+     *
+     * @param crs The coordinate reference system.
+     * @return The fingerprint hash.
+     */
+    public static long hash(final CoordinateReferenceSystem crs) {
+        // FNV-1a, stable across JVMs and releases since hashes are persisted
+        final String canonical = canonical(crs);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < canonical.length(); i++) {
+            hash ^= canonical.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static void append(final StringBuilder buffer, final CoordinateReferenceSystem crs) {
+        if (crs instanceof CompoundCRS) {
+            buffer.append("Compound[");
+            for (final CoordinateReferenceSystem component : ((CompoundCRS) crs).getCoordinateReferenceSystems()) {
+                append(buffer, component);
+            }
+        } else {
+            buffer.append(kind(crs)).append('[');
+            if (crs instanceof GeneralDerivedCRS) {
+                final GeneralDerivedCRS derived = (GeneralDerivedCRS) crs;
+                append(buffer, derived.getBaseCRS());
+                appendConversion(buffer, derived);
+            } else if (crs instanceof SingleCRS) {
+                appendDatum(buffer, ((SingleCRS) crs).getDatum());
+            }
+            appendAxes(buffer, crs.getCoordinateSystem());
+        }
+        buffer.append(']');
+    }
+
+    /** Returns the CRS interface name, since implementation classes may vary for the same kind of CRS. */
+    private static String kind(final CoordinateReferenceSystem crs) {
+        for (final Class<? extends CoordinateReferenceSystem> type : KINDS) {
+            if (type.isInstance(crs)) {
+                return type.getSimpleName();
+            }
+        }
+        return crs.getClass().getSimpleName();
+    }
+
+    private static void appendDatum(final StringBuilder buffer, final Datum datum) {
+        if (datum instanceof GeodeticDatum) {
+            final Ellipsoid ellipsoid = ((GeodeticDatum) datum).getEllipsoid();
+            if (ellipsoid != null) {
+                final Unit<Length> unit = ellipsoid.getAxisUnit();
+                buffer.append("a=").append(format(unit.getConverterTo(SI.METRE).convert(ellipsoid.getSemiMajorAxis())));
+                buffer.append(",b=")
+                        .append(format(unit.getConverterTo(SI.METRE).convert(ellipsoid.getSemiMinorAxis())));
+            }
+            final PrimeMeridian pm = ((GeodeticDatum) datum).getPrimeMeridian();
+            if (pm != null) {
+                buffer.append(",pm=")
+                        .append(format(pm.getAngularUnit()
+                                .getConverterTo(NonSI.DEGREE_ANGLE)
+                                .convert(pm.getGreenwichLongitude())));
+            }
+            buffer.append(';');
+        } else if (datum instanceof VerticalDatum) {
+            final Object type = ((VerticalDatum) datum).getVerticalDatumType();
+            buffer.append(type != null ? type.toString() : "").append(';');
+        }
+    }
+
+    private static void appendConversion(final StringBuilder buffer, final GeneralDerivedCRS crs) {
+        final Conversion conversion = crs.getConversionFromBase();
+        final ParameterValueGroup parameters;
+        final MapProjection projection = CRS.getMapProjection(crs);
+        if (projection != null) {
+            // the projection parameters are normalized whatever the way the CRS was defined
+            parameters = projection.getParameterValues();
+        } else if (conversion != null) {
+            parameters = conversion.getParameterValues();
+        } else {
+            return;
+        }
+        buffer.append(parameters.getDescriptor().getName().getCode()).append('(');
+        final List<String> values = new ArrayList<>();
+        for (final GeneralParameterValue value : parameters.values()) {
+            if (value instanceof ParameterValue) {
+                final Object v = ((ParameterValue<?>) value).getValue();
+                if (v instanceof Number) {
+                    values.add(value.getDescriptor().getName().getCode() + '=' + format(((Number) v).doubleValue()));
+                }
+            }
+        }
+        Collections.sort(values);
+        buffer.append(String.join(",", values)).append(");");
+    }
+
+    /** Appends the axes sorted by direction, since the axis order is not part of the fingerprint. */
+    private static void appendAxes(final StringBuilder buffer, final CoordinateSystem cs) {
+        if (cs == null) {
+            return;
+        }
+        final List<String> axes = new ArrayList<>(cs.getDimension());
+        for (int i = 0; i < cs.getDimension(); i++) {
+            final CoordinateSystemAxis axis = cs.getAxis(i);
+            final Unit<?> unit = axis.getUnit();
+            axes.add(axis.getDirection().name() + '/' + (unit != null ? unit.toString() : ""));
+        }
+        Collections.sort(axes);
+        buffer.append(String.join(",", axes));
+    }
+
+    private static String format(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return Double.toString(value);
+        }
+        if (Math.abs(value) < 1E-10) {
+            return "0";
+        }
+        return String.format(Locale.ROOT, "%.9e", value);
+    }
+}
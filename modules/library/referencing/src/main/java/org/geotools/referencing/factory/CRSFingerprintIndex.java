@@ -0,0 +1,221 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.util.logging.Logging;
+
+/**
+ * An index of the {@linkplain CRSFingerprint fingerprints} of the coordinate reference systems defined by an authority,
+ * used to identify a CRS without authority code (e.g., read from a {@code .prj} file) without instantiating every CRS
+ * of the authority.
+ *
+ * <p>The index is built once, by instantiating all the CRS of the authority, and can be saved to a file in order to be
+ * reused across JVM restarts. Since the content depends on the authority database, the index records the version of the
+ * database it has been built from.
+ *
+ * @since 34.0
+ */
+public final class CRSFingerprintIndex {
+
+    static final Logger LOGGER = Logging.getLogger(CRSFingerprintIndex.class);
+
+    /** Magic number at the beginning of index files ("GTFP"). */
+    private static final int MAGIC = 0x47544650;
+
+    /** Version of the file format. */
+    private static final int FORMAT = 1;
+
+    /** The version of the database the index has been built from. */
+    private final String version;
+
+    /** The fingerprint hashes, sorted. */
+    private final long[] hashes;
+
+    /** The authority codes, in the same order than {@link #hashes}. */
+    private final String[] codes;
+
+    private CRSFingerprintIndex(final String version, final long[] hashes, final String[] codes) {
+        this.version = version;
+        this.hashes = hashes;
+        this.codes = codes;
+    }
+
+    /**
+     * Builds an index by instantiating the given CRS codes. Codes which can not be instantiated are skipped.
+     *
+     * @param version The version of the database the codes are read from.
+     * @param factory The factory used to create the CRS.
+     * @param codes The codes to index.
+     * @return The index.
+     */
+    public static CRSFingerprintIndex build(
+            final String version, final CRSAuthorityFactory factory, final Collection<String> codes) {
+        final long start = System.currentTimeMillis();
+        final List<Entry> entries = new ArrayList<>(codes.size());
+        for (final String code : codes) {
+            try {
+                final CoordinateReferenceSystem crs = factory.createCoordinateReferenceSystem(code);
+                entries.add(new Entry(CRSFingerprint.hash(crs), code));
+            } catch (FactoryException | RuntimeException e) {
+                LOGGER.log(Level.FINEST, "Could not index '" + code + "'", e);
+            }
+        }
+        // stable sort, codes with the same fingerprint keep the factory order (e.g., non deprecated first)
+        entries.sort(Comparator.comparingLong(e -> e.hash));
+        final long[] hashes = new long[entries.size()];
+        final String[] sorted = new String[entries.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = entries.get(i).hash;
+            sorted[i] = entries.get(i).code;
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(
+                    "Indexed " + hashes.length + " CRS fingerprints in " + (System.currentTimeMillis() - start) + "ms");
+        }
+        return new CRSFingerprintIndex(version, hashes, sorted);
+    }
+
+    /**
+     * Reads an index from a file.
+     *
+     * @param file The file written by {@link #write}.
+     * @return The index.
+     * @throws IOException if the file can not be read, or is not an index file.
+     */
+    public static CRSFingerprintIndex read(final File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()));
+                DataInputStream data = new DataInputStream(in)) {
+            if (data.readInt() != MAGIC) {
+                throw new IOException("Not a CRS fingerprint index: " + file);
+            }
+            final int format = data.readInt();
+            if (format != FORMAT) {
+                throw new IOException("Unsupported CRS fingerprint index format " + format + ": " + file);
+            }
+            final String version = data.readUTF();
+            final int size = data.readInt();
+            final long[] hashes = new long[size];
+            final String[] codes = new String[size];
+            for (int i = 0; i < size; i++) {
+                hashes[i] = data.readLong();
+                codes[i] = data.readUTF();
+            }
+            return new CRSFingerprintIndex(version, hashes, codes);
+        }
+    }
+
+    /**
+     * Writes this index to a file. The file is replaced atomically, so that concurrent readers never see a partial
+     * index.
+     *
+     * @param file The destination file.
+     * @throws IOException if the file can not be written.
+     */
+    public void write(final File file) throws IOException {
+        final File temp = File.createTempFile(
+                file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp.toPath()));
+                    DataOutputStream data = new DataOutputStream(out)) {
+                data.writeInt(MAGIC);
+                data.writeInt(FORMAT);
+                data.writeUTF(version);
+                data.writeInt(hashes.length);
+                for (int i = 0; i < hashes.length; i++) {
+                    data.writeLong(hashes[i]);
+                    data.writeUTF(codes[i]);
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    /** Returns the version of the database the index has been built from. */
+    public String getVersion() {
+        return version;
+    }
+
+    /** Returns the number of indexed codes. */
+    public int size() {
+        return hashes.length;
+    }
+
+    /**
+     * Returns the codes of the CRS having the same fingerprint than the given one. The candidates still need to be
+     * compared with the given CRS, and CRS equal within the comparison tolerance may be missing.
+     *
+     * @param crs The CRS to identify.
+     * @return The candidate codes, possibly empty.
+     */
+    public Set<String> getCandidates(final CoordinateReferenceSystem crs) {
+        final long hash;
+        try {
+            hash = CRSFingerprint.hash(crs);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.FINEST, "Could not compute the fingerprint of " + crs, e);
+            return Collections.emptySet();
+        }
+        int i = Arrays.binarySearch(hashes, hash);
+        if (i < 0) {
+            return Collections.emptySet();
+        }
+        while (i > 0 && hashes[i - 1] == hash) {
+            i--;
+        }
+        final Set<String> candidates = new LinkedHashSet<>();
+        for (; i < hashes.length && hashes[i] == hash; i++) {
+            candidates.add(codes[i]);
+        }
+        return candidates;
+    }
+
+    private static final class Entry {
+        final long hash;
+
+        final String code;
+
+        Entry(final long hash, final String code) {
+            this.hash = hash;
+            this.code = code;
+        }
+    }
+}
@@ -21,6 +21,9 @@
 
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import org.geotools.api.referencing.FactoryException;
@@ -56,7 +59,14 @@ public abstract class DeferredAuthorityFactory extends BufferedAuthorityFactory
      * {@code true} if the backing store was used since the last time the timer task was run. A value of {@code true}
      * means that the task must wait again. A value of {@code false} means that it can dispose the backing store.
      */
-    private boolean used;
+    private volatile boolean used;
+
+    /**
+     * Guards the backing store against its disposal while in use: the tasks using the backing store hold the read lock,
+     * and the {@link Disposer} the write lock. The read lock is reentrant, so backing stores calling back into this
+     * factory do not block.
+     */
+    private final ReadWriteLock storeLock = new ReentrantReadWriteLock();
 
     /**
      * Constructs an instance without initial backing store. Subclasses are responsible for creating an appropriate
@@ -104,24 +114,42 @@ public boolean isAvailable() {
      */
     @Override
     protected final AbstractAuthorityFactory getBackingStore() throws FactoryException {
-        if (backingStore == null) {
-            // [GEOT-7022]
-            // Concurrent accesses to Authority Factories may result in one factory locking
-            // on "this" whilst the other factory goes through ReferencingFactoryFinder
-            // which may result into trying to lock on "this" too.
-            // So we are locking on ReferencingFactoryFinder to avoid deadlocks.
-            synchronized (ReferencingFactoryFinder.class) {
-                if (backingStore == null) {
-                    backingStore = createBackingStore();
+        final Lock lock = storeLock.readLock();
+        lock.lock();
+        try {
+            if (backingStore == null) {
+                // [GEOT-7022]
+                // Concurrent accesses to Authority Factories may result in one factory locking
+                // on "this" whilst the other factory goes through ReferencingFactoryFinder
+                // which may result into trying to lock on "this" too.
+                // So we are locking on ReferencingFactoryFinder to avoid deadlocks.
+                synchronized (ReferencingFactoryFinder.class) {
                     if (backingStore == null) {
-                        throw new FactoryNotFoundException(ErrorKeys.NO_DATA_SOURCE);
+                        backingStore = createBackingStore();
+                        if (backingStore == null) {
+                            throw new FactoryNotFoundException(ErrorKeys.NO_DATA_SOURCE);
+                        }
+                        completeHints();
                     }
-                    completeHints();
                 }
             }
+            used = true; // Tell to the disposer to wait again.
+            return backingStore;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Runs the task holding the read lock, so that the backing store is not disposed meanwhile. */
+    @Override
+    <T> T useBackingStore(final StoreTask<T> task) throws FactoryException {
+        final Lock lock = storeLock.readLock();
+        lock.lock();
+        try {
+            return super.useBackingStore(task);
+        } finally {
+            lock.unlock();
         }
-        used = true; // Tell to the disposer to wait again.
-        return backingStore;
     }
 
     /**
@@ -219,20 +247,29 @@ private final class Disposer extends TimerTask {
         @Override
         public void run() {
             synchronized (DeferredAuthorityFactory.this) {
-                if (used || !canDisposeBackingStore(backingStore)) {
-                    used = false;
+                // Never blocks: if the backing store is in use, try again at the next run.
+                final Lock lock = storeLock.writeLock();
+                if (!lock.tryLock()) {
                     return;
                 }
-                if (cancel()) {
-                    disposer = null;
-                    if (backingStore != null) {
-                        disposeBackingStore();
+                try {
+                    if (used || !canDisposeBackingStore(backingStore)) {
+                        used = false;
+                        return;
+                    }
+                    if (cancel()) {
+                        disposer = null;
+                        if (backingStore != null) {
+                            disposeBackingStore();
+                        }
+                        // Needed in order to lets GC do its job.
+                        hints.remove(Hints.DATUM_AUTHORITY_FACTORY);
+                        hints.remove(Hints.CS_AUTHORITY_FACTORY);
+                        hints.remove(Hints.CRS_AUTHORITY_FACTORY);
+                        hints.remove(Hints.COORDINATE_OPERATION_AUTHORITY_FACTORY);
                     }
-                    // Needed in order to lets GC do its job.
-                    hints.remove(Hints.DATUM_AUTHORITY_FACTORY);
-                    hints.remove(Hints.CS_AUTHORITY_FACTORY);
-                    hints.remove(Hints.CRS_AUTHORITY_FACTORY);
-                    hints.remove(Hints.COORDINATE_OPERATION_AUTHORITY_FACTORY);
+                } finally {
+                    lock.unlock();
                 }
             }
         }
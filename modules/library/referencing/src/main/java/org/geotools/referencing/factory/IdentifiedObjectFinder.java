@@ -120,7 +120,8 @@ public void setFullScanAllowed(final boolean fullScan) {
      *   <li>If the authority factory can create objects from their {@linkplain IdentifiedObject#getName name} in
      *       addition of identifiers, then the name and {@linkplain IdentifiedObject#getAlias aliases} are used for
      *       creating objects to be tested.
-     *   <li>If {@linkplain #isFullScanAllowed full scan is allowed}, then full {@linkplain #getCodeCandidates set of
+     *   <li>If {@linkplain #isFullScanAllowed full scan is allowed}, then the {@linkplain #getFingerprintCandidates
+     *       objects having the same fingerprint}, if known, and finally the full {@linkplain #getCodeCandidates set of
      *       authority codes} are used for creating objects to be tested.
      * </ul>
      *
@@ -158,7 +159,18 @@ public IdentifiedObject find(final IdentifiedObject object) throws FactoryExcept
         /*
          * Here we exhausted the quick paths. Bail out if the user does not want a full scan.
          */
-        return fullScan ? createFromCodes(object, false) : null;
+        if (!fullScan) {
+            return null;
+        }
+        /*
+         * Before scanning everything, try the objects having the same fingerprint, if the
+         * factory maintains such an index.
+         */
+        candidate = createFromCodes(object, getFingerprintCandidates(object));
+        if (candidate != null) {
+            return candidate;
+        }
+        return createFromCodes(object, false);
     }
 
     /**
@@ -308,6 +320,12 @@ final IdentifiedObject createFromNames(final IdentifiedObject object) throws Fac
     final IdentifiedObject createFromCodes(final IdentifiedObject object, boolean specific) throws FactoryException {
         @SuppressWarnings("unchecked")
         final Set<String> codes = specific ? getSpecificCodeCandidates(object) : getCodeCandidates(object);
+        return createFromCodes(object, codes);
+    }
+
+    /** Creates the objects for the given codes, and returns the first one equal to the specified object. */
+    private IdentifiedObject createFromCodes(final IdentifiedObject object, final Set<String> codes)
+            throws FactoryException {
         for (final String code : codes) {
             IdentifiedObject candidate;
             try {
@@ -333,6 +351,23 @@ protected Set getSpecificCodeCandidates(final IdentifiedObject object) throws Fa
         return Collections.emptySet();
     }
 
+    /**
+     * Returns the codes of the objects having the same {@linkplain CRSFingerprint fingerprint} than the specified one,
+     * tried before a full scan. Unlike {@link #getCodeCandidates}, the returned set is not required to contain every
+     * matching code, since the full scan is still performed when none of the candidates matches.
+     *
+     * <p>The default implementation returns an empty set. Factories maintaining a {@link CRSFingerprintIndex} should
+     * override this method.
+     *
+     * @param object The object looked up.
+     * @return A set of code candidates, possibly empty.
+     * @throws FactoryException if an error occured while fetching the set of code candidates.
+     * @since 34.0
+     */
+    protected Set<String> getFingerprintCandidates(final IdentifiedObject object) throws FactoryException {
+        return Collections.emptySet();
+    }
+
     /**
      * Returns a set of authority codes that <strong>may</strong> identify the same object than the specified one. The
      * returned set must contains the code of every objects that are {@linkplain CRS#equalsIgnoreMetadata equals,
@@ -443,6 +478,11 @@ protected Set getSpecificCodeCandidates(IdentifiedObject object) throws FactoryE
             return finder.getSpecificCodeCandidates(object);
         }
 
+        @Override
+        protected Set<String> getFingerprintCandidates(final IdentifiedObject object) throws FactoryException {
+            return finder.getFingerprintCandidates(object);
+        }
+
         /**
          * Returns {@code candidate}, or an object derived from {@code candidate}, if it is
          * {@linkplain CRS#equalsIgnoreMetadata equals ignoring metadata} to the specified model. The default
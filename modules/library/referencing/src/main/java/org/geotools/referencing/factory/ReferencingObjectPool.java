@@ -0,0 +1,439 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.geotools.api.referencing.FactoryException;
+
+/**
+ * A concurrent pool of referencing objects, used by the buffered factories to cache the objects they create.
+ *
+ * <p>The most recently used objects are retained by strong references, up to the amount specified at construction time.
+ * Older ones are retained by {@linkplain WeakReference weak} (or {@linkplain SoftReference soft}) references only, so
+ * that they are returned as long as they are in use somewhere else in the Java virtual machine, and discarded
+ * otherwise.
+ *
+ * <p>Lookups do not lock. When an object is missing, a single thread creates it while the other threads asking for the
+ * same key wait for its result, threads asking for other keys are not blocked. In order to avoid deadlocks, threads
+ * already creating an object (e.g., a CRS whose creation needs its datum) do not wait for other threads, and create the
+ * nested objects on their own if needed.
+ *
+ * @since 34.0
+ */
+public final class ReferencingObjectPool {
+
+    /**
+     * Creates an object missing from the pool.
+     *
+     * @param <T> The type of the created object.
+     */
+    @FunctionalInterface
+    public interface Creator<T> {
+        /** Creates the object. */
+        T create() throws FactoryException;
+    }
+
+    /** The number of nested creations in progress in the current thread. */
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    /** The pooled objects. */
+    private final ConcurrentHashMap<Object, Entry> pool = new ConcurrentHashMap<>();
+
+    /** The creations in progress, used to let concurrent requests for the same key wait for the same result. */
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    /** The maximum number of objects to keep by strong reference. */
+    private final int maxStrongReferences;
+
+    /** Whether the objects that are not strongly retained are kept by soft references, instead of weak ones. */
+    private final boolean soft;
+
+    /** The number of entries currently retaining their object by strong reference. */
+    private final AtomicInteger strongCount = new AtomicInteger();
+
+    /** Lock used to demote the least recently used strong references, never waited for. */
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    /** The number of creations in progress. */
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder creations = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Creates a pool retaining the least recently used objects by weak references.
+     *
+     * @param maxStrongReferences The maximum number of objects to keep by strong reference.
+     */
+    public ReferencingObjectPool(final int maxStrongReferences) {
+        this(maxStrongReferences, false);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param maxStrongReferences The maximum number of objects to keep by strong reference.
+     * @param soft {@code true} for retaining the least recently used objects by soft references, {@code false} for weak
+     *     references.
+     */
+    public ReferencingObjectPool(final int maxStrongReferences, final boolean soft) {
+        this.maxStrongReferences = Math.max(0, maxStrongReferences);
+        this.soft = soft;
+    }
+
+    /**
+     * Returns the object for the given key, creating it if it is not in the pool or if the pooled object is not of the
+     * requested type.
+     *
+     * @param key The key, typically an authority code.
+     * @param type The requested object type.
+     * @param creator The creator of the object, invoked on cache miss.
+     * @return The pooled or created object.
+     * @throws FactoryException if the object creation failed.
+     */
+    public <T> T get(final Object key, final Class<T> type, final Creator<? extends T> creator)
+            throws FactoryException {
+        Object value = lookup(key);
+        if (type.isInstance(value)) {
+            hits.increment();
+            return type.cast(value);
+        }
+        misses.increment();
+        final int[] depth = DEPTH.get();
+        if (depth[0] != 0) {
+            // nested creation, waiting for other threads could deadlock
+            return create(key, creator, depth);
+        }
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = loading.putIfAbsent(key, future);
+        if (existing != null) {
+            value = await(existing);
+            coalesced.increment();
+            if (type.isInstance(value)) {
+                touch(key, value);
+                return type.cast(value);
+            }
+            // an object of an other type was created for the same key
+            return create(key, creator, depth);
+        }
+        try {
+            // the object may have been created while we were registering the future
+            value = lookup(key);
+            final T result = type.isInstance(value) ? type.cast(value) : create(key, creator, depth);
+            future.complete(result);
+            return result;
+        } catch (FactoryException | RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * Returns the pooled object for the given key, or {@code null} if none. This method does not create objects and
+     * does not update the statistics.
+     */
+    public Object peek(final Object key) {
+        final Entry entry = pool.get(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    /** Adds an object to the pool, replacing the previous one if any. */
+    public void put(final Object key, final Object value) {
+        final Entry entry = new Entry(value, soft);
+        entry.lastAccess = System.nanoTime();
+        entry.strong = value;
+        strongCount.incrementAndGet();
+        final Entry old = pool.put(key, entry);
+        if (old != null) {
+            old.demote(strongCount);
+        }
+        sweep();
+    }
+
+    /** Removes all the pooled objects. The statistics are not reset. */
+    public void clear() {
+        for (final Entry entry : pool.values()) {
+            entry.demote(strongCount);
+        }
+        pool.clear();
+    }
+
+    /** Returns {@code true} if an object creation is in progress. */
+    public boolean isCreating() {
+        return active.get() != 0;
+    }
+
+    /** Returns a snapshot of the pool statistics. */
+    public Statistics getStatistics() {
+        return new Statistics(
+                hits.sum(),
+                misses.sum(),
+                creations.sum(),
+                coalesced.sum(),
+                pool.size(),
+                strongCount.get(),
+                maxStrongReferences);
+    }
+
+    /** Returns the pooled object, refreshing its position in the least recently used order. */
+    private Object lookup(final Object key) {
+        final Entry entry = pool.get(key);
+        if (entry == null) {
+            return null;
+        }
+        final Object value = entry.value();
+        if (value == null) {
+            pool.remove(key, entry);
+            return null;
+        }
+        entry.lastAccess = System.nanoTime();
+        if (entry.promote(value, strongCount)) {
+            sweep();
+        }
+        return value;
+    }
+
+    /** Refreshes the entry of an object that was just created by an other thread. */
+    private void touch(final Object key, final Object value) {
+        final Entry entry = pool.get(key);
+        if (entry != null && entry.value() == value) {
+            entry.lastAccess = System.nanoTime();
+            if (entry.promote(value, strongCount)) {
+                sweep();
+            }
+        }
+    }
+
+    /** Creates an object and adds it to the pool. */
+    private <T> T create(final Object key, final Creator<? extends T> creator, final int[] depth)
+            throws FactoryException {
+        depth[0]++;
+        active.incrementAndGet();
+        try {
+            final T created = creator.create();
+            creations.increment();
+            if (created != null) {
+                put(key, created);
+            }
+            return created;
+        } finally {
+            active.decrementAndGet();
+            depth[0]--;
+        }
+    }
+
+    /** Waits for the creation in progress in an other thread. */
+    private static Object await(final CompletableFuture<Object> future) throws FactoryException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FactoryException("Interrupted while waiting for the object creation", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof FactoryException) {
+                throw (FactoryException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new FactoryException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Replaces the strong references of the least recently used objects by weak ones, when there are more than
+     * {@link #maxStrongReferences}. In order to amortize the cost of the sweep, a quarter of the strong references are
+     * released at once. Entries whose object has been garbage collected are removed at the same time.
+     */
+    private void sweep() {
+        if (strongCount.get() <= maxStrongReferences || !sweepLock.tryLock()) {
+            return;
+        }
+        try {
+            final List<Entry> strong = new ArrayList<>();
+            pool.entrySet().removeIf(e -> {
+                final Entry entry = e.getValue();
+                if (entry.strong != null) {
+                    strong.add(entry);
+                    return false;
+                }
+                return entry.get() == null;
+            });
+            final int target = maxStrongReferences - maxStrongReferences / 4;
+            int toRelease = strong.size() - target;
+            if (toRelease > 0) {
+                strong.sort(Comparator.comparingLong(e -> e.lastAccess));
+                for (int i = 0; i < strong.size() && toRelease > 0; i++) {
+                    if (strong.get(i).demote(strongCount)) {
+                        toRelease--;
+                    }
+                }
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    /** A pooled object, always referenced weakly (or softly), and strongly if recently used. */
+    private static final class Entry {
+
+        private static final AtomicReferenceFieldUpdater<Entry, Object> STRONG =
+                AtomicReferenceFieldUpdater.newUpdater(Entry.class, Object.class, "strong");
+
+        private final Reference<Object> reference;
+
+        volatile Object strong;
+
+        volatile long lastAccess;
+
+        Entry(final Object value, final boolean soft) {
+            reference = soft ? new SoftReference<>(value) : new WeakReference<>(value);
+        }
+
+        Object get() {
+            return reference.get();
+        }
+
+        Object value() {
+            final Object value = strong;
+            return value != null ? value : reference.get();
+        }
+
+        /** Retains the value by strong reference, returns {@code true} if it was not already the case. */
+        boolean promote(final Object value, final AtomicInteger counter) {
+            if (strong == null && STRONG.compareAndSet(this, null, value)) {
+                counter.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        /** Releases the strong reference, returns {@code true} if there was one. */
+        boolean demote(final AtomicInteger counter) {
+            final Object value = strong;
+            if (value != null && STRONG.compareAndSet(this, value, null)) {
+                counter.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /** A snapshot of the pool statistics. */
+    public static final class Statistics {
+
+        private final long hitCount;
+
+        private final long missCount;
+
+        private final long creationCount;
+
+        private final long coalescedCount;
+
+        private final int size;
+
+        private final int strongSize;
+
+        private final int maxStrongReferences;
+
+        Statistics(
+                long hitCount,
+                long missCount,
+                long creationCount,
+                long coalescedCount,
+                int size,
+                int strongSize,
+                int maxStrongReferences) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.creationCount = creationCount;
+            this.coalescedCount = coalescedCount;
+            this.size = size;
+            this.strongSize = strongSize;
+            this.maxStrongReferences = maxStrongReferences;
+        }
+
+        /** The number of requests served from the pool. */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /** The number of requests that did not find a suitable object in the pool. */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /** The number of objects actually created. */
+        public long getCreationCount() {
+            return creationCount;
+        }
+
+        /** The number of requests that waited for an object being created by an other thread. */
+        public long getCoalescedCount() {
+            return coalescedCount;
+        }
+
+        /** The number of entries in the pool, including the ones whose object may have been garbage collected. */
+        public int getSize() {
+            return size;
+        }
+
+        /** The number of objects retained by strong references. */
+        public int getStrongSize() {
+            return strongSize;
+        }
+
+        /** The maximum number of objects retained by strong references. */
+        public int getMaxStrongReferences() {
+            return maxStrongReferences;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics[hits=" + hitCount
+                    + ", misses=" + missCount
+                    + ", creations=" + creationCount
+                    + ", coalesced=" + coalescedCount
+                    + ", size=" + size
+                    + ", strong=" + strongSize + "/" + maxStrongReferences
+                    + "]";
+        }
+    }
+}
@@ -87,12 +87,16 @@
  * they are in use somewhere else in the Java virtual machine, but will be discarted (and recreated on the fly if
  * needed) otherwise.
  *
+ * <p>Cache lookups do not lock, so that threads decoding different codes do not wait for each others. When the same
+ * missing code is requested concurrently, the object is created only once and the other threads wait for it, see
+ * {@link ReferencingObjectPool}.
+ *
  * @since 2.4
  * @version $Id$
  * @author Martin Desruisseaux (IRD)
  */
 public class ThreadedAuthorityFactory extends AbstractAuthorityFactory implements BufferedFactory {
-    /** The default value for {@link #maxStrongReferences}. */
+    /** The default maximum number of objects to keep by strong reference. */
     static final int DEFAULT_MAX = 20;
 
     /**
@@ -107,7 +111,7 @@ public class ThreadedAuthorityFactory extends AbstractAuthorityFactory implement
     AbstractAuthorityFactory backingStore;
 
     /** The cache for referencing objects. */
-    private final OldReferencingObjectCache objectCache;
+    private final ReferencingObjectPool pool;
 
     /** The pool of objects identified by {@link find}. */
     private final Map<IdentifiedObject, IdentifiedObject> findPool = new WeakHashMap<>();
@@ -144,7 +148,7 @@ protected ThreadedAuthorityFactory(AbstractAuthorityFactory factory, final int m
             factory = ((ThreadedAuthorityFactory) factory).backingStore;
         }
         this.backingStore = factory;
-        this.objectCache = new OldReferencingObjectCache(maxStrongReferences);
+        this.pool = new ReferencingObjectPool(maxStrongReferences);
         completeHints();
     }
 
@@ -160,7 +164,7 @@ protected ThreadedAuthorityFactory(AbstractAuthorityFactory factory, final int m
      */
     ThreadedAuthorityFactory(final int priority, final int maxStrongReferences) {
         super(priority);
-        this.objectCache = new OldReferencingObjectCache(maxStrongReferences);
+        this.pool = new ReferencingObjectPool(maxStrongReferences);
         // completeHints() will be invoked by DeferredAuthorityFactory.getBackingStore()
     }
 
@@ -335,520 +339,252 @@ public InternationalString getDescriptionText(final String code) throws FactoryE
 
     /** Returns an arbitrary object from a code. */
     @Override
-    public synchronized IdentifiedObject createObject(final String code) throws FactoryException {
-        final IdentifiedObject object;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof IdentifiedObject) {
-            object = (IdentifiedObject) cached;
-        } else {
-            object = getBackingStore().createObject(code);
-        }
-        objectCache.put(key, object);
-        return object;
+    public IdentifiedObject createObject(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), IdentifiedObject.class, () -> getBackingStore()
+                .createObject(code));
     }
 
     /** Returns an arbitrary datum from a code. */
     @Override
-    public synchronized Datum createDatum(final String code) throws FactoryException {
-        final Datum datum;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof Datum) {
-            datum = (Datum) cached;
-        } else {
-            datum = getBackingStore().createDatum(code);
-        }
-        objectCache.put(key, datum);
-        return datum;
+    public Datum createDatum(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), Datum.class, () -> getBackingStore().createDatum(code));
     }
 
     /** Returns an engineering datum from a code. */
     @Override
-    public synchronized EngineeringDatum createEngineeringDatum(final String code) throws FactoryException {
-        final EngineeringDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof EngineeringDatum) {
-            datum = (EngineeringDatum) cached;
-        } else {
-            datum = getBackingStore().createEngineeringDatum(code);
-        }
-        objectCache.put(key, datum);
-        return datum;
+    public EngineeringDatum createEngineeringDatum(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), EngineeringDatum.class, () -> getBackingStore()
+                .createEngineeringDatum(code));
     }
 
     /** Returns an image datum from a code. */
     @Override
-    public synchronized ImageDatum createImageDatum(final String code) throws FactoryException {
-        final ImageDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof ImageDatum) {
-            datum = (ImageDatum) cached;
-        } else {
-            datum = getBackingStore().createImageDatum(code);
-        }
-        objectCache.put(key, datum);
-        return datum;
+    public ImageDatum createImageDatum(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), ImageDatum.class, () -> getBackingStore().createImageDatum(code));
     }
 
     /** Returns a vertical datum from a code. */
     @Override
-    public synchronized VerticalDatum createVerticalDatum(final String code) throws FactoryException {
-        final VerticalDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof VerticalDatum) {
-            datum = (VerticalDatum) cached;
-        } else {
-            datum = getBackingStore().createVerticalDatum(code);
-        }
-        objectCache.put(key, datum);
-        return datum;
+    public VerticalDatum createVerticalDatum(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), VerticalDatum.class, () -> getBackingStore()
+                .createVerticalDatum(code));
     }
 
     /** Returns a temporal datum from a code. */
     @Override
-    public synchronized TemporalDatum createTemporalDatum(final String code) throws FactoryException {
-        final TemporalDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof TemporalDatum) {
-            datum = (TemporalDatum) cached;
-        } else {
-            datum = getBackingStore().createTemporalDatum(code);
-        }
-        objectCache.put(key, datum);
-        return datum;
+    public TemporalDatum createTemporalDatum(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), TemporalDatum.class, () -> getBackingStore()
+                .createTemporalDatum(code));
     }
 
     /** Returns a geodetic datum from a code. */
     @Override
-    public synchronized GeodeticDatum createGeodeticDatum(final String code) throws FactoryException {
-        final GeodeticDatum datum;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof GeodeticDatum) {
-            datum = (GeodeticDatum) cached;
-        } else {
-            datum = getBackingStore().createGeodeticDatum(code);
-        }
-        objectCache.put(key, datum);
-        return datum;
+    public GeodeticDatum createGeodeticDatum(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), GeodeticDatum.class, () -> getBackingStore()
+                .createGeodeticDatum(code));
     }
 
     /** Returns an ellipsoid from a code. */
     @Override
-    public synchronized Ellipsoid createEllipsoid(final String code) throws FactoryException {
-        final Ellipsoid ellipsoid;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof Ellipsoid) {
-            ellipsoid = (Ellipsoid) cached;
-        } else {
-            ellipsoid = getBackingStore().createEllipsoid(code);
-        }
-        objectCache.put(key, ellipsoid);
-        return ellipsoid;
+    public Ellipsoid createEllipsoid(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), Ellipsoid.class, () -> getBackingStore().createEllipsoid(code));
     }
 
     /** Returns a prime meridian from a code. */
     @Override
-    public synchronized PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
-        final PrimeMeridian meridian;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof PrimeMeridian) {
-            meridian = (PrimeMeridian) cached;
-        } else {
-            meridian = getBackingStore().createPrimeMeridian(code);
-        }
-        objectCache.put(key, meridian);
-        return meridian;
+    public PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), PrimeMeridian.class, () -> getBackingStore()
+                .createPrimeMeridian(code));
     }
 
     /** Returns an extent (usually an area of validity) from a code. */
     @Override
-    public synchronized Extent createExtent(final String code) throws FactoryException {
-        final Extent extent;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof Extent) {
-            extent = (Extent) cached;
-        } else {
-            extent = getBackingStore().createExtent(code);
-        }
-        objectCache.put(key, extent);
-        return extent;
+    public Extent createExtent(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), Extent.class, () -> getBackingStore().createExtent(code));
     }
 
     /** Returns an arbitrary coordinate system from a code. */
     @Override
-    public synchronized CoordinateSystem createCoordinateSystem(final String code) throws FactoryException {
-        final CoordinateSystem cs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof CoordinateSystem) {
-            cs = (CoordinateSystem) cached;
-        } else {
-            cs = getBackingStore().createCoordinateSystem(code);
-        }
-        objectCache.put(key, cs);
-        return cs;
+    public CoordinateSystem createCoordinateSystem(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), CoordinateSystem.class, () -> getBackingStore()
+                .createCoordinateSystem(code));
     }
 
     /** Returns a cartesian coordinate system from a code. */
     @Override
-    public synchronized CartesianCS createCartesianCS(final String code) throws FactoryException {
-        final CartesianCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof CartesianCS) {
-            cs = (CartesianCS) cached;
-        } else {
-            cs = getBackingStore().createCartesianCS(code);
-        }
-        objectCache.put(key, cs);
-        return cs;
+    public CartesianCS createCartesianCS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), CartesianCS.class, () -> getBackingStore().createCartesianCS(code));
     }
 
     /** Returns a polar coordinate system from a code. */
     @Override
-    public synchronized PolarCS createPolarCS(final String code) throws FactoryException {
-        final PolarCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof PolarCS) {
-            cs = (PolarCS) cached;
-        } else {
-            cs = getBackingStore().createPolarCS(code);
-        }
-        objectCache.put(key, cs);
-        return cs;
+    public PolarCS createPolarCS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), PolarCS.class, () -> getBackingStore().createPolarCS(code));
     }
 
     /** Returns a cylindrical coordinate system from a code. */
     @Override
-    public synchronized CylindricalCS createCylindricalCS(final String code) throws FactoryException {
-        final CylindricalCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof CylindricalCS) {
-            cs = (CylindricalCS) cached;
-        } else {
-            cs = getBackingStore().createCylindricalCS(code);
-        }
-        objectCache.put(key, cs);
-        return cs;
+    public CylindricalCS createCylindricalCS(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), CylindricalCS.class, () -> getBackingStore()
+                .createCylindricalCS(code));
     }
 
     /** Returns a spherical coordinate system from a code. */
     @Override
-    public synchronized SphericalCS createSphericalCS(final String code) throws FactoryException {
-        final SphericalCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof SphericalCS) {
-            cs = (SphericalCS) cached;
-        } else {
-            cs = getBackingStore().createSphericalCS(code);
-        }
-        objectCache.put(key, cs);
-        return cs;
+    public SphericalCS createSphericalCS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), SphericalCS.class, () -> getBackingStore().createSphericalCS(code));
     }
 
     /** Returns an ellipsoidal coordinate system from a code. */
     @Override
-    public synchronized EllipsoidalCS createEllipsoidalCS(final String code) throws FactoryException {
-        final EllipsoidalCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof EllipsoidalCS) {
-            cs = (EllipsoidalCS) cached;
-        } else {
-            cs = getBackingStore().createEllipsoidalCS(code);
-        }
-        objectCache.put(key, cs);
-        return cs;
+    public EllipsoidalCS createEllipsoidalCS(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), EllipsoidalCS.class, () -> getBackingStore()
+                .createEllipsoidalCS(code));
     }
 
     /** Returns a vertical coordinate system from a code. */
     @Override
-    public synchronized VerticalCS createVerticalCS(final String code) throws FactoryException {
-        final VerticalCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof VerticalCS) {
-            cs = (VerticalCS) cached;
-        } else {
-            cs = getBackingStore().createVerticalCS(code);
-        }
-        objectCache.put(key, cs);
-        return cs;
+    public VerticalCS createVerticalCS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), VerticalCS.class, () -> getBackingStore().createVerticalCS(code));
     }
 
     /** Returns a temporal coordinate system from a code. */
     @Override
-    public synchronized TimeCS createTimeCS(final String code) throws FactoryException {
-        final TimeCS cs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof TimeCS) {
-            cs = (TimeCS) cached;
-        } else {
-            cs = getBackingStore().createTimeCS(code);
-        }
-        objectCache.put(key, cs);
-        return cs;
+    public TimeCS createTimeCS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), TimeCS.class, () -> getBackingStore().createTimeCS(code));
     }
 
     /** Returns a coordinate system axis from a code. */
     @Override
-    public synchronized CoordinateSystemAxis createCoordinateSystemAxis(final String code) throws FactoryException {
-        final CoordinateSystemAxis axis;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof CoordinateSystemAxis) {
-            axis = (CoordinateSystemAxis) cached;
-        } else {
-            axis = getBackingStore().createCoordinateSystemAxis(code);
-        }
-        objectCache.put(key, axis);
-        return axis;
+    public CoordinateSystemAxis createCoordinateSystemAxis(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), CoordinateSystemAxis.class, () -> getBackingStore()
+                .createCoordinateSystemAxis(code));
     }
 
     /** Returns an unit from a code. */
     @Override
-    public synchronized Unit<?> createUnit(final String code) throws FactoryException {
-        final Unit<?> unit;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof Unit) {
-            unit = (Unit) cached;
-        } else {
-            unit = getBackingStore().createUnit(code);
-        }
-        objectCache.put(key, unit);
-        return unit;
+    public Unit<?> createUnit(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), Unit.class, () -> getBackingStore().createUnit(code));
     }
 
     /** Returns an arbitrary coordinate reference system from a code. */
     @Override
-    public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(final String code)
-            throws FactoryException {
-        final CoordinateReferenceSystem crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof CoordinateReferenceSystem) {
-            crs = (CoordinateReferenceSystem) cached;
-        } else {
-            crs = getBackingStore().createCoordinateReferenceSystem(code);
+    public CoordinateReferenceSystem createCoordinateReferenceSystem(final String code) throws FactoryException {
+        final CoordinateReferenceSystem crs = pool.get(trimAuthority(code), CoordinateReferenceSystem.class, () -> {
+            final CoordinateReferenceSystem created = getBackingStore().createCoordinateReferenceSystem(code);
             if (LOGGER.isLoggable(Level.FINER)) {
-                LOGGER.finer("Created CRS with code:" + code + "\n" + crs);
+                LOGGER.finer("Created CRS with code:" + code + "\n" + created);
             }
-        }
+            return created;
+        });
         LOGGER.fine(() -> "Using CRS[" + crs.getName() + "] for code:" + code);
-        objectCache.put(key, crs);
         return crs;
     }
 
     /** Returns a 3D coordinate reference system from a code. */
     @Override
-    public synchronized CompoundCRS createCompoundCRS(final String code) throws FactoryException {
-        final CompoundCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof CompoundCRS) {
-            crs = (CompoundCRS) cached;
-        } else {
-            crs = getBackingStore().createCompoundCRS(code);
-        }
-        objectCache.put(key, crs);
-        return crs;
+    public CompoundCRS createCompoundCRS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), CompoundCRS.class, () -> getBackingStore().createCompoundCRS(code));
     }
 
     /** Returns a derived coordinate reference system from a code. */
     @Override
-    public synchronized DerivedCRS createDerivedCRS(final String code) throws FactoryException {
-        final DerivedCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof DerivedCRS) {
-            crs = (DerivedCRS) cached;
-        } else {
-            crs = getBackingStore().createDerivedCRS(code);
-        }
-        objectCache.put(key, crs);
-        return crs;
+    public DerivedCRS createDerivedCRS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), DerivedCRS.class, () -> getBackingStore().createDerivedCRS(code));
     }
 
     /** Returns an engineering coordinate reference system from a code. */
     @Override
-    public synchronized EngineeringCRS createEngineeringCRS(final String code) throws FactoryException {
-        final EngineeringCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof EngineeringCRS) {
-            crs = (EngineeringCRS) cached;
-        } else {
-            crs = getBackingStore().createEngineeringCRS(code);
-        }
-        objectCache.put(key, crs);
-        return crs;
+    public EngineeringCRS createEngineeringCRS(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), EngineeringCRS.class, () -> getBackingStore()
+                .createEngineeringCRS(code));
     }
 
     /** Returns a geographic coordinate reference system from a code. */
     @Override
-    public synchronized GeographicCRS createGeographicCRS(final String code) throws FactoryException {
-        final GeographicCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof GeographicCRS) {
-            crs = (GeographicCRS) cached;
-        } else {
-            crs = getBackingStore().createGeographicCRS(code);
-        }
-        objectCache.put(key, crs);
-        return crs;
+    public GeographicCRS createGeographicCRS(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), GeographicCRS.class, () -> getBackingStore()
+                .createGeographicCRS(code));
     }
 
     /** Returns a geocentric coordinate reference system from a code. */
     @Override
-    public synchronized GeocentricCRS createGeocentricCRS(final String code) throws FactoryException {
-        final GeocentricCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof GeocentricCRS) {
-            crs = (GeocentricCRS) cached;
-        } else {
-            crs = getBackingStore().createGeocentricCRS(code);
-        }
-        objectCache.put(key, crs);
-        return crs;
+    public GeocentricCRS createGeocentricCRS(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), GeocentricCRS.class, () -> getBackingStore()
+                .createGeocentricCRS(code));
     }
 
     /** Returns an image coordinate reference system from a code. */
     @Override
-    public synchronized ImageCRS createImageCRS(final String code) throws FactoryException {
-        final ImageCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof ImageCRS) {
-            crs = (ImageCRS) cached;
-        } else {
-            crs = getBackingStore().createImageCRS(code);
-        }
-        objectCache.put(key, crs);
-        return crs;
+    public ImageCRS createImageCRS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), ImageCRS.class, () -> getBackingStore().createImageCRS(code));
     }
 
     /** Returns a projected coordinate reference system from a code. */
     @Override
-    public synchronized ProjectedCRS createProjectedCRS(final String code) throws FactoryException {
-        final ProjectedCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof ProjectedCRS) {
-            crs = (ProjectedCRS) cached;
-        } else {
-            crs = getBackingStore().createProjectedCRS(code);
-        }
-        objectCache.put(key, crs);
-        return crs;
+    public ProjectedCRS createProjectedCRS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), ProjectedCRS.class, () -> getBackingStore().createProjectedCRS(code));
     }
 
     /** Returns a temporal coordinate reference system from a code. */
     @Override
-    public synchronized TemporalCRS createTemporalCRS(final String code) throws FactoryException {
-        final TemporalCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof TemporalCRS) {
-            crs = (TemporalCRS) cached;
-        } else {
-            crs = getBackingStore().createTemporalCRS(code);
-        }
-        objectCache.put(key, crs);
-        return crs;
+    public TemporalCRS createTemporalCRS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), TemporalCRS.class, () -> getBackingStore().createTemporalCRS(code));
     }
 
     /** Returns a vertical coordinate reference system from a code. */
     @Override
-    public synchronized VerticalCRS createVerticalCRS(final String code) throws FactoryException {
-        final VerticalCRS crs;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof VerticalCRS) {
-            crs = (VerticalCRS) cached;
-        } else {
-            crs = getBackingStore().createVerticalCRS(code);
-        }
-        objectCache.put(key, crs);
-        return crs;
+    public VerticalCRS createVerticalCRS(final String code) throws FactoryException {
+        return pool.get(
+                trimAuthority(code), VerticalCRS.class, () -> getBackingStore().createVerticalCRS(code));
     }
 
     /** Returns a parameter descriptor from a code. */
     @Override
-    public synchronized ParameterDescriptor createParameterDescriptor(final String code) throws FactoryException {
-        final ParameterDescriptor parameter;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof ParameterDescriptor) {
-            parameter = (ParameterDescriptor) cached;
-        } else {
-            parameter = getBackingStore().createParameterDescriptor(code);
-        }
-        objectCache.put(key, parameter);
-        return parameter;
+    public ParameterDescriptor createParameterDescriptor(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), ParameterDescriptor.class, () -> getBackingStore()
+                .createParameterDescriptor(code));
     }
 
     /** Returns an operation method from a code. */
     @Override
-    public synchronized OperationMethod createOperationMethod(final String code) throws FactoryException {
-        final OperationMethod method;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof OperationMethod) {
-            method = (OperationMethod) cached;
-        } else {
-            method = getBackingStore().createOperationMethod(code);
-        }
-        objectCache.put(key, method);
-        return method;
+    public OperationMethod createOperationMethod(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), OperationMethod.class, () -> getBackingStore()
+                .createOperationMethod(code));
     }
 
     /** Returns an operation from a single operation code. */
     @Override
-    public synchronized CoordinateOperation createCoordinateOperation(final String code) throws FactoryException {
-        final CoordinateOperation operation;
-        final String key = trimAuthority(code);
-        final Object cached = objectCache.get(key);
-        if (cached instanceof CoordinateOperation) {
-            operation = (CoordinateOperation) cached;
-        } else {
-            operation = getBackingStore().createCoordinateOperation(code);
-        }
-        objectCache.put(key, operation);
-        return operation;
+    public CoordinateOperation createCoordinateOperation(final String code) throws FactoryException {
+        return pool.get(trimAuthority(code), CoordinateOperation.class, () -> getBackingStore()
+                .createCoordinateOperation(code));
     }
 
     /** Returns an operation from coordinate reference system codes. */
-    @SuppressWarnings("unchecked")
     @Override
-    public synchronized Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
+    @SuppressWarnings("unchecked")
+    public Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
             final String sourceCode, final String targetCode) throws FactoryException {
-        final Set<CoordinateOperation> operations;
         final CodePair key = new CodePair(trimAuthority(sourceCode), trimAuthority(targetCode));
-        final Object cached = objectCache.get(key);
-        if (cached instanceof CoordinateOperation) {
-            operations = (Set<CoordinateOperation>) cached;
-        } else {
-            operations = Collections.unmodifiableSet(
-                    getBackingStore().createFromCoordinateReferenceSystemCodes(sourceCode, targetCode));
-        }
-        objectCache.put(key, operations);
-        return operations;
+        return pool.get(
+                key,
+                Set.class,
+                () -> Collections.unmodifiableSet(
+                        getBackingStore().createFromCoordinateReferenceSystemCodes(sourceCode, targetCode)));
     }
 
     /** A pair of codes for operations to cache with {@link #createFromCoordinateReferenceSystemCodes}. */
@@ -888,7 +624,7 @@ public String toString() {
      * lookup to the underlying backing store and caches the result.
      */
     @Override
-    public synchronized IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
+    public IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
             throws FactoryException {
         return new Finder(getBackingStore().getIdentifiedObjectFinder(type));
     }
@@ -916,7 +652,7 @@ public IdentifiedObject find(final IdentifiedObject object) throws FactoryExcept
             /*
              * Do not synchronize on 'BufferedAuthorityFactory.this'. This method may take a
              * while to execute and we don't want to block other threads. The synchronizations
-             * in the 'create' methods and in the 'findPool' map should be suffisient.
+             * in the object pool and in the 'findPool' map should be suffisient.
              *
              * TODO: avoid to search for the same object twice. For now we consider that this
              *       is not a big deal if the same object is searched twice; it is "just" a
@@ -955,6 +691,15 @@ public String findIdentifier(final IdentifiedObject object) throws FactoryExcept
         }
     }
 
+    /**
+     * Returns a snapshot of the statistics of the cache of created objects, for monitoring purposes.
+     *
+     * @since 34.0
+     */
+    public ReferencingObjectPool.Statistics getCacheStatistics() {
+        return pool.getStatistics();
+    }
+
     /** Releases resources immediately instead of waiting for the garbage collector. */
     @Override
     public synchronized void dispose() throws FactoryException {
@@ -962,7 +707,10 @@ public synchronized void dispose() throws FactoryException {
             backingStore.dispose();
             backingStore = null;
         }
-        objectCache.clear();
+        pool.clear();
+        synchronized (findPool) {
+            findPool.clear();
+        }
         super.dispose();
     }
 }
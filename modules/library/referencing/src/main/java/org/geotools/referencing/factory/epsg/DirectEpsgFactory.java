@@ -18,6 +18,7 @@
 
 import java.awt.RenderingHints;
 import java.io.File;
+import java.io.IOException;
 import java.lang.ref.Reference;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
@@ -127,6 +128,7 @@
 import org.geotools.referencing.datum.DefaultGeodeticDatum;
 import org.geotools.referencing.factory.AbstractAuthorityFactory;
 import org.geotools.referencing.factory.BufferedAuthorityFactory;
+import org.geotools.referencing.factory.CRSFingerprintIndex;
 import org.geotools.referencing.factory.DirectAuthorityFactory;
 import org.geotools.referencing.factory.IdentifiedObjectFinder;
 import org.geotools.referencing.factory.OrderedAxisAuthorityFactory;
@@ -516,6 +518,20 @@ private static void setBursaWolfParameter(
     /** A factory used in fast lookups to avoid discarding right away flipped axis variants */
     private OrderedAxisAuthorityFactory lonLatFactory;
 
+    /**
+     * The key for fetching the directory of the CRS fingerprint indexes from {@linkplain System#getProperty(String)
+     * system properties}. If not set, the indexes are saved in the temporary directory.
+     *
+     * @since 34.0
+     */
+    public static final String FINGERPRINT_DIRECTORY_KEY = "org.geotools.referencing.epsg.fingerprintDirectory";
+
+    /**
+     * The CRS fingerprint indexes by EPSG database version, shared by all the factories connected to the same database
+     * version, and surviving the disposal of the factories by {@link ThreadedEpsgFactory}.
+     */
+    private static final Map<String, CRSFingerprintIndex> FINGERPRINTS = new HashMap<>();
+
     /**
      * Constructs an authority factory using the specified connection.
      *
@@ -3095,6 +3111,76 @@ public IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends Id
         return new Finder(buffered, type);
     }
 
+    /**
+     * Returns the index of the CRS fingerprints of this database, used to speedup full scans. The index is read from
+     * the {@value #FINGERPRINT_DIRECTORY_KEY} directory if it has already been built for the same database version, or
+     * built and saved there otherwise. Building the index requires the instantiation of all the CRS of the database, so
+     * it is done only on the first full scan.
+     *
+     * @return The index, or {@code null} if the database version is unknown.
+     * @throws FactoryException if the authority codes can not be fetched.
+     */
+    final CRSFingerprintIndex getFingerprintIndex() throws FactoryException {
+        final InternationalString edition = getAuthority().getEdition();
+        if (edition == null) {
+            // the index could not be invalidated on database updates
+            return null;
+        }
+        final String version = edition.toString();
+        synchronized (FINGERPRINTS) {
+            CRSFingerprintIndex index = FINGERPRINTS.get(version);
+            if (index == null) {
+                final File file = getFingerprintFile(version);
+                if (file != null && file.isFile()) {
+                    try {
+                        index = CRSFingerprintIndex.read(file);
+                        if (!version.equals(index.getVersion())) {
+                            index = null;
+                        }
+                    } catch (IOException e) {
+                        LOGGER.log(Level.FINE, "Could not read the CRS fingerprint index " + file, e);
+                    }
+                }
+                if (index == null) {
+                    LOGGER.fine("Building the CRS fingerprint index of EPSG database " + version);
+                    final CRSAuthorityFactory factory =
+                            (buffered instanceof CRSAuthorityFactory) ? (CRSAuthorityFactory) buffered : this;
+                    index = CRSFingerprintIndex.build(
+                            version, factory, getAuthorityCodes(CoordinateReferenceSystem.class));
+                    if (file != null) {
+                        try {
+                            index.write(file);
+                        } catch (IOException e) {
+                            LOGGER.log(Level.FINE, "Could not save the CRS fingerprint index " + file, e);
+                        }
+                    }
+                }
+                FINGERPRINTS.put(version, index);
+            }
+            return index;
+        }
+    }
+
+    /** Returns the file of the fingerprint index for the given database version, or {@code null} if none. */
+    private static File getFingerprintFile(final String version) {
+        File directory = null;
+        try {
+            final String property = System.getProperty(FINGERPRINT_DIRECTORY_KEY);
+            if (property != null) {
+                directory = new File(property);
+            }
+        } catch (SecurityException e) {
+            // fallback on the temporary directory
+        }
+        if (directory == null) {
+            directory = new File(System.getProperty("java.io.tmpdir", "."), "GeoTools/Databases/Fingerprints");
+        }
+        if (directory.isDirectory() || directory.mkdirs()) {
+            return new File(directory, "EPSG-" + version.replaceAll("[^\\w.-]", "_") + ".idx");
+        }
+        return null;
+    }
+
     /**
      * An implementation of {@link IdentifiedObjectFinder} which scans over a smaller set of authority codes.
      *
@@ -3194,6 +3280,18 @@ protected Set getSpecificCodeCandidates(final IdentifiedObject object) throws Fa
             return result;
         }
 
+        /** Returns the codes of the CRS having the same fingerprint than the specified object. */
+        @Override
+        protected Set<String> getFingerprintCandidates(final IdentifiedObject object) throws FactoryException {
+            if (object instanceof CoordinateReferenceSystem) {
+                final CRSFingerprintIndex index = getFingerprintIndex();
+                if (index != null) {
+                    return index.getCandidates((CoordinateReferenceSystem) object);
+                }
+            }
+            return Collections.emptySet();
+        }
+
         private Identifier identifySubObject(AbstractAuthorityFactory factory, IdentifiedObject dependency)
                 throws FactoryException {
             IdentifiedObjectFinder identifiedObjectFinder = factory.getIdentifiedObjectFinder(dependency.getClass());
@@ -0,0 +1,369 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.gridshift;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.metadata.i18n.ErrorKeys;
+import org.geotools.util.URLs;
+
+/**
+ * A NTv2 grid shift file read from a memory mapped buffer. Only the headers are parsed when the grid is opened, the
+ * shift values of the nodes are read from the buffer when needed, so that a grid uses little heap whatever its size.
+ * Grids read from a URL which is not a file (e.g., a grid packaged in a jar) are read in a heap buffer instead.
+ *
+ * <p>Sub grids are searched through a coarse bucket index over the top level grids, then descending in the nested
+ * (denser) sub grids, the densest sub grid containing a point being used for the interpolation. The shifts are
+ * bilinearly interpolated, as done by the reference NTv2 implementations.
+ *
+ * <p>Instances are immutable and thread safe.
+ *
+ * @since 34.0
+ */
+public final class NTv2Grid {
+
+    /** Length of a header record (8 bytes of key, 8 bytes of value). */
+    private static final int RECORD = 16;
+
+    /** Length of a node record (latitude shift, longitude shift, latitude and longitude accuracies). */
+    private static final int NODE = 16;
+
+    /** Maximum number of index buckets on each axis. */
+    private static final int BUCKETS = 32;
+
+    /** Number of iterations for the reverse shift. */
+    private static final int REVERSE_ITERATIONS = 4;
+
+    /** The grid content. */
+    private final ByteBuffer buffer;
+
+    /** All the sub grids, in file order. */
+    private final SubGrid[] subGrids;
+
+    /** The top level sub grids. */
+    private final SubGrid[] topLevel;
+
+    /** Extent of the top level sub grids, in seconds (longitude positive west). */
+    private double minLon = Double.POSITIVE_INFINITY,
+            maxLon = Double.NEGATIVE_INFINITY,
+            minLat = Double.POSITIVE_INFINITY,
+            maxLat = Double.NEGATIVE_INFINITY;
+
+    /** Size of the buckets, in seconds. */
+    private final double bucketWidth, bucketHeight;
+
+    /** The top level sub grids intersecting each bucket, row by row. */
+    private final SubGrid[][] buckets;
+
+    private final int bucketColumns, bucketRows;
+
+    private NTv2Grid(final ByteBuffer buffer, final String source) throws IOException {
+        if (buffer.capacity() < 11 * RECORD) {
+            throw new IOException("Not a NTv2 grid: " + source);
+        }
+        if (buffer.order(ByteOrder.BIG_ENDIAN).getInt(8) != 11) {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(8) != 11) {
+                throw new IOException("Not a NTv2 grid: " + source);
+            }
+        }
+        this.buffer = buffer;
+        final int overviewRecords = buffer.getInt(8);
+        final int subGridRecords = buffer.getInt(RECORD + 8);
+        final int count = buffer.getInt(2 * RECORD + 8);
+        if (count <= 0 || subGridRecords < 11) {
+            throw new IOException("Invalid NTv2 grid header: " + source);
+        }
+        subGrids = new SubGrid[count];
+        final List<SubGrid> roots = new ArrayList<>();
+        long offset = (long) overviewRecords * RECORD;
+        for (int i = 0; i < count; i++) {
+            if (offset + (long) subGridRecords * RECORD > buffer.capacity()) {
+                throw new IOException("Truncated NTv2 grid: " + source);
+            }
+            final SubGrid grid = new SubGrid(buffer, (int) offset, subGridRecords);
+            if (grid.dataOffset + (long) grid.columns * grid.rows * NODE > buffer.capacity()) {
+                throw new IOException("Truncated NTv2 grid: " + source);
+            }
+            subGrids[i] = grid;
+            offset = grid.dataOffset + (long) grid.columns * grid.rows * NODE;
+        }
+        // link the hierarchy
+        for (final SubGrid grid : subGrids) {
+            SubGrid parent = null;
+            if (!grid.parent.equalsIgnoreCase("NONE")) {
+                for (final SubGrid candidate : subGrids) {
+                    if (candidate != grid && candidate.name.equals(grid.parent)) {
+                        parent = candidate;
+                        break;
+                    }
+                }
+            }
+            if (parent != null) {
+                parent.children.add(grid);
+            } else {
+                roots.add(grid);
+                minLon = Math.min(minLon, grid.minLon);
+                maxLon = Math.max(maxLon, grid.maxLon);
+                minLat = Math.min(minLat, grid.minLat);
+                maxLat = Math.max(maxLat, grid.maxLat);
+            }
+        }
+        topLevel = roots.toArray(new SubGrid[roots.size()]);
+
+        // index the top level grids
+        bucketColumns = topLevel.length > 1 ? BUCKETS : 1;
+        bucketRows = bucketColumns;
+        bucketWidth = Math.max((maxLon - minLon) / bucketColumns, Double.MIN_VALUE);
+        bucketHeight = Math.max((maxLat - minLat) / bucketRows, Double.MIN_VALUE);
+        buckets = new SubGrid[bucketColumns * bucketRows][];
+        for (int row = 0; row < bucketRows; row++) {
+            for (int col = 0; col < bucketColumns; col++) {
+                final double x0 = minLon + col * bucketWidth;
+                final double y0 = minLat + row * bucketHeight;
+                final List<SubGrid> intersecting = new ArrayList<>();
+                for (final SubGrid grid : topLevel) {
+                    if (grid.minLon <= x0 + bucketWidth
+                            && grid.maxLon >= x0
+                            && grid.minLat <= y0 + bucketHeight
+                            && grid.maxLat >= y0) {
+                        intersecting.add(grid);
+                    }
+                }
+                buckets[row * bucketColumns + col] = intersecting.toArray(new SubGrid[intersecting.size()]);
+            }
+        }
+    }
+
+    /**
+     * Opens a NTv2 grid. Files are memory mapped, other resources are read in memory.
+     *
+     * @param location The grid location.
+     * @return The grid.
+     * @throws IOException if the grid can not be read, or is not a valid NTv2 grid.
+     */
+    public static NTv2Grid open(final URL location) throws IOException {
+        final ByteBuffer buffer;
+        if ("file".equals(location.getProtocol())) {
+            final File file = URLs.urlToFile(location);
+            if (!file.exists() || !file.canRead()) {
+                throw new IOException(MessageFormat.format(ErrorKeys.FILE_DOES_NOT_EXIST_$1, file));
+            }
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("NTv2 grid too large: " + file);
+                }
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        } else {
+            try (InputStream in = location.openStream()) {
+                buffer = ByteBuffer.wrap(in.readAllBytes());
+            }
+        }
+        return new NTv2Grid(buffer, location.toExternalForm());
+    }
+
+    /** Returns the number of sub grids. */
+    public int getSubGridCount() {
+        return subGrids.length;
+    }
+
+    /**
+     * Shifts a list of (<var>longitude</var>,<var>latitude</var>) points, in decimal degrees. Points not covered by the
+     * grid are copied unchanged.
+     *
+     * @param srcPts The source points.
+     * @param srcOff The index of the first point in the source array.
+     * @param dstPts The destination points, may be the same array as the source.
+     * @param dstOff The index of the first point in the destination array.
+     * @param numPts The number of points to shift.
+     * @param forward {@code true} for the forward shift, {@code false} for the reverse one.
+     * @return The number of points not covered by the grid.
+     */
+    public int shift(
+            final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts, final boolean forward) {
+        int step = 2;
+        if (srcPts == dstPts && srcOff < dstOff && srcOff + 2 * numPts > dstOff) {
+            srcOff += 2 * (numPts - 1);
+            dstOff += 2 * (numPts - 1);
+            step = -2;
+        }
+        final double[] shift = new double[2];
+        SubGrid last = null;
+        int uncovered = 0;
+        for (; --numPts >= 0; srcOff += step, dstOff += step) {
+            // NTv2 works in seconds, with longitudes positive west
+            final double lon = -srcPts[srcOff] * 3600;
+            final double lat = srcPts[srcOff + 1] * 3600;
+            double shiftedLon = lon;
+            double shiftedLat = lat;
+            boolean covered = true;
+            if (forward) {
+                last = find(lon, lat, last);
+                if (last == null) {
+                    covered = false;
+                } else {
+                    last.interpolate(buffer, lon, lat, shift);
+                    shiftedLat = lat + shift[0];
+                    shiftedLon = lon + shift[1];
+                }
+            } else {
+                for (int i = 0; i < REVERSE_ITERATIONS; i++) {
+                    last = find(shiftedLon, shiftedLat, last);
+                    if (last == null) {
+                        covered = false;
+                        break;
+                    }
+                    last.interpolate(buffer, shiftedLon, shiftedLat, shift);
+                    shiftedLat = lat - shift[0];
+                    shiftedLon = lon - shift[1];
+                }
+            }
+            if (covered) {
+                dstPts[dstOff] = -shiftedLon / 3600;
+                dstPts[dstOff + 1] = shiftedLat / 3600;
+            } else {
+                uncovered++;
+                final double x = srcPts[srcOff];
+                final double y = srcPts[srcOff + 1];
+                dstPts[dstOff] = x;
+                dstPts[dstOff + 1] = y;
+            }
+        }
+        return uncovered;
+    }
+
+    /**
+     * Finds the densest sub grid containing the given point.
+     *
+     * @param hint The sub grid found for the previous point, or {@code null}.
+     */
+    private SubGrid find(final double lon, final double lat, final SubGrid hint) {
+        // consecutive points usually fall in the same leaf grid
+        if (hint != null && hint.children.isEmpty() && hint.contains(lon, lat)) {
+            return hint;
+        }
+        if (!(lon >= minLon && lon <= maxLon && lat >= minLat && lat <= maxLat)) {
+            return null;
+        }
+        final int col = Math.min((int) ((lon - minLon) / bucketWidth), bucketColumns - 1);
+        final int row = Math.min((int) ((lat - minLat) / bucketHeight), bucketRows - 1);
+        for (final SubGrid grid : buckets[row * bucketColumns + col]) {
+            if (grid.contains(lon, lat)) {
+                return grid.densest(lon, lat);
+            }
+        }
+        return null;
+    }
+
+    /** A sub grid, whose nodes are read from the buffer when needed. */
+    private static final class SubGrid {
+        final String name, parent;
+
+        /** Extent and resolution in seconds, longitude positive west. */
+        final double minLat, maxLat, minLon, maxLon, latInc, lonInc;
+
+        final int columns, rows;
+
+        /** Offset of the first node in the buffer. */
+        final int dataOffset;
+
+        final List<SubGrid> children = new ArrayList<>();
+
+        SubGrid(final ByteBuffer buffer, final int offset, final int records) throws IOException {
+            name = string(buffer, offset + 8);
+            parent = string(buffer, offset + RECORD + 8);
+            minLat = buffer.getDouble(offset + 4 * RECORD + 8);
+            maxLat = buffer.getDouble(offset + 5 * RECORD + 8);
+            minLon = buffer.getDouble(offset + 6 * RECORD + 8);
+            maxLon = buffer.getDouble(offset + 7 * RECORD + 8);
+            latInc = buffer.getDouble(offset + 8 * RECORD + 8);
+            lonInc = buffer.getDouble(offset + 9 * RECORD + 8);
+            final int count = buffer.getInt(offset + 10 * RECORD + 8);
+            if (!(latInc > 0 && lonInc > 0 && maxLat >= minLat && maxLon >= minLon)) {
+                throw new IOException("Invalid NTv2 sub grid " + name);
+            }
+            rows = (int) Math.round((maxLat - minLat) / latInc) + 1;
+            columns = (int) Math.round((maxLon - minLon) / lonInc) + 1;
+            if ((long) rows * columns != count) {
+                throw new IOException("Invalid node count in NTv2 sub grid " + name);
+            }
+            dataOffset = offset + records * RECORD;
+        }
+
+        private static String string(final ByteBuffer buffer, final int offset) {
+            final byte[] bytes = new byte[8];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(offset + i);
+            }
+            return new String(bytes, StandardCharsets.US_ASCII).trim();
+        }
+
+        boolean contains(final double lon, final double lat) {
+            return lon >= minLon && lon <= maxLon && lat >= minLat && lat <= maxLat;
+        }
+
+        /** Returns the densest grid containing the point, this one or one of its descendants. */
+        SubGrid densest(final double lon, final double lat) {
+            for (final SubGrid child : children) {
+                if (child.contains(lon, lat)) {
+                    return child.densest(lon, lat);
+                }
+            }
+            return this;
+        }
+
+        /** Bilinearly interpolates the latitude and longitude shifts, in seconds. */
+        void interpolate(final ByteBuffer buffer, final double lon, final double lat, final double[] shift) {
+            int col = (int) ((lon - minLon) / lonInc);
+            int row = (int) ((lat - minLat) / latInc);
+            // points on the north or west edge use the last cell
+            col = Math.max(0, Math.min(col, columns - 2));
+            row = Math.max(0, Math.min(row, rows - 2));
+            final double x = (lon - (minLon + lonInc * col)) / lonInc;
+            final double y = (lat - (minLat + latInc * row)) / latInc;
+            final int a = dataOffset + (col + row * columns) * NODE;
+            final int b = columns > 1 ? a + NODE : a;
+            final int c = rows > 1 ? a + columns * NODE : a;
+            final int d = columns > 1 ? c + NODE : c;
+            shift[0] =
+                    interpolate(buffer.getFloat(a), buffer.getFloat(b), buffer.getFloat(c), buffer.getFloat(d), x, y);
+            shift[1] = interpolate(
+                    buffer.getFloat(a + 4),
+                    buffer.getFloat(b + 4),
+                    buffer.getFloat(c + 4),
+                    buffer.getFloat(d + 4),
+                    x,
+                    y);
+        }
+
+        private static double interpolate(
+                final double a, final double b, final double c, final double d, final double x, final double y) {
+            return a + (b - a) * x + (c - a) * y + (a + d - b - c) * x * y;
+        }
+    }
+}
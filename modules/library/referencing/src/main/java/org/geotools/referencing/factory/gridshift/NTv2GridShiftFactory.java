@@ -52,6 +52,10 @@ public class NTv2GridShiftFactory extends ReferencingFactory implements Buffered
     /** The soft cache that holds loaded grids. */
     private SoftValueHashMap<String, GridShiftFile> ntv2GridCache;
 
+    /** The soft cache that holds memory mapped grids. */
+    private final SoftValueHashMap<String, NTv2Grid> mappedGridCache =
+            new SoftValueHashMap<>(GRID_CACHE_HARD_REFERENCES);
+
     /** Constructs a factory with the default priority. */
     public NTv2GridShiftFactory() {
         super();
@@ -112,6 +116,34 @@ public GridShiftFile createNTv2Grid(URL gridLocation) throws FactoryException {
         }
     }
 
+    /**
+     * Creates a memory mapped NTv2 grid. Contrarily to {@link #createNTv2Grid(URL)}, the grid nodes are not loaded in
+     * the heap, and the returned grid can shift many points at once.
+     *
+     * @param gridLocation The NTv2 grid file location
+     * @return the grid
+     * @throws FactoryException if grid cannot be created
+     * @since 34.0
+     */
+    public NTv2Grid createMappedNTv2Grid(URL gridLocation) throws FactoryException {
+        if (gridLocation == null) {
+            throw new FactoryException("The grid location must be not null");
+        }
+
+        synchronized (mappedGridCache) { // Prevent simultaneous threads trying to map same grid
+            NTv2Grid grid = mappedGridCache.get(gridLocation.toExternalForm());
+            if (grid == null) {
+                try {
+                    grid = NTv2Grid.open(gridLocation);
+                } catch (IOException e) {
+                    throw new FactoryException("NTv2 Grid " + gridLocation + " could not be created.", e);
+                }
+                mappedGridCache.put(gridLocation.toExternalForm(), grid);
+            }
+            return grid;
+        }
+    }
+
     /**
      * Checks if a given resource is a valid NTv2 file without fully loading it.
      *
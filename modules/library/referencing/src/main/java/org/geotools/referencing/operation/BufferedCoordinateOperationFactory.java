@@ -16,7 +16,6 @@
  */
 package org.geotools.referencing.operation;
 
-import java.util.Map;
 import java.util.Set;
 import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
@@ -25,7 +24,7 @@
 import org.geotools.api.referencing.operation.OperationMethod;
 import org.geotools.api.referencing.operation.OperationNotFoundException;
 import org.geotools.referencing.ReferencingFactoryFinder;
-import org.geotools.util.SoftValueHashMap;
+import org.geotools.referencing.factory.ReferencingObjectPool;
 import org.geotools.util.Utilities;
 import org.geotools.util.factory.BufferedFactory;
 import org.geotools.util.factory.Hints;
@@ -93,6 +92,9 @@ public boolean equals(final Object object) {
         }
     }
 
+    /** The number of operations kept by strong references, older ones are softly referenced. */
+    private static final int MAX_STRONG_REFERENCES = 20;
+
     /**
      * The wrapped factory. If {@code null}, will be fetched when first needed. We should not initialize this field
      * using {@link ReferencingFactoryFinder} from the no-argument constructor, since this constructor is typically
@@ -103,8 +105,9 @@ public boolean equals(final Object object) {
     /**
      * The pool of cached transformations. This map can not be static, because the values may be different for the same
      * ({@code sourceCRS}, {@code targetCRS}) pair dependending of hint values like {@link Hints#LENIENT_DATUM_SHIFT}.
+     * Lookups do not lock, and concurrent requests for the same pair wait for a single operation creation.
      */
-    private final Map<CRSPair, CoordinateOperation> pool = new SoftValueHashMap<>();
+    private final ReferencingObjectPool pool = new ReferencingObjectPool(MAX_STRONG_REFERENCES, true);
 
     /** Creates a buffered factory wrapping the {@linkplain AuthorityBackedFactory default one}. */
     public BufferedCoordinateOperationFactory() {
@@ -218,12 +221,8 @@ public CoordinateOperation createOperation(
         ensureNonNull("sourceCRS", sourceCRS);
         ensureNonNull("targetCRS", targetCRS);
         final CRSPair key = new CRSPair(sourceCRS, targetCRS);
-        CoordinateOperation op = pool.get(key);
-        if (op == null) {
-            op = getBackingFactory().createOperation(sourceCRS, targetCRS);
-            pool.put(key, op);
-        }
-        return op;
+        return pool.get(
+                key, CoordinateOperation.class, () -> getBackingFactory().createOperation(sourceCRS, targetCRS));
     }
 
     /**
@@ -248,6 +248,82 @@ protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst)
         return new Point2D.Double(x, y);
     }
 
+    /** Transforms in place a list of (<var>&lambda;</var>,<var>&phi;</var>) coordinates (units in radians). */
+    @Override
+    protected ProjectionException transformNormalized(final double[] pts, final int offset, final int numPts) {
+        final double n = this.n;
+        final double c = this.c;
+        final double rho0 = this.rho0;
+        ProjectionException failure = null;
+        for (int i = offset, end = offset + 2 * numPts; i < end; i += 2) {
+            final double x = pts[i] * n;
+            final double sinphi = sin(pts[i + 1]);
+            double rho = isSpherical ? c - n * 2 * sinphi : c - n * qsfn(sinphi);
+            if (rho < 0.0) {
+                if (rho > -EPSILON) {
+                    rho = 0.0;
+                } else {
+                    pts[i] = Double.NaN;
+                    pts[i + 1] = Double.NaN;
+                    if (failure == null) {
+                        failure = new ProjectionException(ErrorKeys.TOLERANCE_ERROR);
+                    }
+                    continue;
+                }
+            }
+            rho = sqrt(rho) / n;
+            pts[i] = rho * sin(x);
+            pts[i + 1] = rho0 - rho * cos(x);
+        }
+        return failure;
+    }
+
+    /** Transforms in place a list of (<var>x</var>,<var>y</var>) coordinates. */
+    @Override
+    protected ProjectionException inverseTransformNormalized(final double[] pts, final int offset, final int numPts) {
+        final double n = this.n;
+        final double c = this.c;
+        final double rho0 = this.rho0;
+        ProjectionException failure = null;
+        for (int i = offset, end = offset + 2 * numPts; i < end; i += 2) {
+            double x = pts[i];
+            double y = rho0 - pts[i + 1];
+            double rho = hypot(x, y);
+            if (rho > EPSILON) {
+                if (n < 0.0) {
+                    rho = -rho;
+                    x = -x;
+                    y = -y;
+                }
+                pts[i] = atan2(x, y) / n;
+                y = rho * n;
+                if (isSpherical) {
+                    y = (c - y * y) / (n * 2);
+                    pts[i + 1] = abs(y) <= 1.0 ? asin(y) : (y < 0.0) ? -PI / 2.0 : PI / 2.0;
+                } else {
+                    y = (c - y * y) / n;
+                    if (abs(ec - abs(y)) > EPSILON) {
+                        try {
+                            pts[i + 1] = phi1(y);
+                        } catch (ProjectionException e) {
+                            pts[i] = Double.NaN;
+                            pts[i + 1] = Double.NaN;
+                            if (failure == null) {
+                                failure = e;
+                            }
+                        }
+                    } else {
+                        pts[i + 1] = (y < 0.0) ? -PI / 2.0 : PI / 2.0;
+                    }
+                }
+            } else {
+                pts[i] = 0.0;
+                pts[i + 1] = n > 0.0 ? PI / 2.0 : -PI / 2.0;
+            }
+        }
+        return failure;
+    }
+
     /**
      * Iteratively solves equation (3-16) from Snyder.
      *
@@ -263,6 +263,79 @@ protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst)
         return new Point2D.Double(x, y);
     }
 
+    /** Transforms in place a list of (<var>&lambda;</var>,<var>&phi;</var>) coordinates (units in radians). */
+    @Override
+    protected ProjectionException transformNormalized(final double[] pts, final int offset, final int numPts) {
+        final double n = this.n;
+        final double F = this.F;
+        final double rho0 = this.rho0;
+        final double rotation = belgium ? BELGE_A : 0;
+        ProjectionException failure = null;
+        for (int i = offset, end = offset + 2 * numPts; i < end; i += 2) {
+            final double y = pts[i + 1];
+            final double rho;
+            if (abs(abs(y) - PI / 2) < EPSILON) {
+                if (y * n <= 0) {
+                    pts[i] = Double.NaN;
+                    pts[i + 1] = Double.NaN;
+                    if (failure == null) {
+                        failure = new ProjectionException(y);
+                    }
+                    continue;
+                }
+                rho = 0;
+            } else if (isSpherical) {
+                rho = F * pow(tan(PI / 4 + 0.5 * y), -n);
+            } else {
+                rho = F * pow(tsfn(y, sin(y)), n);
+            }
+            final double x = pts[i] * n - rotation;
+            pts[i] = rho * sin(x);
+            pts[i + 1] = rho0 - rho * cos(x);
+        }
+        return failure;
+    }
+
+    /** Transforms in place a list of (<var>x</var>,<var>y</var>) coordinates. */
+    @Override
+    protected ProjectionException inverseTransformNormalized(final double[] pts, final int offset, final int numPts) {
+        final double n = this.n;
+        final double F = this.F;
+        final double rho0 = this.rho0;
+        final double rotation = belgium ? BELGE_A : 0;
+        ProjectionException failure = null;
+        for (int i = offset, end = offset + 2 * numPts; i < end; i += 2) {
+            double x = pts[i];
+            double y = rho0 - pts[i + 1];
+            double rho = hypot(x, y); // Zero when the latitude is 90 degrees.
+            if (rho > EPSILON) {
+                if (n < 0) {
+                    rho = -rho;
+                    x = -x;
+                    y = -y;
+                }
+                pts[i] = (atan2(x, y) + rotation) / n;
+                if (isSpherical) {
+                    pts[i + 1] = 2.0 * atan(pow(F / rho, 1.0 / n)) - PI / 2;
+                } else {
+                    try {
+                        pts[i + 1] = cphi2(pow(rho / F, 1.0 / n));
+                    } catch (ProjectionException e) {
+                        pts[i] = Double.NaN;
+                        pts[i + 1] = Double.NaN;
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    }
+                }
+            } else {
+                pts[i] = 0.0;
+                pts[i + 1] = n < 0 ? -(PI / 2) : (PI / 2);
+            }
+        }
+        return failure;
+    }
+
     /** Returns a hash value for this projection. */
     @Override
     public int hashCode() {
@@ -855,10 +855,88 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
         return ptDst;
     }
 
+    /**
+     * Transforms in place a list of (<var>&lambda;</var>,<var>&phi;</var>) coordinates (units in radians) into linear
+     * distances on a unit sphere or ellipse. This is the batch counterpart of {@link #transformNormalized(double,
+     * double, Point2D)}, invoked by {@link #transform(double[], int, double[], int, int)} after the
+     * {@link #centralMeridian} has been removed from all longitudes, and before all results are scaled and translated
+     * by the false easting and northing.
+     *
+     * <p>The default implementation invokes {@code transformNormalized(lambda, phi, ptDst)} for each point. Projections
+     * used for bulk reprojection override this method with a loop over the primitive array, free of per-point virtual
+     * calls and allocations. Subclasses overriding the single point method must override this method as well, or
+     * delegate to {@link #transformNormalizedPointwise}.
+     *
+     * @param pts The coordinates, as (<var>&lambda;</var>,<var>&phi;</var>) pairs. Replaced by the projected values.
+     * @param offset The index of the first ordinate to transform.
+     * @param numPts The number of points to transform.
+     * @return The exception thrown by the first point that can't be transformed, or {@code null} if all points have
+     *     been transformed. Non-transformable points are set to {@link Double#NaN}.
+     * @since 34.0
+     */
+    protected ProjectionException transformNormalized(final double[] pts, final int offset, final int numPts) {
+        return transformNormalizedPointwise(pts, offset, numPts, false);
+    }
+
+    /**
+     * Inverse transforms in place a list of (<var>x</var>,<var>y</var>) coordinates on a unit sphere or ellipse into
+     * (<var>&lambda;</var>,<var>&phi;</var>) coordinates in radians. This is the batch counterpart of
+     * {@link #inverseTransformNormalized(double, double, Point2D)}, with the same contract than
+     * {@link #transformNormalized(double[], int, int)}.
+     *
+     * @param pts The coordinates, as (<var>x</var>,<var>y</var>) pairs. Replaced by the geographic values.
+     * @param offset The index of the first ordinate to transform.
+     * @param numPts The number of points to transform.
+     * @return The exception thrown by the first point that can't be transformed, or {@code null} if all points have
+     *     been transformed. Non-transformable points are set to {@link Double#NaN}.
+     * @since 34.0
+     */
+    protected ProjectionException inverseTransformNormalized(final double[] pts, final int offset, final int numPts) {
+        return transformNormalizedPointwise(pts, offset, numPts, true);
+    }
+
+    /**
+     * Transforms in place a list of normalized coordinates one point at a time, using
+     * {@link #transformNormalized(double, double, Point2D)} or {@link #inverseTransformNormalized(double, double,
+     * Point2D)}.
+     *
+     * @param pts The coordinates to transform in place.
+     * @param offset The index of the first ordinate to transform.
+     * @param numPts The number of points to transform.
+     * @param inverse {@code true} for the inverse projection.
+     * @return The exception thrown by the first point that can't be transformed, or {@code null}.
+     * @since 34.0
+     */
+    protected final ProjectionException transformNormalizedPointwise(
+            final double[] pts, final int offset, final int numPts, final boolean inverse) {
+        final Point2D.Double point = new Point2D.Double();
+        ProjectionException firstException = null;
+        for (int i = offset, end = offset + 2 * numPts; i < end; i += 2) {
+            try {
+                final Point2D result = inverse
+                        ? inverseTransformNormalized(pts[i], pts[i + 1], point)
+                        : transformNormalized(pts[i], pts[i + 1], point);
+                pts[i] = result.getX();
+                pts[i + 1] = result.getY();
+            } catch (ProjectionException exception) {
+                pts[i] = Double.NaN;
+                pts[i + 1] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        return firstException;
+    }
+
     /**
      * Transforms a list of coordinate point ordinal values. Ordinates must be
      * (<var>longitude</var>,<var>latitude</var>) pairs in decimal degrees.
      *
+     * <p>The points are first copied to the destination array, then transformed in place by three passes over the
+     * array: normalization to radians, {@linkplain #transformNormalized(double[], int, int) batch projection} and
+     * scaling to metres.
+     *
      * @throws ProjectionException if a point can't be transformed. This method tries to transform every points even if
      *     some of them can't be transformed. Non-transformable points will have value {@link Double#NaN}. If more than
      *     one point can't be transformed, then this exception may be about an arbitrary point.
@@ -866,39 +944,42 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
     @Override
     public final void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts)
             throws ProjectionException {
-        /*
-         * Vérifie s'il faudra parcourir le tableau en sens inverse.
-         * Ce sera le cas si les tableaux source et destination se
-         * chevauchent et que la destination est après la source.
-         */
-        final boolean reverse = (srcPts == dstPts && srcOff < dstOff && srcOff + (2 * numPts) > dstOff);
-        if (reverse) {
-            srcOff += 2 * numPts;
-            dstOff += 2 * numPts;
+        if (numPts <= 0) {
+            return;
         }
-        final Point2D.Double point = new Point2D.Double();
-        ProjectionException firstException = null;
-        while (--numPts >= 0) {
-            try {
-                point.x = srcPts[srcOff++];
-                point.y = srcPts[srcOff++];
-                transform(point, point);
-                dstPts[dstOff++] = point.x;
-                dstPts[dstOff++] = point.y;
-            } catch (ProjectionException exception) {
-                dstPts[dstOff++] = Double.NaN;
-                dstPts[dstOff++] = Double.NaN;
-                if (firstException == null) {
-                    firstException = exception;
+        // System.arraycopy handles overlapping source and destination
+        System.arraycopy(srcPts, srcOff, dstPts, dstOff, 2 * numPts);
+        final int end = dstOff + 2 * numPts;
+        if (verifyCoordinateRanges()) {
+            for (int i = dstOff; i < end; i += 2) {
+                if (verifyGeographicRanges(this, dstPts[i], dstPts[i + 1])) {
+                    warningLogged();
+                    break;
                 }
             }
-            if (reverse) {
-                srcOff -= 4;
-                dstOff -= 4;
+        }
+        // See transform(Point2D, Point2D) about rolling the longitude
+        final double centralMeridian = this.centralMeridian;
+        if (centralMeridian != 0) {
+            for (int i = dstOff; i < end; i += 2) {
+                dstPts[i] = rollLongitude(toRadians(dstPts[i]) - centralMeridian);
+                dstPts[i + 1] = toRadians(dstPts[i + 1]);
+            }
+        } else {
+            for (int i = dstOff; i < end; i++) {
+                dstPts[i] = toRadians(dstPts[i]);
             }
         }
-        if (firstException != null) {
-            throw firstException;
+        final ProjectionException failure = transformNormalized(dstPts, dstOff, numPts);
+        final double globalScale = this.globalScale;
+        final double falseEasting = this.falseEasting;
+        final double falseNorthing = this.falseNorthing;
+        for (int i = dstOff; i < end; i += 2) {
+            dstPts[i] = globalScale * dstPts[i] + falseEasting;
+            dstPts[i + 1] = globalScale * dstPts[i + 1] + falseNorthing;
+        }
+        if (failure != null) {
+            throw failure;
         }
     }
 
@@ -1009,6 +1090,10 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
          * Inverse transforms a list of coordinate point ordinal values. Ordinates must be (<var>x</var>,<var>y</var>)
          * pairs in metres.
          *
+         * <p>The points are first copied to the destination array, then transformed in place by three passes over the
+         * array: normalization to the unit sphere or ellipse, {@linkplain MapProjection#inverseTransformNormalized(
+         * double[], int, int) batch projection} and conversion to decimal degrees.
+         *
          * @throws ProjectionException if a point can't be transformed. This method tries to transform every points even
          *     if some of them can't be transformed. Non-transformable points will have value {@link Double#NaN}. If
          *     more than one point can't be transformed, then this exception may be about an arbitrary point.
@@ -1016,39 +1101,41 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
         @Override
         public final void transform(final double[] src, int srcOffset, final double[] dest, int dstOffset, int numPts)
                 throws TransformException {
-            /*
-             * Vérifie s'il faudra parcourir le tableau en sens inverse.
-             * Ce sera le cas si les tableaux source et destination se
-             * chevauchent et que la destination est après la source.
-             */
-            final boolean reverse = (src == dest && srcOffset < dstOffset && srcOffset + (2 * numPts) > dstOffset);
-            if (reverse) {
-                srcOffset += 2 * numPts;
-                dstOffset += 2 * numPts;
+            if (numPts <= 0) {
+                return;
             }
-            final Point2D.Double point = new Point2D.Double();
-            ProjectionException firstException = null;
-            while (--numPts >= 0) {
-                try {
-                    point.x = src[srcOffset++];
-                    point.y = src[srcOffset++];
-                    transform(point, point);
-                    dest[dstOffset++] = point.x;
-                    dest[dstOffset++] = point.y;
-                } catch (ProjectionException exception) {
-                    dest[dstOffset++] = Double.NaN;
-                    dest[dstOffset++] = Double.NaN;
-                    if (firstException == null) {
-                        firstException = exception;
-                    }
+            System.arraycopy(src, srcOffset, dest, dstOffset, 2 * numPts);
+            final int end = dstOffset + 2 * numPts;
+            final double globalScale = MapProjection.this.globalScale;
+            final double falseEasting = MapProjection.this.falseEasting;
+            final double falseNorthing = MapProjection.this.falseNorthing;
+            for (int i = dstOffset; i < end; i += 2) {
+                dest[i] = (dest[i] - falseEasting) / globalScale;
+                dest[i + 1] = (dest[i + 1] - falseNorthing) / globalScale;
+            }
+            final ProjectionException failure = inverseTransformNormalized(dest, dstOffset, numPts);
+            // See transform(Point2D, Point2D) about rolling the longitude
+            final double centralMeridian = MapProjection.this.centralMeridian;
+            if (centralMeridian != 0) {
+                for (int i = dstOffset; i < end; i += 2) {
+                    dest[i] = toDegrees(rollLongitude(dest[i] + centralMeridian));
+                    dest[i + 1] = toDegrees(dest[i + 1]);
                 }
-                if (reverse) {
-                    srcOffset -= 4;
-                    dstOffset -= 4;
+            } else {
+                for (int i = dstOffset; i < end; i++) {
+                    dest[i] = toDegrees(dest[i]);
                 }
             }
-            if (firstException != null) {
-                throw firstException;
+            if (verifyCoordinateRanges()) {
+                for (int i = dstOffset; i < end; i += 2) {
+                    if (verifyGeographicRanges(this, dest[i], dest[i + 1])) {
+                        warningLogged();
+                        break;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
             }
         }
 
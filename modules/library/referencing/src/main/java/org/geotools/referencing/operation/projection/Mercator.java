@@ -164,6 +164,43 @@ protected Point2D inverseTransformNormalized(double x, double y, final Point2D p
         return new Point2D.Double(x, y);
     }
 
+    /** Transforms in place a list of (<var>&lambda;</var>,<var>&phi;</var>) coordinates (units in radians). */
+    @Override
+    protected ProjectionException transformNormalized(final double[] pts, final int offset, final int numPts) {
+        ProjectionException failure = null;
+        for (int i = offset + 1, end = offset + 2 * numPts; i < end; i += 2) {
+            final double phi = pts[i];
+            if (abs(phi) > (PI / 2 - EPSILON)) {
+                pts[i - 1] = Double.NaN;
+                pts[i] = Double.NaN;
+                if (failure == null) {
+                    failure = new ProjectionException(phi);
+                }
+            } else {
+                pts[i] = -log(tsfn(phi, sin(phi)));
+            }
+        }
+        return failure;
+    }
+
+    /** Transforms in place a list of (<var>x</var>,<var>y</var>) coordinates. */
+    @Override
+    protected ProjectionException inverseTransformNormalized(final double[] pts, final int offset, final int numPts) {
+        ProjectionException failure = null;
+        for (int i = offset + 1, end = offset + 2 * numPts; i < end; i += 2) {
+            try {
+                pts[i] = cphi2(exp(-pts[i]));
+            } catch (ProjectionException e) {
+                pts[i - 1] = Double.NaN;
+                pts[i] = Double.NaN;
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        return failure;
+    }
+
     /**
      * Provides the transform equations for the spherical case of the Mercator projection.
      *
@@ -226,6 +263,38 @@ protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst)
             }
             return new Point2D.Double(x, y);
         }
+
+        /**
+         * Transforms in place a list of (<var>&lambda;</var>,<var>&phi;</var>) coordinates (units in radians) using
+         * equations for a sphere.
+         */
+        @Override
+        protected ProjectionException transformNormalized(final double[] pts, final int offset, final int numPts) {
+            ProjectionException failure = null;
+            for (int i = offset + 1, end = offset + 2 * numPts; i < end; i += 2) {
+                final double phi = pts[i];
+                if (abs(phi) > (PI / 2 - EPSILON)) {
+                    pts[i - 1] = Double.NaN;
+                    pts[i] = Double.NaN;
+                    if (failure == null) {
+                        failure = new ProjectionException(phi);
+                    }
+                } else {
+                    pts[i] = log(tan(PI / 4 + 0.5 * phi));
+                }
+            }
+            return failure;
+        }
+
+        /** Transforms in place a list of (<var>x</var>,<var>y</var>) coordinates using equations for a sphere. */
+        @Override
+        protected ProjectionException inverseTransformNormalized(
+                final double[] pts, final int offset, final int numPts) {
+            for (int i = offset + 1, end = offset + 2 * numPts; i < end; i += 2) {
+                pts[i] = PI / 2 - 2.0 * atan(exp(-pts[i]));
+            }
+            return null;
+        }
     }
 
     /** Returns a hash value for this projection. */
@@ -251,17 +251,31 @@ public int getTargetDimensions() {
     @Override
     public void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts)
             throws TransformException {
-        int step = 0;
+        final double[] source = new double[numPts * 2];
+        transform(srcPts, srcOff, dstPts, dstOff, numPts, source, new double[source.length]);
+    }
 
-        if ((srcPts == dstPts) && (srcOff < dstOff) && ((srcOff + (numPts * getSourceDimensions())) > dstOff)) {
-            step = -getSourceDimensions();
-            srcOff -= ((numPts - 1) * step);
-            dstOff -= ((numPts - 1) * step);
-        }
+    /**
+     * Transforms the points using the given work arrays, of at least {@code 2 * numPts} length, so that the iterations
+     * of {@link #inverseTransform} can reuse them.
+     */
+    private void transform(
+            final double[] srcPts,
+            int srcOff,
+            final double[] dstPts,
+            int dstOff,
+            int numPts,
+            final double[] source,
+            final double[] shifts)
+            throws TransformException {
+        // copy the source points first, so that overlapping arrays need no special care
+        final int length = numPts * 2;
+        System.arraycopy(srcPts, srcOff, source, 0, length);
 
-        while (--numPts >= 0) {
-            double x = srcPts[srcOff++];
-            double y = srcPts[srcOff++];
+        // find the grid cell of all the points (index is 0 based)
+        for (int i = 0; i < length; i += 2) {
+            final double x = source[i];
+            final double y = source[i + 1];
 
             // check bounding box
             if (((x < grid.getMinX()) || (x > grid.getMaxX())) || ((y < grid.getMinY()) || (y > grid.getMaxY()))) {
@@ -279,20 +293,17 @@ public void transform(final double[] srcPts, int srcOff, final double[] dstPts,
                         + grid.getMaxY()
                         + "))");
             }
+            shifts[i] = (x - grid.getMinX()) / grid.getDx();
+            shifts[i + 1] = (y - grid.getMinY()) / grid.getDy();
+        }
 
-            // find the grid the point is in (index is 0 based)
-            final double xgrid = (x - grid.getMinX()) / grid.getDx();
-            final double ygrid = (y - grid.getMinY()) / grid.getDy();
-            double[] array = {xgrid, ygrid};
-
-            // use the LocalizationGridTransform2D transform method (bilineal interpolation)
-            // returned shift values are in seconds, longitude shift values are + west
-            gridShiftTransform.transform(array, 0, array, 0, 1);
+        // use the LocalizationGridTransform2D transform method (bilineal interpolation) on all the points at once
+        // returned shift values are in seconds, longitude shift values are + west
+        gridShiftTransform.transform(shifts, 0, shifts, 0, numPts);
 
-            dstPts[dstOff++] = x - (array[0] / SEC_2_DEG);
-            dstPts[dstOff++] = y + (array[1] / SEC_2_DEG);
-            srcOff += step;
-            dstOff += step;
+        for (int i = 0; i < length; i += 2) {
+            dstPts[dstOff++] = source[i] - (shifts[i] / SEC_2_DEG);
+            dstPts[dstOff++] = source[i + 1] + (shifts[i + 1] / SEC_2_DEG);
         }
     }
 
@@ -319,6 +330,10 @@ public void inverseTransform(final double[] srcPts, int srcOff, final double[] d
             dstOff -= ((numPts - 1) * step);
         }
 
+        final double[] array = new double[2];
+        // work arrays of the forward transform, shared by all the iterations
+        final double[] source = new double[2];
+        final double[] shifts = new double[2];
         while (--numPts >= 0) {
             final double x = srcPts[srcOff++];
             final double y = srcPts[srcOff++];
@@ -326,8 +341,9 @@ public void inverseTransform(final double[] srcPts, int srcOff, final double[] d
             double ytemp = y;
 
             for (int i = MAX_ITER; ; ) {
-                double[] array = {xtemp, ytemp};
-                transform(array, 0, array, 0, 1);
+                array[0] = xtemp;
+                array[1] = ytemp;
+                transform(array, 0, array, 0, 1, source, shifts);
                 double xdif = array[0] - x;
                 double ydif = array[1] - y;
 
@@ -16,8 +16,6 @@
  */
 package org.geotools.referencing.operation.transform;
 
-import au.com.objectix.jgridshift.GridShift;
-import au.com.objectix.jgridshift.GridShiftFile;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
@@ -44,6 +42,7 @@
 import org.geotools.referencing.NamedIdentifier;
 import org.geotools.referencing.ReferencingFactoryFinder;
 import org.geotools.referencing.factory.gridshift.GridShiftLocator;
+import org.geotools.referencing.factory.gridshift.NTv2Grid;
 import org.geotools.referencing.factory.gridshift.NTv2GridShiftFactory;
 import org.geotools.referencing.operation.MathTransformProvider;
 import org.geotools.util.Utilities;
@@ -73,8 +72,8 @@ public class NTv2Transform extends AbstractMathTransform implements MathTransfor
     /** The grid file name as set in the constructor. */
     private URL gridLocation = null;
 
-    /** The grid shift to be used */
-    private GridShiftFile gridShift;
+    /** The grid shift to be used, memory mapped when first needed */
+    private transient NTv2Grid gridShift;
 
     /** The factory that loads the grid shift files */
     private static NTv2GridShiftFactory FACTORY = new NTv2GridShiftFactory();
@@ -213,48 +212,25 @@ private void bidirectionalTransform(
             double[] srcPts, int srcOff, double[] dstPts, int dstOff, int numPts, boolean forward)
             throws TransformException {
 
-        boolean shifted;
-
-        if (gridShift == null) { // Create grid when first needed.
+        NTv2Grid grid = gridShift;
+        if (grid == null) { // Map grid when first needed.
             try {
-                gridShift = FACTORY.createNTv2Grid(gridLocation);
+                grid = FACTORY.createMappedNTv2Grid(gridLocation);
+                gridShift = grid;
             } catch (FactoryException e) {
                 throw new TransformException("NTv2 Grid " + gridLocation + " Could not be created", e);
             }
         }
 
-        try {
-            GridShift shift = new GridShift();
-            while (--numPts >= 0) {
-                shift.setLonPositiveEastDegrees(srcPts[srcOff++]);
-                shift.setLatDegrees(srcPts[srcOff++]);
-                if (forward) {
-                    shifted = gridShift.gridShiftForward(shift);
-                } else {
-                    shifted = gridShift.gridShiftReverse(shift);
-                }
-                if (shifted) {
-                    dstPts[dstOff++] = shift.getShiftedLonPositiveEastDegrees();
-                    dstPts[dstOff++] = shift.getShiftedLatDegrees();
-                } else {
-                    if (LOGGER.isLoggable(Level.FINE)) {
-                        LOGGER.log(
-                                Level.FINE,
-                                "Point ("
-                                        + srcPts[srcOff - 2]
-                                        + ", "
-                                        + srcPts[srcOff - 1]
-                                        + ") is not covered by '"
-                                        + this.grid
-                                        + "' NTv2 grid,"
-                                        + " it will not be shifted.");
-                    }
-                    dstPts[dstOff++] = srcPts[srcOff - 2];
-                    dstPts[dstOff++] = srcPts[srcOff - 1];
-                }
-            }
-        } catch (IOException e) {
-            throw new TransformException(e.getLocalizedMessage(), e);
+        final int uncovered = grid.shift(srcPts, srcOff, dstPts, dstOff, numPts, forward);
+        if (uncovered > 0 && LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(
+                    Level.FINE,
+                    uncovered
+                            + " point(s) are not covered by '"
+                            + this.grid
+                            + "' NTv2 grid,"
+                            + " they will not be shifted.");
         }
     }
 
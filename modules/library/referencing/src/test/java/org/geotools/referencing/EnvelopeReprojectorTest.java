@@ -20,6 +20,8 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.geom.Rectangle2D;
@@ -240,4 +242,79 @@ public void testGeostationaryCentered() throws Exception {
         assertEquals(-5411672, result.getMinimum(1), 1d);
         assertEquals(5411672, result.getMaximum(1), 1d);
     }
+
+    @Test
+    public void testAnalyticExtrema() throws Exception {
+        assertAnalyticExtrema(WKT.MERCATOR, -170, -80, 170, 80);
+        assertAnalyticExtrema(WKT.UTM_10N, -130, 30, -115, 60);
+        assertAnalyticExtrema(WKT.UTM_10N, -126, -10, -120, 10);
+        assertAnalyticExtrema(WKT.POLAR_STEREOGRAPHIC, -100, -90, 50, -60);
+        assertAnalyticExtrema(WKT.POLAR_STEREOGRAPHIC, 10, -80, 170, -50);
+
+        // no analytic extrema with a datum shift or out of the domain
+        CoordinateOperation operation = CRS.getCoordinateOperationFactory(true)
+                .createOperation(CRS.parseWKT(WKT.NAD27), CRS.parseWKT(WKT.UTM_10N));
+        assertNull(EnvelopeReprojector.analyticTransform(
+                operation, new GeneralBounds(new double[] {-124, 42}, new double[] {-122, 43})));
+        operation = CRS.getCoordinateOperationFactory(true).createOperation(WGS84, CRS.parseWKT(WKT.UTM_10N));
+        assertNull(EnvelopeReprojector.analyticTransform(
+                operation, new GeneralBounds(new double[] {-180, 42}, new double[] {-122, 43})));
+    }
+
+    /** Checks the analytic extrema against a dense sampling of the envelope. */
+    private static void assertAnalyticExtrema(String wkt, double minLon, double minLat, double maxLon, double maxLat)
+            throws Exception {
+        CoordinateOperation operation =
+                CRS.getCoordinateOperationFactory(true).createOperation(WGS84, CRS.parseWKT(wkt));
+        GeneralBounds envelope = new GeneralBounds(new double[] {minLon, minLat}, new double[] {maxLon, maxLat});
+        GeneralBounds analytic = EnvelopeReprojector.analyticTransform(operation, envelope);
+        assertNotNull(analytic);
+
+        int n = 360;
+        double[] points = new double[2 * (n + 1) * (n + 1)];
+        int k = 0;
+        for (int i = 0; i <= n; i++) {
+            for (int j = 0; j <= n; j++) {
+                points[k++] = minLon + (maxLon - minLon) * i / n;
+                points[k++] = minLat + (maxLat - minLat) * j / n;
+            }
+        }
+        operation.getMathTransform().transform(points, 0, points, 0, points.length / 2);
+        GeneralBounds sampled =
+                new GeneralBounds(new double[] {points[0], points[1]}, new double[] {points[0], points[1]});
+        for (k = 0; k < points.length; k += 2) {
+            sampled.add(points[k], points[k + 1]);
+        }
+        // the extrema are exact, the sampling can only be smaller
+        for (int d = 0; d < 2; d++) {
+            double tolerance = 1e-4 * sampled.getSpan(d);
+            assertTrue(analytic.getMinimum(d) <= sampled.getMinimum(d) + 1e-6);
+            assertTrue(analytic.getMaximum(d) >= sampled.getMaximum(d) - 1e-6);
+            assertEquals(sampled.getMinimum(d), analytic.getMinimum(d), tolerance);
+            assertEquals(sampled.getMaximum(d), analytic.getMaximum(d), tolerance);
+        }
+    }
+
+    @Test
+    public void testCachedTransform() throws Exception {
+        CoordinateReferenceSystem mapCRS = CRS.parseWKT(WKT.UTM_10N);
+        CoordinateOperation operation = CRS.getCoordinateOperationFactory(true).createOperation(WGS84, mapCRS);
+        GeneralBounds envelope = new GeneralBounds(new double[] {-124, 42}, new double[] {-122, 43});
+        envelope.setCoordinateReferenceSystem(WGS84);
+
+        GeneralBounds first = CRS.transform(operation, envelope);
+        assertEquals(
+                first, EnvelopeTransformCache.get(operation, envelope, EnvelopeTransformCache.DEFAULT_DENSIFICATION));
+
+        // the cached envelopes are copies
+        first.setEnvelope(0, 0, 1, 1);
+        GeneralBounds second = CRS.transform(operation, envelope);
+        assertNotSame(first, second);
+        assertEquals(mapCRS, second.getCoordinateReferenceSystem());
+        assertTrue(second.getSpan(0) > 100000);
+
+        EnvelopeTransformCache.clear();
+        assertNull(EnvelopeTransformCache.get(operation, envelope, EnvelopeTransformCache.DEFAULT_DENSIFICATION));
+        assertEquals(second, CRS.transform(operation, envelope));
+    }
 }
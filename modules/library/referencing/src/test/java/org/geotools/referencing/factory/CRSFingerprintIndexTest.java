@@ -0,0 +1,121 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.CRS;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CRSFingerprintIndexTest {
+
+    private static final String WGS84 =
+            "GEOGCS[\"WGS 84\",DATUM[\"WGS_1984\",SPHEROID[\"WGS 84\",6378137,298.257223563]],"
+                    + "PRIMEM[\"Greenwich\",0],UNIT[\"degree\",0.0174532925199433],"
+                    + "AXIS[\"Latitude\",NORTH],AXIS[\"Longitude\",EAST]]";
+
+    private static final String ED50 = "GEOGCS[\"ED50\",DATUM[\"European_Datum_1950\",SPHEROID[\"International 1924\","
+            + "6378388,297]],PRIMEM[\"Greenwich\",0],UNIT[\"degree\",0.0174532925199433],"
+            + "AXIS[\"Latitude\",NORTH],AXIS[\"Longitude\",EAST]]";
+
+    private static final String UTM32 = "PROJCS[\"WGS 84 / UTM zone 32N\",GEOGCS[\"WGS 84\",DATUM[\"WGS_1984\","
+            + "SPHEROID[\"WGS 84\",6378137,298.257223563]],PRIMEM[\"Greenwich\",0],"
+            + "UNIT[\"degree\",0.0174532925199433]],PROJECTION[\"Transverse_Mercator\"],"
+            + "PARAMETER[\"latitude_of_origin\",0],PARAMETER[\"central_meridian\",9],"
+            + "PARAMETER[\"scale_factor\",0.9996],PARAMETER[\"false_easting\",500000],"
+            + "PARAMETER[\"false_northing\",0],UNIT[\"metre\",1],AXIS[\"Easting\",EAST],AXIS[\"Northing\",NORTH]]";
+
+    private static final String UTM33 = UTM32.replace("zone 32N", "zone 33N").replace("\",9]", "\",15]");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private PropertyAuthorityFactory factory;
+
+    @Before
+    public void setupFactory() throws Exception {
+        File definitions = folder.newFile("crs.properties");
+        try (PrintWriter writer = new PrintWriter(definitions, StandardCharsets.ISO_8859_1.name())) {
+            writer.println("4326=" + WGS84);
+            writer.println("4230=" + ED50);
+            writer.println("32632=" + UTM32);
+            writer.println("32633=" + UTM33);
+        }
+        factory = new PropertyAuthorityFactory(
+                ReferencingFactoryContainer.instance(null),
+                Citations.EPSG,
+                definitions.toURI().toURL());
+    }
+
+    @Test
+    public void testFingerprintIgnoresMetadataAndAxisOrder() throws Exception {
+        CoordinateReferenceSystem latLon = CRS.parseWKT(WGS84);
+        CoordinateReferenceSystem renamed = CRS.parseWKT(WGS84.replace("WGS 84", "Unknown")
+                .replace("WGS_1984", "D_WGS_1984")
+                .replace(
+                        "AXIS[\"Latitude\",NORTH],AXIS[\"Longitude\",EAST]", "AXIS[\"Lon\",EAST],AXIS[\"Lat\",NORTH]"));
+        assertEquals(CRSFingerprint.canonical(latLon), CRSFingerprint.canonical(renamed));
+        assertEquals(CRSFingerprint.hash(latLon), CRSFingerprint.hash(renamed));
+
+        assertNotEquals(CRSFingerprint.hash(latLon), CRSFingerprint.hash(CRS.parseWKT(ED50)));
+        assertNotEquals(CRSFingerprint.hash(CRS.parseWKT(UTM32)), CRSFingerprint.hash(CRS.parseWKT(UTM33)));
+    }
+
+    @Test
+    public void testCandidates() throws Exception {
+        CRSFingerprintIndex index =
+                CRSFingerprintIndex.build("1.0", factory, Arrays.asList("4326", "4230", "32632", "32633", "99999"));
+        // the unknown code is skipped
+        assertEquals(4, index.size());
+
+        CoordinateReferenceSystem utm = CRS.parseWKT(UTM32.replace("WGS 84 / UTM zone 32N", "My UTM"));
+        assertEquals(Collections.singleton("32632"), index.getCandidates(utm));
+        assertEquals(Collections.singleton("4230"), index.getCandidates(CRS.parseWKT(ED50)));
+
+        CoordinateReferenceSystem sphere = CRS.parseWKT(WGS84.replace("298.257223563", "0"));
+        assertTrue(index.getCandidates(sphere).isEmpty());
+    }
+
+    @Test
+    public void testReadWrite() throws Exception {
+        CRSFingerprintIndex index =
+                CRSFingerprintIndex.build("10.079", factory, Arrays.asList("4326", "4230", "32632", "32633"));
+        File file = new File(folder.getRoot(), "EPSG-10.079.idx");
+        index.write(file);
+
+        CRSFingerprintIndex read = CRSFingerprintIndex.read(file);
+        assertEquals("10.079", read.getVersion());
+        assertEquals(index.size(), read.size());
+        for (String wkt : Arrays.asList(WGS84, ED50, UTM32, UTM33)) {
+            CoordinateReferenceSystem crs = CRS.parseWKT(wkt);
+            assertEquals(index.getCandidates(crs), read.getCandidates(crs));
+            assertEquals(1, read.getCandidates(crs).size());
+        }
+    }
+}
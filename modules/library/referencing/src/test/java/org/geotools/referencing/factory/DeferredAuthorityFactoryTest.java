@@ -0,0 +1,134 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.geotools.api.metadata.citation.Citation;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.metadata.iso.citation.Citations;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DeferredAuthorityFactoryTest {
+
+    private static final String WGS84 =
+            "GEOGCS[\"WGS 84\",DATUM[\"WGS_1984\",SPHEROID[\"WGS 84\",6378137,298.257223563]],"
+                    + "PRIMEM[\"Greenwich\",0],UNIT[\"degree\",0.0174532925199433]]";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** A deferred factory whose backing store blocks in the creation of a CRS until released. */
+    private static class BlockingFactory extends DeferredAuthorityFactory implements CRSAuthorityFactory {
+        final CountDownLatch started = new CountDownLatch(1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final AtomicInteger disposed = new AtomicInteger();
+
+        final URL definitions;
+
+        BlockingFactory(URL definitions) {
+            super(null, MINIMUM_PRIORITY);
+            this.definitions = definitions;
+        }
+
+        @Override
+        public Citation getAuthority() {
+            return Citations.EPSG;
+        }
+
+        @Override
+        protected AbstractAuthorityFactory createBackingStore() throws FactoryException {
+            try {
+                return new PropertyAuthorityFactory(
+                        ReferencingFactoryContainer.instance(null), Citations.EPSG, definitions) {
+                    @Override
+                    public CoordinateReferenceSystem createCoordinateReferenceSystem(String code)
+                            throws FactoryException {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            throw new FactoryException(e);
+                        }
+                        return super.createCoordinateReferenceSystem(code);
+                    }
+
+                    @Override
+                    public void dispose() throws FactoryException {
+                        disposed.incrementAndGet();
+                        super.dispose();
+                    }
+                };
+            } catch (IOException e) {
+                throw new FactoryException(e);
+            }
+        }
+    }
+
+    @Test
+    public void testNoDisposalWhileCreating() throws Exception {
+        File file = folder.newFile("crs.properties");
+        Files.write(file.toPath(), List.of("4326=" + WGS84), StandardCharsets.ISO_8859_1);
+        BlockingFactory factory = new BlockingFactory(file.toURI().toURL());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<CoordinateReferenceSystem> crs =
+                    executor.submit(() -> factory.createCoordinateReferenceSystem("EPSG:4326"));
+            assertTrue(factory.started.await(10, TimeUnit.SECONDS));
+            factory.setTimeout(10);
+            // the disposer runs many times while the creation is in progress
+            Thread.sleep(200);
+            assertTrue(factory.isConnected());
+            assertEquals(0, factory.disposed.get());
+
+            factory.release.countDown();
+            assertNotNull(crs.get(10, TimeUnit.SECONDS));
+            // once idle, the backing store is disposed
+            long end = System.currentTimeMillis() + 10000;
+            while (factory.isConnected() && System.currentTimeMillis() < end) {
+                Thread.sleep(10);
+            }
+            assertFalse(factory.isConnected());
+            assertEquals(1, factory.disposed.get());
+        } finally {
+            factory.release.countDown();
+            executor.shutdown();
+            factory.dispose();
+        }
+    }
+}
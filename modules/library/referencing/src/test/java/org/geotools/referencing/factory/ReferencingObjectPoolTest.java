@@ -0,0 +1,160 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.geotools.api.referencing.FactoryException;
+import org.junit.Test;
+
+public class ReferencingObjectPoolTest {
+
+    @Test
+    public void testHitAndMiss() throws Exception {
+        ReferencingObjectPool pool = new ReferencingObjectPool(10);
+        AtomicInteger creations = new AtomicInteger();
+        String first = pool.get("4326", String.class, () -> "WGS84#" + creations.incrementAndGet());
+        String second = pool.get("4326", String.class, () -> "WGS84#" + creations.incrementAndGet());
+        assertSame(first, second);
+        assertEquals(1, creations.get());
+
+        ReferencingObjectPool.Statistics stats = pool.getStatistics();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getCreationCount());
+        assertEquals(1, stats.getSize());
+
+        pool.clear();
+        assertEquals(0, pool.getStatistics().getSize());
+        pool.get("4326", String.class, () -> "WGS84#" + creations.incrementAndGet());
+        assertEquals(2, creations.get());
+    }
+
+    @Test
+    public void testTypeMismatch() throws Exception {
+        ReferencingObjectPool pool = new ReferencingObjectPool(10);
+        pool.get("4326", String.class, () -> "WGS84");
+        // same code, but an other kind of object is requested
+        Integer value = pool.get("4326", Integer.class, () -> 4326);
+        assertEquals(Integer.valueOf(4326), value);
+        assertEquals(Integer.valueOf(4326), pool.peek("4326"));
+    }
+
+    @Test
+    public void testStrongReferencesBound() throws Exception {
+        ReferencingObjectPool pool = new ReferencingObjectPool(8);
+        for (int i = 0; i < 100; i++) {
+            final int code = i;
+            pool.get(code, Object.class, () -> new Object[] {code});
+            assertTrue(pool.getStatistics().getStrongSize() <= 8);
+        }
+        // the most recently used objects are still strongly referenced
+        System.gc();
+        assertTrue(pool.peek(99) instanceof Object[]);
+    }
+
+    @Test
+    public void testConcurrentCreationsAreCoalesced() throws Exception {
+        final ReferencingObjectPool pool = new ReferencingObjectPool(10);
+        final AtomicInteger creations = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> pool.get("3857", Object.class, () -> {
+                    creations.incrementAndGet();
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new FactoryException(e);
+                    }
+                    return new Object();
+                })));
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // let the other threads reach the pool before the creation completes
+            Thread.sleep(100);
+            assertTrue(pool.isCreating());
+            release.countDown();
+            Object expected = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Object> future : futures) {
+                assertSame(expected, future.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, creations.get());
+            assertFalse(pool.isCreating());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailureIsPropagated() throws Exception {
+        ReferencingObjectPool pool = new ReferencingObjectPool(10);
+        try {
+            pool.get("9999", Object.class, () -> {
+                throw new FactoryException("No code 9999");
+            });
+            fail("Expected a FactoryException");
+        } catch (FactoryException e) {
+            assertEquals("No code 9999", e.getMessage());
+        }
+        // failures are not cached
+        assertEquals("ok", pool.get("9999", Object.class, () -> "ok"));
+    }
+
+    @Test
+    public void testNestedCreationDoesNotWait() throws Exception {
+        final ReferencingObjectPool pool = new ReferencingObjectPool(10);
+        // a CRS whose creation requests the datum, which requests the CRS code again (as some backing stores do)
+        Object crs = pool.get("4326", String.class, () -> {
+            Integer datum = pool.get("6326", Integer.class, () -> {
+                Object self = pool.get("4326", Object.class, () -> "nested");
+                assertEquals("nested", self);
+                return 6326;
+            });
+            return "crs-" + datum;
+        });
+        assertEquals("crs-6326", crs);
+        assertEquals("crs-6326", pool.peek("4326"));
+    }
+
+    @Test
+    public void testSoftPool() throws Exception {
+        ReferencingObjectPool pool = new ReferencingObjectPool(0, true);
+        Object value = pool.get("key", Object.class, Object::new);
+        assertEquals(0, pool.getStatistics().getStrongSize());
+        assertSame(value, pool.get("key", Object.class, Object::new));
+        assertNotSame(value, pool.get("other", Object.class, Object::new));
+    }
+}
@@ -16,10 +16,14 @@
  */
 package org.geotools.referencing.factory.gridshift;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import au.com.objectix.jgridshift.GridShift;
 import au.com.objectix.jgridshift.GridShiftFile;
 import java.net.URL;
 import org.geotools.api.referencing.FactoryException;
@@ -108,4 +112,52 @@ public void testCreateNTv2Grid() {
         assertNotNull(grid);
         assertTrue(grid.isLoaded());
     }
+
+    /**
+     * Test method for
+     * {@link org.geotools.referencing.factory.gridshift.NTv2GridShiftFactory#createMappedNTv2Grid(java.net.URL)}.
+     */
+    @Test
+    public void testCreateMappedNTv2Grid() throws Exception {
+        assertThrows(FactoryException.class, () -> factory.createMappedNTv2Grid(null));
+        assertThrows(FactoryException.class, () -> factory.createMappedNTv2Grid(MALFORMED_GRID));
+
+        NTv2Grid mapped = factory.createMappedNTv2Grid(TEST_GRID);
+        assertSame(mapped, factory.createMappedNTv2Grid(TEST_GRID));
+
+        // compare with the grid loaded in memory, on a lattice covering the grid and beyond
+        GridShiftFile loaded = factory.createNTv2Grid(TEST_GRID);
+        double[] points = new double[2 * 21 * 21];
+        int n = 0;
+        for (int i = 0; i <= 20; i++) {
+            for (int j = 0; j <= 20; j++) {
+                points[n++] = 0.51 + i * 0.25;
+                points[n++] = 38.01 + j * 0.2;
+            }
+        }
+        double[] shifted = new double[points.length];
+        int uncovered = mapped.shift(points, 0, shifted, 0, points.length / 2, true);
+        int expectedUncovered = 0;
+        GridShift shift = new GridShift();
+        for (int i = 0; i < points.length; i += 2) {
+            shift.setLonPositiveEastDegrees(points[i]);
+            shift.setLatDegrees(points[i + 1]);
+            if (loaded.gridShiftForward(shift)) {
+                assertEquals(shift.getShiftedLonPositiveEastDegrees(), shifted[i], 1E-9);
+                assertEquals(shift.getShiftedLatDegrees(), shifted[i + 1], 1E-9);
+            } else {
+                expectedUncovered++;
+                assertEquals(points[i], shifted[i], 0);
+                assertEquals(points[i + 1], shifted[i + 1], 0);
+            }
+        }
+        assertEquals(expectedUncovered, uncovered);
+        assertTrue(uncovered > 0 && uncovered < points.length / 2);
+
+        // reverse shift, in place
+        mapped.shift(shifted, 0, shifted, 0, shifted.length / 2, false);
+        for (int i = 0; i < points.length; i++) {
+            assertEquals(points[i], shifted[i], 1E-8);
+        }
+    }
 }
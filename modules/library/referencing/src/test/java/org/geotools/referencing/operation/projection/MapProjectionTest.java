@@ -19,7 +19,9 @@
 import static org.geotools.referencing.operation.projection.MapProjection.AbstractProvider.SEMI_MAJOR;
 import static org.geotools.referencing.operation.projection.MapProjection.AbstractProvider.SEMI_MINOR;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.awt.geom.Point2D;
 import org.geotools.api.parameter.ParameterValueGroup;
@@ -122,4 +124,93 @@ public void testOrthodromicDistance() throws FactoryException {
         Point2D target2 = new Point2D.Double(src.getX(), src.getY() + 0.000000000001);
         assertEquals(1.1117412E-7, mt.orthodromicDistance(src, target2), 1E-12);
     }
+
+    /** Creates a projection on the WGS84 ellipsoid. */
+    private static MapProjection createProjection(String name, String... parameters) throws FactoryException {
+        MathTransformFactory mtFactory = ReferencingFactoryFinder.getMathTransformFactory(null);
+        final ParameterValueGroup values = mtFactory.getDefaultParameters(name);
+        values.parameter(SEMI_MAJOR.getName().getCode()).setValue(6378137.0);
+        values.parameter(SEMI_MINOR.getName().getCode()).setValue(6356752.314245179);
+        for (int i = 0; i < parameters.length; i += 2) {
+            values.parameter(parameters[i]).setValue(Double.parseDouble(parameters[i + 1]));
+        }
+        return (MapProjection) mtFactory.createParameterizedTransform(values);
+    }
+
+    /** Tests that the batch kernels give the same results than the single point transforms. */
+    @Test
+    public void testBatchMatchesPointwise() throws TransformException, FactoryException {
+        final MapProjection[] projections = {
+            createProjection("Mercator_1SP", "central_meridian", "10"),
+            createGoogleMercator(),
+            createProjection("Transverse_Mercator", "central_meridian", "9", "scale_factor", "0.9996"),
+            createProjection(
+                    "Lambert_Conformal_Conic_2SP",
+                    "central_meridian",
+                    "3",
+                    "latitude_of_origin",
+                    "46.5",
+                    "standard_parallel_1",
+                    "49",
+                    "standard_parallel_2",
+                    "44",
+                    "false_easting",
+                    "700000",
+                    "false_northing",
+                    "6600000"),
+            createProjection(
+                    "Albers_Conic_Equal_Area",
+                    "central_meridian",
+                    "-96",
+                    "latitude_of_origin",
+                    "23",
+                    "standard_parallel_1",
+                    "29.5",
+                    "standard_parallel_2",
+                    "45.5")
+        };
+        final double[] geographic = new double[2 * 200];
+        for (int i = 0; i < geographic.length; i += 2) {
+            geographic[i] = -12 + (i % 37);
+            geographic[i + 1] = 30 + (i % 29);
+        }
+        for (MapProjection mt : projections) {
+            final double[] projected = new double[geographic.length];
+            mt.transform(geographic, 0, projected, 0, geographic.length / 2);
+            final double[] back = new double[geographic.length];
+            mt.inverse().transform(projected, 0, back, 0, geographic.length / 2);
+            for (int i = 0; i < geographic.length; i += 2) {
+                final Point2D expected = mt.transform(new Point2D.Double(geographic[i], geographic[i + 1]), null);
+                assertEquals(expected.getX(), projected[i], 1E-6);
+                assertEquals(expected.getY(), projected[i + 1], 1E-6);
+                final Point2D inverse = mt.inverse().transform(expected, null);
+                assertEquals(inverse.getX(), back[i], 1E-9);
+                assertEquals(inverse.getY(), back[i + 1], 1E-9);
+            }
+            // overlapping source and destination
+            final double[] shifted = new double[geographic.length + 2];
+            System.arraycopy(geographic, 0, shifted, 0, geographic.length);
+            mt.transform(shifted, 0, shifted, 2, geographic.length / 2);
+            for (int i = 0; i < projected.length; i++) {
+                assertEquals(projected[i], shifted[i + 2], 1E-6);
+            }
+        }
+    }
+
+    /** Tests that the points which can not be projected are set to NaN without stopping the batch. */
+    @Test
+    public void testBatchFailure() throws FactoryException {
+        final MapProjection mt = createProjection("Mercator_1SP");
+        final double[] pts = {10, 45, 10, 90, 20, -45};
+        try {
+            mt.transform(pts, 0, pts, 0, 3);
+            fail("Expected a ProjectionException");
+        } catch (ProjectionException e) {
+            assertNotNull(e.getMessage());
+        }
+        assertTrue(Double.isNaN(pts[2]) && Double.isNaN(pts[3]));
+        assertEquals(1113194.9, pts[0], 0.1);
+        assertEquals(2226389.8, pts[4], 0.1);
+        assertTrue(pts[5] < 0);
+    }
 }
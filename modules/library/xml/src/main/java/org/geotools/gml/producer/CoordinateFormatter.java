@@ -93,6 +93,18 @@ private String repeatZeros(int num) {
 
     /** Formats a number with the configured number of decimals */
     public StringBuffer format(double x, StringBuffer sb) {
+        if (!padWithZeros) {
+            // append straight to the buffer, without building an intermediate string
+            if ((Math.abs(x) >= DECIMAL_MIN && Math.abs(x) < DECIMAL_MAX) || x == 0) {
+                x = truncate(x);
+                long lx = (long) x;
+                return lx == x ? sb.append(lx) : sb.append(x);
+            } else if (forcedDecimal) {
+                return coordFormatter.format(x, sb, ZERO);
+            } else {
+                return sb.append(truncate(x));
+            }
+        }
         String formatted;
         if ((Math.abs(x) >= DECIMAL_MIN && Math.abs(x) < DECIMAL_MAX) || x == 0) {
             x = truncate(x);
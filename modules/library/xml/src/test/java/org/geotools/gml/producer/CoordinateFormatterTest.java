@@ -84,6 +84,20 @@ public void testDECIMAL_MAX() {
         Assert.assertEquals("-2139681400.12346", formatter.format(-2139681400.123456));
     }
 
+    @Test
+    public void testFormatAppends() {
+        CoordinateFormatter formatter = new CoordinateFormatter(3);
+        StringBuffer sb = new StringBuffer("x=");
+        formatter.format(10.12345, sb).append(' ');
+        formatter.format(5, sb).append(' ');
+        formatter.format(21396814.969, sb).append(' ');
+        formatter.setForcedDecimal(true);
+        formatter.format(21396814.969, sb).append(' ');
+        formatter.setPadWithZeros(true);
+        formatter.format(1.5, sb);
+        Assert.assertEquals("x=10.123 5 2.1396814969E7 21396814.969 1.500", sb.toString());
+    }
+
     @Test
     public void testTruncate() {
         CoordinateFormatter formatter = new CoordinateFormatter(1);
@@ -0,0 +1,186 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.coverage.io.netcdf.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.data.Repository;
+import org.geotools.imageio.netcdf.NetCDFImageReader;
+import org.geotools.imageio.netcdf.NetCDFImageReaderSpi;
+import org.geotools.util.SharedThreadPool;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Builds the sidecar slice indexes of a set of NetCDF files in parallel, so that opening them later (e.g., when
+ * harvesting thousands of files in an image mosaic) does not require scanning their headers one by one.
+ *
+ * <p>Each file is scanned by its own {@link NetCDFImageReader}. The slices catalog is stored in the datastore
+ * configured by {@link #setAuxiliaryDatastorePath(String)}, which should point to a shared store when indexing many
+ * files, to avoid the creation of a H2 database for each of them.
+ */
+public class NetCDFIndexBuilder {
+
+    static final Logger LOGGER = Logging.getLogger(NetCDFIndexBuilder.class);
+
+    private static final NetCDFImageReaderSpi SPI = new NetCDFImageReaderSpi();
+
+    private int concurrency = SharedThreadPool.getParallelism();
+
+    private String auxiliaryFilesPath;
+
+    private String auxiliaryDatastorePath;
+
+    private Repository repository;
+
+    private boolean failureIgnored;
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /** Sets the maximum number of files indexed in parallel, in the {@link SharedThreadPool} */
+    public void setConcurrency(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive: " + concurrency);
+        }
+        this.concurrency = concurrency;
+    }
+
+    public String getAuxiliaryFilesPath() {
+        return auxiliaryFilesPath;
+    }
+
+    /** Sets the path of the indexer XML file shared by the files, if any */
+    public void setAuxiliaryFilesPath(String auxiliaryFilesPath) {
+        this.auxiliaryFilesPath = auxiliaryFilesPath;
+    }
+
+    public String getAuxiliaryDatastorePath() {
+        return auxiliaryDatastorePath;
+    }
+
+    /** Sets the path of the datastore properties file configuring the slices catalog store */
+    public void setAuxiliaryDatastorePath(String auxiliaryDatastorePath) {
+        this.auxiliaryDatastorePath = auxiliaryDatastorePath;
+    }
+
+    public Repository getRepository() {
+        return repository;
+    }
+
+    /** Sets the repository used to lookup the catalog store, when referenced by name */
+    public void setRepository(Repository repository) {
+        this.repository = repository;
+    }
+
+    public boolean isFailureIgnored() {
+        return failureIgnored;
+    }
+
+    /** When true, files that cannot be indexed are logged and skipped instead of stopping the build */
+    public void setFailureIgnored(boolean failureIgnored) {
+        this.failureIgnored = failureIgnored;
+    }
+
+    /**
+     * Indexes the given files.
+     *
+     * @param files the NetCDF files to index
+     * @return the number of slices found in each file, in the same order as the input. Files that failed to be indexed
+     *     are not included.
+     */
+    public Map<File, Integer> build(Collection<File> files) throws IOException {
+        ExecutorService executor = concurrency > 1 ? SharedThreadPool.getExecutor() : null;
+        Map<File, Integer> result = new LinkedHashMap<>();
+        if (executor == null) {
+            for (File file : files) {
+                try {
+                    result.put(file, index(file));
+                } catch (IOException | RuntimeException e) {
+                    handleFailure(file, e);
+                }
+            }
+            return result;
+        }
+        ArrayDeque<Map.Entry<File, Future<Integer>>> pending = new ArrayDeque<>();
+        try {
+            for (File file : files) {
+                if (pending.size() >= concurrency) {
+                    collect(pending.poll(), result);
+                }
+                pending.add(new AbstractMap.SimpleEntry<>(file, executor.submit(() -> index(file))));
+            }
+            while (!pending.isEmpty()) {
+                collect(pending.poll(), result);
+            }
+            return result;
+        } finally {
+            for (Map.Entry<File, Future<Integer>> entry : pending) {
+                entry.getValue().cancel(true);
+            }
+        }
+    }
+
+    private void collect(Map.Entry<File, Future<Integer>> entry, Map<File, Integer> result) throws IOException {
+        try {
+            result.put(entry.getKey(), entry.getValue().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while indexing NetCDF files", e);
+        } catch (ExecutionException e) {
+            handleFailure(entry.getKey(), e.getCause());
+        }
+    }
+
+    private void handleFailure(File file, Throwable cause) throws IOException {
+        if (failureIgnored) {
+            LOGGER.log(Level.WARNING, "Failed to index file: " + file, cause);
+        } else {
+            throw new IOException("Failed to index file: " + file, cause);
+        }
+    }
+
+    private int index(File file) throws IOException {
+        NetCDFImageReader reader = (NetCDFImageReader) SPI.createReaderInstance();
+        try {
+            if (repository != null) {
+                reader.setRepository(repository);
+            }
+            reader.setAuxiliaryFilesPath(auxiliaryFilesPath);
+            reader.setAuxiliaryDatastorePath(auxiliaryDatastorePath);
+            // opening the file builds the indexes if missing or outdated
+            reader.setInput(file);
+            int slices = reader.getNumImages(false);
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Indexed " + slices + " slices in " + file);
+            }
+            return slices;
+        } finally {
+            reader.dispose();
+        }
+    }
+}
@@ -16,16 +16,25 @@
  */
 package org.geotools.imageio.netcdf;
 
-import it.geosolutions.imageio.stream.eraf.EnhancedRandomAccessFile;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.geotools.imageio.netcdf.utilities.NetCDFUtilities;
+import org.geotools.util.NIOUtilities;
 import org.geotools.util.logging.Logging;
 
 /**
@@ -128,6 +137,10 @@ public boolean equals(Object obj) {
     /**
      * An wrapper for variable index files.
      *
+     * <p>The index file is memory mapped, so that slices can be looked up concurrently without reading the whole file
+     * in memory. Lookups share a read lock, {@link #dispose()} takes the write lock before unmapping the file, so that
+     * no lookup can read from an unmapped buffer.
+     *
      * @author Andrea Antonello
      * @author Simone Giannecchini, GeoSolutions
      */
@@ -139,7 +152,9 @@ public static class Slice2DIndexManager {
 
         private static long ADDRESS_POSITION = 4l;
 
-        private EnhancedRandomAccessFile raf;
+        private volatile MappedByteBuffer buffer;
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
         private File file;
 
@@ -152,9 +167,17 @@ public Slice2DIndexManager(File file) {
         }
 
         public void open() throws IOException {
-            raf = new EnhancedRandomAccessFile(file, "r");
-            raf.setByteOrder(ByteOrder.BIG_ENDIAN);
-            numberOfRecords = raf.readInt();
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("Slice index file is too large: " + file);
+                }
+                // the mapping stays valid after the channel is closed
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                mapped.order(ByteOrder.BIG_ENDIAN);
+                numberOfRecords = mapped.getInt(0);
+                buffer = mapped;
+            }
             if (NetCDFUtilities.TRACE_ENABLED) {
                 tracer = new Exception();
                 tracer.fillInStackTrace();
@@ -167,44 +190,64 @@ public void open() throws IOException {
          * @param imageIndex the imageIndex to look for.
          * @return the {@link Slice2DIndex} for the picked image.
          */
-        public synchronized Slice2DIndex getSlice2DIndex(int imageIndex) throws IOException {
-            // Synchronized these access due to the RAF usage.
-            // concurrent seeks and reads on the same RAF may
-            // may result into unexpected results
-            long addressPosition = ADDRESS_POSITION + imageIndex * ADDRESS_SIZE;
+        public Slice2DIndex getSlice2DIndex(int imageIndex) throws IOException {
+            lock.readLock().lock();
+            try {
+                MappedByteBuffer buffer = this.buffer;
+                if (buffer == null) {
+                    throw new IOException("Slice index manager is not open: " + file);
+                }
+                return read(buffer, imageIndex);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
 
-            raf.seek(addressPosition);
-            long dataPosition = raf.readLong();
-            long endDataPosition = raf.readLong();
+        private static Slice2DIndex read(MappedByteBuffer buffer, int imageIndex) {
+            // only absolute reads are used, so that concurrent lookups do not interfere
+            int addressPosition = (int) (ADDRESS_POSITION + imageIndex * ADDRESS_SIZE);
+            int dataPosition = (int) buffer.getLong(addressPosition);
+            int endDataPosition = (int) buffer.getLong(addressPosition + (int) ADDRESS_SIZE);
 
-            raf.seek(dataPosition);
-            int nextValue = raf.readInt();
+            int position = dataPosition;
+            int nextValue = buffer.getInt(position);
+            position += 4;
 
             int[] index;
             if (nextValue < 0) {
                 int dimensions = -nextValue;
                 index = new int[dimensions];
-                for (int i = 0; i < dimensions; i++) {
-                    index[i] = raf.readInt();
+                for (int i = 0; i < dimensions; i++, position += 4) {
+                    index[i] = buffer.getInt(position);
                 }
             } else { // backwards compatibility
                 index = new int[2];
                 index[VariableAdapter.T] = nextValue;
-                index[VariableAdapter.Z] = raf.readInt();
+                index[VariableAdapter.Z] = buffer.getInt(position);
+                position += 4;
             }
 
-            int stringSize = (int) (endDataPosition - raf.getFilePointer());
-            byte[] stringBytes = new byte[stringSize];
-            raf.read(stringBytes);
+            byte[] stringBytes = new byte[endDataPosition - position];
+            ByteBuffer names = buffer.duplicate();
+            names.position(position);
+            names.get(stringBytes);
             String varName = new String(stringBytes);
 
             return new Slice2DIndex(index, varName);
         }
 
         public void dispose() throws IOException {
-            if (raf != null) {
-                raf.close();
-                raf = null;
+            // wait for the running lookups, the buffer cannot be read once unmapped
+            lock.writeLock().lock();
+            try {
+                MappedByteBuffer mapped = buffer;
+                if (mapped != null) {
+                    buffer = null;
+                    // unmap eagerly, the file could not be deleted on Windows otherwise
+                    NIOUtilities.clean(mapped, true);
+                }
+            } finally {
+                lock.writeLock().unlock();
             }
         }
 
@@ -215,35 +258,36 @@ public void dispose() throws IOException {
          * @param indexList the list of {@link Slice2DIndex} to dump to file.
          */
         public static void writeIndexFile(File file, List<Slice2DIndex> indexList) throws IOException {
-            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
-                int size = indexList.size();
-                // write number of records
-                raf.writeInt(size);
-                long dataPosition = ADDRESS_POSITION + (size + 1) * ADDRESS_SIZE; // the +1 is to have the end address
-
-                long[] pointer = new long[size];
-                raf.seek(dataPosition);
+            int size = indexList.size();
+            long dataPosition = ADDRESS_POSITION + (size + 1) * ADDRESS_SIZE; // the +1 is to have the end address
 
+            // serialize the records first, to compute their addresses, then write everything in one go
+            ByteArrayOutputStream records = new ByteArrayOutputStream();
+            long[] pointer = new long[size + 1];
+            try (DataOutputStream data = new DataOutputStream(records)) {
                 for (int i = 0; i < size; i++) {
                     Slice2DIndex sliceNDIndex = indexList.get(i);
-                    long pos = raf.getFilePointer();
-                    pointer[i] = pos;
+                    pointer[i] = dataPosition + data.size();
                     // write as negative value, so if negative is missing -> old file (backwards
                     // compatibility)
-                    raf.writeInt(-sliceNDIndex.getNCount());
+                    data.writeInt(-sliceNDIndex.getNCount());
                     for (int j = 0; j < sliceNDIndex.getNCount(); j++) {
-                        raf.writeInt(sliceNDIndex.getNIndex(j));
+                        data.writeInt(sliceNDIndex.getNIndex(j));
                     }
-                    raf.write(sliceNDIndex.getVariableName().getBytes());
+                    data.write(sliceNDIndex.getVariableName().getBytes());
                 }
-                long dataEnd = raf.getFilePointer();
+                // add also the data end position
+                pointer[size] = dataPosition + data.size();
+            }
 
-                raf.seek(ADDRESS_POSITION);
+            try (DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+                // write number of records
+                out.writeInt(size);
                 for (long address : pointer) {
-                    raf.writeLong(address);
+                    out.writeLong(address);
                 }
-                // add also the data end position
-                raf.writeLong(dataEnd);
+                records.writeTo(out);
             }
         }
 
@@ -254,7 +298,7 @@ public int getNumberOfRecords() throws IOException {
         @Override
         @SuppressWarnings("deprecation") // finalize is deprecated in Java 9
         protected void finalize() throws Throwable {
-            if (raf != null) {
+            if (buffer != null) {
                 LOGGER.warning("There is code leaving slice index managers open, this might cause "
                         + "issues with file deletion on Windows!");
                 if (NetCDFUtilities.TRACE_ENABLED) {
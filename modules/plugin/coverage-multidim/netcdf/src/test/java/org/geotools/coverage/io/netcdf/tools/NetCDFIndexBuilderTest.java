@@ -0,0 +1,88 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.coverage.io.netcdf.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.io.FileUtils;
+import org.geotools.coverage.io.netcdf.NetCDFMosaicReaderTest;
+import org.geotools.imageio.netcdf.NetCDFImageReader;
+import org.geotools.imageio.netcdf.NetCDFImageReaderSpi;
+import org.geotools.test.TestData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class NetCDFIndexBuilderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testParallelBuild() throws Exception {
+        List<File> files = new ArrayList<>();
+        for (String name : new String[] {"O3-NO2.nc", "O3-NO2-noZ.nc", "O3NO2-noZ.nc"}) {
+            File source = TestData.file(NetCDFMosaicReaderTest.class, name);
+            File target = new File(folder.getRoot(), name);
+            FileUtils.copyFile(source, target);
+            files.add(target);
+        }
+
+        NetCDFIndexBuilder builder = new NetCDFIndexBuilder();
+        builder.setConcurrency(3);
+        Map<File, Integer> slices = builder.build(files);
+        assertEquals(files, new ArrayList<>(slices.keySet()));
+
+        // the indexes are in place, and match what a reader finds
+        NetCDFImageReaderSpi spi = new NetCDFImageReaderSpi();
+        for (File file : files) {
+            NetCDFImageReader reader = (NetCDFImageReader) spi.createReaderInstance();
+            try {
+                reader.setInput(file);
+                int numImages = reader.getNumImages(false);
+                assertTrue(numImages > 0);
+                assertEquals(numImages, (int) slices.get(file));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @Test
+    public void testFailures() throws Exception {
+        File invalid = folder.newFile("invalid.nc");
+        FileUtils.writeStringToFile(invalid, "not a netcdf file", "UTF-8");
+
+        NetCDFIndexBuilder builder = new NetCDFIndexBuilder();
+        try {
+            builder.build(List.of(invalid));
+            throw new AssertionError("Should have failed");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("invalid.nc"));
+        }
+
+        builder.setFailureIgnored(true);
+        assertFalse(builder.build(List.of(invalid)).containsKey(invalid));
+    }
+}
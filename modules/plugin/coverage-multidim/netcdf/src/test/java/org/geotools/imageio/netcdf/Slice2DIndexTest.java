@@ -0,0 +1,144 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.imageio.netcdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.geotools.imageio.netcdf.Slice2DIndex.Slice2DIndexManager;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class Slice2DIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        List<Slice2DIndex> slices = new ArrayList<>();
+        for (int t = 0; t < 50; t++) {
+            for (int z = 0; z < 20; z++) {
+                slices.add(new Slice2DIndex(new int[] {t, z}, t % 2 == 0 ? "O3" : "NO2"));
+            }
+        }
+        slices.add(new Slice2DIndex(new int[] {1, 2, 3}, "fivedim"));
+        File file = folder.newFile("test.idx");
+        Slice2DIndexManager.writeIndexFile(file, slices);
+
+        Slice2DIndexManager manager = new Slice2DIndexManager(file);
+        manager.open();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(slices.size(), manager.getNumberOfRecords());
+            // concurrent lookups, in different orders
+            List<Future<?>> futures = new ArrayList<>();
+            for (int k = 0; k < 4; k++) {
+                int step = k + 1;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < slices.size(); i++) {
+                        int imageIndex = (i * step) % slices.size();
+                        assertEquals(slices.get(imageIndex), manager.getSlice2DIndex(imageIndex));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            manager.dispose();
+        }
+    }
+
+    @Test
+    public void testDisposeDuringLookups() throws Exception {
+        List<Slice2DIndex> slices = new ArrayList<>();
+        for (int t = 0; t < 1000; t++) {
+            slices.add(new Slice2DIndex(new int[] {t, 0}, "O3"));
+        }
+        File file = folder.newFile("dispose.idx");
+        Slice2DIndexManager.writeIndexFile(file, slices);
+
+        Slice2DIndexManager manager = new Slice2DIndexManager(file);
+        manager.open();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch started = new CountDownLatch(4);
+        try {
+            // lookups keep running until the manager is disposed, then fail cleanly
+            List<Future<IOException>> futures = new ArrayList<>();
+            for (int k = 0; k < 4; k++) {
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    try {
+                        for (int i = 0; ; i = (i + 1) % slices.size()) {
+                            assertEquals(slices.get(i), manager.getSlice2DIndex(i));
+                        }
+                    } catch (IOException e) {
+                        return e;
+                    }
+                }));
+            }
+            started.await();
+            manager.dispose();
+            for (Future<IOException> future : futures) {
+                assertNotNull(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLegacyFormat() throws Exception {
+        // old files store the time and elevation indexes only, without the dimension count
+        File file = folder.newFile("legacy.idx");
+        byte[] name = "temperature".getBytes();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(1);
+            long dataPosition = 4 + 2 * 8;
+            out.writeLong(dataPosition);
+            out.writeLong(dataPosition + 8 + name.length);
+            out.writeInt(3);
+            out.writeInt(5);
+            out.write(name);
+        }
+
+        Slice2DIndexManager manager = new Slice2DIndexManager(file);
+        manager.open();
+        try {
+            Slice2DIndex slice = manager.getSlice2DIndex(0);
+            assertEquals("temperature", slice.getVariableName());
+            assertEquals(3, slice.getNIndex(VariableAdapter.T));
+            assertEquals(5, slice.getNIndex(VariableAdapter.Z));
+        } finally {
+            manager.dispose();
+        }
+    }
+}
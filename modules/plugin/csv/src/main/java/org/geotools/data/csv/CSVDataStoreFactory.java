@@ -120,6 +120,23 @@ public class CSVDataStoreFactory implements FileDataStoreFactorySpi {
             false,
             false,
             new KVP(Param.LEVEL, "advanced"));
+
+    public static final Param PARALLEL_PARSING = new Param(
+            "parallelParsing",
+            Boolean.class,
+            "Should the records be parsed in parallel, using multiple threads",
+            false,
+            false,
+            new KVP(Param.LEVEL, "advanced"));
+
+    public static final Param SPATIAL_INDEX = new Param(
+            "spatialIndex",
+            Boolean.class,
+            "Should a sidecar index of the records be used, caching the column types, count, bounds and points",
+            false,
+            false,
+            new KVP(Param.LEVEL, "advanced"));
+
     public static final Param[] parametersInfo = {
         FILE_PARAM,
         NAMESPACEP,
@@ -131,7 +148,9 @@ public class CSVDataStoreFactory implements FileDataStoreFactorySpi {
         QUOTEALL,
         QUOTECHAR,
         SEPERATORCHAR,
-        LINESEPSTRING
+        LINESEPSTRING,
+        PARALLEL_PARSING,
+        SPATIAL_INDEX
     };
 
     @Override
@@ -287,6 +306,14 @@ private FileDataStore createDataStoreFromFile(File file, URI namespace, Map<Stri
         if (lineSep != null) {
             csvStrategy.setLineSeparator(lineSep);
         }
+        Boolean parallelParsing = (Boolean) PARALLEL_PARSING.lookUp(params);
+        if (parallelParsing != null) {
+            csvStrategy.setParallelParsing(parallelParsing);
+        }
+        Boolean spatialIndex = (Boolean) SPATIAL_INDEX.lookUp(params);
+        if (spatialIndex != null) {
+            csvStrategy.setSpatialIndex(spatialIndex);
+        }
         CSVDataStore store = new CSVDataStore(csvFileState, csvStrategy);
         if (namespace != null) {
             store.setNamespaceURI(namespace.toString());
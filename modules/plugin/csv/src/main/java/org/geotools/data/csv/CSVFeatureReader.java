@@ -23,8 +23,12 @@
 import org.geotools.api.data.Query;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
 import org.geotools.data.csv.parse.CSVIterator;
 import org.geotools.data.csv.parse.CSVStrategy;
+import org.geotools.filter.visitor.ExtractBoundsFilterVisitor;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.locationtech.jts.geom.Envelope;
 
 public class CSVFeatureReader implements FeatureReader<SimpleFeatureType, SimpleFeature> {
 
@@ -38,7 +42,23 @@ public CSVFeatureReader(CSVStrategy csvStrategy) throws IOException {
 
     public CSVFeatureReader(CSVStrategy csvStrategy, Query query) throws IOException {
         this.featureType = csvStrategy.getFeatureType();
-        this.iterator = csvStrategy.iterator();
+        Envelope area = null;
+        if (csvStrategy.isSpatialIndex() && featureType.getGeometryDescriptor() != null) {
+            area = getFilterBounds(query.getFilter());
+        }
+        this.iterator = area != null ? csvStrategy.iterator(area) : csvStrategy.iterator();
+    }
+
+    /** Returns the bounds of the filter, or null if the filter is not spatially bounded */
+    private static Envelope getFilterBounds(Filter filter) {
+        if (filter == null) {
+            return null;
+        }
+        Envelope bbox = (Envelope) filter.accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, new ReferencedEnvelope());
+        if (bbox == null || Double.isInfinite(bbox.getWidth()) || Double.isInfinite(bbox.getHeight())) {
+            return null;
+        }
+        return bbox;
     }
 
     @Override
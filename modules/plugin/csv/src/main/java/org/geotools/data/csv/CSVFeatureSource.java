@@ -22,6 +22,8 @@
 import org.geotools.api.data.Query;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.data.csv.parse.CSVIndex;
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentFeatureSource;
 import org.geotools.geometry.jts.ReferencedEnvelope;
@@ -52,6 +54,13 @@ public CSVDataStore getDataStore() {
     @Override
     protected ReferencedEnvelope getBoundsInternal(Query query) throws IOException {
         ReferencedEnvelope bounds = new ReferencedEnvelope(getSchema().getCoordinateReferenceSystem());
+        if (query.getFilter() == Filter.INCLUDE && getSchema().getGeometryDescriptor() != null) {
+            CSVIndex index = getDataStore().getCSVStrategy().getIndex();
+            if (index != null && index.hasPoints()) {
+                bounds.expandToInclude(index.getBounds());
+                return bounds;
+            }
+        }
         try (FeatureReader<SimpleFeatureType, SimpleFeature> featureReader = getReader(query)) {
             while (featureReader.hasNext()) {
                 SimpleFeature feature = featureReader.next();
@@ -63,6 +72,12 @@ protected ReferencedEnvelope getBoundsInternal(Query query) throws IOException {
 
     @Override
     protected int getCountInternal(Query query) throws IOException {
+        if (query.getFilter() == Filter.INCLUDE) {
+            CSVIndex index = getDataStore().getCSVStrategy().getIndex();
+            if (index != null) {
+                return index.getCount();
+            }
+        }
         try (FeatureReader<SimpleFeatureType, SimpleFeature> featureReader = getReaderInternal(query)) {
             int n = 0;
             while (featureReader.hasNext()) {
@@ -23,12 +23,16 @@
 import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvValidationException;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.URI;
+import java.nio.charset.Charset;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.apache.commons.io.FilenameUtils;
@@ -171,6 +175,22 @@ public CSVReader openCSVReader() throws IOException, CsvValidationException {
         return csvReader;
     }
 
+    /**
+     * Opens the raw bytes of the CSV contents, headers included, for the parsers working on bytes rather than
+     * characters. The bytes are encoded with {@link #getCharset()}.
+     */
+    public InputStream openInputStream() throws IOException {
+        if (file != null) {
+            return new FileInputStream(file);
+        }
+        return new ByteArrayInputStream(dataInput.getBytes(getCharset()));
+    }
+
+    /** Returns the charset used to read the CSV contents, the platform default one as for {@link FileReader} */
+    public Charset getCharset() {
+        return Charset.defaultCharset();
+    }
+
     public String[] getCSVHeaders() {
         if (headers == null) {
             throw new RuntimeException("Attempting to access unopened CSV Reader");
@@ -22,6 +22,7 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.geotools.api.feature.Property;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
@@ -40,7 +41,8 @@ public CSVAttributesOnlyStrategy(CSVFileState csvFileState) {
 
     @Override
     protected SimpleFeatureType buildFeatureType() {
-        SimpleFeatureTypeBuilder builder = createBuilder(csvFileState);
+        Map<String, Class<?>> typesFromData = findMostSpecificTypes();
+        SimpleFeatureTypeBuilder builder = createBuilder(csvFileState, csvFileState.getCSVHeaders(), typesFromData);
         return builder.buildFeatureType();
     }
 
@@ -0,0 +1,432 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.csv.parse;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.data.csv.CSVFileState;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * An index of the records of a local CSV file, allowing to get the column types, record count and bounds without
+ * scanning the file, and to read only the records whose point falls in an area.
+ *
+ * <p>The index holds the byte range of each record, the most specific type of each column as found by
+ * {@link CSVStrategy#findMostSpecificTypesFromData(com.opencsv.CSVReader, String[])}, and, when the strategy maps two
+ * columns to a point, the coordinates of each record. It is saved in a sidecar file, see {@link #getIndexFile(File)},
+ * and the points are loaded in a packed {@link STRtree} on the first query. The index records the size and last
+ * modification time of the source, and is {@link #isStale() stale} as soon as the source changes.
+ *
+ * @since 34.0
+ */
+public class CSVIndex {
+
+    static final Logger LOGGER = Logging.getLogger(CSVIndex.class);
+
+    /** Extension appended to the name of the source to get the index file */
+    public static final String EXTENSION = ".cix";
+
+    private static final int MAGIC = 0x43495831; // CIX1
+
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private final File source;
+
+    private final long sourceLength;
+
+    private final long sourceModified;
+
+    private final char separator;
+
+    private final char quotechar;
+
+    private final char escapechar;
+
+    private final String[] headers;
+
+    private final Class<?>[] types;
+
+    /** The x and y columns, or null if the records have no point */
+    private final int[] pointColumns;
+
+    private final int count;
+
+    private final long[] offsets;
+
+    private final int[] lengths;
+
+    /** Point of each record, two ordinates each, NaN for records whose coordinates are not numbers */
+    private final double[] points;
+
+    private final Envelope bounds;
+
+    private STRtree tree;
+
+    private CSVIndex(
+            File source,
+            long sourceLength,
+            long sourceModified,
+            char[] format,
+            String[] headers,
+            Class<?>[] types,
+            int[] pointColumns,
+            int count,
+            long[] offsets,
+            int[] lengths,
+            double[] points) {
+        this.source = source;
+        this.sourceLength = sourceLength;
+        this.sourceModified = sourceModified;
+        this.separator = format[0];
+        this.quotechar = format[1];
+        this.escapechar = format[2];
+        this.headers = headers;
+        this.types = types;
+        this.pointColumns = pointColumns;
+        this.count = count;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.points = points;
+        this.bounds = new Envelope();
+        if (points != null) {
+            for (int i = 0; i < count; i++) {
+                if (!Double.isNaN(points[2 * i]) && !Double.isNaN(points[2 * i + 1])) {
+                    bounds.expandToInclude(points[2 * i], points[2 * i + 1]);
+                }
+            }
+        }
+    }
+
+    /** Returns the sidecar index file of a CSV file */
+    public static File getIndexFile(File source) {
+        return new File(source.getParentFile(), source.getName() + EXTENSION);
+    }
+
+    /**
+     * Returns the index of a CSV file, reading it from the sidecar file if up to date, or building it and trying to
+     * save it otherwise. Failing to save the index is not an error, it is then kept in memory only.
+     *
+     * @param csvFileState The CSV file, whose headers have been read
+     * @param pointColumns The x and y columns, or null if the records have no point
+     */
+    public static CSVIndex getIndex(CSVFileState csvFileState, int[] pointColumns) throws IOException {
+        File indexFile = getIndexFile(csvFileState.getFile());
+        CSVIndex index = read(csvFileState.getFile(), indexFile);
+        if (index == null || !index.matches(csvFileState, pointColumns)) {
+            index = build(csvFileState, pointColumns);
+            try {
+                index.write(indexFile);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not write the CSV index " + indexFile, e);
+            }
+        }
+        return index;
+    }
+
+    /** Returns true if the index has been built with the same format, headers and point columns */
+    boolean matches(CSVFileState csvFileState, int[] pointColumns) {
+        return separator == csvFileState.getSeparator()
+                && quotechar == csvFileState.getQuotechar()
+                && escapechar == csvFileState.getEscapechar()
+                && Arrays.equals(headers, csvFileState.getCSVHeaders())
+                && Arrays.equals(this.pointColumns, pointColumns);
+    }
+
+    /**
+     * Builds the index scanning the CSV file. As with {@link CSVIterator}, the records following the first blank one
+     * are not indexed, but they are still used to find the column types.
+     *
+     * @param csvFileState The CSV file, whose headers have been read
+     * @param pointColumns The x and y columns, or null if the records have no point
+     */
+    public static CSVIndex build(CSVFileState csvFileState, int[] pointColumns) throws IOException {
+        File source = csvFileState.getFile();
+        long length = source.length();
+        long modified = source.lastModified();
+        String[] headers = csvFileState.getCSVHeaders();
+        Class<?>[] types = new Class<?>[headers.length];
+        // start off assuming Integers for everything
+        Arrays.fill(types, Integer.class);
+        int count = 0;
+        boolean ended = false;
+        long[] offsets = new long[1024];
+        int[] lengths = new int[1024];
+        double[] points = pointColumns != null ? new double[2 * 1024] : null;
+        CSVRecord record = new CSVRecord(
+                csvFileState.getSeparator(),
+                csvFileState.getQuotechar(),
+                csvFileState.getEscapechar(),
+                csvFileState.getCharset());
+        try (CSVRecordSplitter splitter = new CSVRecordSplitter(
+                new FileInputStream(source), csvFileState.getQuotechar(), csvFileState.getEscapechar())) {
+            // skip the headers
+            splitter.next(1);
+            CSVRecordSplitter.Chunk chunk;
+            while ((chunk = splitter.next(CHUNK_SIZE)) != null) {
+                for (int i = 0; i < chunk.count; i++) {
+                    record.reset(chunk.data, chunk.starts[i], chunk.ends[i]);
+                    // Read through the whole file in case the type changes in later rows
+                    int columns = Math.min(record.size(), headers.length);
+                    for (int c = 0; c < columns; c++) {
+                        types[c] = CSVStrategy.findMostSpecificType(
+                                types[c], record.get(c).trim());
+                    }
+                    // the iteration stops at the first blank record
+                    if (ended || headers.length > 1 && record.size() == 1 && record.isEmpty(0)) {
+                        ended = true;
+                        continue;
+                    }
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                        lengths = Arrays.copyOf(lengths, count * 2);
+                        if (points != null) {
+                            points = Arrays.copyOf(points, 2 * count * 2);
+                        }
+                    }
+                    offsets[count] = chunk.offset + chunk.starts[i];
+                    lengths[count] = chunk.ends[i] - chunk.starts[i];
+                    if (points != null) {
+                        points[2 * count] = getOrdinate(record, pointColumns[0]);
+                        points[2 * count + 1] = getOrdinate(record, pointColumns[1]);
+                    }
+                    count++;
+                }
+            }
+        }
+        char[] format = {csvFileState.getSeparator(), csvFileState.getQuotechar(), csvFileState.getEscapechar()};
+        return new CSVIndex(
+                source,
+                length,
+                modified,
+                format,
+                headers,
+                types,
+                pointColumns,
+                count,
+                Arrays.copyOf(offsets, count),
+                Arrays.copyOf(lengths, count),
+                points != null ? Arrays.copyOf(points, 2 * count) : null);
+    }
+
+    private static double getOrdinate(CSVRecord record, int column) {
+        if (column >= record.size()) {
+            return Double.NaN;
+        }
+        try {
+            return record.getDouble(column);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Reads the index of the source from the index file
+     *
+     * @return the index, or null if the index file is missing, stale or not readable
+     */
+    public static CSVIndex read(File source, File indexFile) {
+        if (!indexFile.exists()) {
+            return null;
+        }
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile), BLOCK_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                return null;
+            }
+            long length = in.readLong();
+            long modified = in.readLong();
+            if (length != source.length() || modified != source.lastModified()) {
+                return null;
+            }
+            char[] format = {in.readChar(), in.readChar(), in.readChar()};
+            int columns = in.readInt();
+            String[] headers = new String[columns];
+            Class<?>[] types = new Class<?>[columns];
+            for (int i = 0; i < columns; i++) {
+                headers[i] = in.readUTF();
+                types[i] = Class.forName(in.readUTF(), false, CSVIndex.class.getClassLoader());
+            }
+            int[] pointColumns = null;
+            if (in.readBoolean()) {
+                pointColumns = new int[] {in.readInt(), in.readInt()};
+            }
+            int count = in.readInt();
+            long[] offsets = new long[count];
+            int[] lengths = new int[count];
+            double[] points = pointColumns != null ? new double[2 * count] : null;
+            for (int i = 0; i < count; i++) {
+                offsets[i] = in.readLong();
+                lengths[i] = in.readInt();
+                if (points != null) {
+                    points[2 * i] = in.readDouble();
+                    points[2 * i + 1] = in.readDouble();
+                }
+            }
+            return new CSVIndex(
+                    source, length, modified, format, headers, types, pointColumns, count, offsets, lengths, points);
+        } catch (IOException | ClassNotFoundException e) {
+            LOGGER.log(Level.FINE, "Could not read the CSV index " + indexFile + ", rebuilding it", e);
+            return null;
+        }
+    }
+
+    /** Writes the index to the given file, replacing it atomically where the file system allows */
+    public void write(File indexFile) throws IOException {
+        // written aside and moved in place, so that concurrent readers never see a partial index
+        File directory = indexFile.getAbsoluteFile().getParentFile();
+        File tmp = File.createTempFile(indexFile.getName(), ".tmp", directory);
+        boolean moved = false;
+        try {
+            writeContents(tmp);
+            try {
+                Files.move(
+                        tmp.toPath(),
+                        indexFile.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            moved = true;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(tmp.toPath());
+            }
+        }
+    }
+
+    private void writeContents(File indexFile) throws IOException {
+        try (OutputStream os = new FileOutputStream(indexFile);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, BLOCK_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeLong(sourceLength);
+            out.writeLong(sourceModified);
+            out.writeChar(separator);
+            out.writeChar(quotechar);
+            out.writeChar(escapechar);
+            out.writeInt(headers.length);
+            for (int i = 0; i < headers.length; i++) {
+                out.writeUTF(headers[i]);
+                out.writeUTF(types[i].getName());
+            }
+            out.writeBoolean(pointColumns != null);
+            if (pointColumns != null) {
+                out.writeInt(pointColumns[0]);
+                out.writeInt(pointColumns[1]);
+            }
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                out.writeLong(offsets[i]);
+                out.writeInt(lengths[i]);
+                if (points != null) {
+                    out.writeDouble(points[2 * i]);
+                    out.writeDouble(points[2 * i + 1]);
+                }
+            }
+        }
+    }
+
+    /** Returns the indexed CSV file */
+    public File getSource() {
+        return source;
+    }
+
+    /** Returns true if the source has been modified since the index was built */
+    public boolean isStale() {
+        return source.length() != sourceLength || source.lastModified() != sourceModified;
+    }
+
+    /** Returns the most specific type of each column, keyed by header */
+    public Map<String, Class<?>> getTypes() {
+        Map<String, Class<?>> result = new HashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+            result.put(headers[i], types[i]);
+        }
+        return result;
+    }
+
+    /** Returns the number of records */
+    public int getCount() {
+        return count;
+    }
+
+    /** Returns true if the coordinates of the records have been indexed */
+    public boolean hasPoints() {
+        return points != null;
+    }
+
+    /** Returns the bounds of the record points, a null envelope if there are none */
+    public Envelope getBounds() {
+        return new Envelope(bounds);
+    }
+
+    long getOffset(int record) {
+        return offsets[record];
+    }
+
+    int getLength(int record) {
+        return lengths[record];
+    }
+
+    /** Returns the records whose point falls in the area, sorted by position in the file */
+    public int[] query(Envelope area) {
+        @SuppressWarnings("unchecked")
+        List<Integer> hits = getTree().query(area);
+        int[] result = new int[hits.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = hits.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private synchronized STRtree getTree() {
+        if (tree == null) {
+            STRtree result = new STRtree();
+            for (int i = 0; points != null && i < count; i++) {
+                double x = points[2 * i];
+                double y = points[2 * i + 1];
+                if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                    result.insert(new Envelope(x, x, y, y), i);
+                }
+            }
+            result.build();
+            tree = result;
+        }
+        return tree;
+    }
+}
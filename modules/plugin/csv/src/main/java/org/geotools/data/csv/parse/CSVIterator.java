@@ -20,22 +20,69 @@
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.data.csv.CSVFileState;
+import org.geotools.util.SharedThreadPool;
 
+/**
+ * Iterates over the features of a CSV file. The records are read by the OpenCSV parser, unless the strategy enables
+ * {@link CSVStrategy#setParallelParsing(boolean) parallel parsing}, in which case the file is split in chunks of
+ * complete records that are tokenized and decoded in the {@link SharedThreadPool}, the features being still returned in
+ * file order. When created over a {@link CSVIndex}, only the given records are read, by offset.
+ */
 public class CSVIterator implements Iterator<SimpleFeature>, Closeable {
 
+    /** Number of records decoded by each parallel task */
+    static final int BATCH_SIZE = 1024;
+
     private int idx;
 
     private SimpleFeature next;
 
-    private final CSVReader csvReader;
+    private CSVReader csvReader;
 
     private final CSVStrategy csvStrategy;
 
+    /** Parallel parsing state */
+    private ExecutorService executor;
+
+    private CSVRecordSplitter splitter;
+
+    private ArrayDeque<Future<List<SimpleFeature>>> batches;
+
+    private Iterator<SimpleFeature> batch;
+
+    private CSVFileState csvFileState;
+
+    /** Indexed read state */
+    private CSVIndex index;
+
+    private int[] hits;
+
+    private int hit;
+
+    private FileChannel channel;
+
+    private CSVRecord record;
+
+    private byte[] block;
+
+    private long blockStart;
+
+    private int blockLength;
+
     public CSVIterator(CSVFileState csvFileState, CSVStrategy csvStrategy) throws IOException {
         this.csvStrategy = csvStrategy;
         try {
@@ -45,6 +92,49 @@ public CSVIterator(CSVFileState csvFileState, CSVStrategy csvStrategy) throws IO
         }
         idx = 1;
         next = null;
+        if (csvStrategy.isParallelParsing()
+                && isByteParsable(csvFileState)
+                && (executor = SharedThreadPool.getExecutor()) != null) {
+            // the headers have been read, the records are split from the raw bytes
+            csvReader.close();
+            csvReader = null;
+            this.csvFileState = csvFileState;
+            // built before the tasks run
+            csvStrategy.getFeatureType();
+            splitter = new CSVRecordSplitter(
+                    csvFileState.openInputStream(), csvFileState.getQuotechar(), csvFileState.getEscapechar());
+            splitter.next(1);
+            batches = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Creates an iterator over the given records of an index
+     *
+     * @param hits The records, sorted by position in the file
+     */
+    CSVIterator(CSVFileState csvFileState, CSVStrategy csvStrategy, CSVIndex index, int[] hits) throws IOException {
+        this.csvStrategy = csvStrategy;
+        this.index = index;
+        this.hits = hits;
+        this.record = newRecord(csvFileState);
+        this.channel = FileChannel.open(index.getSource().toPath(), StandardOpenOption.READ);
+    }
+
+    private static boolean isByteParsable(CSVFileState csvFileState) {
+        return CSVRecord.isSupported(
+                csvFileState.getSeparator(),
+                csvFileState.getQuotechar(),
+                csvFileState.getEscapechar(),
+                csvFileState.getCharset());
+    }
+
+    private static CSVRecord newRecord(CSVFileState csvFileState) {
+        return new CSVRecord(
+                csvFileState.getSeparator(),
+                csvFileState.getQuotechar(),
+                csvFileState.getEscapechar(),
+                csvFileState.getCharset());
     }
 
     private SimpleFeature buildFeature(String[] csvRecord) {
@@ -68,9 +158,15 @@ public boolean hasNext() {
     }
 
     private SimpleFeature readFeature() throws IOException {
+        if (splitter != null) {
+            return readParallel();
+        }
+        if (index != null) {
+            return readIndexed();
+        }
         String[] record;
         try {
-            if ((record = csvReader.readNext()) != null) {
+            if (csvReader != null && (record = csvReader.readNext()) != null) {
 
                 return buildFeature(record);
             }
@@ -80,6 +176,86 @@ private SimpleFeature readFeature() throws IOException {
         return null;
     }
 
+    /** Keeps up to two batches per thread in flight, and returns their features in order */
+    private SimpleFeature readParallel() throws IOException {
+        while (batch == null || !batch.hasNext()) {
+            int maxBatches = SharedThreadPool.getMaxPending();
+            CSVRecordSplitter.Chunk chunk;
+            while (splitter != null && batches.size() < maxBatches && (chunk = splitter.next(BATCH_SIZE)) != null) {
+                final int first = idx;
+                final CSVRecordSplitter.Chunk records = chunk;
+                idx += chunk.count;
+                batches.add(executor.submit(() -> decode(records, first)));
+            }
+            Future<List<SimpleFeature>> future = batches.poll();
+            if (future == null) {
+                return null;
+            }
+            batch = SharedThreadPool.get(future).iterator();
+        }
+        SimpleFeature feature = batch.next();
+        if (feature == null) {
+            // a blank record ends the iteration, as with the sequential parsing
+            cancel();
+            batch = null;
+        }
+        return feature;
+    }
+
+    /** Decodes a chunk of records, a null feature terminating the list if a record could not be decoded */
+    private List<SimpleFeature> decode(CSVRecordSplitter.Chunk chunk, int first) {
+        CSVRecord csvRecord = newRecord(csvFileState);
+        List<SimpleFeature> result = new ArrayList<>(chunk.count);
+        for (int i = 0; i < chunk.count; i++) {
+            csvRecord.reset(chunk.data, chunk.starts[i], chunk.ends[i]);
+            SimpleFeature feature = csvStrategy.decode("fid" + (first + i), csvRecord);
+            result.add(feature);
+            if (feature == null) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the next indexed record. The records are sorted by offset, and read in blocks, so that the records close to
+     * each other are read at once.
+     */
+    private SimpleFeature readIndexed() throws IOException {
+        if (hit >= hits.length) {
+            return null;
+        }
+        int ordinal = hits[hit++];
+        long offset = index.getOffset(ordinal);
+        int length = index.getLength(ordinal);
+        if (block == null || offset < blockStart || offset + length > blockStart + blockLength) {
+            readBlock(offset, length);
+        }
+        int start = (int) (offset - blockStart);
+        record.reset(block, start, start + length);
+        // same identifiers as a full scan
+        return csvStrategy.decode("fid" + (ordinal + 1), record);
+    }
+
+    private void readBlock(long offset, int length) throws IOException {
+        int size = Math.max(length, CSVIndex.BLOCK_SIZE);
+        if (block == null || block.length < size) {
+            block = new byte[size];
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(block, 0, size);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset + buffer.position());
+            if (read < 0) {
+                break;
+            }
+        }
+        if (buffer.position() < length) {
+            throw new EOFException("Record at offset " + offset + " is past the end of the file, stale index?");
+        }
+        blockStart = offset;
+        blockLength = buffer.position();
+    }
+
     @Override
     public SimpleFeature next() {
         if (next != null) {
@@ -104,10 +280,30 @@ public void remove() {
         throw new UnsupportedOperationException("Cannot remove features from csv iteratore");
     }
 
+    private void cancel() throws IOException {
+        for (Future<List<SimpleFeature>> future : batches) {
+            future.cancel(true);
+        }
+        batches.clear();
+        if (splitter != null) {
+            splitter.close();
+            splitter = null;
+        }
+    }
+
     @Override
     public void close() {
         try {
-            csvReader.close();
+            if (csvReader != null) {
+                csvReader.close();
+            }
+            if (batches != null) {
+                cancel();
+            }
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
         } catch (IOException e) {
             // Who cares?
         }
@@ -17,9 +17,7 @@
  */
 package org.geotools.data.csv.parse;
 
-import com.opencsv.CSVReader;
 import com.opencsv.CSVWriter;
-import com.opencsv.exceptions.CsvValidationException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -48,6 +46,8 @@ public class CSVLatLonStrategy extends CSVStrategy {
     /** _CRS */
     public static final DefaultGeographicCRS _CRS = DefaultGeographicCRS.WGS84;
 
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
     private String latField;
 
     private String lngField;
@@ -71,27 +71,11 @@ public CSVLatLonStrategy(CSVFileState csvFileState, String latField, String lngF
 
     @Override
     protected SimpleFeatureType buildFeatureType() {
-        String[] headers;
-        Map<String, Class<?>> typesFromData;
-        try (CSVReader csvReader = csvFileState.openCSVReader()) {
-            headers = csvFileState.getCSVHeaders();
-
-            typesFromData = findMostSpecificTypesFromData(csvReader, headers);
-        } catch (IOException | CsvValidationException e) {
-            throw new RuntimeException(e);
-        }
+        Map<String, Class<?>> typesFromData = findMostSpecificTypes();
+        String[] headers = csvFileState.getCSVHeaders();
         SimpleFeatureTypeBuilder builder = createBuilder(csvFileState, headers, typesFromData);
 
-        // If the lat/lon fields were not specified, figure out their spelling now
-        if (latField == null || lngField == null) {
-            for (String col : headers) {
-                if (isLatitude(col)) {
-                    latField = col;
-                } else if (isLongitude(col)) {
-                    lngField = col;
-                }
-            }
-        }
+        guessFields(headers);
 
         // For LatLon strategy, we need to change the Lat and Lon columns
         // to be recognized as a Point rather than two numbers, if the
@@ -113,6 +97,32 @@ protected SimpleFeatureType buildFeatureType() {
         return builder.buildFeatureType();
     }
 
+    /** If the lat/lon fields were not specified, figure out their spelling now */
+    private void guessFields(String[] headers) {
+        if (latField == null || lngField == null) {
+            for (String col : headers) {
+                if (isLatitude(col)) {
+                    latField = col;
+                } else if (isLongitude(col)) {
+                    lngField = col;
+                }
+            }
+        }
+    }
+
+    /** The longitude is the x ordinate of the points, see {@link #decode(String, String[])} */
+    @Override
+    protected int[] getPointColumns(String[] headers) {
+        guessFields(headers);
+        List<String> csvHeaders = Arrays.asList(headers);
+        int lngIndex = csvHeaders.indexOf(lngField);
+        int latIndex = csvHeaders.indexOf(latField);
+        if (lngIndex < 0 || latIndex < 0) {
+            return null;
+        }
+        return new int[] {lngIndex, latIndex};
+    }
+
     private boolean isLatitude(String s) {
         return "latitude".equalsIgnoreCase(s) || "lat".equalsIgnoreCase(s);
     }
@@ -226,6 +236,76 @@ public SimpleFeature decode(String recordId, String[] csvRecord) {
         return builder.buildFeature(csvFileState.getTypeName() + "-" + recordId);
     }
 
+    /**
+     * Same as {@link #decode(String, String[])}, but parsing the coordinates and the numeric attributes straight from
+     * the bytes of the record
+     */
+    @Override
+    public SimpleFeature decode(String recordId, CSVRecord csvRecord) {
+        SimpleFeatureType featureType = getFeatureType();
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(featureType);
+        GeometryDescriptor geometryDescriptor = featureType.getGeometryDescriptor();
+        double lat = Double.NaN, lng = Double.NaN;
+        boolean hasLat = false, hasLng = false;
+        String[] headers = csvFileState.getCSVHeaders();
+
+        for (int i = 0; i < headers.length; i++) {
+            String header = headers[i];
+            if (i < csvRecord.size()) {
+                if (geometryDescriptor != null && header.equals(latField)) {
+                    lat = csvRecord.getDouble(i);
+                    hasLat = true;
+                } else if (geometryDescriptor != null && header.equals(lngField)) {
+                    lng = csvRecord.getDouble(i);
+                    hasLng = true;
+                } else if (!csvRecord.isBlank(i)) {
+                    builder.set(header, parse(csvRecord, i, featureType.getDescriptor(header)));
+                } else {
+                    builder.set(header, null);
+                }
+            } else {
+                if (csvRecord.size() == 1 && csvRecord.isEmpty(0)) {
+                    return null;
+                }
+                builder.set(header, null);
+            }
+        }
+        if (geometryDescriptor != null && hasLat && hasLng) {
+            Coordinate coordinate;
+            if (geometryDescriptor
+                    .getCoordinateReferenceSystem()
+                    .getCoordinateSystem()
+                    .getAxis(0)
+                    .getDirection()
+                    .equals(AxisDirection.EAST)) {
+                coordinate = new Coordinate(lng, lat);
+            } else {
+                coordinate = new Coordinate(lat, lng);
+            }
+            builder.set(geometryDescriptor.getLocalName(), GEOMETRY_FACTORY.createPoint(coordinate));
+        }
+
+        return builder.buildFeature(csvFileState.getTypeName() + "-" + recordId);
+    }
+
+    /** Parses numbers without going through a string, other values are left to the builder to convert */
+    private static Object parse(CSVRecord csvRecord, int i, AttributeDescriptor descriptor) {
+        Class<?> binding = descriptor != null ? descriptor.getType().getBinding() : null;
+        if (binding == Integer.class) {
+            Integer value = csvRecord.getInteger(i);
+            if (value != null) {
+                return value;
+            }
+        } else if (binding == Double.class) {
+            try {
+                return csvRecord.getDouble(i);
+            } catch (NumberFormatException e) {
+                // let the builder report it
+            }
+        }
+        return csvRecord.get(i).trim();
+    }
+
     @Override
     public String[] encode(SimpleFeature feature) {
         List<String> csvRecord = new ArrayList<>();
@@ -0,0 +1,310 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.csv.parse;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A CSV record tokenized in place over the bytes of the file. Only the field boundaries are located, the fields are
+ * decoded to strings, or parsed to numbers, when requested, so that numeric columns can be read without allocating a
+ * string for each value.
+ *
+ * <p>The quoting rules follow the ones of the OpenCSV parser used by {@link CSVIterator}: the quote character toggles
+ * quoting, a doubled quote inside a quoted field is a literal quote, the escape character makes the following quote or
+ * escape character literal, and the blanks before an opening quote are ignored. Line breaks inside quoted fields are
+ * returned as {@code \n}.
+ *
+ * <p>Instances are reused across records and are not thread safe.
+ *
+ * @since 34.0
+ */
+public class CSVRecord {
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    /** Maximum number of digits of a double parsed without falling back on {@link Double#parseDouble(String)} */
+    private static final int MAX_DOUBLE_DIGITS = 15;
+
+    private final byte separator;
+
+    private final byte quote;
+
+    private final byte escape;
+
+    private final Charset charset;
+
+    private byte[] buffer;
+
+    private int[] starts = new int[16];
+
+    private int[] ends = new int[16];
+
+    /** Whether each field holds quotes, escapes or carriage returns, and needs to be unescaped */
+    private boolean[] complex = new boolean[16];
+
+    private int size;
+
+    /**
+     * Creates a record for the given format, the characters must be ASCII ones and the charset an ASCII compatible one,
+     * see {@link #isSupported(char, char, char, Charset)}.
+     */
+    public CSVRecord(char separator, char quote, char escape, Charset charset) {
+        this.separator = (byte) separator;
+        this.quote = (byte) quote;
+        this.escape = (byte) escape;
+        this.charset = charset;
+    }
+
+    /** Returns true if records using these characters can be tokenized over the bytes encoded with the charset */
+    public static boolean isSupported(char separator, char quote, char escape, Charset charset) {
+        if (separator >= 128 || quote >= 128 || escape >= 128) {
+            return false;
+        }
+        String probe = "\n\r" + separator + quote + escape;
+        return Arrays.equals(probe.getBytes(charset), probe.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Tokenizes the record held by the buffer between start, inclusive, and end, exclusive, the line terminator being
+     * excluded
+     */
+    public void reset(byte[] buffer, int start, int end) {
+        this.buffer = buffer;
+        this.size = 0;
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        int p = start;
+        while (true) {
+            int fieldStart = p;
+            boolean inQuotes = false;
+            boolean hasSpecial = false;
+            while (p < end) {
+                byte b = buffer[p];
+                if (b == escape && p + 1 < end && (buffer[p + 1] == quote || buffer[p + 1] == escape)) {
+                    hasSpecial = true;
+                    p += 2;
+                    continue;
+                }
+                if (b == quote) {
+                    hasSpecial = true;
+                    inQuotes = !inQuotes;
+                } else if (b == separator && !inQuotes) {
+                    break;
+                } else if (b == '\r' || b == escape) {
+                    hasSpecial = true;
+                }
+                p++;
+            }
+            add(fieldStart, p, hasSpecial);
+            if (p >= end) {
+                break;
+            }
+            // skip the separator
+            p++;
+        }
+    }
+
+    private void add(int start, int end, boolean hasSpecial) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+            complex = Arrays.copyOf(complex, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        complex[size] = hasSpecial;
+        size++;
+    }
+
+    /** Returns the number of fields */
+    public int size() {
+        return size;
+    }
+
+    /** Returns the value of a field, unquoted and unescaped but not trimmed */
+    public String get(int i) {
+        if (!complex[i]) {
+            return new String(buffer, starts[i], ends[i] - starts[i], charset);
+        }
+        return new String(unescape(i), charset);
+    }
+
+    private byte[] unescape(int i) {
+        int start = starts[i];
+        int end = ends[i];
+        byte[] result = new byte[end - start];
+        int length = 0;
+        boolean inQuotes = false;
+        for (int p = start; p < end; p++) {
+            byte b = buffer[p];
+            if (b == escape && p + 1 < end && (buffer[p + 1] == quote || buffer[p + 1] == escape)) {
+                result[length++] = buffer[++p];
+            } else if (b == quote) {
+                if (inQuotes && p + 1 < end && buffer[p + 1] == quote) {
+                    result[length++] = quote;
+                    p++;
+                } else {
+                    inQuotes = !inQuotes;
+                    if (p > start && p + 1 < end) {
+                        if (isBlank(result, length)) {
+                            // blanks before the opening quote are ignored
+                            length = 0;
+                        } else {
+                            // a quote in the middle of the field is kept
+                            result[length++] = b;
+                        }
+                    }
+                }
+            } else if (b == escape) {
+                // not escaping anything, dropped
+            } else if (b == '\r' && p + 1 < end && buffer[p + 1] == '\n') {
+                // line breaks are returned as \n
+            } else {
+                result[length++] = b;
+            }
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    private static boolean isBlank(byte[] bytes, int length) {
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!Character.isWhitespace(bytes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns true if the field is empty */
+    public boolean isEmpty(int i) {
+        return complex[i] ? get(i).isEmpty() : starts[i] == ends[i];
+    }
+
+    /** Returns true if the field is empty once trimmed */
+    public boolean isBlank(int i) {
+        if (complex[i]) {
+            return get(i).trim().isEmpty();
+        }
+        return trimStart(i) >= trimEnd(i);
+    }
+
+    /**
+     * Parses a field as a double, as {@link Double#parseDouble(String)} would do on its trimmed value, without
+     * allocating a string for plain decimal numbers
+     *
+     * @throws NumberFormatException if the field is not a number
+     */
+    public double getDouble(int i) {
+        if (!complex[i]) {
+            int start = trimStart(i);
+            int end = trimEnd(i);
+            int p = start;
+            boolean negative = false;
+            if (p < end && (buffer[p] == '-' || buffer[p] == '+')) {
+                negative = buffer[p] == '-';
+                p++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int decimals = -1;
+            for (; p < end; p++) {
+                byte b = buffer[p];
+                if (b >= '0' && b <= '9') {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    if (decimals >= 0) {
+                        decimals++;
+                    }
+                } else if (b == '.' && decimals < 0) {
+                    decimals = 0;
+                } else {
+                    break;
+                }
+            }
+            if (p == end && digits > 0 && digits <= MAX_DOUBLE_DIGITS) {
+                // both the mantissa and the power of ten are exact, the division is correctly rounded
+                double value = decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+                return negative ? -value : value;
+            }
+        }
+        return Double.parseDouble(get(i));
+    }
+
+    /**
+     * Parses a field as an integer, without allocating a string
+     *
+     * @return the value, or null if the trimmed field is not a plain integer of at most nine digits
+     */
+    public Integer getInteger(int i) {
+        if (complex[i]) {
+            return null;
+        }
+        int start = trimStart(i);
+        int end = trimEnd(i);
+        int p = start;
+        boolean negative = false;
+        if (p < end && (buffer[p] == '-' || buffer[p] == '+')) {
+            negative = buffer[p] == '-';
+            p++;
+        }
+        if (p == end || end - p > 9) {
+            return null;
+        }
+        int value = 0;
+        for (; p < end; p++) {
+            byte b = buffer[p];
+            if (b < '0' || b > '9') {
+                return null;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private int trimStart(int i) {
+        int p = starts[i];
+        while (p < ends[i] && (buffer[p] & 0xFF) <= ' ') {
+            p++;
+        }
+        return p;
+    }
+
+    private int trimEnd(int i) {
+        int p = ends[i];
+        while (p > starts[i] && (buffer[p - 1] & 0xFF) <= ' ') {
+            p--;
+        }
+        return p;
+    }
+
+    /** Returns the values of all the fields */
+    public String[] toArray() {
+        String[] result = new String[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.csv.parse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Splits a CSV byte stream in chunks of complete records, tracking the quotes so that line breaks inside quoted fields
+ * do not end a record. Each chunk is a standalone copy of the bytes, and can be tokenized by {@link CSVRecord} in a
+ * different thread. Records are terminated by {@code \n}, optionally preceded by {@code \r}.
+ */
+class CSVRecordSplitter implements Closeable {
+
+    /** A run of consecutive records */
+    static class Chunk {
+
+        /** The bytes of the records */
+        final byte[] data;
+
+        /** Start of each record in data */
+        final int[] starts;
+
+        /** End of each record in data, excluding the line terminator */
+        final int[] ends;
+
+        final int count;
+
+        /** Position of the first byte of data in the source */
+        final long offset;
+
+        Chunk(byte[] data, int[] starts, int[] ends, int count, long offset) {
+            this.data = data;
+            this.starts = starts;
+            this.ends = ends;
+            this.count = count;
+            this.offset = offset;
+        }
+    }
+
+    private final InputStream input;
+
+    private final byte quote;
+
+    private final byte escape;
+
+    private byte[] buffer = new byte[64 * 1024];
+
+    private int limit;
+
+    private int position;
+
+    /** Start of the record being scanned */
+    private int recordStart;
+
+    /** Start of the chunk being collected, the buffer is never compacted past it */
+    private int chunkStart;
+
+    /** Position of buffer[0] in the source */
+    private long bufferOffset;
+
+    private boolean inQuotes;
+
+    private boolean escaped;
+
+    private boolean eof;
+
+    CSVRecordSplitter(InputStream input, char quote, char escape) {
+        this.input = input;
+        this.quote = (byte) quote;
+        this.escape = (byte) escape;
+    }
+
+    /** Returns the next records, up to the given count, or null at the end of the source */
+    Chunk next(int maxRecords) throws IOException {
+        int[] starts = new int[maxRecords];
+        int[] ends = new int[maxRecords];
+        int count = 0;
+        while (count < maxRecords) {
+            int end = scan();
+            if (end < 0) {
+                if (!fill()) {
+                    // the last record may lack a line terminator
+                    if (recordStart < limit) {
+                        starts[count] = recordStart - chunkStart;
+                        ends[count] = limit - chunkStart;
+                        count++;
+                        recordStart = limit;
+                    }
+                    break;
+                }
+                continue;
+            }
+            // relative to the chunk start, which the buffer compaction may move
+            starts[count] = recordStart - chunkStart;
+            ends[count] = end - chunkStart;
+            count++;
+            recordStart = position;
+        }
+        if (count == 0) {
+            return null;
+        }
+        byte[] data = Arrays.copyOfRange(buffer, chunkStart, recordStart);
+        Chunk chunk = new Chunk(data, starts, ends, count, bufferOffset + chunkStart);
+        chunkStart = recordStart;
+        return chunk;
+    }
+
+    /** Scans the buffer for the end of the current record, returns -1 if the buffer is exhausted first */
+    private int scan() {
+        while (position < limit) {
+            byte b = buffer[position++];
+            if (escaped) {
+                escaped = false;
+                if (b == quote || b == escape) {
+                    continue;
+                }
+            } else if (b == escape) {
+                escaped = true;
+                continue;
+            }
+            if (b == quote) {
+                inQuotes = !inQuotes;
+            } else if (b == '\n' && !inQuotes) {
+                return position - 1;
+            }
+        }
+        return -1;
+    }
+
+    /** Reads more bytes, moving the current chunk at the start of the buffer, returns false at the end */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (chunkStart > 0) {
+            System.arraycopy(buffer, chunkStart, buffer, 0, limit - chunkStart);
+            limit -= chunkStart;
+            position -= chunkStart;
+            recordStart -= chunkStart;
+            bufferOffset += chunkStart;
+            chunkStart = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = input.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -22,6 +22,7 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.geotools.api.feature.Property;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
@@ -48,7 +49,9 @@ public CSVSpecifiedWKTStrategy(CSVFileState csvFileState, String wktField) {
 
     @Override
     protected SimpleFeatureType buildFeatureType() {
-        SimpleFeatureTypeBuilder featureBuilder = createBuilder(csvFileState);
+        Map<String, Class<?>> typesFromData = findMostSpecificTypes();
+        SimpleFeatureTypeBuilder featureBuilder =
+                createBuilder(csvFileState, csvFileState.getCSVHeaders(), typesFromData);
         // For WKT strategy, we need to make sure the wktField is recognized as a Geometry
         AttributeDescriptor descriptor = featureBuilder.get(wktField);
         if (descriptor != null) {
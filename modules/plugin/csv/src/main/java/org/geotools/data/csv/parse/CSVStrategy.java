@@ -29,6 +29,7 @@
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.data.csv.CSVFileState;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.locationtech.jts.geom.Envelope;
 
 public abstract class CSVStrategy {
     /** logger */
@@ -44,18 +45,48 @@ public CSVIterator iterator() throws IOException {
         return new CSVIterator(csvFileState, this);
     }
 
+    /**
+     * Returns an iterator over the records whose point falls in the area, using the spatial index. Falls back on a full
+     * {@link #iterator()} when the file is not indexed, or its records have no point. The caller is expected to filter
+     * the features on their actual geometry.
+     */
+    public CSVIterator iterator(Envelope area) throws IOException {
+        CSVIndex index = getIndex();
+        if (area == null || index == null || !index.hasPoints()) {
+            return iterator();
+        }
+        return new CSVIterator(csvFileState, this, index, index.query(area));
+    }
+
     protected abstract SimpleFeatureType buildFeatureType();
 
     public abstract void createSchema(SimpleFeatureType featureType) throws IOException;
 
     public abstract SimpleFeature decode(String recordId, String[] csvRecord);
 
+    /**
+     * Decodes a record tokenized over the bytes of the file, as used by the parallel and indexed readers. The default
+     * implementation decodes the values of all the fields as strings, strategies can override it to parse the fields
+     * they need directly from the bytes. May be called concurrently from different threads.
+     *
+     * @since 34.0
+     */
+    public SimpleFeature decode(String recordId, CSVRecord csvRecord) {
+        return decode(recordId, csvRecord.toArray());
+    }
+
     public abstract String[] encode(SimpleFeature feature);
 
     protected volatile SimpleFeatureType featureType = null;
 
     private boolean writePrj = false;
 
+    private boolean parallelParsing = false;
+
+    private boolean spatialIndex = false;
+
+    private CSVIndex index;
+
     public SimpleFeatureType getFeatureType() {
         if (featureType == null) {
             synchronized (this) {
@@ -98,6 +129,24 @@ public static SimpleFeatureTypeBuilder createBuilder(
         return builder;
     }
 
+    /**
+     * Returns the most specific type of each column, from the spatial index when enabled, or performing a full file
+     * scan otherwise. The CSV headers are read as a side effect.
+     */
+    protected Map<String, Class<?>> findMostSpecificTypes() {
+        try {
+            CSVIndex index = getIndex();
+            if (index != null) {
+                return index.getTypes();
+            }
+            try (CSVReader csvReader = csvFileState.openCSVReader()) {
+                return findMostSpecificTypesFromData(csvReader, csvFileState.getCSVHeaders());
+            }
+        } catch (IOException | CsvValidationException e) {
+            throw new RuntimeException("Failure reading csv file", e);
+        }
+    }
+
     /**
      * Performs a full file scan attempting to guess the type of each column Specific strategy implementations will
      * expand this functionality by overriding the buildFeatureType() method.
@@ -125,24 +174,7 @@ protected static Map<String, Class<?>> findMostSpecificTypesFromData(CSVReader c
                     Class<?> type = result.get(header);
                     // For each value in the row, ensure we can still parse it as the
                     // defined type for this column; if not, make it more general
-                    if (type == Integer.class) {
-                        try {
-                            Integer.parseInt(value);
-                        } catch (NumberFormatException e) {
-                            try {
-                                Double.parseDouble(value);
-                                type = Double.class;
-                            } catch (NumberFormatException ex) {
-                                type = String.class;
-                            }
-                        }
-                    } else if (type == Double.class) {
-                        try {
-                            Double.parseDouble(value);
-                        } catch (NumberFormatException e) {
-                            type = String.class;
-                        }
-                    }
+                    type = findMostSpecificType(type, value);
                     result.put(header, type);
                     i++;
                 }
@@ -153,6 +185,64 @@ protected static Map<String, Class<?>> findMostSpecificTypesFromData(CSVReader c
         return result;
     }
 
+    /**
+     * Returns the most specific of Integer, Double and String able to represent both the given type and the given value
+     */
+    static Class<?> findMostSpecificType(Class<?> type, String value) {
+        if (type == Integer.class) {
+            try {
+                Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                try {
+                    Double.parseDouble(value);
+                    type = Double.class;
+                } catch (NumberFormatException ex) {
+                    type = String.class;
+                }
+            }
+        } else if (type == Double.class) {
+            try {
+                Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                type = String.class;
+            }
+        }
+        return type;
+    }
+
+    /**
+     * Returns the columns holding the x and y ordinates of the record points, or null if the records have no point.
+     * Used to build the spatial index.
+     *
+     * @param headers The CSV headers
+     * @since 34.0
+     */
+    protected int[] getPointColumns(String[] headers) {
+        return null;
+    }
+
+    /**
+     * Returns the index of the CSV file, building it on first access and whenever the file changes
+     *
+     * @return the index, or null if the spatial index is not enabled or the CSV contents are not held in a file
+     * @since 34.0
+     */
+    public synchronized CSVIndex getIndex() throws IOException {
+        if (!spatialIndex || csvFileState.getFile() == null) {
+            return null;
+        }
+        if (index == null || index.isStale()) {
+            try {
+                // makes sure the headers are read
+                csvFileState.openCSVReader().close();
+            } catch (CsvValidationException e) {
+                throw new IOException(e);
+            }
+            index = CSVIndex.getIndex(csvFileState, getPointColumns(csvFileState.getCSVHeaders()));
+        }
+        return index;
+    }
+
     /** @return the separator */
     public char getSeparator() {
         return csvFileState.getSeparator();
@@ -210,4 +300,34 @@ public void setWritePrj(boolean booleanValue) {
     public boolean isWritePrj() {
         return writePrj;
     }
+
+    /**
+     * Enables parsing the records in parallel, using the {@link org.geotools.util.SharedThreadPool}. Only used for
+     * ASCII separator, quote and escape characters, in files using \n or \r\n line terminators.
+     *
+     * @since 34.0
+     */
+    public void setParallelParsing(boolean parallelParsing) {
+        this.parallelParsing = parallelParsing;
+    }
+
+    /** @since 34.0 */
+    public boolean isParallelParsing() {
+        return parallelParsing;
+    }
+
+    /**
+     * Enables the {@link CSVIndex} sidecar file, caching the column types, record count, bounds and record offsets.
+     * Only used when the CSV contents are held in a file.
+     *
+     * @since 34.0
+     */
+    public void setSpatialIndex(boolean spatialIndex) {
+        this.spatialIndex = spatialIndex;
+    }
+
+    /** @since 34.0 */
+    public boolean isSpatialIndex() {
+        return spatialIndex;
+    }
 }
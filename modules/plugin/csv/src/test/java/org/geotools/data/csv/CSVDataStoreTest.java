@@ -13,34 +13,50 @@
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.Writer;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.Name;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.csv.parse.CSVIndex;
 import org.geotools.data.csv.parse.CSVLatLonStrategy;
 import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.referencing.CRS;
 import org.geotools.referencing.CRS.AxisOrder;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
 import org.geotools.test.TestData;
+import org.geotools.util.SharedThreadPool;
 import org.geotools.util.URLs;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Point;
 
 public class CSVDataStoreTest {
 
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
     private CSVDataStore csvDataStore;
 
     @Before
@@ -245,4 +261,95 @@ public void testLimitOffset() throws FileNotFoundException, IOException {
         assertEquals(3, matches.size());
         assertEquals(3, rows.getCount(query));
     }
+
+    @Test
+    public void testParallelParsing() throws Exception {
+        // enough records for several batches, some spanning multiple lines
+        File file = temp.newFile("parallel.csv");
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), Charset.defaultCharset())) {
+            writer.write("LAT,LON,CITY,NUMBER\n");
+            for (int i = 0; i < 5000; i++) {
+                String city = i % 7 == 0 ? "\"City \"\"" + i + "\"\",\nsecond line\"" : "City " + i;
+                writer.write((i % 180 - 90) + "." + i % 10 + "," + (i % 360 - 180) + ".25," + city + "," + i + "\r\n");
+            }
+        }
+        String threads = System.getProperty(SharedThreadPool.THREADS_KEY);
+        System.setProperty(SharedThreadPool.THREADS_KEY, "4");
+        try {
+            List<SimpleFeature> sequential = readAll(file, false);
+            List<SimpleFeature> parallel = readAll(file, true);
+            assertEquals(5000, sequential.size());
+            assertEquals(sequential.size(), parallel.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.get(i).getID(), parallel.get(i).getID());
+                assertEquals(sequential.get(i).getAttributes(), parallel.get(i).getAttributes());
+            }
+            assertEquals("City \"7\",\nsecond line", parallel.get(7).getAttribute("CITY"));
+        } finally {
+            if (threads == null) {
+                System.clearProperty(SharedThreadPool.THREADS_KEY);
+            } else {
+                System.setProperty(SharedThreadPool.THREADS_KEY, threads);
+            }
+        }
+    }
+
+    private List<SimpleFeature> readAll(File file, boolean parallel) throws IOException {
+        CSVFileState csvFileState = new CSVFileState(file);
+        CSVLatLonStrategy csvStrategy = new CSVLatLonStrategy(csvFileState);
+        csvStrategy.setParallelParsing(parallel);
+        CSVDataStore dataStore = new CSVDataStore(csvFileState, csvStrategy);
+        List<SimpleFeature> result = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = dataStore.getFeatureReader()) {
+            while (reader.hasNext()) {
+                result.add(reader.next());
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testSpatialIndex() throws Exception {
+        File file = temp.newFile("locations.csv");
+        try (InputStream is =
+                TestData.getResource(CSVDataStoreTest.class, "locations.csv").openStream()) {
+            Files.copy(is, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Map<String, Serializable> params = new HashMap<>();
+        params.put(CSVDataStoreFactory.FILE_PARAM.key, file);
+        params.put(CSVDataStoreFactory.STRATEGYP.key, CSVDataStoreFactory.GUESS_STRATEGY);
+        params.put(CSVDataStoreFactory.SPATIAL_INDEX.key, true);
+        CSVDataStore dataStore = (CSVDataStore) new CSVDataStoreFactory().createDataStore(params);
+        try {
+            SimpleFeatureSource source = dataStore.getFeatureSource();
+            assertEquals(
+                    Integer.class,
+                    source.getSchema().getDescriptor("NUMBER").getType().getBinding());
+            assertEquals(9, source.getCount(Query.ALL));
+            ReferencedEnvelope expected =
+                    new ReferencedEnvelope(-123.365556, 151.211111, -33.925278, 48.428611, DefaultGeographicCRS.WGS84);
+            assertTrue(source.getBounds().boundsEquals2D(expected, 0.0001));
+            assertTrue(CSVIndex.getIndexFile(file).exists());
+            // the index is written aside and moved in place, no temporary file is left behind
+            assertEquals(2, file.getParentFile().list().length);
+
+            FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+            Filter bbox = ff.bbox(
+                    ff.property("location"), new ReferencedEnvelope(-130, -70, 40, 50, DefaultGeographicCRS.WGS84));
+            List<String> cities = new ArrayList<>();
+            List<String> ids = new ArrayList<>();
+            try (SimpleFeatureIterator it = source.getFeatures(bbox).features()) {
+                while (it.hasNext()) {
+                    SimpleFeature feature = it.next();
+                    cities.add((String) feature.getAttribute("CITY"));
+                    ids.add(feature.getID());
+                }
+            }
+            assertEquals(Arrays.asList("St Paul", "Ottawa", "Minneapolis", "Victoria"), cities);
+            // same identifiers as a full scan
+            assertEquals(Arrays.asList("locations-fid2", "locations-fid4", "locations-fid5", "locations-fid7"), ids);
+        } finally {
+            dataStore.dispose();
+        }
+    }
 }
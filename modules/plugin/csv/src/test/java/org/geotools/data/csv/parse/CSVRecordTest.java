@@ -0,0 +1,114 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.csv.parse;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.opencsv.CSVReader;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.data.csv.CSVFileState;
+import org.junit.Test;
+
+public class CSVRecordTest {
+
+    private static final String INPUT = "a,b,c\n"
+            + "1,2.5,plain\r\n"
+            + "\"quoted, with separator\",\"doubled \"\" quote\",\"escaped \\\" quote\"\n"
+            + "\"multi\nline\", \"leading blanks\",trailing,\n"
+            + ",,\n"
+            + "-12, +3.25e2 ,last";
+
+    @Test
+    public void testSameAsOpenCSV() throws Exception {
+        CSVFileState state = new CSVFileState(INPUT, "test");
+        List<String[]> expected = new ArrayList<>();
+        try (CSVReader reader = state.openCSVReader()) {
+            String[] values;
+            while ((values = reader.readNext()) != null) {
+                expected.add(values);
+            }
+        }
+
+        List<String[]> actual = new ArrayList<>();
+        CSVRecord record = new CSVRecord(',', '"', '\\', StandardCharsets.UTF_8);
+        try (CSVRecordSplitter splitter =
+                new CSVRecordSplitter(new ByteArrayInputStream(INPUT.getBytes(StandardCharsets.UTF_8)), '"', '\\')) {
+            // skip the headers
+            splitter.next(1);
+            // small chunks, to cross the chunk boundaries
+            CSVRecordSplitter.Chunk chunk;
+            while ((chunk = splitter.next(2)) != null) {
+                for (int i = 0; i < chunk.count; i++) {
+                    record.reset(chunk.data, chunk.starts[i], chunk.ends[i]);
+                    actual.add(record.toArray());
+                }
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals("Record " + i, expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testNumbers() {
+        CSVRecord record = parse(" 12 ,-3.25,0.1,1e3,abc,12345678901,,+7");
+        assertEquals(12, record.getInteger(0).intValue());
+        assertEquals(12d, record.getDouble(0), 0d);
+        assertEquals(-3.25, record.getDouble(1), 0d);
+        assertNull(record.getInteger(1));
+        // same rounding as Double.parseDouble
+        assertEquals(Double.parseDouble("0.1"), record.getDouble(2), 0d);
+        assertEquals(1000d, record.getDouble(3), 0d);
+        assertNull(record.getInteger(4));
+        try {
+            record.getDouble(4);
+            fail("Expected a NumberFormatException");
+        } catch (NumberFormatException e) {
+            // expected
+        }
+        assertNull(record.getInteger(5));
+        assertEquals(12345678901d, record.getDouble(5), 0d);
+        assertTrue(record.isEmpty(6));
+        assertTrue(record.isBlank(6));
+        assertFalse(record.isBlank(0));
+        assertEquals(7, record.getInteger(7).intValue());
+    }
+
+    @Test
+    public void testSupported() {
+        assertTrue(CSVRecord.isSupported(',', '"', '\\', StandardCharsets.UTF_8));
+        assertTrue(CSVRecord.isSupported(';', '\'', '\\', StandardCharsets.ISO_8859_1));
+        assertFalse(CSVRecord.isSupported(',', '"', '\\', StandardCharsets.UTF_16));
+        assertFalse(CSVRecord.isSupported('§', '"', '\\', StandardCharsets.UTF_8));
+    }
+
+    private CSVRecord parse(String line) {
+        CSVRecord record = new CSVRecord(',', '"', '\\', StandardCharsets.UTF_8);
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        record.reset(bytes, 0, bytes.length);
+        return record;
+    }
+}
@@ -0,0 +1,572 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CompoundCRS;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.crs.DerivedCRS;
+import org.geotools.api.referencing.crs.EngineeringCRS;
+import org.geotools.api.referencing.crs.GeocentricCRS;
+import org.geotools.api.referencing.crs.GeographicCRS;
+import org.geotools.api.referencing.crs.ImageCRS;
+import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.api.referencing.crs.TemporalCRS;
+import org.geotools.api.referencing.crs.VerticalCRS;
+import org.geotools.util.logging.Logging;
+
+/**
+ * A binary snapshot of the coordinate reference systems of an authority factory. Each CRS is stored as a compressed
+ * serialized object, so that it can be restored with all the properties the factory gave it (identifiers, domain of
+ * validity, scope, ...) without the cost of the original factory (e.g., the extraction and startup of the EPSG
+ * database). The snapshot is memory mapped, only the table of codes is read when it is opened, and the CRS are
+ * deserialized one by one when requested.
+ *
+ * <p>The snapshot records the version of the database it has been built from, and the version of GeoTools which
+ * serialized it, since the serialized form is only guaranteed to be readable by the same GeoTools release.
+ *
+ * <p>Since deserialization can instantiate arbitrary classes, the snapshot is guarded in several ways: the file is
+ * written with owner-only permissions and is refused if other users can modify it, its SHA-256 digest is verified when
+ * it is opened, and the objects are read with a filter allowing only the concrete classes recorded while writing it,
+ * within fixed depth, reference and array length limits.
+ *
+ * @since 34.0
+ */
+public final class EpsgSnapshot {
+
+    static final Logger LOGGER = Logging.getLogger(EpsgSnapshot.class);
+
+    /** Magic number at the beginning of snapshot files ("GTES"). */
+    private static final int MAGIC = 0x47544553;
+
+    /** Version of the file format. */
+    private static final int FORMAT = 2;
+
+    /** The digest of the file content, stored at the end of the file. */
+    private static final String DIGEST = "SHA-256";
+
+    /** Length in bytes of the {@link #DIGEST}. */
+    private static final int DIGEST_LENGTH = 32;
+
+    /** The CRS interfaces, most specific first, indexed by the kind byte of the table of codes. */
+    private static final List<Class<? extends CoordinateReferenceSystem>> KINDS = List.of(
+            ProjectedCRS.class,
+            DerivedCRS.class,
+            GeographicCRS.class,
+            GeocentricCRS.class,
+            VerticalCRS.class,
+            TemporalCRS.class,
+            CompoundCRS.class,
+            ImageCRS.class,
+            EngineeringCRS.class,
+            CoordinateReferenceSystem.class);
+
+    /** Package prefixes of the classes which may be written to a snapshot. */
+    private static final String[] ALLOWED_PACKAGES = {
+        "org.geotools.", "java.", "javax.measure.", "tech.units.", "si.uom.", "systems.uom.", "tec.uom."
+    };
+
+    /** Maximum depth of the object graph of a CRS. */
+    private static final int MAX_DEPTH = 100;
+
+    /** Maximum number of objects in the graph of a CRS. */
+    private static final int MAX_REFERENCES = 10_000;
+
+    /** Maximum length of the arrays in the graph of a CRS. */
+    private static final int MAX_ARRAY_LENGTH = 10_000;
+
+    /** Maximum size in bytes of a serialized CRS. */
+    private static final int MAX_ENTRY_SIZE = 1 << 20;
+
+    /** The version of the database the snapshot has been built from. */
+    private final String version;
+
+    /** The GeoTools version which wrote the snapshot. */
+    private final String writer;
+
+    /** The names of the classes which have been serialized, the only ones allowed when deserializing. */
+    private final Set<String> classes;
+
+    /** The table of codes, in the order of the factory. */
+    private final Map<String, Entry> entries;
+
+    /** The serialized objects. */
+    private final ByteBuffer buffer;
+
+    private EpsgSnapshot(
+            final String version,
+            final String writer,
+            final Set<String> classes,
+            final Map<String, Entry> entries,
+            final ByteBuffer buffer) {
+        this.version = version;
+        this.writer = writer;
+        this.classes = classes;
+        this.entries = entries;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Builds a snapshot of all the coordinate reference systems of the given factory. Codes which can not be
+     * instantiated or serialized are skipped, and will be looked up in the original factory when requested.
+     *
+     * @param factory The factory to take a snapshot of.
+     * @param version The version of the database behind the factory.
+     * @param writer The version of GeoTools writing the snapshot.
+     * @param file The destination file, replaced atomically and readable by its owner only.
+     * @return The number of CRS written.
+     * @throws FactoryException if the codes of the factory can not be listed.
+     * @throws IOException if the file can not be written.
+     */
+    public static int write(
+            final CRSAuthorityFactory factory, final String version, final String writer, final File file)
+            throws FactoryException, IOException {
+        final long start = System.currentTimeMillis();
+        final List<String> codes = new ArrayList<>();
+        final List<Byte> kinds = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        final List<Integer> sizes = new ArrayList<>();
+        final ByteArrayOutputStream blobs = new ByteArrayOutputStream(1 << 20);
+        final List<Integer> offsets = new ArrayList<>();
+        final Set<String> classes = new TreeSet<>();
+        final Set<String> entryClasses = new HashSet<>();
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            for (final String code : factory.getAuthorityCodes(CoordinateReferenceSystem.class)) {
+                final CoordinateReferenceSystem crs;
+                final byte[] serialized;
+                try {
+                    crs = factory.createCoordinateReferenceSystem(code);
+                    entryClasses.clear();
+                    serialized = serialize(crs, entryClasses);
+                } catch (FactoryException | IOException | RuntimeException e) {
+                    LOGGER.log(Level.FINEST, "Could not add '" + code + "' to the snapshot", e);
+                    continue;
+                }
+                codes.add(code);
+                kinds.add(kind(crs));
+                names.add(crs.getName().getCode());
+                sizes.add(serialized.length);
+                offsets.add(blobs.size());
+                blobs.write(compress(serialized, deflater));
+                classes.addAll(entryClasses);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        final Path temp = createTempFile(file);
+        try {
+            final MessageDigest digest = digest();
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp));
+                    DataOutputStream data = new DataOutputStream(new DigestOutputStream(out, digest))) {
+                data.writeInt(MAGIC);
+                data.writeInt(FORMAT);
+                data.writeUTF(version);
+                data.writeUTF(writer);
+                data.writeInt(classes.size());
+                for (final String name : classes) {
+                    data.writeUTF(name);
+                }
+                data.writeInt(codes.size());
+                for (int i = 0; i < codes.size(); i++) {
+                    final int end = i + 1 < offsets.size() ? offsets.get(i + 1) : blobs.size();
+                    data.writeUTF(codes.get(i));
+                    data.writeByte(kinds.get(i));
+                    data.writeUTF(names.get(i));
+                    data.writeInt(offsets.get(i));
+                    data.writeInt(end - offsets.get(i));
+                    data.writeInt(sizes.get(i));
+                }
+                data.writeInt(blobs.size());
+                blobs.writeTo(data);
+                data.flush();
+                out.write(digest.digest());
+            }
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Wrote " + codes.size() + " CRS to the snapshot " + file + " in "
+                    + (System.currentTimeMillis() - start) + "ms");
+        }
+        return codes.size();
+    }
+
+    /**
+     * Opens a snapshot written by {@link #write}.
+     *
+     * @param file The snapshot file.
+     * @return The snapshot.
+     * @throws IOException if the file can not be read, is not a snapshot, has been modified since it was written or can
+     *     be modified by other users than its owner.
+     */
+    public static EpsgSnapshot open(final File file) throws IOException {
+        checkPermissions(file.toPath());
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+                FileChannel channel = raf.getChannel()) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large: " + file);
+            }
+            if (channel.size() < DIGEST_LENGTH) {
+                throw new IOException("Not a CRS snapshot: " + file);
+            }
+            final ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            // Nothing is deserialized before the content has been checked against the digest.
+            final ByteBuffer content = mapped.duplicate().limit(mapped.capacity() - DIGEST_LENGTH);
+            final byte[] expected = new byte[DIGEST_LENGTH];
+            mapped.duplicate().position(content.limit()).get(expected);
+            final MessageDigest digest = digest();
+            digest.update(content.duplicate());
+            if (!MessageDigest.isEqual(expected, digest.digest())) {
+                throw new IOException("Corrupted CRS snapshot: " + file);
+            }
+            final DataInputStream data = new DataInputStream(new ByteBufferInputStream(content));
+            if (data.readInt() != MAGIC) {
+                throw new IOException("Not a CRS snapshot: " + file);
+            }
+            final int format = data.readInt();
+            if (format != FORMAT) {
+                throw new IOException("Unsupported CRS snapshot format " + format + ": " + file);
+            }
+            final String version = data.readUTF();
+            final String writer = data.readUTF();
+            final int classCount = data.readInt();
+            final Set<String> classes = new HashSet<>();
+            for (int i = 0; i < classCount; i++) {
+                classes.add(data.readUTF());
+            }
+            final int count = data.readInt();
+            final Map<String, Entry> entries = new LinkedHashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                final String code = data.readUTF();
+                final byte kind = data.readByte();
+                if (kind < 0 || kind >= KINDS.size()) {
+                    throw new IOException("Corrupted CRS snapshot: " + file);
+                }
+                final Entry entry = new Entry(kind, data.readUTF(), data.readInt(), data.readInt(), data.readInt());
+                if (entry.size < 0 || entry.size > MAX_ENTRY_SIZE) {
+                    throw new IOException("Corrupted CRS snapshot: " + file);
+                }
+                entries.put(code, entry);
+            }
+            final int length = data.readInt();
+            if (length != content.remaining()) {
+                throw new IOException("Truncated CRS snapshot: " + file);
+            }
+            final ByteBuffer blobs = content.slice();
+            return new EpsgSnapshot(
+                    version, writer, Collections.unmodifiableSet(classes), Collections.unmodifiableMap(entries), blobs);
+        }
+    }
+
+    /** Returns the version of the database the snapshot has been built from. */
+    public String getVersion() {
+        return version;
+    }
+
+    /** Returns the version of GeoTools which wrote the snapshot. */
+    public String getWriter() {
+        return writer;
+    }
+
+    /** Returns the codes in the snapshot, in the order of the original factory. */
+    public Iterable<String> getCodes() {
+        return entries.keySet();
+    }
+
+    /** Returns the number of CRS in the snapshot. */
+    public int size() {
+        return entries.size();
+    }
+
+    /** Returns {@code true} if the snapshot contains the given code. */
+    public boolean contains(final String code) {
+        return entries.containsKey(code);
+    }
+
+    /**
+     * Returns the most specific CRS interface of the object for the given code.
+     *
+     * @return The CRS interface, or {@code null} if the code is not in the snapshot.
+     */
+    public Class<? extends CoordinateReferenceSystem> getType(final String code) {
+        final Entry entry = entries.get(code);
+        return entry != null ? KINDS.get(entry.kind) : null;
+    }
+
+    /**
+     * Returns the name of the object for the given code, without deserializing it.
+     *
+     * @return The name, or {@code null} if the code is not in the snapshot.
+     */
+    public String getName(final String code) {
+        final Entry entry = entries.get(code);
+        return entry != null ? entry.name : null;
+    }
+
+    /**
+     * Deserializes the CRS for the given code.
+     *
+     * @param code The authority code, as returned by {@link #getCodes()}.
+     * @return The CRS, or {@code null} if the code is not in the snapshot.
+     * @throws IOException if the CRS can not be deserialized.
+     */
+    public CoordinateReferenceSystem read(final String code) throws IOException {
+        final Entry entry = entries.get(code);
+        if (entry == null) {
+            return null;
+        }
+        final byte[] compressed = new byte[entry.length];
+        buffer.duplicate().position(entry.offset).get(compressed);
+        final byte[] inflated = new byte[entry.size];
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == inflated.length) {
+                    throw new IOException("Corrupted entry '" + code + "' in the CRS snapshot");
+                }
+                final int n = inflater.inflate(inflated, length, inflated.length - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated entry '" + code + "' in the CRS snapshot");
+                }
+                length += n;
+            }
+            if (length != inflated.length) {
+                throw new IOException("Truncated entry '" + code + "' in the CRS snapshot");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted entry '" + code + "' in the CRS snapshot", e);
+        } finally {
+            inflater.end();
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(inflated))) {
+            in.setObjectInputFilter(this::filter);
+            return (CoordinateReferenceSystem) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Could not read entry '" + code + "' in the CRS snapshot", e);
+        }
+    }
+
+    /** Only allows the classes recorded when the snapshot was written, within the size limits of a CRS. */
+    private ObjectInputFilter.Status filter(final ObjectInputFilter.FilterInfo info) {
+        if (info.depth() > MAX_DEPTH || info.references() > MAX_REFERENCES || info.arrayLength() > MAX_ARRAY_LENGTH) {
+            return ObjectInputFilter.Status.REJECTED;
+        }
+        final Class<?> type = info.serialClass();
+        if (type == null) {
+            return ObjectInputFilter.Status.UNDECIDED;
+        }
+        return classes.contains(type.getName()) ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+    }
+
+    /**
+     * Serializes the given CRS, and reads it back to add the names of the classes seen by the deserialization filter to
+     * the given set. Proxies and classes outside of the {@linkplain #ALLOWED_PACKAGES allowed packages} make the
+     * serialization fail, and the CRS is left out of the snapshot.
+     */
+    private static byte[] serialize(final CoordinateReferenceSystem crs, final Set<String> classes) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(crs);
+        }
+        if (bytes.size() > MAX_ENTRY_SIZE) {
+            throw new NotSerializableException("Serialized CRS too large: " + bytes.size() + " bytes");
+        }
+        final byte[] serialized = bytes.toByteArray();
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            in.setObjectInputFilter(info -> record(info, classes));
+            in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+        return serialized;
+    }
+
+    /** Records the classes in the allowed packages, within the size limits of a CRS. */
+    private static ObjectInputFilter.Status record(final ObjectInputFilter.FilterInfo info, final Set<String> classes) {
+        if (info.depth() > MAX_DEPTH || info.references() > MAX_REFERENCES || info.arrayLength() > MAX_ARRAY_LENGTH) {
+            return ObjectInputFilter.Status.REJECTED;
+        }
+        final Class<?> type = info.serialClass();
+        if (type == null) {
+            return ObjectInputFilter.Status.UNDECIDED;
+        }
+        Class<?> component = type;
+        while (component.isArray()) {
+            component = component.getComponentType();
+        }
+        if (!component.isPrimitive()) {
+            final String name = component.getName();
+            boolean allowed = false;
+            for (final String prefix : ALLOWED_PACKAGES) {
+                allowed |= name.startsWith(prefix);
+            }
+            if (!allowed) {
+                return ObjectInputFilter.Status.REJECTED;
+            }
+        }
+        classes.add(type.getName());
+        return ObjectInputFilter.Status.ALLOWED;
+    }
+
+    private static byte[] compress(final byte[] serialized, final Deflater deflater) throws IOException {
+        deflater.reset();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(serialized.length / 2);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(serialized);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance(DIGEST);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Creates the temporary file to write, next to the given one and readable by its owner only. */
+    private static Path createTempFile(final File file) throws IOException {
+        final Path directory = file.getAbsoluteFile().getParentFile().toPath();
+        if (Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null) {
+            return Files.createTempFile(
+                    directory,
+                    file.getName(),
+                    ".tmp",
+                    PosixFilePermissions.asFileAttribute(
+                            Set.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE)));
+        }
+        final File temp = File.createTempFile(file.getName(), ".tmp", directory.toFile());
+        boolean restricted = temp.setReadable(false, false) && temp.setReadable(true, true);
+        restricted &= temp.setWritable(false, false) && temp.setWritable(true, true);
+        if (!restricted) {
+            LOGGER.fine("Could not restrict the permissions of " + temp);
+        }
+        return temp.toPath();
+    }
+
+    /** Refuses snapshots which can be modified by other users than their owner. */
+    private static void checkPermissions(final Path file) throws IOException {
+        final PosixFileAttributeView view = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+        if (view != null) {
+            final Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+            if (permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+                throw new IOException("The CRS snapshot " + file + " can be modified by other users");
+            }
+        }
+    }
+
+    private static byte kind(final CoordinateReferenceSystem crs) {
+        for (int i = 0; i < KINDS.size(); i++) {
+            if (KINDS.get(i).isInstance(crs)) {
+                return (byte) i;
+            }
+        }
+        return (byte) (KINDS.size() - 1);
+    }
+
+    /** An entry in the table of codes. */
+    private static final class Entry {
+        final byte kind;
+
+        final String name;
+
+        final int offset;
+
+        final int length;
+
+        final int size;
+
+        Entry(final byte kind, final String name, final int offset, final int length, final int size) {
+            this.kind = kind;
+            this.name = name;
+            this.offset = offset;
+            this.length = length;
+            this.size = size;
+        }
+    }
+
+    /** Reads the header of a mapped snapshot, advancing the buffer position. */
+    private static final class ByteBufferInputStream extends java.io.InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
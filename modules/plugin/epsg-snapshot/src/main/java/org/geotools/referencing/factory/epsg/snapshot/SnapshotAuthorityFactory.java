@@ -0,0 +1,126 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.snapshot;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.geotools.api.metadata.citation.Citation;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.api.referencing.NoSuchAuthorityCodeException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.util.InternationalString;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.factory.DirectAuthorityFactory;
+import org.geotools.referencing.factory.ReferencingFactoryContainer;
+import org.geotools.util.SimpleInternationalString;
+
+/**
+ * The backing store of {@link SnapshotEpsgFactory}, creating the CRS from an {@link EpsgSnapshot}. Objects other than
+ * CRS are not in the snapshot, and are created by the next EPSG factory in the fallback chain.
+ *
+ * @since 34.0
+ */
+final class SnapshotAuthorityFactory extends DirectAuthorityFactory implements CRSAuthorityFactory {
+
+    /** The snapshot of the EPSG database. */
+    private final EpsgSnapshot snapshot;
+
+    /** The codes for each type, created when first needed. */
+    private final Map<Class<? extends IdentifiedObject>, Set<String>> filteredCodes = new HashMap<>();
+
+    SnapshotAuthorityFactory(
+            final ReferencingFactoryContainer factories, final int priority, final EpsgSnapshot snapshot) {
+        super(factories, priority);
+        this.snapshot = snapshot;
+    }
+
+    /** Returns the EPSG authority. */
+    @Override
+    public Citation getAuthority() {
+        return Citations.EPSG;
+    }
+
+    /** Returns the version of the EPSG database the snapshot has been built from. */
+    @Override
+    public String getBackingStoreDescription() {
+        return "EPSG snapshot, version " + snapshot.getVersion();
+    }
+
+    /**
+     * Returns the codes of the objects of the given type in the snapshot. Since the snapshot contains CRS only, the set
+     * is empty for other types.
+     */
+    @Override
+    public Set<String> getAuthorityCodes(final Class<? extends IdentifiedObject> type) throws FactoryException {
+        final Class<? extends IdentifiedObject> key = type != null ? type : IdentifiedObject.class;
+        synchronized (filteredCodes) {
+            Set<String> codes = filteredCodes.get(key);
+            if (codes == null) {
+                final Set<String> filtered = new LinkedHashSet<>();
+                for (final String code : snapshot.getCodes()) {
+                    final Class<?> kind = snapshot.getType(code);
+                    if (key.isAssignableFrom(kind)) {
+                        filtered.add(code);
+                    }
+                }
+                codes = Collections.unmodifiableSet(filtered);
+                filteredCodes.put(key, codes);
+            }
+            return codes;
+        }
+    }
+
+    /** Returns the name of the CRS for the given code. */
+    @Override
+    public InternationalString getDescriptionText(final String code)
+            throws NoSuchAuthorityCodeException, FactoryException {
+        final String name = snapshot.getName(trimAuthority(code));
+        if (name == null) {
+            throw noSuchAuthorityCode(IdentifiedObject.class, code);
+        }
+        return new SimpleInternationalString(name);
+    }
+
+    /** Returns the CRS for the given code. */
+    @Override
+    public IdentifiedObject createObject(final String code) throws NoSuchAuthorityCodeException, FactoryException {
+        return createCoordinateReferenceSystem(code);
+    }
+
+    /** Returns the CRS for the given code. */
+    @Override
+    public CoordinateReferenceSystem createCoordinateReferenceSystem(final String code)
+            throws NoSuchAuthorityCodeException, FactoryException {
+        ensureNonNull("code", code);
+        final CoordinateReferenceSystem crs;
+        try {
+            crs = snapshot.read(trimAuthority(code));
+        } catch (IOException e) {
+            throw new FactoryException(e.getMessage(), e);
+        }
+        if (crs == null) {
+            throw noSuchAuthorityCode(CoordinateReferenceSystem.class, code);
+        }
+        return crs;
+    }
+}
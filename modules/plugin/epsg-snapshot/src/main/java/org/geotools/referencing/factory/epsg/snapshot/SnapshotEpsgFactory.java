@@ -0,0 +1,226 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.metadata.citation.Citation;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.factory.AbstractAuthorityFactory;
+import org.geotools.referencing.factory.DeferredAuthorityFactory;
+import org.geotools.referencing.factory.FactoryNotFoundException;
+import org.geotools.referencing.factory.ReferencingFactoryContainer;
+import org.geotools.referencing.factory.epsg.hsql.ThreadedHsqlEpsgFactory;
+import org.geotools.util.factory.GeoTools;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Serves the EPSG coordinate reference systems from an {@linkplain EpsgSnapshot binary snapshot} of the
+ * {@linkplain ThreadedHsqlEpsgFactory EPSG-HSQL} factory. Creating the first CRS from the HSQL factory requires the
+ * extraction of the database and the startup of the HSQL engine, which dominates the cold start of short lived
+ * processes (command line tools, serverless functions, containers). The snapshot is instead memory mapped, and only the
+ * requested CRS are deserialized.
+ *
+ * <p>This factory has a higher priority than the HSQL one, and the CRS which are not in the snapshot, as well as the
+ * datums, coordinate systems and operations, are created by the HSQL factory through the usual fallback between
+ * factories of the same authority.
+ *
+ * <p>The snapshot is read from the file given by the {@value #FILE_KEY} system property, or from
+ * {@code EPSG-snapshot-v<version>.bin} in the directory given by the {@value ThreadedHsqlEpsgFactory#DIRECTORY_KEY}
+ * system property. Snapshots are never looked up in the shared temporary directory: if none of these properties is set,
+ * this factory is not available. If the snapshot is missing, or has been built from another EPSG or GeoTools version,
+ * this factory is not available for the current run and, if the {@value #BUILD_KEY} system property is {@code true},
+ * the snapshot is rebuilt in a background thread. The snapshot can also be built ahead of time (e.g., when building a
+ * container image) with the {@link #main} method. In both cases the file is readable by its owner only.
+ *
+ * @since 34.0
+ */
+public class SnapshotEpsgFactory extends DeferredAuthorityFactory implements CRSAuthorityFactory {
+
+    static final Logger LOGGER = Logging.getLogger(SnapshotEpsgFactory.class);
+
+    /** System property giving the snapshot file. */
+    public static final String FILE_KEY = "org.geotools.referencing.epsg.snapshot.file";
+
+    /** System property enabling the background build of missing or stale snapshots (defaults to {@code false}). */
+    public static final String BUILD_KEY = "org.geotools.referencing.epsg.snapshot.build";
+
+    /** The default priority of this factory, higher than the EPSG-HSQL one. */
+    protected static final int DEFAULT_PRIORITY = MAXIMUM_PRIORITY - 5;
+
+    /** Set once a background build has been started, so that it is started at most once per JVM. */
+    private static boolean building;
+
+    /** The factories used by the backing store. */
+    private final ReferencingFactoryContainer factories;
+
+    /** Creates a new factory using the default snapshot file. */
+    public SnapshotEpsgFactory() {
+        this(null);
+    }
+
+    /** Creates a new factory using the given hints. */
+    public SnapshotEpsgFactory(final Hints userHints) {
+        super(userHints, DEFAULT_PRIORITY);
+        factories = ReferencingFactoryContainer.instance(userHints);
+        // The snapshot holds the CRS as built by the EPSG-HSQL factory, with the EPSG axis order.
+        hints.put(Hints.FORCE_LONGITUDE_FIRST_AXIS_ORDER, Boolean.FALSE);
+        hints.put(Hints.VERSION, ThreadedHsqlEpsgFactory.VERSION);
+        // Releases the mapped snapshot after at least 15 minutes of inactivity.
+        setTimeout(15 * 60 * 1000L);
+    }
+
+    /** Returns the EPSG authority. */
+    @Override
+    public Citation getAuthority() {
+        return Citations.EPSG;
+    }
+
+    /**
+     * Returns the snapshot file, as given by the {@value #FILE_KEY} system property or in the EPSG-HSQL directory given
+     * by the {@value ThreadedHsqlEpsgFactory#DIRECTORY_KEY} system property.
+     *
+     * @return The snapshot file, or {@code null} if none of these properties is set.
+     */
+    public static File getSnapshotFile() {
+        final String property = System.getProperty(FILE_KEY);
+        if (property != null) {
+            return new File(property);
+        }
+        final String hsql = System.getProperty(ThreadedHsqlEpsgFactory.DIRECTORY_KEY);
+        if (hsql == null) {
+            return null;
+        }
+        return new File(hsql, "EPSG-snapshot-v" + ThreadedHsqlEpsgFactory.VERSION + ".bin");
+    }
+
+    /**
+     * Opens the snapshot. If it is missing or stale, starts its build and reports this factory as not available, so
+     * that the EPSG-HSQL factory is used instead.
+     */
+    @Override
+    protected AbstractAuthorityFactory createBackingStore() throws FactoryException {
+        final File file = getSnapshotFile();
+        if (file == null) {
+            throw new FactoryNotFoundException("No EPSG snapshot location, set the "
+                    + FILE_KEY
+                    + " or "
+                    + ThreadedHsqlEpsgFactory.DIRECTORY_KEY
+                    + " system property");
+        }
+        String reason = null;
+        if (file.isFile()) {
+            try {
+                final EpsgSnapshot snapshot = EpsgSnapshot.open(file);
+                if (isCurrent(snapshot)) {
+                    LOGGER.config("Using the EPSG snapshot " + file);
+                    return new SnapshotAuthorityFactory(factories, getPriority(), snapshot);
+                }
+                reason = "The EPSG snapshot " + file + " is stale";
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not open the EPSG snapshot " + file, e);
+                reason = "Could not open the EPSG snapshot " + file;
+            }
+        } else {
+            reason = "No EPSG snapshot at " + file;
+        }
+        if (Boolean.getBoolean(BUILD_KEY)) {
+            buildInBackground(file);
+        }
+        throw new FactoryNotFoundException(reason);
+    }
+
+    /** Returns {@code true} if the snapshot has been built from the current EPSG database by this GeoTools version. */
+    private static boolean isCurrent(final EpsgSnapshot snapshot) {
+        return ThreadedHsqlEpsgFactory.VERSION.toString().equals(snapshot.getVersion())
+                && GeoTools.getVersion().toString().equals(snapshot.getWriter());
+    }
+
+    /** Builds the snapshot in a low priority daemon thread, unless a build has already been started. */
+    private static synchronized void buildInBackground(final File file) {
+        if (building) {
+            return;
+        }
+        building = true;
+        final Thread thread = new Thread(
+                () -> {
+                    try {
+                        build(file);
+                    } catch (FactoryException | IOException | RuntimeException e) {
+                        LOGGER.log(Level.WARNING, "Could not build the EPSG snapshot " + file, e);
+                    }
+                },
+                "epsg-snapshot-builder");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Builds the snapshot from the EPSG-HSQL factory. A missing parent directory is created with owner-only
+     * permissions.
+     *
+     * @param file The snapshot file.
+     * @return The number of CRS in the snapshot.
+     * @throws FactoryException if the EPSG-HSQL factory is not available.
+     * @throws IOException if the snapshot can not be written.
+     */
+    public static int build(final File file) throws FactoryException, IOException {
+        final CRSAuthorityFactory hsql = ReferencingFactoryFinder.getCRSAuthorityFactory(
+                "EPSG", new Hints(Hints.CRS_AUTHORITY_FACTORY, ThreadedHsqlEpsgFactory.class));
+        final Path directory = file.getAbsoluteFile().getParentFile().toPath();
+        if (!Files.isDirectory(directory)) {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectories(
+                        directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectories(directory);
+            }
+        }
+        return EpsgSnapshot.write(
+                hsql,
+                ThreadedHsqlEpsgFactory.VERSION.toString(),
+                GeoTools.getVersion().toString(),
+                file);
+    }
+
+    /**
+     * Builds the snapshot ahead of time.
+     *
+     * @param args The snapshot file, or nothing for the {@linkplain #getSnapshotFile() configured one}.
+     * @throws Exception if the snapshot can not be built.
+     */
+    public static void main(final String[] args) throws Exception {
+        final File file = args.length > 0 ? new File(args[0]) : getSnapshotFile();
+        if (file == null) {
+            throw new IllegalArgumentException("Usage: SnapshotEpsgFactory <snapshot file>, or set the " + FILE_KEY
+                    + " or " + ThreadedHsqlEpsgFactory.DIRECTORY_KEY + " system property");
+        }
+        final int count = build(file);
+        System.out.println("Wrote " + count + " EPSG CRS to " + file);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.snapshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Set;
+import org.geotools.api.referencing.NoSuchAuthorityCodeException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.crs.GeographicCRS;
+import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.factory.PropertyAuthorityFactory;
+import org.geotools.referencing.factory.ReferencingFactoryContainer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EpsgSnapshotTest {
+
+    private static final String WGS84 =
+            "GEOGCS[\"WGS 84\",DATUM[\"WGS_1984\",SPHEROID[\"WGS 84\",6378137,298.257223563]],"
+                    + "PRIMEM[\"Greenwich\",0],UNIT[\"degree\",0.0174532925199433],"
+                    + "AXIS[\"Latitude\",NORTH],AXIS[\"Longitude\",EAST]]";
+
+    private static final String UTM32 = "PROJCS[\"WGS 84 / UTM zone 32N\",GEOGCS[\"WGS 84\",DATUM[\"WGS_1984\","
+            + "SPHEROID[\"WGS 84\",6378137,298.257223563]],PRIMEM[\"Greenwich\",0],"
+            + "UNIT[\"degree\",0.0174532925199433]],PROJECTION[\"Transverse_Mercator\"],"
+            + "PARAMETER[\"latitude_of_origin\",0],PARAMETER[\"central_meridian\",9],"
+            + "PARAMETER[\"scale_factor\",0.9996],PARAMETER[\"false_easting\",500000],"
+            + "PARAMETER[\"false_northing\",0],UNIT[\"metre\",1],AXIS[\"Easting\",EAST],AXIS[\"Northing\",NORTH]]";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private PropertyAuthorityFactory factory;
+
+    private File file;
+
+    @Before
+    public void setupFactory() throws Exception {
+        File definitions = folder.newFile("crs.properties");
+        try (PrintWriter writer = new PrintWriter(definitions, StandardCharsets.ISO_8859_1.name())) {
+            writer.println("4326=" + WGS84);
+            writer.println("32632=" + UTM32);
+        }
+        factory = new PropertyAuthorityFactory(
+                ReferencingFactoryContainer.instance(null),
+                Citations.EPSG,
+                definitions.toURI().toURL());
+        file = new File(folder.getRoot(), "snapshot.bin");
+        assertEquals(2, EpsgSnapshot.write(factory, "1.0", "34-SNAPSHOT", file));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        EpsgSnapshot snapshot = EpsgSnapshot.open(file);
+        assertEquals("1.0", snapshot.getVersion());
+        assertEquals("34-SNAPSHOT", snapshot.getWriter());
+        assertEquals(2, snapshot.size());
+        assertEquals(GeographicCRS.class, snapshot.getType("4326"));
+        assertEquals(ProjectedCRS.class, snapshot.getType("32632"));
+        assertEquals("WGS 84 / UTM zone 32N", snapshot.getName("32632"));
+        for (String code : snapshot.getCodes()) {
+            CoordinateReferenceSystem expected = factory.createCoordinateReferenceSystem(code);
+            CoordinateReferenceSystem actual = snapshot.read(code);
+            assertTrue(CRS.equalsIgnoreMetadata(expected, actual));
+            assertEquals(CRS.toSRS(expected), CRS.toSRS(actual));
+        }
+        assertNull(snapshot.read("3857"));
+    }
+
+    @Test
+    public void testBackingStore() throws Exception {
+        SnapshotAuthorityFactory store =
+                new SnapshotAuthorityFactory(ReferencingFactoryContainer.instance(null), 50, EpsgSnapshot.open(file));
+        assertEquals(Set.of("4326", "32632"), store.getAuthorityCodes(CoordinateReferenceSystem.class));
+        assertEquals(Set.of("32632"), store.getAuthorityCodes(ProjectedCRS.class));
+        assertEquals("WGS 84", store.getDescriptionText("EPSG:4326").toString());
+        assertTrue(CRS.equalsIgnoreMetadata(
+                factory.createCoordinateReferenceSystem("32632"), store.createCoordinateReferenceSystem("EPSG:32632")));
+        assertThrows(NoSuchAuthorityCodeException.class, () -> store.createCoordinateReferenceSystem("3857"));
+    }
+
+    @Test
+    public void testRejectsCorruptedFile() throws Exception {
+        File other = folder.newFile("other.bin");
+        Files.write(other.toPath(), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> EpsgSnapshot.open(other));
+
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(other.toPath(), Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(IOException.class, () -> EpsgSnapshot.open(other));
+    }
+
+    @Test
+    public void testRejectsTamperedFile() throws Exception {
+        File other = folder.newFile("other.bin");
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(other.toPath(), bytes);
+        assertThrows(IOException.class, () -> EpsgSnapshot.open(other));
+    }
+
+    @Test
+    public void testOwnerOnly() throws Exception {
+        PosixFileAttributeView view = Files.getFileAttributeView(file.toPath(), PosixFileAttributeView.class);
+        assumeTrue(view != null);
+        assertEquals(
+                "rw-------", PosixFilePermissions.toString(view.readAttributes().permissions()));
+
+        view.setPermissions(PosixFilePermissions.fromString("rw-rw-r--"));
+        assertThrows(IOException.class, () -> EpsgSnapshot.open(file));
+    }
+}
@@ -186,6 +186,9 @@ public String value() {
 
     private boolean initialised = false;
 
+    /** Whether new feature datasets are written by a {@link GeoPkgBulkLoader} */
+    private boolean bulkLoad = false;
+
     protected GeoPkgGeomWriter.Configuration writerConfig = new GeoPkgGeomWriter.Configuration();
 
     public GeoPkgGeomWriter.Configuration getWriterConfiguration() {
@@ -285,6 +288,19 @@ public DataSource getDataSource() {
         return connPool;
     }
 
+    public boolean isBulkLoad() {
+        return bulkLoad;
+    }
+
+    /**
+     * Sets whether {@link #add(FeatureEntry, SimpleFeatureCollection)} writes the features with a
+     * {@link GeoPkgBulkLoader}, in large transactions, and builds the spatial index of the new table once all the
+     * features are written. Defaults to false.
+     */
+    public void setBulkLoad(boolean bulkLoad) {
+        this.bulkLoad = bulkLoad;
+    }
+
     /**
      * Initializes the geopackage database.
      *
@@ -864,6 +880,9 @@ static SimpleFeatureCollection forceXY(SimpleFeatureCollection fc) {
     /**
      * Adds a new feature dataset to the geopackage.
      *
+     * <p>In {@link #setBulkLoad(boolean) bulk load} mode the features are written by a {@link GeoPkgBulkLoader}, and
+     * the new table gets a spatial index.
+     *
      * @param entry Contains metadata about the feature entry.
      * @param collection The simple feature collection to add to the geopackage.
      * @throws IOException Any errors occurring while adding the new feature dataset.
@@ -881,6 +900,14 @@ public void add(FeatureEntry entry, SimpleFeatureCollection collection) throws I
 
         create(e, collection.getSchema());
 
+        if (bulkLoad) {
+            GeoPkgBulkLoader loader = new GeoPkgBulkLoader(this, e);
+            loader.setSpatialIndex(true);
+            loader.load(collection);
+            entry.init(e);
+            return;
+        }
+
         Transaction tx = new DefaultTransaction();
         try {
             try (SimpleFeatureWriter w = writer(e, true, null, tx);
@@ -1420,6 +1447,8 @@ cx, format("INSERT INTO %s VALUES (?,?,?,?,?,?,?,?)", TILE_MATRIX_METADATA))
     /**
      * Adds a tile to the geopackage.
      *
+     * <p>Each call uses its own connection and transaction, use a {@link TileWriter} to write many tiles.
+     *
      * @param entry The tile metadata entry.
      * @param tile The tile.
      */
@@ -0,0 +1,443 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geopkg;
+
+import static org.geotools.jdbc.util.SqlUtil.prepare;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.jdbc.EnumMapping;
+import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.jdbc.JDBCFeatureStore;
+import org.geotools.jdbc.PrimaryKey;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.shape.fractal.HilbertCode;
+
+/**
+ * Appends large amounts of features to a GeoPackage feature table, bypassing the feature writers.
+ *
+ * <p>The features are inserted with a single prepared statement, reused across batches of {@link #getBatchSize()}
+ * features and transactions of {@link #getTransactionSize()} features. The database is switched to write-ahead logging
+ * with a larger page cache for the duration of the load, and its previous settings are restored at the end.
+ *
+ * <p>If the table has a spatial index its insert trigger is dropped during the load, and the bounds of the new features
+ * are collected in a temporary table along with their position on a Hilbert curve. Once all the features are written
+ * the R-tree is filled in Hilbert order, which keeps its nodes compact, and the trigger is restored. The same happens
+ * when the load fails, so that the index stays consistent with the committed features.
+ *
+ * <p>The table must have a single column integer primary key, the loader assigns the new ids after the largest existing
+ * one. Since the ids are assigned by the loader, the loaded features should not be written concurrently by other
+ * connections.
+ *
+ * @since 34.0
+ */
+public class GeoPkgBulkLoader {
+
+    static final Logger LOGGER = Logging.getLogger(GeoPkgBulkLoader.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public static final int DEFAULT_TRANSACTION_SIZE = 100000;
+
+    /** Page cache used during the load, in kilobytes */
+    static final int CACHE_SIZE = 256 * 1024;
+
+    /** Temporary table holding the bounds of the loaded features, and their Hilbert value */
+    static final String BOUNDS_TABLE = "gt_bulk_bounds";
+
+    private final GeoPackage geopkg;
+
+    private final FeatureEntry entry;
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private int transactionSize = DEFAULT_TRANSACTION_SIZE;
+
+    private boolean spatialIndex;
+
+    /**
+     * Creates a loader for an existing feature table
+     *
+     * @param geopkg The GeoPackage holding the table
+     * @param entry The feature entry of the table
+     */
+    public GeoPkgBulkLoader(GeoPackage geopkg, FeatureEntry entry) {
+        this.geopkg = geopkg;
+        this.entry = entry;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /** Sets the number of features inserted by each execution of the prepared statement */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+
+    /** Sets the number of features inserted by each transaction */
+    public void setTransactionSize(int transactionSize) {
+        this.transactionSize = Math.max(1, transactionSize);
+    }
+
+    public boolean isSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /** Whether the spatial index is created, if missing, and filled after the load. Defaults to false. */
+    public void setSpatialIndex(boolean spatialIndex) {
+        this.spatialIndex = spatialIndex;
+    }
+
+    /**
+     * Appends the features to the table. The attributes are matched by name, the ones missing from the table are
+     * ignored.
+     *
+     * @return the number of features written
+     */
+    public long load(SimpleFeatureCollection features) throws IOException {
+        JDBCDataStore dataStore = geopkg.dataStore();
+        String table = entry.getTableName();
+        SimpleFeatureType schema = dataStore.getSchema(table);
+        SimpleFeatureSource source = dataStore.getFeatureSource(table);
+        PrimaryKey pk = ((JDBCFeatureStore) source).getPrimaryKey();
+        if (pk.getColumns().size() != 1) {
+            throw new IOException("Bulk loading only supported for primary key of single column.");
+        }
+        String id = pk.getColumns().get(0).getName();
+
+        String column = entry.getGeometryColumn();
+        boolean indexed = column != null && geopkg.hasSpatialIndex(entry);
+        if (spatialIndex && column != null && !indexed) {
+            geopkg.createSpatialIndex(entry);
+            indexed = true;
+        }
+        Envelope extent = indexed ? getExtent(features) : null;
+
+        try (Connection cx = geopkg.getDataSource().getConnection()) {
+            Settings settings = new Settings(cx);
+            try {
+                return load(cx, schema, features, id, indexed, extent);
+            } finally {
+                settings.restore(cx);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private long load(
+            Connection cx,
+            SimpleFeatureType schema,
+            SimpleFeatureCollection features,
+            String id,
+            boolean indexed,
+            Envelope extent)
+            throws IOException, SQLException {
+        String table = entry.getTableName();
+        String trigger = indexed ? geopkg.getSpatialIndexName(entry) + "_insert" : null;
+        String triggerSQL = indexed ? getTriggerSQL(cx, trigger) : null;
+        List<AttributeDescriptor> attributes = new ArrayList<>();
+        for (AttributeDescriptor att : schema.getAttributeDescriptors()) {
+            // the primary key might be exposed, its value is assigned by the loader
+            if (!att.getLocalName().equals(id)) {
+                attributes.add(att);
+            }
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO \"").append(table).append("\" (\"");
+        sql.append(id).append('"');
+        for (AttributeDescriptor att : attributes) {
+            sql.append(", \"").append(att.getLocalName()).append('"');
+        }
+        sql.append(") VALUES (?");
+        for (int i = 0; i < attributes.size(); i++) {
+            sql.append(", ?");
+        }
+        sql.append(")");
+        LOGGER.log(Level.FINE, "Bulk loading features with ps: {0}", sql);
+
+        boolean autoCommit = cx.getAutoCommit();
+        cx.setAutoCommit(false);
+        long count = 0;
+        try {
+            if (indexed) {
+                GeoPackage.runSQL("DROP TABLE IF EXISTS temp." + BOUNDS_TABLE, cx);
+                GeoPackage.runSQL(
+                        "CREATE TEMP TABLE "
+                                + BOUNDS_TABLE
+                                + " (id INTEGER, minx DOUBLE, maxx DOUBLE, miny DOUBLE, maxy DOUBLE, h INTEGER)",
+                        cx);
+                if (triggerSQL != null) {
+                    GeoPackage.runSQL("DROP TRIGGER \"" + trigger + "\"", cx);
+                }
+                cx.commit();
+            }
+            try (PreparedStatement ps = cx.prepareStatement(sql.toString());
+                    PreparedStatement bounds = indexed
+                            ? cx.prepareStatement("INSERT INTO temp." + BOUNDS_TABLE + " VALUES (?, ?, ?, ?, ?, ?)")
+                            : null;
+                    SimpleFeatureIterator it = features.features()) {
+                GeoPkgDialect dialect = (GeoPkgDialect) geopkg.dataStore().getSQLDialect();
+                long next = getMaxId(cx, table, id);
+                int batch = 0;
+                while (it.hasNext()) {
+                    SimpleFeature feature = it.next();
+                    long fid = ++next;
+                    ps.setLong(1, fid);
+                    Geometry geometry = setValues(cx, dialect, ps, attributes, feature);
+                    ps.addBatch();
+                    if (bounds != null && geometry != null && !geometry.isEmpty()) {
+                        Envelope envelope = geometry.getEnvelopeInternal();
+                        bounds.setLong(1, fid);
+                        bounds.setDouble(2, envelope.getMinX());
+                        bounds.setDouble(3, envelope.getMaxX());
+                        bounds.setDouble(4, envelope.getMinY());
+                        bounds.setDouble(5, envelope.getMaxY());
+                        bounds.setLong(6, hilbert(envelope, extent));
+                        bounds.addBatch();
+                    }
+                    count++;
+                    if (++batch == batchSize) {
+                        execute(ps, bounds);
+                        batch = 0;
+                    }
+                    if (count % transactionSize == 0) {
+                        execute(ps, bounds);
+                        batch = 0;
+                        cx.commit();
+                    }
+                }
+                execute(ps, bounds);
+                cx.commit();
+            } catch (IOException | SQLException | RuntimeException e) {
+                cx.rollback();
+                if (indexed) {
+                    // index whatever got committed, the trigger keeps it up to date from then on
+                    try {
+                        buildIndex(cx, trigger, triggerSQL);
+                    } catch (SQLException suppressed) {
+                        e.addSuppressed(suppressed);
+                    }
+                }
+                throw e;
+            }
+            if (indexed) {
+                buildIndex(cx, trigger, triggerSQL);
+            }
+        } finally {
+            cx.setAutoCommit(autoCommit);
+        }
+        return count;
+    }
+
+    /** Sets the values of a feature, returning its geometry in the geometry column of the entry */
+    private Geometry setValues(
+            Connection cx,
+            GeoPkgDialect dialect,
+            PreparedStatement ps,
+            List<AttributeDescriptor> attributes,
+            SimpleFeature feature)
+            throws IOException, SQLException {
+        Geometry result = null;
+        int i = 2;
+        for (AttributeDescriptor att : attributes) {
+            String name = att.getLocalName();
+            Object value = feature.getFeatureType().getDescriptor(name) != null ? feature.getAttribute(name) : null;
+            if (value == null && !att.isNillable()) {
+                throw new IOException("Cannot set a NULL value on the not null column " + name);
+            }
+            Class<?> binding = att.getType().getBinding();
+            if (Geometry.class.isAssignableFrom(binding)) {
+                Geometry g = (Geometry) value;
+                dialect.setGeometryValue(g, getDimension(g, att), getSRID(att), binding, ps, i);
+                if (name.equals(entry.getGeometryColumn())) {
+                    result = g;
+                }
+            } else if (dialect.isArray(att)) {
+                dialect.setArrayValue(value, att, ps, i, cx);
+            } else {
+                EnumMapping mapping = (EnumMapping) att.getUserData().get(JDBCDataStore.JDBC_ENUM_MAP);
+                if (mapping != null) {
+                    value = mapping.fromValue((String) value);
+                    binding = Integer.class;
+                }
+                dialect.setValue(value, binding, att, ps, i, cx);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    private int getSRID(AttributeDescriptor att) {
+        Object srid = att.getUserData().get(JDBCDataStore.JDBC_NATIVE_SRID);
+        if (srid instanceof Integer) {
+            return (Integer) srid;
+        }
+        return entry.getSrid() != null ? entry.getSrid() : -1;
+    }
+
+    private static int getDimension(Geometry g, AttributeDescriptor att) {
+        Object dimension = att.getUserData().get(Hints.COORDINATE_DIMENSION);
+        if (dimension instanceof Integer && (Integer) dimension > 0) {
+            return (Integer) dimension;
+        }
+        Coordinate c = g == null ? null : g.getCoordinate();
+        return c == null || Double.isNaN(c.getZ()) ? 2 : 3;
+    }
+
+    private static void execute(PreparedStatement ps, PreparedStatement bounds) throws SQLException {
+        ps.executeBatch();
+        if (bounds != null) {
+            bounds.executeBatch();
+        }
+    }
+
+    private static long getMaxId(Connection cx, String table, String id) throws SQLException {
+        try (Statement st = cx.createStatement();
+                ResultSet rs = st.executeQuery("SELECT MAX(\"" + id + "\") FROM \"" + table + "\"")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static String getTriggerSQL(Connection cx, String trigger) throws SQLException {
+        try (PreparedStatement ps = prepare(cx, "SELECT sql FROM sqlite_master WHERE type = 'trigger' AND name = ?")
+                        .set(trigger)
+                        .log(Level.FINE)
+                        .statement();
+                ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    /** Fills the R-tree from the collected bounds, in Hilbert order, and restores the insert trigger */
+    private void buildIndex(Connection cx, String trigger, String triggerSQL) throws SQLException {
+        GeoPackage.runSQL(
+                "INSERT OR REPLACE INTO \""
+                        + geopkg.getSpatialIndexName(entry)
+                        + "\" SELECT id, minx, maxx, miny, maxy FROM temp."
+                        + BOUNDS_TABLE
+                        + " ORDER BY h",
+                cx);
+        GeoPackage.runSQL("DROP TABLE temp." + BOUNDS_TABLE, cx);
+        if (triggerSQL != null) {
+            GeoPackage.runSQL(triggerSQL, cx);
+        }
+        cx.commit();
+    }
+
+    /** Returns the extent the Hilbert values are computed in */
+    private Envelope getExtent(SimpleFeatureCollection features) {
+        Envelope extent = entry.getBounds();
+        if (extent == null || extent.isNull()) {
+            extent = features.getBounds();
+        }
+        return extent;
+    }
+
+    /** Returns the position of the center of the envelope on a Hilbert curve of order 16 covering the extent */
+    static long hilbert(Envelope envelope, Envelope extent) {
+        if (extent == null || extent.isNull()) {
+            return 0;
+        }
+        int hilbertMax = (1 << 16) - 1;
+        double width = extent.getWidth() > 0 ? extent.getWidth() : 1;
+        double height = extent.getHeight() > 0 ? extent.getHeight() : 1;
+        double cx = (envelope.getMinX() + envelope.getMaxX()) / 2;
+        double cy = (envelope.getMinY() + envelope.getMaxY()) / 2;
+        int x = (int) Math.max(0, Math.min(hilbertMax, Math.floor(hilbertMax * (cx - extent.getMinX()) / width)));
+        int y = (int) Math.max(0, Math.min(hilbertMax, Math.floor(hilbertMax * (cy - extent.getMinY()) / height)));
+        return Integer.toUnsignedLong(HilbertCode.encode(16, x, y));
+    }
+
+    /** The connection settings changed during the load, restored at the end */
+    private static class Settings {
+
+        final String journalMode;
+
+        final int synchronous;
+
+        final int cacheSize;
+
+        /** Whether the journal mode has been switched to write-ahead logging by this loader */
+        final boolean wal;
+
+        Settings(Connection cx) throws SQLException {
+            journalMode = pragma(cx, "journal_mode");
+            synchronous = Integer.parseInt(pragma(cx, "synchronous"));
+            cacheSize = Integer.parseInt(pragma(cx, "cache_size"));
+            // SQLite answers with the mode actually in use, which stays unchanged when WAL is not supported
+            // (e.g. in memory databases or file systems without shared memory)
+            String mode = pragma(cx, "journal_mode = WAL");
+            if ("wal".equalsIgnoreCase(mode)) {
+                wal = !"wal".equalsIgnoreCase(journalMode);
+                // write-ahead logging only needs to sync at checkpoints when synchronous is NORMAL
+                GeoPackage.runSQL("PRAGMA synchronous = NORMAL", cx);
+            } else {
+                wal = false;
+                LOGGER.log(
+                        Level.INFO,
+                        "Could not enable write-ahead logging for the bulk load, journal mode is {0}, "
+                                + "keeping the current synchronous setting",
+                        mode);
+            }
+            GeoPackage.runSQL("PRAGMA cache_size = -" + CACHE_SIZE, cx);
+        }
+
+        void restore(Connection cx) {
+            try {
+                GeoPackage.runSQL("PRAGMA cache_size = " + cacheSize, cx);
+                GeoPackage.runSQL("PRAGMA synchronous = " + synchronous, cx);
+                if (wal) {
+                    // checkpoints the log back into the database
+                    pragma(cx, "journal_mode = " + journalMode);
+                }
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Failed to restore the connection settings after a bulk load", e);
+            }
+        }
+
+        private static String pragma(Connection cx, String pragma) throws SQLException {
+            try (Statement st = cx.createStatement();
+                    ResultSet rs = st.executeQuery("PRAGMA " + pragma)) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+}
@@ -55,6 +55,14 @@ public class GeoPkgDataStoreFactory extends JDBCDataStoreFactory {
     public static final Param MEMORY_MAP_SIZE =
             new Param("memory map size", Integer.class, "Max memory SQlite will memory map, in megabytes", false, null);
 
+    /** Write-ahead logging, faster for bulk writes and concurrent reads, defaults to false */
+    public static final Param WRITE_AHEAD_LOG =
+            new Param("write ahead log", Boolean.class, "Use write-ahead logging (WAL journal mode)", false, false);
+
+    /** Page size of newly created databases, in bytes, defaults to null (SQLite default) */
+    public static final Param PAGE_SIZE =
+            new Param("page size", Integer.class, "Page size of new databases, in bytes", false, null);
+
     /** base location to store database files */
     File baseDirectory = null;
 
@@ -159,6 +167,9 @@ protected void setupParameters(Map<String, Object> parameters) {
         parameters.put(READ_ONLY.key, READ_ONLY);
         // memory mapping
         parameters.put(MEMORY_MAP_SIZE.key, MEMORY_MAP_SIZE);
+        // journal and page size tuning
+        parameters.put(WRITE_AHEAD_LOG.key, WRITE_AHEAD_LOG);
+        parameters.put(PAGE_SIZE.key, PAGE_SIZE);
     }
 
     /**
@@ -211,6 +222,17 @@ private static SQLiteConfig setupSQLiteConfig(Map<String, ?> params) throws IOEx
             int memoryMB = (Integer) map;
             config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(memoryMB * 1024 * 1024));
         }
+        Object wal = WRITE_AHEAD_LOG.lookUp(params);
+        if (Boolean.TRUE.equals(wal) && !Boolean.TRUE.equals(readOnly)) {
+            config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+            // with WAL only checkpoints need to sync, the database cannot get corrupted
+            config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        }
+        Object pageSize = PAGE_SIZE.lookUp(params);
+        if (pageSize instanceof Integer && ((Integer) pageSize) > 0) {
+            // only effective on new databases, before the first table is created
+            config.setPageSize((Integer) pageSize);
+        }
         config.setBusyTimeout(sqlLiteConnectTimeout);
         return config;
     }
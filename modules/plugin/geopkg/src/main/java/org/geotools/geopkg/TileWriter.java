@@ -0,0 +1,268 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geopkg;
+
+import static java.lang.String.format;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import org.geotools.util.SharedThreadPool;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Writes the tiles of a tile layer in bulk.
+ *
+ * <p>The images are encoded in the {@link SharedThreadPool}, while a single connection inserts them with a reused
+ * prepared statement, in batches of {@value #BATCH_SIZE} tiles and transactions of {@value #TRANSACTION_SIZE} tiles,
+ * the last one being committed when the writer is closed. Tiles with the same position as an existing one replace it.
+ *
+ * <p>The tiles are encoded in the format given at construction, any format with an {@link ImageIO} writer can be used,
+ * for example "png", "jpeg" or, with the relevant plugin installed, "webp". Since JPEG has no transparency, images with
+ * an alpha channel are written as PNG when the format is JPEG, as GDAL does, the GeoPackage specification allowing a
+ * mix of the two in the same tile layer.
+ *
+ * <p>The writer is not thread safe, tiles should be written by a single thread.
+ *
+ * @since 34.0
+ */
+public class TileWriter implements Closeable {
+
+    static final Logger LOGGER = Logging.getLogger(TileWriter.class);
+
+    static final int BATCH_SIZE = 256;
+
+    static final int TRANSACTION_SIZE = 4096;
+
+    private final String format;
+
+    private float quality = -1;
+
+    private final Connection cx;
+
+    private final PreparedStatement ps;
+
+    private final boolean autoCommit;
+
+    private final ExecutorService executor = SharedThreadPool.getExecutor();
+
+    private final ArrayDeque<Future<Tile>> pending = new ArrayDeque<>();
+
+    private long written;
+
+    private boolean closed;
+
+    /**
+     * Creates a writer for an existing tile layer
+     *
+     * @param geopkg The GeoPackage holding the tiles
+     * @param entry The tile entry
+     * @param format The format name of the tile images, for example "png" or "jpeg"
+     */
+    public TileWriter(GeoPackage geopkg, TileEntry entry, String format) throws IOException {
+        this.format = format.toLowerCase(Locale.ENGLISH);
+        if (!ImageIO.getImageWritersByFormatName(this.format).hasNext()) {
+            throw new IOException("No image writer found for the " + format + " format");
+        }
+        try {
+            this.cx = geopkg.getDataSource().getConnection();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        try {
+            this.autoCommit = cx.getAutoCommit();
+            cx.setAutoCommit(false);
+            this.ps = cx.prepareStatement(format(
+                    "INSERT OR REPLACE INTO \"%s\" (zoom_level, tile_column, tile_row, tile_data) VALUES (?,?,?,?)",
+                    entry.getTableName()));
+        } catch (SQLException e) {
+            try {
+                cx.close();
+            } catch (SQLException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw new IOException(e);
+        }
+    }
+
+    /** Sets the compression quality, between 0 and 1, for the formats supporting it, like JPEG */
+    public void setQuality(float quality) {
+        this.quality = quality;
+    }
+
+    /**
+     * Encodes and writes a tile, keeping up to two tiles per thread being encoded. The image is encoded later in
+     * another thread, so its pixels are copied before this method returns: the caller is free to modify or reuse the
+     * image (for example a buffer rendering the next tile) once the call completes.
+     */
+    public void write(int zoom, int column, int row, RenderedImage image) throws IOException {
+        checkOpen();
+        // images without a color model cannot be copied into a BufferedImage, encode them right away
+        if (executor == null || image.getColorModel() == null) {
+            insert(new Tile(zoom, column, row, encode(image, format, quality)));
+            return;
+        }
+        while (pending.size() >= SharedThreadPool.getMaxPending()
+                || (pending.peek() != null && pending.peek().isDone())) {
+            insert(SharedThreadPool.get(pending.poll()));
+        }
+        final BufferedImage copy = copy(image);
+        final float q = quality;
+        pending.add(executor.submit(() -> new Tile(zoom, column, row, encode(copy, format, q))));
+    }
+
+    /** Writes a tile whose image is already encoded */
+    public void write(Tile tile) throws IOException {
+        checkOpen();
+        insert(tile);
+    }
+
+    /** Returns the number of tiles written so far, not counting the ones still being encoded */
+    public long getWritten() {
+        return written;
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer already closed");
+        }
+    }
+
+    private void insert(Tile tile) throws IOException {
+        try {
+            ps.setInt(1, tile.getZoom());
+            ps.setInt(2, tile.getColumn());
+            ps.setInt(3, tile.getRow());
+            ps.setBytes(4, tile.getData());
+            ps.addBatch();
+            written++;
+            if (written % BATCH_SIZE == 0) {
+                ps.executeBatch();
+            }
+            if (written % TRANSACTION_SIZE == 0) {
+                cx.commit();
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /** Copies the pixels of an image, so that it can be encoded while the source is modified */
+    static BufferedImage copy(RenderedImage image) {
+        ColorModel cm = image.getColorModel();
+        WritableRaster raster = Raster.createWritableRaster(
+                image.getSampleModel().createCompatibleSampleModel(image.getWidth(), image.getHeight()), null);
+        image.copyData(raster.createWritableTranslatedChild(image.getMinX(), image.getMinY()));
+        return new BufferedImage(cm, raster, cm.isAlphaPremultiplied(), null);
+    }
+
+    /** Encodes an image in the given format, falling back on PNG for transparent images in JPEG */
+    static byte[] encode(RenderedImage image, String format, float quality) throws IOException {
+        String target = format;
+        if (("jpeg".equals(format) || "jpg".equals(format))
+                && image.getColorModel() != null
+                && image.getColorModel().hasAlpha()) {
+            target = "png";
+        }
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(target);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer found for the " + target + " format");
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = new MemoryCacheImageOutputStream(bytes)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (quality >= 0 && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Writes the tiles still being encoded and commits */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        boolean committed = false;
+        try {
+            Future<Tile> future;
+            while ((future = pending.poll()) != null) {
+                insert(SharedThreadPool.get(future));
+            }
+            ps.executeBatch();
+            cx.commit();
+            committed = true;
+        } catch (SQLException e) {
+            throw new IOException(e);
+        } finally {
+            for (Future<Tile> future : pending) {
+                future.cancel(true);
+            }
+            pending.clear();
+            try {
+                if (!committed) {
+                    cx.rollback();
+                }
+                ps.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Failed to roll back the tile writer transaction", e);
+            }
+            closeConnection();
+        }
+    }
+
+    private void closeConnection() {
+        try {
+            cx.setAutoCommit(autoCommit);
+            cx.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Failed to close the tile writer connection", e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geopkg.mosaic;
+
+import static java.lang.String.format;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.geotools.geopkg.GeoPackage;
+import org.geotools.geopkg.TileEntry;
+import org.geotools.util.SharedThreadPool;
+
+/**
+ * Reads and decodes the tiles of a zoom level range. The positions of the tiles are looked up first, the tiles missing
+ * from the {@link TileCache} are then split in groups of at most {@value #MAX_TILES}, each read on its own pooled
+ * connection and decoded by a thread of the executor, which is either the one given at construction or the
+ * {@link SharedThreadPool}.
+ */
+class ConcurrentTileReader {
+
+    /** Most tiles read and decoded by a single task */
+    static final int MAX_TILES = 16;
+
+    /** A decoded tile */
+    static final class DecodedTile {
+
+        final int column;
+
+        final int row;
+
+        final BufferedImage image;
+
+        DecodedTile(int column, int row, BufferedImage image) {
+            this.column = column;
+            this.row = row;
+            this.image = image;
+        }
+    }
+
+    private final GeoPackage geopkg;
+
+    private final ExecutorService executor;
+
+    private final TileCache cache;
+
+    private final String namespace;
+
+    /**
+     * @param geopkg The GeoPackage to read from
+     * @param executor The executor decoding the tiles, or null to use the shared one
+     * @param cache The cache of decoded tiles
+     * @param namespace The prefix of the cache keys of the tiles read
+     */
+    ConcurrentTileReader(GeoPackage geopkg, ExecutorService executor, TileCache cache, String namespace) {
+        this.geopkg = geopkg;
+        this.executor = executor;
+        this.cache = cache;
+        this.namespace = namespace;
+    }
+
+    /** Returns the tiles in the given bounds, inclusive, sorted by row and column */
+    List<DecodedTile> read(TileEntry entry, int zoom, int minColumn, int maxColumn, int minRow, int maxRow)
+            throws IOException {
+        String table = entry.getTableName();
+        List<int[]> positions = getPositions(table, zoom, minColumn, maxColumn, minRow, maxRow);
+
+        DecodedTile[] result = new DecodedTile[positions.size()];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < result.length; i++) {
+            int[] position = positions.get(i);
+            BufferedImage image = cache.get(TileCache.key(namespace, table, zoom, position[0], position[1]));
+            if (image != null) {
+                result[i] = new DecodedTile(position[0], position[1], image);
+            } else {
+                missing.add(i);
+            }
+        }
+
+        ExecutorService service = executor != null ? executor : SharedThreadPool.getExecutor();
+        if (service == null || missing.size() <= MAX_TILES) {
+            read(table, zoom, positions, missing, result);
+        } else {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < missing.size(); i += MAX_TILES) {
+                final List<Integer> group = missing.subList(i, Math.min(i + MAX_TILES, missing.size()));
+                futures.add(service.submit(() -> {
+                    read(table, zoom, positions, group, result);
+                    return null;
+                }));
+            }
+            try {
+                for (Future<?> future : futures) {
+                    SharedThreadPool.get(future);
+                }
+            } finally {
+                for (Future<?> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+
+        List<DecodedTile> tiles = new ArrayList<>(result.length);
+        for (DecodedTile tile : result) {
+            if (tile != null) {
+                tiles.add(tile);
+            }
+        }
+        return tiles;
+    }
+
+    private List<int[]> getPositions(String table, int zoom, int minColumn, int maxColumn, int minRow, int maxRow)
+            throws IOException {
+        String sql = format(
+                "SELECT tile_column, tile_row FROM \"%s\" WHERE zoom_level = ? AND tile_column BETWEEN ? AND ?"
+                        + " AND tile_row BETWEEN ? AND ? ORDER BY tile_row, tile_column",
+                table);
+        List<int[]> positions = new ArrayList<>();
+        try (Connection cx = geopkg.getDataSource().getConnection();
+                PreparedStatement ps = cx.prepareStatement(sql)) {
+            ps.setInt(1, zoom);
+            ps.setInt(2, minColumn);
+            ps.setInt(3, maxColumn);
+            ps.setInt(4, minRow);
+            ps.setInt(5, maxRow);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    positions.add(new int[] {rs.getInt(1), rs.getInt(2)});
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        return positions;
+    }
+
+    /** Reads and decodes a group of tiles with a single connection, caching the results */
+    private void read(String table, int zoom, List<int[]> positions, List<Integer> group, DecodedTile[] result)
+            throws IOException {
+        String sql =
+                format("SELECT tile_data FROM \"%s\" WHERE zoom_level = ? AND tile_column = ? AND tile_row = ?", table);
+        // image readers are not thread safe, one per group
+        TileImageReader reader = new TileImageReader();
+        try (Connection cx = geopkg.getDataSource().getConnection();
+                PreparedStatement ps = cx.prepareStatement(sql)) {
+            for (int i : group) {
+                int[] position = positions.get(i);
+                ps.setInt(1, zoom);
+                ps.setInt(2, position[0]);
+                ps.setInt(3, position[1]);
+                byte[] data;
+                try (ResultSet rs = ps.executeQuery()) {
+                    // the tile might have been removed in the meantime
+                    data = rs.next() ? rs.getBytes(1) : null;
+                }
+                if (data != null) {
+                    BufferedImage image = reader.read(data);
+                    cache.put(TileCache.key(namespace, table, zoom, position[0], position[1]), image);
+                    result[i] = new DecodedTile(position[0], position[1], image);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+}
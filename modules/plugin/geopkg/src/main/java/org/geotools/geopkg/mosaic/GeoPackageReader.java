@@ -40,6 +40,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -64,10 +65,9 @@
 import org.geotools.geometry.GeneralBounds;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.geopkg.GeoPackage;
-import org.geotools.geopkg.Tile;
 import org.geotools.geopkg.TileEntry;
 import org.geotools.geopkg.TileMatrix;
-import org.geotools.geopkg.TileReader;
+import org.geotools.geopkg.mosaic.ConcurrentTileReader.DecodedTile;
 import org.geotools.image.ImageWorker;
 import org.geotools.referencing.CRS;
 import org.geotools.util.Utilities;
@@ -97,11 +97,21 @@ public class GeoPackageReader extends AbstractGridCoverage2DReader {
 
     GeoPackage file;
 
+    /** Decoded tiles, shared by all the readers */
+    TileCache tileCache = TileCache.SHARED;
+
+    /** The prefix of the keys of the tiles cached by this reader */
+    final String cacheNamespace = TileCache.newNamespace();
+
+    ConcurrentTileReader tileReader;
+
     public GeoPackageReader(Object source, Hints hints) throws IOException {
         coverageFactory = CoverageFactoryFinder.getGridCoverageFactory(this.hints);
 
         sourceFile = GeoPackageFormat.getFileFromSource(source);
         file = new GeoPackage(sourceFile, null, null, true);
+        ExecutorService executor = hints != null ? (ExecutorService) hints.get(Hints.EXECUTOR_SERVICE) : null;
+        tileReader = new ConcurrentTileReader(file, executor, tileCache, cacheNamespace);
         for (TileEntry tile : file.tiles()) {
             tiles.put(tile.getTableName(), tile);
         }
@@ -297,59 +307,50 @@ public GridCoverage2D read(String coverageName, GeneralParameterValue[] paramete
             bottomTile = (int) Math.ceil((offsetY - minY) / resY);
         }
 
-        try (TileReader it = file.reader(
-                entry,
-                bestMatrix.getZoomLevel(),
-                bestMatrix.getZoomLevel(),
-                leftTile,
-                rightTile,
-                topTile,
-                bottomTile)) {
-            /**
-             * Composing the output is harder than it seems, GeoPackage does not mandate any uniformity in tiles, they
-             * can be in different formats (a mix of PNG and JPEG) and can have different color models, thus a mix of
-             * (possibly different) palettes, gray, RGB, RGBA. GDAL in particular defaults to generate a mix of PNG and
-             * JPEG to generate the slow and large PNG format only when transparency is actually needed
-             */
-            List<ImageInTile> sources = new ArrayList<>();
-            TileImageReader tileReader = new TileImageReader();
-
-            while (it.hasNext()) {
-                Tile tile = it.next();
-                // recalculate the envelope we are actually returning (remember y axis is flipped)
-                ReferencedEnvelope tileEnvelope = new ReferencedEnvelope( //
-                        offsetX + tile.getColumn() * resX, //
-                        offsetX + (tile.getColumn() + 1) * resX, //
-                        offsetY - (tile.getRow() + 1) * resY, //
-                        offsetY - tile.getRow() * resY,
-                        crs);
-                if (resultEnvelope == null) {
-                    resultEnvelope = tileEnvelope;
-                } else {
-                    resultEnvelope.expandToInclude(tileEnvelope);
-                }
-
-                BufferedImage tileImage = tileReader.read(tile.getData());
-
-                int posx = (tile.getColumn() - leftTile) * DEFAULT_TILE_SIZE;
-                int posy = (tile.getRow() - topTile) * DEFAULT_TILE_SIZE;
-                sources.add(new ImageInTile(tileImage, posx, posy));
-            }
-            it.close();
-
-            if (sources.isEmpty()) {
-                // no tiles
-                return null;
-            } else if (sources.size() == 1) {
-                // one tile
-                image = sources.get(0).image;
+        /**
+         * Composing the output is harder than it seems, GeoPackage does not mandate any uniformity in tiles, they can
+         * be in different formats (a mix of PNG and JPEG) and can have different color models, thus a mix of (possibly
+         * different) palettes, gray, RGB, RGBA. GDAL in particular defaults to generate a mix of PNG and JPEG to
+         * generate the slow and large PNG format only when transparency is actually needed
+         */
+        List<ImageInTile> sources = new ArrayList<>();
+        for (DecodedTile tile :
+                tileReader.read(entry, bestMatrix.getZoomLevel(), leftTile, rightTile, topTile, bottomTile)) {
+            // recalculate the envelope we are actually returning (remember y axis is flipped)
+            ReferencedEnvelope tileEnvelope = new ReferencedEnvelope( //
+                    offsetX + tile.column * resX, //
+                    offsetX + (tile.column + 1) * resX, //
+                    offsetY - (tile.row + 1) * resY, //
+                    offsetY - tile.row * resY,
+                    crs);
+            if (resultEnvelope == null) {
+                resultEnvelope = tileEnvelope;
             } else {
-                image = mosaicImages(sources);
+                resultEnvelope.expandToInclude(tileEnvelope);
             }
+
+            int posx = (tile.column - leftTile) * DEFAULT_TILE_SIZE;
+            int posy = (tile.row - topTile) * DEFAULT_TILE_SIZE;
+            sources.add(new ImageInTile(tile.image, posx, posy));
+        }
+
+        if (sources.isEmpty()) {
+            // no tiles
+            return null;
+        } else if (sources.size() == 1) {
+            // one tile, copied as the decoded tiles are cached and shared
+            image = copy(sources.get(0).image);
+        } else {
+            image = mosaicImages(sources);
         }
         return coverageFactory.create(entry.getTableName(), image, resultEnvelope);
     }
 
+    private static BufferedImage copy(BufferedImage image) {
+        ColorModel cm = image.getColorModel();
+        return new BufferedImage(cm, image.copyData(null), cm.isAlphaPremultiplied(), null);
+    }
+
     private RenderedImage mosaicImages(List<ImageInTile> sources) {
         if (uniformImages(sources.stream().map(it -> it.image).collect(Collectors.toList()))) {
             return mosaicUniformImages(sources);
@@ -470,6 +471,7 @@ public GridCoverage2D read(GeneralParameterValue[] parameters) throws IllegalArg
 
     @Override
     public void dispose() {
+        tileCache.clear(cacheNamespace);
         if (file != null) {
             file.close();
         }
@@ -0,0 +1,119 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geopkg.mosaic;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A least recently used cache of decoded tile images, bounded by the memory used by their pixels. A single instance is
+ * shared by all the readers, each one using its own namespace in the keys, so that the memory used stays bounded
+ * regardless of the number of open readers. The cached images are shared, and must not be modified. Thread safe.
+ */
+class TileCache {
+
+    /** System property setting the memory used by the decoded tiles of all the readers, in bytes, 0 to disable */
+    static final String CACHE_SIZE_KEY = "org.geotools.geopkg.tiles.cacheSize";
+
+    static final long DEFAULT_CACHE_SIZE = 64 * 1024 * 1024;
+
+    /** The cache shared by all the readers */
+    static final TileCache SHARED = new TileCache();
+
+    private static final AtomicLong NAMESPACES = new AtomicLong();
+
+    private final long maxSize;
+
+    private long size;
+
+    private final LinkedHashMap<String, BufferedImage> images = new LinkedHashMap<>(16, 0.75f, true);
+
+    TileCache() {
+        this(Long.getLong(CACHE_SIZE_KEY, DEFAULT_CACHE_SIZE));
+    }
+
+    TileCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /** Returns a new key prefix, keeping the tiles of a reader apart from the ones of the other readers */
+    static String newNamespace() {
+        return NAMESPACES.incrementAndGet() + ":";
+    }
+
+    static String key(String namespace, String table, int zoom, int column, int row) {
+        return namespace + table + "/" + zoom + "/" + column + "/" + row;
+    }
+
+    synchronized BufferedImage get(String key) {
+        return images.get(key);
+    }
+
+    synchronized void put(String key, BufferedImage image) {
+        long imageSize = sizeOf(image);
+        if (imageSize > maxSize) {
+            return;
+        }
+        BufferedImage previous = images.put(key, image);
+        if (previous != null) {
+            size -= sizeOf(previous);
+        }
+        size += imageSize;
+        Iterator<Map.Entry<String, BufferedImage>> it = images.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            size -= sizeOf(it.next().getValue());
+            it.remove();
+        }
+    }
+
+    /** Returns the memory used by the cached images, in bytes */
+    synchronized long getSize() {
+        return size;
+    }
+
+    /** Returns the memory used by the cached images of a namespace, in bytes */
+    synchronized long getSize(String namespace) {
+        long result = 0;
+        for (Map.Entry<String, BufferedImage> entry : images.entrySet()) {
+            if (entry.getKey().startsWith(namespace)) {
+                result += sizeOf(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /** Removes the cached images of a namespace */
+    synchronized void clear(String namespace) {
+        Iterator<Map.Entry<String, BufferedImage>> it = images.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, BufferedImage> entry = it.next();
+            if (entry.getKey().startsWith(namespace)) {
+                size -= sizeOf(entry.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    static long sizeOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+}
@@ -18,6 +18,7 @@
 
 import static org.geotools.jdbc.JDBCDataStore.JDBC_NATIVE_TYPE;
 import static org.geotools.jdbc.JDBCDataStore.JDBC_NATIVE_TYPENAME;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -25,6 +26,7 @@
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
@@ -714,6 +716,55 @@ public void testSpatialIndexWriting() throws Exception {
         }
     }
 
+    @Test
+    public void testBulkLoad() throws Exception {
+        ShapefileDataStore shp = new ShapefileDataStore(setUpShapefile());
+        SimpleFeatureCollection coll = shp.getFeatureSource().getFeatures();
+
+        FeatureEntry entry = new FeatureEntry();
+        geopkg.setBulkLoad(true);
+        geopkg.add(entry, coll);
+        assertTrue(geopkg.hasSpatialIndex(entry));
+        assertEquals(coll.size(), countIndexed("bugsites", "the_geom"));
+
+        // append the same features, in small batches and transactions
+        GeoPkgBulkLoader loader = new GeoPkgBulkLoader(geopkg, entry);
+        loader.setBatchSize(7);
+        loader.setTransactionSize(20);
+        assertEquals(coll.size(), loader.load(coll));
+        assertEquals(2 * coll.size(), countIndexed("bugsites", "the_geom"));
+
+        // the insert trigger is back in place
+        try (Transaction tx = new DefaultTransaction();
+                SimpleFeatureWriter w = geopkg.writer(entry, true, null, tx);
+                SimpleFeatureIterator it = coll.features()) {
+            SimpleFeature f = it.next();
+            SimpleFeature g = w.next();
+            for (PropertyDescriptor pd : coll.getSchema().getDescriptors()) {
+                String name = pd.getName().getLocalPart();
+                g.setAttribute(name, f.getAttribute(name));
+            }
+            w.write();
+            tx.commit();
+        }
+        assertEquals(2 * coll.size() + 1, countIndexed("bugsites", "the_geom"));
+    }
+
+    /** Counts the features whose bounds are contained in their spatial index entry */
+    private int countIndexed(String table, String column) throws Exception {
+        String sql = String.format(
+                "SELECT COUNT(*) FROM \"%1$s\" t JOIN \"rtree_%1$s_%2$s\" r ON t.fid = r.id "
+                        + "WHERE r.minx <= ST_MinX(t.\"%2$s\") AND r.maxx >= ST_MaxX(t.\"%2$s\") "
+                        + "AND r.miny <= ST_MinY(t.\"%2$s\") AND r.maxy >= ST_MaxY(t.\"%2$s\")",
+                table, column);
+        try (Connection cx = geopkg.getDataSource().getConnection();
+                Statement st = cx.createStatement();
+                ResultSet rs = st.executeQuery(sql)) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
     @Test
     public void testSpatialIndexReading() throws Exception {
         FilterFactory ff = CommonFactoryFinder.getFilterFactory();
@@ -835,6 +886,83 @@ public void testCreateTileEntry() throws Exception {
         assertEquals(0, geopkg.getTileBound(e, 2, true, true));
     }
 
+    @Test
+    public void testTileWriter() throws Exception {
+        TileEntry e = createTileEntry("foo");
+        geopkg.create(e);
+
+        BufferedImage opaque = new BufferedImage(256, 256, BufferedImage.TYPE_3BYTE_BGR);
+        BufferedImage transparent = new BufferedImage(256, 256, BufferedImage.TYPE_4BYTE_ABGR);
+        try (TileWriter writer = new TileWriter(geopkg, e, "jpeg")) {
+            writer.write(0, 0, 0, opaque);
+            for (int column = 0; column < 2; column++) {
+                for (int row = 0; row < 2; row++) {
+                    writer.write(1, column, row, column == row ? transparent : opaque);
+                }
+            }
+            // replaces the tile written before
+            writer.write(new Tile(0, 0, 0, new byte[] {0}));
+        }
+
+        int count = 0;
+        try (TileReader r = geopkg.reader(e, 1, 1, null, null, null, null)) {
+            while (r.hasNext()) {
+                Tile t = r.next();
+                byte[] data = t.getData();
+                if (t.getColumn().equals(t.getRow())) {
+                    // JPEG cannot hold transparency, falls back on PNG
+                    assertEquals((byte) 0x89, data[0]);
+                } else {
+                    assertEquals((byte) 0xFF, data[0]);
+                    assertEquals((byte) 0xD8, data[1]);
+                }
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(data));
+                assertEquals(256, image.getWidth());
+                count++;
+            }
+        }
+        assertEquals(4, count);
+
+        try (TileReader r = geopkg.reader(e, 0, 0, null, null, null, null)) {
+            assertTrue(r.hasNext());
+            assertArrayEquals(new byte[] {0}, r.next().getData());
+            assertFalse(r.hasNext());
+        }
+    }
+
+    @Test
+    public void testTileWriterReusedImage() throws Exception {
+        TileEntry e = createTileEntry("foo");
+        geopkg.create(e);
+
+        // the same image is repainted for each tile, while the previous ones may still be encoding
+        BufferedImage image = new BufferedImage(256, 256, BufferedImage.TYPE_3BYTE_BGR);
+        Graphics2D graphics = image.createGraphics();
+        try (TileWriter writer = new TileWriter(geopkg, e, "png")) {
+            for (int column = 0; column < 2; column++) {
+                for (int row = 0; row < 2; row++) {
+                    graphics.setColor(new Color(100 * column, 100 * row, 50));
+                    graphics.fillRect(0, 0, 256, 256);
+                    writer.write(1, column, row, image);
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        int count = 0;
+        try (TileReader r = geopkg.reader(e, 1, 1, null, null, null, null)) {
+            while (r.hasNext()) {
+                Tile t = r.next();
+                BufferedImage read = ImageIO.read(new ByteArrayInputStream(t.getData()));
+                Color expected = new Color(100 * t.getColumn(), 100 * t.getRow(), 50);
+                assertEquals(expected.getRGB(), read.getRGB(128, 128));
+                count++;
+            }
+        }
+        assertEquals(4, count);
+    }
+
     @Test
     public void testIndependentTileMatrix() throws Exception {
         TileEntry e = createTileEntry("foo");
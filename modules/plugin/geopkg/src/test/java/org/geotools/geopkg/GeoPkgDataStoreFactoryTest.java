@@ -16,6 +16,7 @@
  */
 package org.geotools.geopkg;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -25,6 +26,7 @@
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashMap;
@@ -106,8 +108,34 @@ public void testConnectTimeout() throws Exception {
         assertTrue(time.get() <= 10000);
     }
 
-    private void createGeoPackage(String geoPackageName, Integer connectTimeout, String tableName) throws IOException {
+    @Test
+    public void testWriteAheadLogAndPageSize() throws Exception {
         Map<String, Serializable> map = new HashMap<>();
+        map.put(GeoPkgDataStoreFactory.WRITE_AHEAD_LOG.key, true);
+        map.put(GeoPkgDataStoreFactory.PAGE_SIZE.key, 8192);
+        createGeoPackage(dbName, null, "wal", map);
+
+        try (Connection cx = DriverManager.getConnection(
+                        "jdbc:sqlite:" + tmp.getRoot().getPath() + File.separator + dbName);
+                Statement st = cx.createStatement()) {
+            try (ResultSet rs = st.executeQuery("PRAGMA journal_mode")) {
+                assertTrue(rs.next());
+                assertEquals("wal", rs.getString(1));
+            }
+            try (ResultSet rs = st.executeQuery("PRAGMA page_size")) {
+                assertTrue(rs.next());
+                assertEquals(8192, rs.getInt(1));
+            }
+        }
+    }
+
+    private void createGeoPackage(String geoPackageName, Integer connectTimeout, String tableName) throws IOException {
+        createGeoPackage(geoPackageName, connectTimeout, tableName, new HashMap<>());
+    }
+
+    private void createGeoPackage(
+            String geoPackageName, Integer connectTimeout, String tableName, Map<String, Serializable> map)
+            throws IOException {
         map.put(GeoPkgDataStoreFactory.DBTYPE.key, "geopkg");
         map.put(GeoPkgDataStoreFactory.DATABASE.key, geoPackageName);
         if (connectTimeout != null) {
@@ -28,6 +28,8 @@
 import java.io.IOException;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.IntStream;
 import javax.media.jai.Interpolation;
 import org.geotools.api.parameter.GeneralParameterValue;
@@ -45,6 +47,7 @@
 import org.geotools.parameter.Parameter;
 import org.geotools.referencing.CRS;
 import org.geotools.util.URLs;
+import org.geotools.util.factory.Hints;
 import org.junit.Test;
 
 public class GeoPackageReaderTest {
@@ -114,6 +117,36 @@ public void testZoomlevel0() throws IOException {
         reader.dispose();
     }
 
+    @Test
+    public void testConcurrentCachedRead() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        GeoPackageReader reader = new GeoPackageReader(
+                GeoPackageTest.class.getResource("Blue_Marble.gpkg"), new Hints(Hints.EXECUTOR_SERVICE, executor));
+        try {
+            GeneralParameterValue[] parameters = new GeneralParameterValue[1];
+            GridGeometry2D gg = new GridGeometry2D(
+                    new GridEnvelope2D(new Rectangle(1000, 500)),
+                    new ReferencedEnvelope(-160, 160.0, -80.0, 80, WGS_84));
+            parameters[0] = new Parameter<>(AbstractGridFormat.READ_GRIDGEOMETRY2D, gg);
+            File reference = URLs.urlToFile(GeoPackageTest.class.getResource("bluemarble.jpeg"));
+
+            RenderedImage img = reader.read("bluemarble_tif_tiles", parameters).getRenderedImage();
+            ImageAssert.assertEquals(reference, img, 250);
+            long cached = reader.tileCache.getSize(reader.cacheNamespace);
+            assertTrue(cached > 0);
+
+            // served from the cache the second time
+            img = reader.read("bluemarble_tif_tiles", parameters).getRenderedImage();
+            ImageAssert.assertEquals(reference, img, 250);
+            assertEquals(cached, reader.tileCache.getSize(reader.cacheNamespace));
+        } finally {
+            reader.dispose();
+            executor.shutdown();
+        }
+        // the shared cache drops the tiles of a disposed reader
+        assertEquals(0, reader.tileCache.getSize(reader.cacheNamespace));
+    }
+
     @Test
     public void testZoomlevel1() throws IOException {
         GeoPackageReader reader = new GeoPackageReader(GeoPackageTest.class.getResource("Blue_Marble.gpkg"), null);
@@ -18,6 +18,7 @@
 
 import com.google.common.io.LittleEndianDataInputStream;
 import com.google.flatbuffers.FlatBufferBuilder;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -58,6 +59,19 @@ public static void serialize(
         }
     }
 
+    /**
+     * Writes the features to a file with a spatial index, the features being sorted along a Hilbert curve, see
+     * {@link IndexedFlatGeobufWriter}
+     */
+    public static void serialize(SimpleFeatureCollection featureCollection, File file) throws IOException {
+        try (IndexedFlatGeobufWriter writer = new IndexedFlatGeobufWriter(file, featureCollection.getSchema());
+                FeatureIterator<SimpleFeature> iterator = featureCollection.features()) {
+            while (iterator.hasNext()) {
+                writer.writeFeature(iterator.next());
+            }
+        }
+    }
+
     public static SimpleFeatureCollection deserializeSFC(InputStream stream) throws IOException {
         HeaderMeta headerMeta = HeaderMeta.read(stream);
         SimpleFeatureType featureType = HeaderMetaUtil.toFeatureType(headerMeta, "unknown");
@@ -18,6 +18,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
@@ -44,6 +45,8 @@ public class FlatGeobufDataStore extends ContentDataStore {
     final String typeName;
 
     HeaderMeta headerMeta;
+    FlatGeobufIndex index;
+    boolean indexRead;
     SimpleFeatureType phantomFeatureType;
 
     public FlatGeobufDataStore(URL url) {
@@ -88,11 +91,38 @@ protected HeaderMeta getHeaderMeta() throws IOException {
             if (file != null && !file.exists()) {
                 return null;
             }
-            headerMeta = HeaderMeta.read(url.openStream());
+            try (InputStream is = url.openStream()) {
+                headerMeta = HeaderMeta.read(is);
+            }
         }
         return headerMeta;
     }
 
+    /**
+     * Returns the spatial index of the file, read on first access and then shared by all the readers
+     *
+     * @return the index, or null if the file has no index, if it is too large to be kept in memory, or if the file
+     *     cannot be read by ranges (the server ignoring range requests), queries then streaming through the file once
+     */
+    synchronized FlatGeobufIndex getIndex() throws IOException {
+        if (!indexRead) {
+            HeaderMeta meta = getHeaderMeta();
+            if (meta != null) {
+                try (RangeReader reader = RangeReader.open(url)) {
+                    if (reader.supportsRanges()) {
+                        index = FlatGeobufIndex.read(reader, meta);
+                        // the server answered with the whole file, every range would download it again
+                        if (!reader.supportsRanges()) {
+                            index = null;
+                        }
+                    }
+                }
+            }
+            indexRead = true;
+        }
+        return index;
+    }
+
     protected URL getURL() {
         return url;
     }
@@ -162,7 +192,9 @@ public void removeSchema(String typeName) throws IOException {
     }
 
     /** Called internally to clear the header meta cache */
-    void clearHeaderMeta() {
+    synchronized void clearHeaderMeta() {
         this.headerMeta = null;
+        this.index = null;
+        this.indexRead = false;
     }
 }
@@ -16,6 +16,7 @@
  */
 package org.geotools.data.flatgeobuf;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -54,19 +55,14 @@ public class FlatGeobufFeatureReader implements FeatureReader<SimpleFeatureType,
         this.featureType = state.getFeatureType();
 
         DataStore dataStore = state.getEntry().getDataStore();
-        File file;
-        URL url;
+        FlatGeobufDataStore fgbDataStore;
         if (dataStore instanceof FlatGeobufDirectoryDataStore) {
-            file = ((FlatGeobufDirectoryDataStore) dataStore)
-                    .getDataStore(featureType.getTypeName())
-                    .getFile();
-            url = ((FlatGeobufDirectoryDataStore) dataStore)
-                    .getDataStore(featureType.getTypeName())
-                    .getURL();
+            fgbDataStore = ((FlatGeobufDirectoryDataStore) dataStore).getDataStore(featureType.getTypeName());
         } else {
-            file = ((FlatGeobufDataStore) dataStore).getFile();
-            url = ((FlatGeobufDataStore) dataStore).getURL();
+            fgbDataStore = (FlatGeobufDataStore) dataStore;
         }
+        File file = fgbDataStore.getFile();
+        URL url = fgbDataStore.getURL();
 
         if (file != null && !file.exists()) {
             isEmpty = true;
@@ -76,14 +72,6 @@ public class FlatGeobufFeatureReader implements FeatureReader<SimpleFeatureType,
             isEmpty = false;
         }
 
-        inputStream = url.openStream();
-
-        if (headerMeta == null) {
-            headerMeta = HeaderMeta.read(inputStream);
-        } else {
-            skipNBytes(inputStream, headerMeta.offset);
-        }
-
         Filter filter = q.getFilter();
         Envelope bbox = new ReferencedEnvelope();
         Id id = null;
@@ -98,16 +86,28 @@ public class FlatGeobufFeatureReader implements FeatureReader<SimpleFeatureType,
                 || Double.isInfinite(bbox.getHeight())) {
             bbox = null;
         }
+
+        // with the cached index, only the ranges holding the selected features are read
+        FlatGeobufIndex index = headerMeta != null && (bbox != null || id != null) ? fgbDataStore.getIndex() : null;
+        if (index != null) {
+            long[] fids = bbox != null ? index.search(bbox) : getFids(id, headerMeta);
+            it = new ReadRangesIterator(RangeReader.open(url), index, headerMeta, featureType, fids);
+            return;
+        }
+
+        inputStream = url.openStream();
+
+        if (headerMeta == null) {
+            headerMeta = HeaderMeta.read(inputStream);
+        } else {
+            skipNBytes(inputStream, headerMeta.offset);
+        }
+
         if (bbox != null)
             it = FeatureCollectionConversions.deserialize(inputStream, headerMeta, featureType, bbox)
                     .iterator();
         else if (id != null) {
-            long featuresCount = headerMeta.featuresCount;
-            long[] fids = id.getIdentifiers().stream()
-                    .mapToLong(i -> extractFid(i))
-                    .filter(l -> l >= 0 && l < featuresCount)
-                    .toArray();
-            Arrays.sort(fids);
+            long[] fids = getFids(id, headerMeta);
             it = FeatureCollectionConversions.deserialize(inputStream, headerMeta, featureType, fids)
                     .iterator();
         } else if (startIndex != null && startIndex > 0) {
@@ -119,6 +119,16 @@ else if (id != null) {
         }
     }
 
+    private static long[] getFids(Id id, HeaderMeta headerMeta) {
+        long featuresCount = headerMeta.featuresCount;
+        long[] fids = id.getIdentifiers().stream()
+                .mapToLong(i -> extractFid(i))
+                .filter(l -> l >= 0 && l < featuresCount)
+                .toArray();
+        Arrays.sort(fids);
+        return fids;
+    }
+
     private static long extractFid(Identifier i) {
         long fid = -1;
         String idStr = i.getID().toString();
@@ -173,5 +183,6 @@ public boolean hasNext() throws IOException {
     @Override
     public void close() throws IOException {
         if (inputStream != null) inputStream.close();
+        if (it instanceof Closeable) ((Closeable) it).close();
     }
 }
@@ -136,6 +136,10 @@ protected int getCountInternal(Query query) throws IOException {
                 }
 
                 // otherwise scan the index (might be fooled by features crossing the dateline)
+                FlatGeobufIndex index = getDataStore().getIndex();
+                if (index != null) {
+                    return index.search(bounds).length;
+                }
                 URL url = getDataStore().getURL();
                 try (InputStream is = url.openStream()) {
                     FlatGeobufFeatureReader.skipNBytes(is, headerMeta.offset);
@@ -0,0 +1,182 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.flatgeobuf;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.locationtech.jts.geom.Envelope;
+import org.wololo.flatgeobuf.HeaderMeta;
+
+/**
+ * The packed Hilbert R-tree of a FlatGeobuf file, read once and kept in memory in its serialized form, so that it can
+ * be searched without going back to the file. Each node is made of four little endian doubles, the bounds, and the
+ * offset of either its first child node or, for the leaves, of its feature in the features section. The levels are
+ * stored from the root down, and the leaves are in the same order as the features.
+ *
+ * <p>Instances are immutable and can be shared among threads.
+ */
+final class FlatGeobufIndex {
+
+    /** System property setting the largest index, in bytes, kept in memory */
+    static final String MAX_SIZE_KEY = "org.geotools.flatgeobuf.index.maxSize";
+
+    static final int NODE_ITEM_LEN = 40;
+
+    private final ByteBuffer tree;
+
+    private final long featuresCount;
+
+    private final int nodeSize;
+
+    /** First and last node, exclusive, of each level, from the leaves up to the root */
+    private final long[][] levelBounds;
+
+    private final long numNodes;
+
+    /** Position of the features section in the file */
+    private final long featuresOffset;
+
+    /** Length of the file, or -1 if unknown */
+    private final long length;
+
+    private FlatGeobufIndex(ByteBuffer tree, HeaderMeta headerMeta, long numNodes, long[][] levelBounds, long length) {
+        this.tree = tree;
+        this.featuresCount = headerMeta.featuresCount;
+        this.nodeSize = clampNodeSize(headerMeta.indexNodeSize);
+        this.numNodes = numNodes;
+        this.levelBounds = levelBounds;
+        this.featuresOffset = headerMeta.offset + numNodes * NODE_ITEM_LEN;
+        this.length = length;
+    }
+
+    /**
+     * Reads the index of a file with a single range read
+     *
+     * @return the index, or null if the file has no index or if it is larger than {@value #MAX_SIZE_KEY}
+     */
+    static FlatGeobufIndex read(RangeReader reader, HeaderMeta headerMeta) throws IOException {
+        if (headerMeta.indexNodeSize < 2 || headerMeta.featuresCount <= 0) {
+            return null;
+        }
+        long[][] levelBounds = levelBounds(headerMeta.featuresCount, clampNodeSize(headerMeta.indexNodeSize));
+        long numNodes = levelBounds[0][1];
+        long size = numNodes * NODE_ITEM_LEN;
+        if (size > Long.getLong(MAX_SIZE_KEY, 256 * 1024 * 1024) || size > Integer.MAX_VALUE) {
+            return null;
+        }
+        ByteBuffer tree = reader.read(headerMeta.offset, (int) size);
+        if (tree.remaining() < size) {
+            throw new EOFException("The spatial index is truncated, expected " + size + " bytes");
+        }
+        return new FlatGeobufIndex(tree, headerMeta, numNodes, levelBounds, reader.length());
+    }
+
+    private static int clampNodeSize(int nodeSize) {
+        return Math.min(Math.max(nodeSize, 2), 65535);
+    }
+
+    /** Returns the first and last node, exclusive, of each level of the tree, from the leaves up to the root */
+    static long[][] levelBounds(long featuresCount, int nodeSize) {
+        List<Long> levelNumNodes = new ArrayList<>();
+        long n = featuresCount;
+        long numNodes = n;
+        levelNumNodes.add(n);
+        do {
+            n = (n + nodeSize - 1) / nodeSize;
+            numNodes += n;
+            levelNumNodes.add(n);
+        } while (n != 1);
+        long[][] bounds = new long[levelNumNodes.size()][];
+        long end = numNodes;
+        for (int i = 0; i < bounds.length; i++) {
+            long start = end - levelNumNodes.get(i);
+            bounds[i] = new long[] {start, end};
+            end = start;
+        }
+        return bounds;
+    }
+
+    /** Returns the position of the features section in the file */
+    long getFeaturesOffset() {
+        return featuresOffset;
+    }
+
+    long getFeaturesCount() {
+        return featuresCount;
+    }
+
+    /** Returns the offset of a feature, relative to the features section */
+    long getOffset(long fid) {
+        return tree.getLong(nodePosition(numNodes - featuresCount + fid) + 32);
+    }
+
+    /**
+     * Returns the end of a feature, relative to the features section, or -1 if unknown, that is, for the last feature
+     * of a file whose length is not known
+     */
+    long getEnd(long fid) {
+        if (fid + 1 < featuresCount) {
+            return getOffset(fid + 1);
+        }
+        return length < 0 ? -1 : length - featuresOffset;
+    }
+
+    private static int nodePosition(long node) {
+        return (int) (node * NODE_ITEM_LEN);
+    }
+
+    /** Returns the ids of the features whose bounds intersect the envelope, in file order */
+    long[] search(Envelope envelope) {
+        long[] hits = new long[16];
+        int count = 0;
+        long leavesStart = numNodes - featuresCount;
+        ArrayDeque<long[]> queue = new ArrayDeque<>();
+        queue.add(new long[] {0, levelBounds.length - 1});
+        long[] next;
+        while ((next = queue.poll()) != null) {
+            long nodeIndex = next[0];
+            int level = (int) next[1];
+            boolean isLeaf = nodeIndex >= leavesStart;
+            long end = Math.min(nodeIndex + nodeSize, levelBounds[level][1]);
+            for (long node = nodeIndex; node < end; node++) {
+                int p = nodePosition(node);
+                if (tree.getDouble(p) > envelope.getMaxX()
+                        || tree.getDouble(p + 8) > envelope.getMaxY()
+                        || tree.getDouble(p + 16) < envelope.getMinX()
+                        || tree.getDouble(p + 24) < envelope.getMinY()) {
+                    continue;
+                }
+                if (isLeaf) {
+                    if (count == hits.length) {
+                        hits = Arrays.copyOf(hits, count * 2);
+                    }
+                    hits[count++] = node - leavesStart;
+                } else {
+                    queue.add(new long[] {tree.getLong(p + 32), level - 1});
+                }
+            }
+        }
+        long[] result = Arrays.copyOf(hits, count);
+        Arrays.sort(result);
+        return result;
+    }
+}
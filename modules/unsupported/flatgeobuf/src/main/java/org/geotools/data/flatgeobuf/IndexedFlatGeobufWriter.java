@@ -0,0 +1,216 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.flatgeobuf;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.util.SharedThreadPool;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.wololo.flatgeobuf.Constants;
+import org.wololo.flatgeobuf.HeaderMeta;
+
+/**
+ * Writes a FlatGeobuf file with a spatial index, for exports too large to be held in memory.
+ *
+ * <p>Features are serialized in batches in the {@link SharedThreadPool}, and spilled to temporary files in the
+ * directory of the target file, along with their bounds. When the writer is closed the bounds are sorted along a
+ * Hilbert curve, and the file is written with the packed R-tree followed by the features in the same order, which is
+ * not the order they were written in. Memory use does not depend on the number of features.
+ *
+ * @since 34.0
+ */
+public class IndexedFlatGeobufWriter implements Closeable {
+
+    public static final int DEFAULT_NODE_SIZE = 16;
+
+    static final int BATCH_SIZE = 1024;
+
+    /** The serialized features of a batch */
+    private static final class Batch {
+
+        final byte[] bytes;
+
+        final int[] lengths;
+
+        final Envelope[] bounds;
+
+        Batch(byte[] bytes, int[] lengths, Envelope[] bounds) {
+            this.bytes = bytes;
+            this.lengths = lengths;
+            this.bounds = bounds;
+        }
+    }
+
+    private final File file;
+
+    private final HeaderMeta headerMeta;
+
+    private final int nodeSize;
+
+    private final PackedRTreeWriter tree;
+
+    private List<SimpleFeature> features = new ArrayList<>(BATCH_SIZE);
+
+    private final ExecutorService executor = SharedThreadPool.getExecutor();
+
+    private final ArrayDeque<Future<Batch>> batches = new ArrayDeque<>();
+
+    private boolean closed;
+
+    public IndexedFlatGeobufWriter(File file, SimpleFeatureType featureType) throws IOException {
+        this(file, featureType, DEFAULT_NODE_SIZE);
+    }
+
+    public IndexedFlatGeobufWriter(File file, SimpleFeatureType featureType, int nodeSize) throws IOException {
+        this.file = file;
+        this.headerMeta = HeaderMetaUtil.fromFeatureType(featureType, 0);
+        this.nodeSize = nodeSize;
+        this.tree = new PackedRTreeWriter(file.getAbsoluteFile().getParentFile(), nodeSize);
+    }
+
+    /** Sets the number of features sorted in memory at once, for testing purposes */
+    void setRunSize(int runSize) {
+        tree.setRunSize(runSize);
+    }
+
+    public void writeFeature(SimpleFeature feature) throws IOException {
+        if (closed) {
+            throw new IOException("Writer already closed");
+        }
+        features.add(feature);
+        if (features.size() == BATCH_SIZE) {
+            submit();
+        }
+    }
+
+    /** Serializes the pending features, keeping up to two batches per thread in flight */
+    private void submit() throws IOException {
+        final List<SimpleFeature> batch = features;
+        features = new ArrayList<>(BATCH_SIZE);
+        if (executor == null) {
+            append(serialize(batch));
+            return;
+        }
+        if (batches.size() >= SharedThreadPool.getMaxPending()) {
+            append(SharedThreadPool.get(batches.poll()));
+        }
+        batches.add(executor.submit(() -> serialize(batch)));
+    }
+
+    private Batch serialize(List<SimpleFeature> batch) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int[] lengths = new int[batch.size()];
+        Envelope[] bounds = new Envelope[batch.size()];
+        FlatBufferBuilder builder = FlatBuffers.newBuilder(16 * 1024);
+        try {
+            for (int i = 0; i < lengths.length; i++) {
+                SimpleFeature feature = batch.get(i);
+                int start = bytes.size();
+                FeatureConversions.serialize(feature, headerMeta, bytes, builder);
+                builder.clear();
+                lengths[i] = bytes.size() - start;
+                Geometry geometry = (Geometry) feature.getDefaultGeometry();
+                bounds[i] = geometry == null || geometry.isEmpty() ? null : geometry.getEnvelopeInternal();
+            }
+        } finally {
+            FlatBuffers.release(builder);
+        }
+        return new Batch(bytes.toByteArray(), lengths, bounds);
+    }
+
+    private void append(Batch batch) throws IOException {
+        int offset = 0;
+        for (int i = 0; i < batch.lengths.length; i++) {
+            tree.add(batch.bytes, offset, batch.lengths[i], batch.bounds[i]);
+            offset += batch.lengths[i];
+        }
+    }
+
+    /** Sorts the features and writes the file, then deletes the temporary files */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!features.isEmpty()) {
+                submit();
+            }
+            Future<Batch> future;
+            while ((future = batches.poll()) != null) {
+                append(SharedThreadPool.get(future));
+            }
+            write();
+        } finally {
+            for (Future<Batch> future : batches) {
+                future.cancel(true);
+            }
+            batches.clear();
+            tree.close();
+        }
+    }
+
+    private void write() throws IOException {
+        Envelope extent = tree.getExtent();
+        // an index needs at least a feature, and the bounds to sort them
+        boolean indexed = tree.getCount() > 0 && extent != null;
+        headerMeta.featuresCount = tree.getCount();
+        headerMeta.envelope = extent;
+        headerMeta.indexNodeSize = indexed ? nodeSize : 0;
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.write(Constants.MAGIC_BYTES);
+        FlatBufferBuilder builder = FlatBuffers.newBuilder(16 * 1024);
+        try {
+            HeaderMeta.write(headerMeta, header, builder);
+        } finally {
+            FlatBuffers.release(builder);
+        }
+
+        try (FileChannel out = FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(header.toByteArray());
+            while (buffer.hasRemaining()) {
+                out.write(buffer, buffer.position());
+            }
+            if (indexed) {
+                tree.write(out, header.size());
+            } else {
+                tree.writeFeatures(out, header.size());
+            }
+        }
+    }
+}
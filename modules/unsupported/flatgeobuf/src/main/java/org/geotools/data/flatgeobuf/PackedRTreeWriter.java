@@ -0,0 +1,463 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.flatgeobuf;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.shape.fractal.HilbertCode;
+
+/**
+ * Builds the packed Hilbert R-tree of a FlatGeobuf file with bounded memory. The serialized features and their bounds
+ * are spilled to temporary files as they come, the bounds are then sorted along a Hilbert curve with an external merge
+ * sort, and the features are copied after the tree in the sorted order. The tree is written level by level, from the
+ * leaves up, with sequential reads and writes, so that neither the features nor the tree are ever held in memory.
+ */
+final class PackedRTreeWriter implements Closeable {
+
+    /** Spilled node: the bounds, the offset of the feature in the spilled features and its length */
+    private static final int NODE_RECORD_LEN = 4 * 8 + 8 + 4;
+
+    /** Sorted node: the spilled node followed by its Hilbert value */
+    private static final int RUN_RECORD_LEN = NODE_RECORD_LEN + 4;
+
+    private static final int HILBERT_MAX = (1 << 16) - 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File directory;
+
+    private final int nodeSize;
+
+    /** Number of nodes sorted in memory at once */
+    private int runSize = 1 << 20;
+
+    private final File features;
+
+    private final FileChannel featuresChannel;
+
+    private final ChannelOutput featuresOutput;
+
+    private final File nodes;
+
+    private final FileChannel nodesChannel;
+
+    private final ChannelOutput nodesOutput;
+
+    private final List<File> runs = new ArrayList<>();
+
+    private final Envelope extent = new Envelope();
+
+    private long count;
+
+    PackedRTreeWriter(File directory, int nodeSize) throws IOException {
+        this.directory = directory;
+        this.nodeSize = Math.min(Math.max(nodeSize, 2), 65535);
+        this.features = File.createTempFile("features", ".fgbtmp", directory);
+        this.featuresChannel = open(features);
+        this.featuresOutput = new ChannelOutput(featuresChannel, 0);
+        this.nodes = File.createTempFile("nodes", ".fgbtmp", directory);
+        this.nodesChannel = open(nodes);
+        this.nodesOutput = new ChannelOutput(nodesChannel, 0);
+    }
+
+    private static FileChannel open(File file) throws IOException {
+        return FileChannel.open(
+                file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /** Sets the number of nodes sorted in memory at once, at most 2^24 */
+    void setRunSize(int runSize) {
+        this.runSize = Math.min(runSize, 1 << 24);
+    }
+
+    /**
+     * Adds a size prefixed feature
+     *
+     * @param bounds the bounds of the feature geometry, null if the geometry is null or empty
+     */
+    void add(byte[] bytes, int offset, int length, Envelope bounds) throws IOException {
+        if (bounds == null || bounds.isNull()) {
+            // never matches a search
+            nodesOutput.putDouble(Double.POSITIVE_INFINITY);
+            nodesOutput.putDouble(Double.POSITIVE_INFINITY);
+            nodesOutput.putDouble(Double.NEGATIVE_INFINITY);
+            nodesOutput.putDouble(Double.NEGATIVE_INFINITY);
+        } else {
+            nodesOutput.putDouble(bounds.getMinX());
+            nodesOutput.putDouble(bounds.getMinY());
+            nodesOutput.putDouble(bounds.getMaxX());
+            nodesOutput.putDouble(bounds.getMaxY());
+            extent.expandToInclude(bounds);
+        }
+        nodesOutput.putLong(featuresOutput.position());
+        nodesOutput.putInt(length);
+        featuresOutput.put(bytes, offset, length);
+        count++;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    /** Returns the bounds of all the features, null if none has a geometry */
+    Envelope getExtent() {
+        return extent.isNull() ? null : extent;
+    }
+
+    /** Returns the size of the tree, in bytes */
+    long getTreeSize() {
+        return FlatGeobufIndex.levelBounds(count, nodeSize)[0][1] * FlatGeobufIndex.NODE_ITEM_LEN;
+    }
+
+    /** Writes the features in the order they were added, without the tree, at the given position */
+    void writeFeatures(FileChannel out, long position) throws IOException {
+        featuresOutput.flush();
+        long size = featuresOutput.position();
+        long copied = 0;
+        while (copied < size) {
+            copied += featuresChannel.transferTo(copied, size - copied, out.position(position + copied));
+        }
+    }
+
+    /** Writes the tree, followed by the features sorted in tree order, at the given position */
+    void write(FileChannel out, long position) throws IOException {
+        featuresOutput.flush();
+        nodesOutput.flush();
+        sortRuns();
+
+        long[][] levelBounds = FlatGeobufIndex.levelBounds(count, nodeSize);
+        long numNodes = levelBounds[0][1];
+        int len = FlatGeobufIndex.NODE_ITEM_LEN;
+        ChannelOutput leaves = new ChannelOutput(out, position + levelBounds[0][0] * len);
+        ChannelOutput sorted = new ChannelOutput(out, position + numNodes * len);
+        PriorityQueue<RunInput> queue = new PriorityQueue<>();
+        for (int i = 0; i < runs.size(); i++) {
+            FileChannel channel = FileChannel.open(runs.get(i).toPath(), StandardOpenOption.READ);
+            RunInput run = new RunInput(i, channel);
+            if (run.next()) {
+                queue.add(run);
+            } else {
+                run.close();
+            }
+        }
+        ByteBuffer feature = ByteBuffer.allocate(BUFFER_SIZE);
+        long offset = 0;
+        try {
+            RunInput run;
+            while ((run = queue.poll()) != null) {
+                leaves.putDouble(run.minX);
+                leaves.putDouble(run.minY);
+                leaves.putDouble(run.maxX);
+                leaves.putDouble(run.maxY);
+                leaves.putLong(offset);
+                if (feature.capacity() < run.length) {
+                    feature = ByteBuffer.allocate(run.length);
+                }
+                feature.clear().limit(run.length);
+                readFully(featuresChannel, feature, run.offset);
+                feature.flip();
+                sorted.put(feature);
+                offset += run.length;
+                if (run.next()) {
+                    queue.add(run);
+                } else {
+                    run.close();
+                }
+            }
+        } finally {
+            for (RunInput run : queue) {
+                run.close();
+            }
+        }
+        leaves.flush();
+        sorted.flush();
+
+        // each parent covers the next nodeSize nodes of the level below
+        for (int level = 0; level < levelBounds.length - 1; level++) {
+            long childStart = levelBounds[level][0];
+            long childEnd = levelBounds[level][1];
+            ChannelInput children = new ChannelInput(out, position + childStart * len);
+            ChannelOutput parents = new ChannelOutput(out, position + levelBounds[level + 1][0] * len);
+            for (long first = childStart; first < childEnd; first += nodeSize) {
+                double minX = Double.POSITIVE_INFINITY;
+                double minY = Double.POSITIVE_INFINITY;
+                double maxX = Double.NEGATIVE_INFINITY;
+                double maxY = Double.NEGATIVE_INFINITY;
+                long last = Math.min(first + nodeSize, childEnd);
+                for (long node = first; node < last; node++) {
+                    children.require(len);
+                    ByteBuffer child = children.buffer;
+                    minX = Math.min(minX, child.getDouble());
+                    minY = Math.min(minY, child.getDouble());
+                    maxX = Math.max(maxX, child.getDouble());
+                    maxY = Math.max(maxY, child.getDouble());
+                    child.getLong();
+                }
+                parents.putDouble(minX);
+                parents.putDouble(minY);
+                parents.putDouble(maxX);
+                parents.putDouble(maxY);
+                parents.putLong(first);
+            }
+            parents.flush();
+        }
+    }
+
+    /** Sorts the spilled nodes by Hilbert value, in runs of runSize nodes */
+    private void sortRuns() throws IOException {
+        double minX = extent.isNull() ? 0 : extent.getMinX();
+        double minY = extent.isNull() ? 0 : extent.getMinY();
+        double width = extent.isNull() ? 0 : extent.getWidth();
+        double height = extent.isNull() ? 0 : extent.getHeight();
+        ChannelInput input = new ChannelInput(nodesChannel, 0);
+        int size = (int) Math.min(runSize, count);
+        double[] bounds = new double[4 * size];
+        long[] offsets = new long[size];
+        int[] lengths = new int[size];
+        int[] hilbert = new int[size];
+        long[] keys = new long[size];
+        for (long read = 0; read < count; ) {
+            int n = (int) Math.min(size, count - read);
+            for (int i = 0; i < n; i++) {
+                input.require(NODE_RECORD_LEN);
+                ByteBuffer buffer = input.buffer;
+                for (int j = 0; j < 4; j++) {
+                    bounds[4 * i + j] = buffer.getDouble();
+                }
+                offsets[i] = buffer.getLong();
+                lengths[i] = buffer.getInt();
+                long x = 0;
+                long y = 0;
+                // empty geometries, with infinite bounds, stay at 0
+                double centerX = (bounds[4 * i] + bounds[4 * i + 2]) / 2;
+                double centerY = (bounds[4 * i + 1] + bounds[4 * i + 3]) / 2;
+                if (width != 0 && !Double.isNaN(centerX)) {
+                    x = (long) Math.floor(HILBERT_MAX * (centerX - minX) / width);
+                }
+                if (height != 0 && !Double.isNaN(centerY)) {
+                    y = (long) Math.floor(HILBERT_MAX * (centerY - minY) / height);
+                }
+                hilbert[i] = HilbertCode.encode(16, (int) x, (int) y);
+                // the unsigned Hilbert value, then the position, keeps the sort stable
+                keys[i] = (Integer.toUnsignedLong(hilbert[i]) << 24) | i;
+            }
+            Arrays.sort(keys, 0, n);
+            File run = File.createTempFile("run", ".fgbtmp", directory);
+            runs.add(run);
+            try (FileChannel channel = open(run)) {
+                ChannelOutput output = new ChannelOutput(channel, 0);
+                for (int k = 0; k < n; k++) {
+                    int i = (int) (keys[k] & 0xFFFFFF);
+                    for (int j = 0; j < 4; j++) {
+                        output.putDouble(bounds[4 * i + j]);
+                    }
+                    output.putLong(offsets[i]);
+                    output.putInt(lengths[i]);
+                    output.putInt(hilbert[i]);
+                }
+                output.flush();
+            }
+            read += n;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of the temporary features file");
+            }
+        }
+    }
+
+    /** Deletes the temporary files */
+    @Override
+    public void close() throws IOException {
+        try {
+            featuresChannel.close();
+            nodesChannel.close();
+        } finally {
+            Files.deleteIfExists(features.toPath());
+            Files.deleteIfExists(nodes.toPath());
+            for (File run : runs) {
+                Files.deleteIfExists(run.toPath());
+            }
+        }
+    }
+
+    /** The next node of a sorted run, ordered by Hilbert value and then by run, to keep the merge stable */
+    private static final class RunInput implements Comparable<RunInput> {
+
+        final int index;
+
+        final FileChannel channel;
+
+        final ChannelInput input;
+
+        long remaining;
+
+        double minX, minY, maxX, maxY;
+
+        long offset;
+
+        int length;
+
+        int hilbert;
+
+        RunInput(int index, FileChannel channel) throws IOException {
+            this.index = index;
+            this.channel = channel;
+            this.input = new ChannelInput(channel, 0);
+            this.remaining = channel.size() / RUN_RECORD_LEN;
+        }
+
+        boolean next() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            input.require(RUN_RECORD_LEN);
+            ByteBuffer buffer = input.buffer;
+            minX = buffer.getDouble();
+            minY = buffer.getDouble();
+            maxX = buffer.getDouble();
+            maxY = buffer.getDouble();
+            offset = buffer.getLong();
+            length = buffer.getInt();
+            hilbert = buffer.getInt();
+            return true;
+        }
+
+        @Override
+        public int compareTo(RunInput other) {
+            int result = Integer.compareUnsigned(hilbert, other.hilbert);
+            return result != 0 ? result : Integer.compare(index, other.index);
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /** Buffered little endian writes at a given position of a channel */
+    static final class ChannelOutput {
+
+        private final FileChannel channel;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        private long position;
+
+        ChannelOutput(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        /** Returns the position of the next byte written */
+        long position() {
+            return position + buffer.position();
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(8);
+            buffer.putDouble(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void put(byte[] bytes, int offset, int length) throws IOException {
+            put(ByteBuffer.wrap(bytes, offset, length));
+        }
+
+        void put(ByteBuffer bytes) throws IOException {
+            if (bytes.remaining() > buffer.capacity()) {
+                flush();
+                while (bytes.hasRemaining()) {
+                    position += channel.write(bytes, position);
+                }
+            } else {
+                ensure(bytes.remaining());
+                buffer.put(bytes);
+            }
+        }
+
+        private void ensure(int length) throws IOException {
+            if (buffer.remaining() < length) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+    }
+
+    /** Buffered little endian reads from a given position of a channel */
+    static final class ChannelInput {
+
+        private final FileChannel channel;
+
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        private long position;
+
+        ChannelInput(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+            buffer.flip();
+        }
+
+        /** Makes sure the buffer holds at least the given number of bytes */
+        void require(int length) throws IOException {
+            if (buffer.remaining() >= length) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < length) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException();
+                }
+                position += read;
+            }
+            buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.flatgeobuf;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads byte ranges of a FlatGeobuf file, either local, through a {@link FileChannel}, or remote, through HTTP range
+ * requests. Cloud object stores such as S3 are reached through their HTTP(S) endpoints. Implementations are thread
+ * safe, so that ranges can be read concurrently.
+ */
+abstract class RangeReader implements Closeable {
+
+    /** Opens a range reader on the given file or URL */
+    static RangeReader open(URL url) throws IOException {
+        File file = FlatGeobufDataStore.getFile(url);
+        if (file != null) {
+            return new FileRangeReader(file);
+        }
+        if ("http".equals(url.getProtocol()) || "https".equals(url.getProtocol())) {
+            return new HttpRangeReader(url);
+        }
+        return new StreamRangeReader(url);
+    }
+
+    /**
+     * Reads the given range, the result is shorter than requested only if the range goes past the end of the file
+     *
+     * @return a little endian buffer holding the bytes of the range
+     */
+    abstract ByteBuffer read(long offset, int length) throws IOException;
+
+    /** Returns the length of the file, or -1 if unknown */
+    abstract long length() throws IOException;
+
+    /**
+     * Returns {@code false} if reading a range requires reading the file from its start, in which case callers should
+     * rather stream through the file once. Only known for sure after a first read.
+     */
+    boolean supportsRanges() {
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {}
+
+    static int readFully(InputStream in, byte[] bytes) throws IOException {
+        int read = 0;
+        while (read < bytes.length) {
+            int n = in.read(bytes, read, bytes.length - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return read;
+    }
+
+    static ByteBuffer wrap(byte[] bytes, int length) {
+        return ByteBuffer.wrap(bytes, 0, length).slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /** Positional reads on a local file */
+    static class FileRangeReader extends RangeReader {
+
+        private final FileChannel channel;
+
+        FileRangeReader(File file) throws IOException {
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        }
+
+        @Override
+        ByteBuffer read(long offset, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        long length() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /** One HTTP range request per read, falling back on skipping when the server ignores the ranges */
+    static class HttpRangeReader extends RangeReader {
+
+        private final URL url;
+
+        private volatile long length = -2;
+
+        private volatile boolean ranges = true;
+
+        HttpRangeReader(URL url) {
+            this.url = url;
+        }
+
+        @Override
+        ByteBuffer read(long offset, int length) throws IOException {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            try {
+                connection.setRequestProperty("Range", "bytes=" + offset + "-" + (offset + length - 1));
+                int code = connection.getResponseCode();
+                if (code == 416) {
+                    // the range is past the end of the file
+                    return wrap(new byte[0], 0);
+                }
+                if (code != HttpURLConnection.HTTP_PARTIAL && code != HttpURLConnection.HTTP_OK) {
+                    throw new IOException("Unexpected HTTP response " + code + " reading " + url);
+                }
+                try (InputStream in = connection.getInputStream()) {
+                    if (code == HttpURLConnection.HTTP_OK) {
+                        // the server sends the whole file, each read would download it again from the start
+                        ranges = false;
+                        FlatGeobufFeatureReader.skipNBytes(in, offset);
+                    }
+                    byte[] bytes = new byte[length];
+                    return wrap(bytes, readFully(in, bytes));
+                }
+            } finally {
+                connection.disconnect();
+            }
+        }
+
+        @Override
+        long length() throws IOException {
+            if (length == -2) {
+                HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                try {
+                    connection.setRequestMethod("HEAD");
+                    length = connection.getResponseCode() == HttpURLConnection.HTTP_OK
+                            ? connection.getContentLengthLong()
+                            : -1;
+                } finally {
+                    connection.disconnect();
+                }
+            }
+            return length;
+        }
+
+        @Override
+        boolean supportsRanges() {
+            return ranges;
+        }
+    }
+
+    /** Reads the ranges skipping from the start of the stream, for the protocols not supporting ranges */
+    static class StreamRangeReader extends RangeReader {
+
+        private final URL url;
+
+        StreamRangeReader(URL url) {
+            this.url = url;
+        }
+
+        @Override
+        ByteBuffer read(long offset, int length) throws IOException {
+            URLConnection connection = url.openConnection();
+            try (InputStream in = connection.getInputStream()) {
+                FlatGeobufFeatureReader.skipNBytes(in, offset);
+                byte[] bytes = new byte[length];
+                return wrap(bytes, readFully(in, bytes));
+            }
+        }
+
+        @Override
+        long length() {
+            return -1;
+        }
+
+        @Override
+        boolean supportsRanges() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.flatgeobuf;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.util.SharedThreadPool;
+import org.wololo.flatgeobuf.HeaderMeta;
+import org.wololo.flatgeobuf.generated.Feature;
+
+/**
+ * Reads a sorted list of features using the offsets of an in memory {@link FlatGeobufIndex}. Features close to each
+ * other in the file are coalesced in a single range read, the gaps between them being read through, and the resulting
+ * batches are read and decoded in the {@link SharedThreadPool}, while still being returned in file order.
+ */
+final class ReadRangesIterator implements Iterator<SimpleFeature>, Closeable {
+
+    /** Largest gap between two features read in the same range */
+    static final int MAX_GAP = 64 * 1024;
+
+    /** Largest range, unless a single feature is larger */
+    static final int MAX_RANGE = 4 * 1024 * 1024;
+
+    /** Most features per batch, so that large selections are decoded in parallel */
+    static final int MAX_FEATURES = 256;
+
+    /** A run of features read with a single range read */
+    private static final class Batch {
+
+        /** First and last feature, exclusive, in the fids array */
+        final int from;
+
+        final int to;
+
+        /** Range of bytes, relative to the features section */
+        final long start;
+
+        final long end;
+
+        Batch(int from, int to, long start, long end) {
+            this.from = from;
+            this.to = to;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final RangeReader reader;
+
+    private final FlatGeobufIndex index;
+
+    private final HeaderMeta headerMeta;
+
+    private final SimpleFeatureType featureType;
+
+    private final long[] fids;
+
+    /** Next feature to plan a batch for */
+    private int planned;
+
+    private final ExecutorService executor = SharedThreadPool.getExecutor();
+
+    private final ArrayDeque<Future<List<SimpleFeature>>> batches = new ArrayDeque<>();
+
+    private Iterator<SimpleFeature> batch;
+
+    ReadRangesIterator(
+            RangeReader reader,
+            FlatGeobufIndex index,
+            HeaderMeta headerMeta,
+            SimpleFeatureType featureType,
+            long[] fids) {
+        this.reader = reader;
+        this.index = index;
+        this.headerMeta = headerMeta;
+        this.featureType = featureType;
+        this.fids = fids;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (batch == null || !batch.hasNext()) {
+                if (executor == null) {
+                    Batch next = nextBatch();
+                    if (next == null) {
+                        return false;
+                    }
+                    batch = read(next).iterator();
+                    continue;
+                }
+                int maxBatches = SharedThreadPool.getMaxPending();
+                Batch next;
+                while (batches.size() < maxBatches && (next = nextBatch()) != null) {
+                    final Batch b = next;
+                    batches.add(executor.submit(() -> read(b)));
+                }
+                Future<List<SimpleFeature>> future = batches.poll();
+                if (future == null) {
+                    return false;
+                }
+                batch = SharedThreadPool.get(future).iterator();
+            }
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public SimpleFeature next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return batch.next();
+    }
+
+    /** Groups the next features in a range, as long as the gaps and the range stay small */
+    private Batch nextBatch() {
+        if (planned >= fids.length) {
+            return null;
+        }
+        int from = planned;
+        long start = index.getOffset(fids[from]);
+        long end = getEnd(fids[from]);
+        int to = from + 1;
+        while (to < fids.length && to - from < MAX_FEATURES) {
+            long offset = index.getOffset(fids[to]);
+            long featureEnd = getEnd(fids[to]);
+            if (offset - end > MAX_GAP || featureEnd - start > MAX_RANGE) {
+                break;
+            }
+            end = Math.max(end, featureEnd);
+            to++;
+        }
+        planned = to;
+        return new Batch(from, to, start, end);
+    }
+
+    /** Returns the end of a feature, or of its size prefix if unknown */
+    private long getEnd(long fid) {
+        long end = index.getEnd(fid);
+        return end < 0 ? index.getOffset(fid) + 4 : end;
+    }
+
+    private List<SimpleFeature> read(Batch range) throws IOException {
+        long featuresOffset = index.getFeaturesOffset();
+        ByteBuffer buffer = reader.read(featuresOffset + range.start, (int) (range.end - range.start));
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(featureType);
+        List<SimpleFeature> result = new ArrayList<>(range.to - range.from);
+        for (int i = range.from; i < range.to; i++) {
+            long offset = index.getOffset(fids[i]);
+            int position = (int) (offset - range.start);
+            if (position + 4 > buffer.limit()) {
+                throw new EOFException("Feature " + fids[i] + " is past the end of the file");
+            }
+            int size = buffer.getInt(position);
+            ByteBuffer data;
+            if (position + 4 + size <= buffer.limit()) {
+                data = buffer.duplicate();
+                data.limit(position + 4 + size).position(position + 4);
+                data = data.slice();
+            } else {
+                // the end of the last feature was not known
+                data = reader.read(featuresOffset + offset + 4, size);
+                if (data.remaining() < size) {
+                    throw new EOFException("Feature " + fids[i] + " is truncated");
+                }
+            }
+            Feature feature = Feature.getRootAsFeature(data);
+            result.add(FeatureConversions.deserialize(feature, fb, headerMeta, fids[i]));
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Future<List<SimpleFeature>> future : batches) {
+            future.cancel(true);
+        }
+        batches.clear();
+        reader.close();
+    }
+}
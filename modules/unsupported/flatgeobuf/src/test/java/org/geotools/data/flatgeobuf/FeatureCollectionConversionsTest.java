@@ -1,6 +1,8 @@
 package org.geotools.data.flatgeobuf;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -9,13 +11,30 @@
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
 import org.geotools.test.TestData;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.locationtech.jts.geom.Envelope;
 
 public class FeatureCollectionConversionsTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void countriesTest() throws IOException, URISyntaxException {
         URL url = TestData.url(FlatGeobufDataStore.class, "countries.fgb");
@@ -77,4 +96,55 @@ public void countriesTestFilterFid() throws IOException, URISyntaxException {
             assertEquals("FLK", simpleFeature.getAttribute(1));
         }
     }
+
+    @Test
+    public void countriesIndexedTest() throws Exception {
+        URL url = TestData.url(FlatGeobufDataStore.class, "countries.fgb");
+        File file = Paths.get(url.toURI()).toFile();
+        SimpleFeatureCollection countries;
+        try (InputStream stream = new FileInputStream(file)) {
+            countries = FeatureCollectionConversions.deserializeSFC(stream);
+        }
+        File indexed = new File(temporaryFolder.getRoot(), "indexed.fgb");
+        try (IndexedFlatGeobufWriter writer = new IndexedFlatGeobufWriter(indexed, countries.getSchema())) {
+            // several sorted runs to merge
+            writer.setRunSize(50);
+            try (SimpleFeatureIterator it = countries.features()) {
+                while (it.hasNext()) {
+                    writer.writeFeature(it.next());
+                }
+            }
+        }
+        // only the target file is left
+        assertEquals(1, temporaryFolder.getRoot().list().length);
+
+        FlatGeobufDataStore store = new FlatGeobufDataStore(indexed.toURI().toURL());
+        assertTrue(store.hasIndex());
+        SimpleFeatureSource source = store.getFeatureSource("indexed");
+        assertEquals(179, source.getCount(Query.ALL));
+        assertEquals(getCodes(countries), getCodes(source.getFeatures()));
+
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+        Envelope[] envelopes = {
+            new Envelope(12, 13, 56, 57), new Envelope(112, 154, -44, -11), new Envelope(-20, 40, 30, 70)
+        };
+        for (Envelope envelope : envelopes) {
+            ReferencedEnvelope bbox = new ReferencedEnvelope(envelope, DefaultGeographicCRS.WGS84);
+            Filter filter = ff.bbox(ff.property("geom"), bbox);
+            Set<Object> expected = getCodes(countries.subCollection(filter));
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, getCodes(source.getFeatures(filter)));
+        }
+        store.dispose();
+    }
+
+    private static Set<Object> getCodes(SimpleFeatureCollection features) {
+        Set<Object> codes = new HashSet<>();
+        try (SimpleFeatureIterator it = features.features()) {
+            while (it.hasNext()) {
+                codes.add(it.next().getAttribute(1));
+            }
+        }
+        return codes;
+    }
 }
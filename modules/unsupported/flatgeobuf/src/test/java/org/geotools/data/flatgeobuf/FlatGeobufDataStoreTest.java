@@ -19,14 +19,23 @@
 import static org.geotools.referencing.crs.DefaultGeographicCRS.WGS84;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.net.InetSocketAddress;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.geotools.api.data.DataStore;
 import org.geotools.api.data.DataStoreFinder;
 import org.geotools.api.data.Query;
@@ -841,6 +850,108 @@ public void readCountriesBbox() throws IOException {
         }
     }
 
+    @Test
+    public void readCountriesBboxRangeRequests() throws Exception {
+        byte[] bytes = Files.readAllBytes(
+                TestData.file(FlatGeobufDataStore.class, "countries.fgb").toPath());
+        AtomicInteger rangeRequests = new AtomicInteger();
+        AtomicInteger streamingRequests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/countries.fgb", exchange -> serve(exchange, bytes, rangeRequests, true));
+        // a server ignoring the range requests, always sending the whole file
+        server.createContext("/streaming/countries.fgb", exchange -> serve(exchange, bytes, streamingRequests, false));
+        server.start();
+        DataStore store = null;
+        DataStore streamingStore = null;
+        DataStore localStore = null;
+        try {
+            String root = "http://localhost:" + server.getAddress().getPort();
+            store = getDataStore(new URL(root + "/countries.fgb"));
+            streamingStore = getDataStore(new URL(root + "/streaming/countries.fgb"));
+            localStore = getDataStore(TestData.url(FlatGeobufDataStore.class, "countries.fgb"));
+            SimpleFeatureSource remote = store.getFeatureSource("countries");
+            SimpleFeatureSource streaming = streamingStore.getFeatureSource("countries");
+            SimpleFeatureSource local = localStore.getFeatureSource("countries");
+
+            FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+            Filter[] filters = {
+                ff.bbox(ff.property(""), new ReferencedEnvelope(12, 13, 56, 57, WGS84)),
+                ff.bbox(ff.property(""), new ReferencedEnvelope(112, 154, -44, -11, WGS84)),
+                ff.bbox(ff.property(""), new ReferencedEnvelope(-20, 40, 30, 70, WGS84)),
+                ff.id(ff.featureId("countries.3"), ff.featureId("countries.45"), ff.featureId("countries.178"))
+            };
+            for (Filter filter : filters) {
+                Query q = new Query("countries", filter);
+                // the streaming search is the reference
+                List<SimpleFeature> expected = DataUtilities.list(streaming.getFeatures(q));
+                assertFalse(expected.isEmpty());
+                assertSameFeatures(expected, DataUtilities.list(remote.getFeatures(q)));
+                assertSameFeatures(expected, DataUtilities.list(local.getFeatures(q)));
+            }
+            // the index is read once, then only the features are requested
+            assertNotNull(((FlatGeobufDataStore) store).getIndex());
+            assertTrue(rangeRequests.get() > 1);
+            assertEquals(2, remote.getCount(new Query("countries", filters[1])));
+            // without range support the file is streamed once per query, not once per range
+            assertNull(((FlatGeobufDataStore) streamingStore).getIndex());
+            int requests = streamingRequests.get();
+            assertEquals(2, streaming.getCount(new Query("countries", filters[1])));
+            assertEquals(requests + 1, streamingRequests.get());
+        } finally {
+            for (DataStore ds : new DataStore[] {store, streamingStore, localStore}) {
+                if (ds != null) {
+                    ds.dispose();
+                }
+            }
+            server.stop(0);
+        }
+    }
+
+    /** Serves a file, honouring the range requests only if asked to */
+    private static void serve(HttpExchange exchange, byte[] bytes, AtomicInteger requests, boolean ranges)
+            throws IOException {
+        String range = ranges ? exchange.getRequestHeaders().getFirst("Range") : null;
+        int start = 0;
+        int end = bytes.length;
+        int code = 200;
+        if (!"HEAD".equals(exchange.getRequestMethod())) {
+            requests.incrementAndGet();
+        }
+        if (range != null) {
+            String[] bounds = range.substring("bytes=".length()).split("-");
+            start = Integer.parseInt(bounds[0]);
+            end = Math.min(bytes.length, Integer.parseInt(bounds[1]) + 1);
+            code = 206;
+            exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + (end - 1) + "/" + bytes.length);
+        }
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().add("Content-Length", String.valueOf(bytes.length));
+            exchange.sendResponseHeaders(code, -1);
+        } else {
+            exchange.sendResponseHeaders(code, end - start);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes, start, end - start);
+            } catch (IOException e) {
+                // the client stops reading once it has the bytes it needs
+            }
+        }
+        exchange.close();
+    }
+
+    private static DataStore getDataStore(URL url) throws IOException {
+        Map<String, Serializable> params = new HashMap<>();
+        params.put("url", url);
+        return DataStoreFinder.getDataStore(params);
+    }
+
+    private static void assertSameFeatures(List<SimpleFeature> expected, List<SimpleFeature> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getID(), actual.get(i).getID());
+            assertEquals(expected.get(i).getAttributes(), actual.get(i).getAttributes());
+        }
+    }
+
     @Test
     public void readCountriesFids() throws IOException {
         SimpleFeatureSource featureSource = getFeatureSource("countries");
@@ -0,0 +1,408 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.geojson.GeoJSONStreamingReader.FeatureHandler;
+import org.geotools.data.geojson.GeoJSONStreamingReader.FeatureScanner;
+import org.geotools.data.geojson.GeoJSONStreamingReader.SchemaCollector;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * A spatial index of the features of a local GeoJSON file, allowing to read only the features intersecting an area, and
+ * to get the bounds, count and feature type without scanning the file.
+ *
+ * <p>The index holds the byte range and envelope of each feature, along with the feature type inferred from the first
+ * features, and is saved in a sidecar file, see {@link #getIndexFile(File)}. The envelopes are loaded in a packed
+ * {@link STRtree} on the first query. The index records the size and last modification time of the source, and is
+ * {@link #isStale() stale} as soon as the source changes.
+ *
+ * @since 34.0
+ */
+public class GeoJSONIndex {
+
+    static final Logger LOGGER = Logging.getLogger(GeoJSONIndex.class);
+
+    /** Extension appended to the name of the source to get the index file */
+    public static final String EXTENSION = ".gjx";
+
+    private static final int MAGIC = 0x474A5831; // GJX1
+
+    private final File source;
+
+    private final long sourceLength;
+
+    private final long sourceModified;
+
+    private final SchemaCollector schema;
+
+    private final int count;
+
+    private final long[] offsets;
+
+    private final int[] lengths;
+
+    /** Envelopes of the features, four ordinates each, NaN for features without a geometry */
+    private final double[] envelopes;
+
+    private final Envelope bounds;
+
+    private STRtree tree;
+
+    private GeoJSONIndex(
+            File source,
+            long sourceLength,
+            long sourceModified,
+            SchemaCollector schema,
+            int count,
+            long[] offsets,
+            int[] lengths,
+            double[] envelopes) {
+        this.source = source;
+        this.sourceLength = sourceLength;
+        this.sourceModified = sourceModified;
+        this.schema = schema;
+        this.count = count;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.envelopes = envelopes;
+        this.bounds = new Envelope();
+        for (int i = 0; i < count; i++) {
+            if (!Double.isNaN(envelopes[4 * i])) {
+                bounds.expandToInclude(envelopes[4 * i], envelopes[4 * i + 1]);
+                bounds.expandToInclude(envelopes[4 * i + 2], envelopes[4 * i + 3]);
+            }
+        }
+    }
+
+    /** Returns the sidecar index file of a GeoJSON file */
+    public static File getIndexFile(File source) {
+        return new File(source.getParentFile(), source.getName() + EXTENSION);
+    }
+
+    /**
+     * Returns the index of the source, reading it from the sidecar file if up to date, or building it and trying to
+     * save it otherwise. Failing to save the index is not an error, it is then kept in memory only.
+     *
+     * @param source The GeoJSON file
+     * @param sampleSize The number of features used to infer the feature type
+     */
+    public static GeoJSONIndex getIndex(File source, int sampleSize) throws IOException {
+        File indexFile = getIndexFile(source);
+        GeoJSONIndex index = read(source, indexFile);
+        if (index == null) {
+            index = build(source, sampleSize);
+            try {
+                index.write(indexFile);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not write the GeoJSON index " + indexFile, e);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Builds the index scanning the source, inferring the feature type from the first {@code sampleSize} features as
+     * {@link GeoJSONStreamingReader#inferSchema(InputStream, String, int)} does.
+     */
+    public static GeoJSONIndex build(File source, int sampleSize) throws IOException {
+        long length = source.length();
+        long modified = source.lastModified();
+        IndexCollector collector = new IndexCollector(sampleSize);
+        int count = 0;
+        long[] offsets = new long[1024];
+        int[] lengths = new int[1024];
+        double[] envelopes = new double[4 * 1024];
+        try (InputStream input = new FileInputStream(source);
+                FeatureScanner scanner = new FeatureScanner(GeoJSONStreamingReader.createParser(
+                        new BufferedInputStream(input, GeoJSONStreamingReader.BLOCK_SIZE)))) {
+            while (scanner.next(collector) != null) {
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                    lengths = Arrays.copyOf(lengths, count * 2);
+                    envelopes = Arrays.copyOf(envelopes, 4 * count * 2);
+                }
+                offsets[count] = scanner.getStart();
+                lengths[count] = Math.toIntExact(scanner.getEnd() - scanner.getStart());
+                Envelope envelope = collector.envelope;
+                if (envelope == null || envelope.isNull()) {
+                    Arrays.fill(envelopes, 4 * count, 4 * count + 4, Double.NaN);
+                } else {
+                    envelopes[4 * count] = envelope.getMinX();
+                    envelopes[4 * count + 1] = envelope.getMinY();
+                    envelopes[4 * count + 2] = envelope.getMaxX();
+                    envelopes[4 * count + 3] = envelope.getMaxY();
+                }
+                count++;
+            }
+        }
+        return new GeoJSONIndex(
+                source,
+                length,
+                modified,
+                collector.schema,
+                count,
+                Arrays.copyOf(offsets, count),
+                Arrays.copyOf(lengths, count),
+                Arrays.copyOf(envelopes, 4 * count));
+    }
+
+    /**
+     * Reads the index of the source from the index file
+     *
+     * @return the index, or null if the index file is missing, stale or not readable
+     */
+    public static GeoJSONIndex read(File source, File indexFile) {
+        if (!indexFile.exists()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(indexFile), GeoJSONStreamingReader.BLOCK_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                return null;
+            }
+            long length = in.readLong();
+            long modified = in.readLong();
+            if (length != source.length() || modified != source.lastModified()) {
+                return null;
+            }
+            SchemaCollector schema = new SchemaCollector(true);
+            String geometryBinding = in.readUTF();
+            schema.geometryBinding = geometryBinding.isEmpty() ? null : toClass(geometryBinding);
+            int attributes = in.readInt();
+            for (int i = 0; i < attributes; i++) {
+                String name = in.readUTF();
+                String binding = in.readUTF();
+                schema.bindings.put(name, binding.isEmpty() ? null : toClass(binding));
+            }
+            int count = in.readInt();
+            long[] offsets = new long[count];
+            int[] lengths = new int[count];
+            double[] envelopes = new double[4 * count];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = in.readLong();
+                lengths[i] = in.readInt();
+                for (int j = 4 * i; j < 4 * i + 4; j++) {
+                    envelopes[j] = in.readDouble();
+                }
+            }
+            return new GeoJSONIndex(source, length, modified, schema, count, offsets, lengths, envelopes);
+        } catch (IOException | ClassNotFoundException e) {
+            LOGGER.log(Level.FINE, "Could not read the GeoJSON index " + indexFile + ", rebuilding it", e);
+            return null;
+        }
+    }
+
+    private static Class<?> toClass(String name) throws ClassNotFoundException {
+        return Class.forName(name, false, GeoJSONIndex.class.getClassLoader());
+    }
+
+    /** Writes the index to the given file */
+    public void write(File indexFile) throws IOException {
+        // written aside and moved in place, so that concurrent readers never see a partial index
+        File directory = indexFile.getAbsoluteFile().getParentFile();
+        File tmp = File.createTempFile(indexFile.getName(), ".tmp", directory);
+        boolean moved = false;
+        try {
+            writeContents(tmp);
+            try {
+                Files.move(
+                        tmp.toPath(),
+                        indexFile.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            moved = true;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(tmp.toPath());
+            }
+        }
+    }
+
+    private void writeContents(File indexFile) throws IOException {
+        try (OutputStream os = new FileOutputStream(indexFile);
+                DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(os, GeoJSONStreamingReader.BLOCK_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeLong(sourceLength);
+            out.writeLong(sourceModified);
+            out.writeUTF(schema.geometryBinding != null ? schema.geometryBinding.getName() : "");
+            out.writeInt(schema.bindings.size());
+            for (Map.Entry<String, Class<?>> entry : schema.bindings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue() != null ? entry.getValue().getName() : "");
+            }
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                out.writeLong(offsets[i]);
+                out.writeInt(lengths[i]);
+                for (int j = 4 * i; j < 4 * i + 4; j++) {
+                    out.writeDouble(envelopes[j]);
+                }
+            }
+        }
+    }
+
+    /** Returns the indexed GeoJSON file */
+    public File getSource() {
+        return source;
+    }
+
+    /** Returns true if the source has been modified since the index was built */
+    public boolean isStale() {
+        return source.length() != sourceLength || source.lastModified() != sourceModified;
+    }
+
+    /** Returns the feature type inferred from the first features, or null if the source contains no features */
+    public SimpleFeatureType getSchema(String typeName) {
+        return count > 0 ? schema.build(typeName) : null;
+    }
+
+    /** Returns the number of features */
+    public int getCount() {
+        return count;
+    }
+
+    /** Returns the bounds of the feature geometries, a null envelope if there are none */
+    public Envelope getBounds() {
+        return new Envelope(bounds);
+    }
+
+    long getOffset(int feature) {
+        return offsets[feature];
+    }
+
+    int getLength(int feature) {
+        return lengths[feature];
+    }
+
+    /** Returns the features whose envelope intersects the area, sorted by position in the file */
+    public int[] query(Envelope area) {
+        @SuppressWarnings("unchecked")
+        List<Integer> hits = getTree().query(area);
+        int[] result = new int[hits.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = hits.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private synchronized STRtree getTree() {
+        if (tree == null) {
+            STRtree result = new STRtree();
+            for (int i = 0; i < count; i++) {
+                if (!Double.isNaN(envelopes[4 * i])) {
+                    Envelope envelope = new Envelope(
+                            envelopes[4 * i], envelopes[4 * i + 2], envelopes[4 * i + 1], envelopes[4 * i + 3]);
+                    result.insert(envelope, i);
+                }
+            }
+            result.build();
+            tree = result;
+        }
+        return tree;
+    }
+
+    /**
+     * Returns a reader for the features whose envelope intersects the area, in the order they are found in the file.
+     * The features are read by offset, the rest of the file is not scanned. The caller is expected to filter the
+     * features on their actual geometry.
+     *
+     * @param schema The feature type of the features, the properties not found in it are skipped
+     * @param area The area of interest
+     */
+    public GeoJSONStreamingReader createReader(SimpleFeatureType schema, Envelope area) {
+        return new GeoJSONStreamingReader(this, query(area), schema);
+    }
+
+    /** Collects the feature envelopes, and the bindings of the first features */
+    private static class IndexCollector implements FeatureHandler<Boolean> {
+
+        private final SchemaCollector schema = new SchemaCollector(true);
+
+        private final StreamingGeometryParser geometryParser =
+                new StreamingGeometryParser(GeoJSONStreamingReader.GEOMETRY_FACTORY);
+
+        private int sampleSize;
+
+        private Envelope envelope;
+
+        IndexCollector(int sampleSize) {
+            this.sampleSize = sampleSize;
+        }
+
+        @Override
+        public void reset() {
+            schema.reset();
+            envelope = null;
+        }
+
+        @Override
+        public void member(JsonParser parser, String name) throws IOException {
+            if (GeoJSONReader.GEOMETRY_NAME.equals(name) && parser.currentToken() == JsonToken.START_OBJECT) {
+                Geometry geometry = geometryParser.parse(parser);
+                envelope = geometry.getEnvelopeInternal();
+                if (sampleSize > 0) {
+                    schema.addGeometry(geometry.getClass());
+                }
+            } else if (sampleSize > 0) {
+                schema.member(parser, name);
+            } else if ("type".equals(name)) {
+                // needed to recognize the features
+                schema.member(parser, name);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        @Override
+        public Boolean end(JsonParser parser) {
+            Boolean feature = schema.end(parser);
+            if (feature != null) {
+                sampleSize--;
+            }
+            return feature;
+        }
+    }
+}
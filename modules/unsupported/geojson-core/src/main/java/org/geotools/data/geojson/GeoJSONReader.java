@@ -491,36 +491,7 @@ private SimpleFeature getNextFeature(ObjectNode node) throws IOException {
                 } else if (binding == Object.class) {
                     builder.set(n.getKey(), n.getValue());
                 } else if (binding == List.class) {
-                    ArrayNode array = (ArrayNode) n.getValue();
-                    List<Object> list = new ArrayList<>();
-                    for (int i = 0; i < array.size(); i++) {
-                        JsonNode item = array.get(i);
-                        Object vc;
-                        switch (item.getNodeType()) {
-                            case BOOLEAN:
-                                vc = item.asBoolean();
-                                break;
-                            case NUMBER:
-                                vc = item.asDouble();
-                                break;
-                            case STRING:
-                                vc = item.asText();
-                                break;
-                            case OBJECT:
-                                vc = item;
-                                break;
-                            case ARRAY:
-                                vc = item;
-                                break;
-                            case NULL:
-                                vc = null;
-                                break;
-                            default:
-                                throw new IllegalArgumentException(
-                                        "Cannot handle arrays with values of type " + item.getNodeType());
-                        }
-                        list.add(vc);
-                    }
+                    List<Object> list = toList((ArrayNode) n.getValue());
                     builder.set(n.getKey(), list);
                 } else if (Geometry.class.isAssignableFrom(binding)) {
                     Geometry geomAtt = GEOM_PARSER.geometryFromJson(n.getValue());
@@ -561,6 +532,40 @@ private SimpleFeature getNextFeature(ObjectNode node) throws IOException {
         return feature;
     }
 
+    /** Converts a JSON array into a list, scalar items are converted to Java values, nested structures are kept */
+    static List<Object> toList(ArrayNode array) {
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < array.size(); i++) {
+            JsonNode item = array.get(i);
+            Object vc;
+            switch (item.getNodeType()) {
+                case BOOLEAN:
+                    vc = item.asBoolean();
+                    break;
+                case NUMBER:
+                    vc = item.asDouble();
+                    break;
+                case STRING:
+                    vc = item.asText();
+                    break;
+                case OBJECT:
+                    vc = item;
+                    break;
+                case ARRAY:
+                    vc = item;
+                    break;
+                case NULL:
+                    vc = null;
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                            "Cannot handle arrays with values of type " + item.getNodeType());
+            }
+            list.add(vc);
+        }
+        return list;
+    }
+
     private String getOrGenerateId(ObjectNode node) {
         switch (idStrategy) {
             case AUTO:
@@ -0,0 +1,973 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.apache.commons.io.FilenameUtils;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.data.geojson.GeoJSONReader.IdStrategy;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.util.SharedThreadPool;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+/**
+ * A GeoJSON reader working on the parser tokens, for sources too large to be handled by {@link GeoJSONReader}. Unlike
+ * the latter, it does not build a tree of nodes for each feature and works against a fixed feature type, which can be
+ * inferred from a sample of the features with {@link #inferSchema(InputStream, String, int)}:
+ *
+ * <ul>
+ *   <li>properties that are not part of the feature type are skipped while still in the token stream, so reading a
+ *       subset of the attributes only decodes what is needed;
+ *   <li>the geometry coordinates are decoded straight into packed coordinate sequences;
+ *   <li>newline delimited GeoJSON text sequences (GeoJSONSeq, one feature per line, optionally preceded by a record
+ *       separator) can be parsed in parallel, see {@link #setParallel(boolean)}.
+ * </ul>
+ *
+ * <p>The source can be a feature collection, a sequence of features, or a single feature. Top level members of the
+ * features other than the identifier, the geometry and the properties are not read.
+ *
+ * @since 34.0
+ */
+public class GeoJSONStreamingReader implements AutoCloseable {
+
+    /** Default number of features used to infer the schema */
+    public static final int DEFAULT_SAMPLE_SIZE = 100;
+
+    /** Number of lines parsed by each parallel task */
+    static final int BATCH_SIZE = 512;
+
+    /** Maximum length of the first line checked while looking for a GeoJSON text sequence */
+    static final int MAX_PROBE = 1024 * 1024;
+
+    /** The record separator starting each record of a RFC 8142 GeoJSON text sequence */
+    static final int RECORD_SEPARATOR = 0x1E;
+
+    /** Size of the blocks read from the source when seeking indexed features */
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    private final SimpleFeatureType schema;
+
+    private InputStream input;
+
+    private String baseName = "features";
+
+    private IdStrategy idStrategy = IdStrategy.PROVIDED;
+
+    private String idPrefix;
+
+    private String idFieldName = "id";
+
+    private boolean parallel;
+
+    private boolean started;
+
+    /** The sequential reading state */
+    private FeatureScanner scanner;
+
+    private FeatureParser featureParser;
+
+    /** The parallel reading state */
+    private LineSplitter lines;
+
+    private ExecutorService executor;
+
+    private ArrayDeque<Future<List<SimpleFeature>>> batches;
+
+    private Iterator<SimpleFeature> batch;
+
+    private long featureCount;
+
+    /** The indexed reading state, the features are read by offset */
+    private GeoJSONIndex index;
+
+    private int[] hits;
+
+    private int hit;
+
+    private FileChannel channel;
+
+    private byte[] block;
+
+    private long blockStart;
+
+    private int blockLength;
+
+    /**
+     * Builds a reader for the GeoJSON source located at the specified URL.
+     *
+     * @param url The GeoJSON source
+     * @param schema The feature type of the features, the properties not found in it are skipped
+     */
+    public GeoJSONStreamingReader(URL url, SimpleFeatureType schema) throws IOException {
+        this(url.openStream(), schema);
+        this.baseName = FilenameUtils.getBaseName(url.getPath());
+    }
+
+    /**
+     * Builds a reader for the GeoJSON document provided as an {@link InputStream}, which is closed along with the
+     * reader.
+     *
+     * @param input The GeoJSON source
+     * @param schema The feature type of the features, the properties not found in it are skipped
+     */
+    public GeoJSONStreamingReader(InputStream input, SimpleFeatureType schema) {
+        this.input = input;
+        this.schema = schema;
+    }
+
+    /** Builds a reader for the indexed features, see {@link GeoJSONIndex#createReader(SimpleFeatureType, Envelope)} */
+    GeoJSONStreamingReader(GeoJSONIndex index, int[] hits, SimpleFeatureType schema) {
+        this.index = index;
+        this.hits = hits;
+        this.schema = schema;
+        this.baseName = FilenameUtils.getBaseName(index.getSource().getName());
+    }
+
+    /** Returns the feature type of the features returned by this reader */
+    public SimpleFeatureType getSchema() {
+        return schema;
+    }
+
+    /** Returns the Strategy Used to Generate IDs */
+    public IdStrategy getIdStrategy() {
+        return idStrategy;
+    }
+
+    /** Sets the Strategy Used to Generate IDs, see {@link GeoJSONReader#setIdStrategy(IdStrategy)} */
+    public void setIdStrategy(IdStrategy idStrategy) {
+        this.idStrategy = idStrategy;
+    }
+
+    /** Get the Prefix to use for IDs */
+    public String getIdPrefix() {
+        return idPrefix;
+    }
+
+    /** Set the Prefix to use for IDs */
+    public void setIdPrefix(String idPrefix) {
+        this.idPrefix = idPrefix;
+    }
+
+    /** Get the Field Name to use for IDs */
+    public String getIdFieldName() {
+        return idFieldName;
+    }
+
+    /** Set the Field Name to use for IDs */
+    public void setIdFieldName(String idFieldName) {
+        this.idFieldName = idFieldName;
+    }
+
+    /** Returns true if GeoJSON text sequences are parsed in parallel */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Enables the parallel parsing of newline delimited GeoJSON text sequences, in the {@link SharedThreadPool}. The
+     * features are returned in the same order as in the source. The source is parsed in parallel only if its first line
+     * holds a complete feature, other sources are parsed sequentially. Defaults to false.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns the next feature, or null if the end of the source has been reached.
+     *
+     * @throws IOException if the source cannot be read or is not valid GeoJSON
+     */
+    public SimpleFeature read() throws IOException {
+        if (!started) {
+            start();
+        }
+        if (lines != null) {
+            return readParallel();
+        }
+        if (hits != null) {
+            return readIndexed();
+        }
+        if (scanner == null) {
+            return null;
+        }
+        return scanner.next(featureParser);
+    }
+
+    private void start() throws IOException {
+        started = true;
+        if (hits != null) {
+            channel = FileChannel.open(index.getSource().toPath(), StandardOpenOption.READ);
+            featureParser = newFeatureParser(0);
+            return;
+        }
+        BufferedInputStream buffered = new BufferedInputStream(input, 64 * 1024);
+        input = buffered;
+        if (parallel && (executor = SharedThreadPool.getExecutor()) != null && isTextSequence(buffered)) {
+            lines = new LineSplitter(buffered);
+            batches = new ArrayDeque<>();
+        } else {
+            scanner = new FeatureScanner(createParser(buffered));
+            featureParser = newFeatureParser(0);
+        }
+    }
+
+    private FeatureParser newFeatureParser(long firstId) {
+        return new FeatureParser(schema, idStrategy, baseName, idPrefix, idFieldName, firstId);
+    }
+
+    private SimpleFeature readParallel() throws IOException {
+        while (batch == null || !batch.hasNext()) {
+            int maxBatches = SharedThreadPool.getMaxPending();
+            while (batches.size() < maxBatches) {
+                List<byte[]> records = lines.readLines(BATCH_SIZE);
+                if (records.isEmpty()) {
+                    break;
+                }
+                final FeatureParser parser = newFeatureParser(featureCount);
+                featureCount += records.size();
+                batches.add(executor.submit(() -> parser.parseLines(records)));
+            }
+            Future<List<SimpleFeature>> next = batches.poll();
+            if (next == null) {
+                return null;
+            }
+            batch = SharedThreadPool.get(next).iterator();
+        }
+        return batch.next();
+    }
+
+    /**
+     * Reads the next indexed feature. The features are sorted by offset, and read in blocks, so that the features close
+     * to each other are read at once.
+     */
+    private SimpleFeature readIndexed() throws IOException {
+        if (hit >= hits.length) {
+            return null;
+        }
+        int feature = hits[hit++];
+        long offset = index.getOffset(feature);
+        int length = index.getLength(feature);
+        if (block == null || offset < blockStart || offset + length > blockStart + blockLength) {
+            readBlock(offset, length);
+        }
+        try (JsonParser parser = FACTORY.createParser(block, (int) (offset - blockStart), length)) {
+            featureParser.nextId = feature;
+            SimpleFeature result = new FeatureScanner(parser).next(featureParser);
+            if (result == null) {
+                throw new JsonParseException(parser, "No feature found at offset " + offset + ", stale index?");
+            }
+            return result;
+        }
+    }
+
+    private void readBlock(long offset, int length) throws IOException {
+        int size = Math.max(length, BLOCK_SIZE);
+        if (block == null || block.length < size) {
+            block = new byte[size];
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(block, 0, size);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset + buffer.position());
+            if (read < 0) {
+                break;
+            }
+        }
+        if (buffer.position() < length) {
+            throw new EOFException("Feature at offset " + offset + " is past the end of the file, stale index?");
+        }
+        blockStart = offset;
+        blockLength = buffer.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (batches != null) {
+            for (Future<List<SimpleFeature>> future : batches) {
+                future.cancel(true);
+            }
+            batches.clear();
+        }
+        try {
+            if (scanner != null) {
+                scanner.close();
+                scanner = null;
+            }
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } finally {
+            if (input != null) {
+                input.close();
+                input = null;
+            }
+        }
+    }
+
+    /**
+     * Infers the feature type from the first features of the source, see {@link #inferSchema(InputStream, String, int,
+     * boolean)}. Strings formatted as dates are recognized as dates.
+     */
+    public static SimpleFeatureType inferSchema(InputStream input, String typeName, int sampleSize) throws IOException {
+        return inferSchema(input, typeName, sampleSize, true);
+    }
+
+    /**
+     * Infers the feature type from the first {@code sampleSize} features of the source, without building them. The
+     * attribute bindings are the narrowest ones fitting all the sampled values: integral numbers are mapped to
+     * {@link Integer} or {@link Long}, and to {@link Double} if mixed with floating point numbers, while mixed scalar
+     * values are mapped to {@link String}. Properties found only after the sample are not part of the feature type.
+     *
+     * @param input The GeoJSON source, it is not closed
+     * @param typeName The name of the feature type
+     * @param sampleSize The maximum number of features to read
+     * @param guessingDates Whether strings formatted as dates should be mapped to {@link Date}
+     * @return the inferred feature type, or null if the source contains no features
+     */
+    public static SimpleFeatureType inferSchema(
+            InputStream input, String typeName, int sampleSize, boolean guessingDates) throws IOException {
+        SchemaCollector collector = new SchemaCollector(guessingDates);
+        JsonParser parser = createParser(new BufferedInputStream(input));
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        int count = 0;
+        try (FeatureScanner scanner = new FeatureScanner(parser)) {
+            while (count < sampleSize && scanner.next(collector) != null) {
+                count++;
+            }
+        }
+        return count > 0 ? collector.build(typeName) : null;
+    }
+
+    /** Creates a parser, skipping the record separators if the source starts with one */
+    static JsonParser createParser(BufferedInputStream input) throws IOException {
+        input.mark(1);
+        int first = input.read();
+        input.reset();
+        if (first == RECORD_SEPARATOR) {
+            return FACTORY.createParser(new RecordSeparatorFilter(input));
+        }
+        return FACTORY.createParser(input);
+    }
+
+    /** Returns true if the first line of the source holds a complete feature, leaving the stream unchanged */
+    static boolean isTextSequence(BufferedInputStream input) throws IOException {
+        input.mark(MAX_PROBE + 1);
+        byte[] probe = new byte[1024];
+        int length = 0;
+        boolean complete = false;
+        try {
+            int b;
+            while ((b = input.read()) != -1) {
+                if (b == '\n') {
+                    complete = true;
+                    break;
+                }
+                if (length == MAX_PROBE) {
+                    return false;
+                }
+                if (length == probe.length) {
+                    probe = Arrays.copyOf(probe, probe.length * 2);
+                }
+                probe[length++] = (byte) b;
+            }
+        } finally {
+            input.reset();
+        }
+        if (!complete && length == 0) {
+            return false;
+        }
+        int offset = 0;
+        while (offset < length && (probe[offset] == RECORD_SEPARATOR || Character.isWhitespace(probe[offset]))) {
+            offset++;
+        }
+        try (JsonParser parser = FACTORY.createParser(probe, offset, length - offset)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            String type = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("type".equals(name)) {
+                    type = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return "Feature".equalsIgnoreCase(type) && parser.nextToken() == null;
+        } catch (JsonParseException e) {
+            return false;
+        }
+    }
+
+    /** Receives the members of the objects found while scanning the source */
+    interface FeatureHandler<T> {
+
+        /** Clears the state before a new object */
+        void reset();
+
+        /** Handles a member of the object, the parser is on its value, which must be fully consumed */
+        void member(JsonParser parser, String name) throws IOException;
+
+        /** Called at the end of the object, returns null if the object was not a feature */
+        T end(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Walks the tokens of a feature collection, or of a sequence of features, passing the members of each feature to a
+     * {@link FeatureHandler}
+     */
+    static class FeatureScanner implements Closeable {
+
+        private final JsonParser parser;
+
+        private boolean inCollection;
+
+        private long start;
+
+        private long end;
+
+        FeatureScanner(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        /** Returns the next feature, or null if the end of the source has been reached */
+        <T> T next(FeatureHandler<T> handler) throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (inCollection) {
+                    if (token == JsonToken.START_OBJECT) {
+                        start = parser.currentTokenLocation().getByteOffset();
+                        T result = readObject(handler);
+                        end = parser.currentLocation().getByteOffset();
+                        if (result == null) {
+                            throw new JsonParseException(parser, "Unexpected object type, expected a Feature");
+                        }
+                        return result;
+                    } else if (token == JsonToken.END_ARRAY) {
+                        inCollection = false;
+                    } else {
+                        throw new JsonParseException(parser, "Unexpected token in the features array: " + token);
+                    }
+                } else if (token == JsonToken.START_OBJECT) {
+                    start = parser.currentTokenLocation().getByteOffset();
+                    T result = readRoot(handler);
+                    end = parser.currentLocation().getByteOffset();
+                    if (result != null) {
+                        return result;
+                    }
+                } else if (token == JsonToken.START_ARRAY) {
+                    // a plain array of features
+                    inCollection = true;
+                } else if (token == JsonToken.FIELD_NAME) {
+                    // a member of the feature collection following the features
+                    parser.nextToken();
+                    parser.skipChildren();
+                }
+            }
+            return null;
+        }
+
+        /** Returns the byte offset of the last feature returned */
+        long getStart() {
+            return start;
+        }
+
+        /** Returns the byte offset following the last feature returned */
+        long getEnd() {
+            return end;
+        }
+
+        private <T> T readObject(FeatureHandler<T> handler) throws IOException {
+            handler.reset();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                handler.member(parser, name);
+            }
+            return handler.end(parser);
+        }
+
+        /**
+         * Reads a top level object, which is either a feature, or a feature collection, in which case the scanner
+         * switches to its features array
+         */
+        private <T> T readRoot(FeatureHandler<T> handler) throws IOException {
+            handler.reset();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("features".equals(name) && token == JsonToken.START_ARRAY) {
+                    inCollection = true;
+                    return null;
+                }
+                handler.member(parser, name);
+            }
+            return handler.end(parser);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    /** Builds features out of the tokens, for a given feature type. Not thread safe. */
+    private static class FeatureParser implements FeatureHandler<SimpleFeature> {
+
+        private final SimpleFeatureBuilder builder;
+
+        private final Class<?>[] bindings;
+
+        private final int geometryIndex;
+
+        private final StreamingGeometryParser geometryParser = new StreamingGeometryParser(GEOMETRY_FACTORY);
+
+        private final DateParser dateParser = new DateParser();
+
+        private final ObjectMapper mapper = ObjectMapperFactory.getDefaultMapper();
+
+        private final IdStrategy idStrategy;
+
+        private final String baseName;
+
+        private final String idPrefix;
+
+        private final String idFieldName;
+
+        long nextId;
+
+        private String type;
+
+        private String id;
+
+        FeatureParser(
+                SimpleFeatureType schema,
+                IdStrategy idStrategy,
+                String baseName,
+                String idPrefix,
+                String idFieldName,
+                long nextId) {
+            this.builder = new SimpleFeatureBuilder(schema);
+            this.idStrategy = idStrategy;
+            this.baseName = baseName;
+            this.idPrefix = idPrefix;
+            this.idFieldName = idFieldName;
+            this.nextId = nextId;
+            this.bindings = new Class<?>[schema.getAttributeCount()];
+            for (int i = 0; i < bindings.length; i++) {
+                bindings[i] = schema.getDescriptor(i).getType().getBinding();
+            }
+            AttributeDescriptor geometry = schema.getDescriptor(GeoJSONReader.GEOMETRY_NAME);
+            if (!(geometry instanceof GeometryDescriptor)) {
+                geometry = schema.getGeometryDescriptor();
+            }
+            this.geometryIndex = geometry != null ? schema.indexOf(geometry.getName()) : -1;
+        }
+
+        /** Parses a batch of lines of a GeoJSON text sequence */
+        List<SimpleFeature> parseLines(List<byte[]> lines) throws IOException {
+            List<SimpleFeature> features = new ArrayList<>(lines.size());
+            for (byte[] line : lines) {
+                try (JsonParser parser = FACTORY.createParser(line)) {
+                    FeatureScanner scanner = new FeatureScanner(parser);
+                    SimpleFeature feature = scanner.next(this);
+                    if (feature == null) {
+                        throw new JsonParseException(parser, "Expected a feature on each line of the sequence");
+                    }
+                    features.add(feature);
+                }
+            }
+            return features;
+        }
+
+        @Override
+        public void reset() {
+            type = null;
+            id = null;
+            builder.reset();
+        }
+
+        @Override
+        public void member(JsonParser parser, String name) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (name.equals(idFieldName) && token.isScalarValue()) {
+                id = parser.getValueAsString();
+            } else if ("type".equals(name) && token == JsonToken.VALUE_STRING) {
+                type = parser.getText();
+            } else if (GeoJSONReader.GEOMETRY_NAME.equals(name) && geometryIndex >= 0) {
+                builder.set(geometryIndex, geometryParser.parse(parser));
+            } else if ("properties".equals(name) && token == JsonToken.START_OBJECT) {
+                readProperties(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        private void readProperties(JsonParser parser) throws IOException {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                int index = builder.getFeatureType().indexOf(name);
+                if (index < 0 || index == geometryIndex || token == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                } else {
+                    builder.set(index, readValue(parser, token, bindings[index]));
+                }
+            }
+        }
+
+        /** Reads a property value, converting it to the binding when the token allows it */
+        private Object readValue(JsonParser parser, JsonToken token, Class<?> binding) throws IOException {
+            if (binding == String.class) {
+                return token.isScalarValue()
+                        ? parser.getText()
+                        : mapper.readTree(parser).toString();
+            } else if (binding == Integer.class
+                    && token == JsonToken.VALUE_NUMBER_INT
+                    && parser.getNumberType() == JsonParser.NumberType.INT) {
+                return parser.getIntValue();
+            } else if (binding == Long.class
+                    && token == JsonToken.VALUE_NUMBER_INT
+                    && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                return parser.getLongValue();
+            } else if (binding == Double.class && token.isNumeric()) {
+                return parser.getDoubleValue();
+            } else if (binding == Boolean.class && token.isBoolean()) {
+                return parser.getBooleanValue();
+            } else if (Date.class.isAssignableFrom(binding) && token == JsonToken.VALUE_STRING) {
+                String text = parser.getText();
+                Date date = dateParser.parse(text);
+                // if not a date, let the feature builder try the converters
+                return date != null ? date : text;
+            } else if (Geometry.class.isAssignableFrom(binding) && token == JsonToken.START_OBJECT) {
+                return geometryParser.parse(parser);
+            } else if (binding == List.class && token == JsonToken.START_ARRAY) {
+                return GeoJSONReader.toList((ArrayNode) mapper.readTree(parser));
+            } else if (token.isStructStart()) {
+                return mapper.readTree(parser);
+            } else if (token.isNumeric()) {
+                return parser.getNumberValue();
+            } else if (token.isBoolean()) {
+                return parser.getBooleanValue();
+            }
+            return parser.getText();
+        }
+
+        @Override
+        public SimpleFeature end(JsonParser parser) {
+            if (!"Feature".equalsIgnoreCase(type)) {
+                builder.reset();
+                return null;
+            }
+            return builder.buildFeature(getOrGenerateId());
+        }
+
+        private String getOrGenerateId() {
+            switch (idStrategy) {
+                case AUTO:
+                    return baseName + "." + nextId++;
+                case PREFIX:
+                    return (idPrefix != null ? idPrefix : baseName) + "."
+                            + (id != null ? id : UUID.randomUUID().toString());
+                case PROVIDED:
+                    // null makes the builder generate an id
+                    return id;
+                default:
+                    throw new IllegalArgumentException("Unknown id strategy");
+            }
+        }
+    }
+
+    /** Collects the attribute bindings of the sampled features */
+    static class SchemaCollector implements FeatureHandler<Boolean> {
+
+        private final boolean guessingDates;
+
+        private final DateParser dateParser = new DateParser();
+
+        /** Bindings by property name, in order of appearance, null if only null values were found */
+        final Map<String, Class<?>> bindings = new LinkedHashMap<>();
+
+        Class<?> geometryBinding;
+
+        private String type;
+
+        SchemaCollector(boolean guessingDates) {
+            this.guessingDates = guessingDates;
+        }
+
+        @Override
+        public void reset() {
+            type = null;
+        }
+
+        @Override
+        public void member(JsonParser parser, String name) throws IOException {
+            JsonToken token = parser.currentToken();
+            if ("type".equals(name) && token == JsonToken.VALUE_STRING) {
+                type = parser.getText();
+            } else if (GeoJSONReader.GEOMETRY_NAME.equals(name) && token == JsonToken.START_OBJECT) {
+                addGeometry(StreamingGeometryParser.readBinding(parser));
+            } else if ("properties".equals(name) && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String property = parser.currentName();
+                    Class<?> binding = getBinding(parser, parser.nextToken());
+                    bindings.put(property, merge(bindings.get(property), binding));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        @Override
+        public Boolean end(JsonParser parser) {
+            return "Feature".equalsIgnoreCase(type) ? Boolean.TRUE : null;
+        }
+
+        /** Merges the binding of a feature geometry, null if the geometry is missing */
+        void addGeometry(Class<?> binding) {
+            if (binding != null) {
+                geometryBinding = geometryBinding == null || geometryBinding == binding ? binding : Geometry.class;
+            }
+        }
+
+        /** Returns the binding of the current value, consuming it */
+        private Class<?> getBinding(JsonParser parser, JsonToken token) throws IOException {
+            switch (token) {
+                case VALUE_NULL:
+                    return null;
+                case VALUE_NUMBER_INT:
+                    switch (parser.getNumberType()) {
+                        case INT:
+                            return Integer.class;
+                        case LONG:
+                            return Long.class;
+                        default:
+                            return Double.class;
+                    }
+                case VALUE_NUMBER_FLOAT:
+                    return Double.class;
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    return Boolean.class;
+                case VALUE_STRING:
+                    if (guessingDates && dateParser.parse(parser.getText()) != null) {
+                        return Date.class;
+                    }
+                    return String.class;
+                case START_ARRAY:
+                    parser.skipChildren();
+                    return List.class;
+                case START_OBJECT:
+                    return StreamingGeometryParser.readBinding(parser) != null ? Geometry.class : Object.class;
+                default:
+                    parser.skipChildren();
+                    return String.class;
+            }
+        }
+
+        /** Returns the narrowest binding fitting both values */
+        private static Class<?> merge(Class<?> a, Class<?> b) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null || a == b) {
+                return a;
+            }
+            if (isNumber(a) && isNumber(b)) {
+                return a == Double.class || b == Double.class ? Double.class : Long.class;
+            }
+            if (isScalar(a) && isScalar(b)) {
+                return String.class;
+            }
+            return Object.class;
+        }
+
+        private static boolean isNumber(Class<?> binding) {
+            return binding == Integer.class || binding == Long.class || binding == Double.class;
+        }
+
+        private static boolean isScalar(Class<?> binding) {
+            return isNumber(binding) || binding == Boolean.class || binding == String.class || binding == Date.class;
+        }
+
+        SimpleFeatureType build(String typeName) {
+            SimpleFeatureTypeBuilder typeBuilder = new SimpleFeatureTypeBuilder();
+            // GeoJSON is always WGS84
+            typeBuilder.setCRS(DefaultGeographicCRS.WGS84);
+            typeBuilder.setName(typeName);
+            if (geometryBinding != null) {
+                typeBuilder.add(GeoJSONReader.GEOMETRY_NAME, geometryBinding, DefaultGeographicCRS.WGS84);
+                typeBuilder.setDefaultGeometry(GeoJSONReader.GEOMETRY_NAME);
+            }
+            for (Map.Entry<String, Class<?>> entry : bindings.entrySet()) {
+                String name = entry.getKey();
+                if (geometryBinding != null && GeoJSONReader.GEOMETRY_NAME.equals(name)) {
+                    continue;
+                }
+                Class<?> binding = entry.getValue() != null ? entry.getValue() : String.class;
+                typeBuilder.nillable(true);
+                if (binding == Geometry.class) {
+                    typeBuilder.add(name, Geometry.class, DefaultGeographicCRS.WGS84);
+                } else {
+                    if (binding == String.class) {
+                        typeBuilder.defaultValue("");
+                    }
+                    typeBuilder.add(name, binding);
+                }
+            }
+            return typeBuilder.buildFeatureType();
+        }
+    }
+
+    /** Splits a GeoJSON text sequence in lines, skipping the blank ones and the record separators */
+    private static class LineSplitter {
+
+        private final InputStream input;
+
+        private final byte[] buffer = new byte[64 * 1024];
+
+        private int position;
+
+        private int limit;
+
+        private byte[] line = new byte[1024];
+
+        LineSplitter(InputStream input) {
+            this.input = input;
+        }
+
+        /** Reads up to the given number of non blank lines, returns an empty list at the end of the source */
+        List<byte[]> readLines(int count) throws IOException {
+            List<byte[]> result = new ArrayList<>(count);
+            byte[] next;
+            while (result.size() < count && (next = readLine()) != null) {
+                result.add(next);
+            }
+            return result;
+        }
+
+        /** Returns the next non blank line, or null at the end of the source */
+        private byte[] readLine() throws IOException {
+            while (true) {
+                int length = 0;
+                boolean blank = true;
+                boolean eof = true;
+                while (position < limit || fill()) {
+                    eof = false;
+                    byte b = buffer[position++];
+                    if (b == '\n') {
+                        break;
+                    }
+                    if (b == RECORD_SEPARATOR) {
+                        continue;
+                    }
+                    if (blank && !Character.isWhitespace(b)) {
+                        blank = false;
+                    }
+                    if (length == line.length) {
+                        line = Arrays.copyOf(line, line.length * 2);
+                    }
+                    line[length++] = b;
+                }
+                if (eof) {
+                    return null;
+                }
+                if (!blank) {
+                    return Arrays.copyOf(line, length);
+                }
+            }
+        }
+
+        private boolean fill() throws IOException {
+            int read = input.read(buffer);
+            if (read <= 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        }
+    }
+
+    /**
+     * Replaces the RFC 8142 record separators, which cannot appear unescaped in JSON text, with spaces, keeping the
+     * byte offsets of the source
+     */
+    private static class RecordSeparatorFilter extends FilterInputStream {
+
+        RecordSeparatorFilter(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            return b == RECORD_SEPARATOR ? ' ' : b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            for (int i = off; i < off + read; i++) {
+                if (b[i] == RECORD_SEPARATOR) {
+                    b[i] = ' ';
+                }
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.geotools.geometry.jts.Geometries;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+/**
+ * Parses GeoJSON geometries straight from the {@link JsonParser} tokens, without building a tree of nodes. The
+ * positions are decoded into {@link PackedCoordinateSequence} instances, without creating a
+ * {@link org.locationtech.jts.geom.Coordinate} for each of them, and the members of the geometry object can be in any
+ * order.
+ *
+ * <p>Instances are not thread safe, the ordinate buffer is reused across geometries.
+ */
+final class StreamingGeometryParser {
+
+    private final GeometryFactory factory;
+
+    /** Ordinates of the sequence being parsed, three per position, Z being NaN when missing */
+    private double[] ordinates = new double[3 * 64];
+
+    StreamingGeometryParser(GeometryFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Parses a geometry, the parser being on its {@link JsonToken#START_OBJECT} token, or on a
+     * {@link JsonToken#VALUE_NULL} one, in which case null is returned. The parser is left on the closing token of the
+     * geometry.
+     */
+    Geometry parse(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a geometry object, found " + token);
+        }
+        String type = null;
+        Object coordinates = null;
+        List<Geometry> geometries = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            token = parser.nextToken();
+            if ("type".equals(name)) {
+                type = parser.getText();
+            } else if ("coordinates".equals(name) && token == JsonToken.START_ARRAY) {
+                coordinates = readArray(parser, parser.nextToken());
+            } else if ("geometries".equals(name) && token == JsonToken.START_ARRAY) {
+                geometries = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    geometries.add(parse(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (type == null) {
+            throw new JsonParseException(parser, "Geometry object without a type");
+        }
+        return build(parser, type, coordinates, geometries);
+    }
+
+    /**
+     * Reads the geometry type, the parser being on the {@link JsonToken#START_OBJECT} token of the geometry, skipping
+     * the coordinates. Returns null if the object is not a known geometry.
+     */
+    static Class<?> readBinding(JsonParser parser) throws IOException {
+        Class<?> binding = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if ("type".equals(name) && parser.currentToken() == JsonToken.VALUE_STRING) {
+                Geometries geometries = Geometries.getForName(parser.getText());
+                binding = geometries != null ? geometries.getBinding() : null;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return binding;
+    }
+
+    private Geometry build(JsonParser parser, String type, Object coordinates, List<Geometry> geometries)
+            throws JsonParseException {
+        switch (type) {
+            case "Point":
+                if (coordinates instanceof double[]) {
+                    double[] position = (double[]) coordinates;
+                    return factory.createPoint(new PackedCoordinateSequence.Double(position, position.length, 0));
+                }
+                return factory.createPoint();
+            case "LineString":
+                return factory.createLineString(sequence(parser, coordinates));
+            case "Polygon":
+                return polygon(parser, coordinates);
+            case "MultiPoint":
+                return multiPoint(parser, coordinates);
+            case "MultiLineString": {
+                List<?> lines = list(parser, coordinates);
+                LineString[] result = new LineString[lines.size()];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = factory.createLineString(sequence(parser, lines.get(i)));
+                }
+                return factory.createMultiLineString(result);
+            }
+            case "MultiPolygon": {
+                List<?> polygons = list(parser, coordinates);
+                Polygon[] result = new Polygon[polygons.size()];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = polygon(parser, polygons.get(i));
+                }
+                return factory.createMultiPolygon(result);
+            }
+            case "GeometryCollection":
+                if (geometries == null) {
+                    return factory.createGeometryCollection();
+                }
+                return factory.createGeometryCollection(geometries.toArray(new Geometry[geometries.size()]));
+            default:
+                throw new JsonParseException(parser, "Invalid geometry type: " + type);
+        }
+    }
+
+    private Polygon polygon(JsonParser parser, Object coordinates) throws JsonParseException {
+        List<?> rings = list(parser, coordinates);
+        if (rings.isEmpty()) {
+            return factory.createPolygon();
+        }
+        LinearRing shell = factory.createLinearRing(sequence(parser, rings.get(0)));
+        LinearRing[] holes = new LinearRing[rings.size() - 1];
+        for (int i = 0; i < holes.length; i++) {
+            holes[i] = factory.createLinearRing(sequence(parser, rings.get(i + 1)));
+        }
+        return factory.createPolygon(shell, holes);
+    }
+
+    private Geometry multiPoint(JsonParser parser, Object coordinates) throws JsonParseException {
+        CoordinateSequence cs = sequence(parser, coordinates);
+        int dimension = cs.getDimension();
+        Point[] points = new Point[cs.size()];
+        for (int i = 0; i < points.length; i++) {
+            double[] position = new double[dimension];
+            for (int d = 0; d < dimension; d++) {
+                position[d] = cs.getOrdinate(i, d);
+            }
+            points[i] = factory.createPoint(new PackedCoordinateSequence.Double(position, dimension, 0));
+        }
+        return factory.createMultiPoint(points);
+    }
+
+    /** Returns the coordinates as a sequence, an empty array being an empty sequence */
+    private CoordinateSequence sequence(JsonParser parser, Object coordinates) throws JsonParseException {
+        if (coordinates instanceof CoordinateSequence) {
+            return (CoordinateSequence) coordinates;
+        }
+        if (coordinates == null || coordinates instanceof List && ((List<?>) coordinates).isEmpty()) {
+            return new PackedCoordinateSequence.Double(new double[0], 2, 0);
+        }
+        throw new JsonParseException(parser, "Expected an array of positions");
+    }
+
+    /** Returns the coordinates as a list of nested arrays, an array of positions being rejected */
+    private List<?> list(JsonParser parser, Object coordinates) throws JsonParseException {
+        if (coordinates == null) {
+            return Collections.emptyList();
+        }
+        if (coordinates instanceof List) {
+            return (List<?>) coordinates;
+        }
+        if (coordinates instanceof CoordinateSequence && ((CoordinateSequence) coordinates).size() == 0) {
+            return Collections.emptyList();
+        }
+        throw new JsonParseException(parser, "Expected an array of arrays of positions");
+    }
+
+    /**
+     * Reads the content of a coordinates array, the parser being on the first token after its
+     * {@link JsonToken#START_ARRAY}. Returns a {@code double[]} for a position, a {@link CoordinateSequence} for an
+     * array of positions, and a {@link List} of the nested results otherwise (an empty list for an empty array).
+     */
+    private Object readArray(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.END_ARRAY) {
+            return Collections.emptyList();
+        }
+        if (token.isNumeric()) {
+            double[] position = new double[3];
+            int size = readPosition(parser, position, 0);
+            return size == 3 ? position : Arrays.copyOf(position, size);
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Unexpected token in coordinates: " + token);
+        }
+        JsonToken first = parser.nextToken();
+        if (first.isNumeric()) {
+            return readSequence(parser);
+        }
+        List<Object> result = new ArrayList<>();
+        result.add(readArray(parser, first));
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            result.add(readArray(parser, parser.nextToken()));
+        }
+        return result;
+    }
+
+    /** Reads an array of positions, the parser being on the first ordinate of the first position */
+    private CoordinateSequence readSequence(JsonParser parser) throws IOException {
+        int dimension = 2;
+        int count = 0;
+        do {
+            if (ordinates.length < 3 * (count + 1)) {
+                ordinates = Arrays.copyOf(ordinates, ordinates.length * 2);
+            }
+            dimension = Math.max(dimension, readPosition(parser, ordinates, 3 * count));
+            count++;
+        } while (parser.nextToken() == JsonToken.START_ARRAY && parser.nextToken() != null);
+
+        double[] packed = new double[count * dimension];
+        for (int i = 0, j = 0; i < count; i++, j += dimension) {
+            System.arraycopy(ordinates, 3 * i, packed, j, dimension);
+        }
+        return new PackedCoordinateSequence.Double(packed, dimension, 0);
+    }
+
+    /**
+     * Reads a position in the target array, the parser being on its first ordinate, and leaves it on the closing token.
+     * Ordinates past the third are ignored, a missing third one is set to NaN.
+     *
+     * @return the number of ordinates stored
+     */
+    private static int readPosition(JsonParser parser, double[] target, int offset) throws IOException {
+        target[offset + 2] = Double.NaN;
+        int size = 0;
+        JsonToken token = parser.currentToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (token == null || !token.isNumeric()) {
+                throw new JsonParseException(parser, "Expected a number in position, found " + token);
+            }
+            if (size < 3) {
+                target[offset + size] = parser.getDoubleValue();
+            }
+            size++;
+            token = parser.nextToken();
+        }
+        if (size < 2) {
+            throw new JsonParseException(parser, "A position needs at least two ordinates");
+        }
+        return Math.min(size, 3);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.geojson.GeoJSONReader.IdStrategy;
+import org.geotools.test.TestData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.locationtech.jts.geom.Envelope;
+
+public class GeoJSONIndexTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File copy(String name) throws Exception {
+        File file = temp.newFile(name);
+        try (InputStream is = TestData.url(GeoJSONReaderTest.class, name).openStream()) {
+            Files.copy(is, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return file;
+    }
+
+    @Test
+    public void testBuildAndQuery() throws Exception {
+        // the offsets must be right for both collections and sequences with record separators
+        for (String name : new String[] {"locations.json", "locations.geojsons"}) {
+            File file = copy(name);
+            GeoJSONIndex index = GeoJSONIndex.getIndex(file, 100);
+            assertEquals(9, index.getCount());
+            assertEquals(new Envelope(-123.366, 151.211, -33.925, 48.429), index.getBounds());
+            SimpleFeatureType schema = index.getSchema("locations");
+            assertEquals(Integer.class, schema.getDescriptor("YEAR").getType().getBinding());
+
+            List<SimpleFeature> features = new ArrayList<>();
+            try (GeoJSONStreamingReader reader = index.createReader(schema, new Envelope(-130, -70, 40, 50))) {
+                reader.setIdStrategy(IdStrategy.AUTO);
+                SimpleFeature feature;
+                while ((feature = reader.read()) != null) {
+                    features.add(feature);
+                }
+            }
+            assertEquals(name, 4, features.size());
+            assertEquals("locations.1", features.get(0).getID());
+            assertEquals("St Paul", features.get(0).getAttribute("CITY"));
+            assertEquals("Victoria", features.get(3).getAttribute("CITY"));
+        }
+    }
+
+    @Test
+    public void testSidecar() throws Exception {
+        File file = copy("locations.json");
+        File indexFile = GeoJSONIndex.getIndexFile(file);
+        assertFalse(indexFile.exists());
+        GeoJSONIndex index = GeoJSONIndex.getIndex(file, 100);
+        assertTrue(indexFile.exists());
+        // the index is written aside and moved in place, no temporary file is left behind
+        assertEquals(2, file.getParentFile().list().length);
+
+        GeoJSONIndex read = GeoJSONIndex.read(file, indexFile);
+        assertNotNull(read);
+        assertFalse(read.isStale());
+        assertEquals(index.getCount(), read.getCount());
+        assertEquals(index.getBounds(), read.getBounds());
+        assertEquals(index.getSchema("locations"), read.getSchema("locations"));
+        assertEquals(1, read.query(new Envelope(11, 12, 46, 47)).length);
+
+        // touching the file invalidates the index
+        assertTrue(file.setLastModified(file.lastModified() + 10000));
+        assertTrue(read.isStale());
+        assertNull(GeoJSONIndex.read(file, indexFile));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.geojson.GeoJSONReader.IdStrategy;
+import org.geotools.test.TestData;
+import org.junit.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.io.WKTReader;
+
+public class GeoJSONStreamingReaderTest {
+
+    @Test
+    public void testInferSchema() throws Exception {
+        URL url = TestData.url(GeoJSONReaderTest.class, "locations.json");
+        SimpleFeatureType schema;
+        try (InputStream is = url.openStream()) {
+            schema = GeoJSONStreamingReader.inferSchema(is, "locations", 5);
+        }
+        assertEquals("locations", schema.getTypeName());
+        assertEquals(Point.class, schema.getGeometryDescriptor().getType().getBinding());
+        assertEquals(Double.class, schema.getDescriptor("LAT").getType().getBinding());
+        assertEquals(Double.class, schema.getDescriptor("LON").getType().getBinding());
+        assertEquals(String.class, schema.getDescriptor("CITY").getType().getBinding());
+        assertEquals(Integer.class, schema.getDescriptor("NUMBER").getType().getBinding());
+        assertEquals(Integer.class, schema.getDescriptor("YEAR").getType().getBinding());
+    }
+
+    @Test
+    public void testInferSchemaMerge() throws Exception {
+        String json = "{\"type\":\"FeatureCollection\",\"features\":["
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[0,0]},"
+                + "\"properties\":{\"a\":1,\"b\":1,\"c\":\"x\",\"d\":null}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[0,0],[1,1]]},"
+                + "\"properties\":{\"a\":10000000000,\"b\":1.5,\"c\":2,\"d\":null}}]}";
+        SimpleFeatureType schema = GeoJSONStreamingReader.inferSchema(stream(json), "test", 10);
+        assertEquals(Geometry.class, schema.getGeometryDescriptor().getType().getBinding());
+        assertEquals(Long.class, schema.getDescriptor("a").getType().getBinding());
+        assertEquals(Double.class, schema.getDescriptor("b").getType().getBinding());
+        assertEquals(String.class, schema.getDescriptor("c").getType().getBinding());
+        assertEquals(String.class, schema.getDescriptor("d").getType().getBinding());
+
+        assertNull(GeoJSONStreamingReader.inferSchema(
+                stream("{\"type\":\"FeatureCollection\",\"features\":[]}"), "test", 10));
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        URL url = TestData.url(GeoJSONReaderTest.class, "locations.json");
+        SimpleFeatureType schema;
+        try (InputStream is = url.openStream()) {
+            schema = GeoJSONStreamingReader.inferSchema(is, "locations", 100);
+        }
+        List<SimpleFeature> features = readAll(new GeoJSONStreamingReader(url, schema), IdStrategy.AUTO, false);
+        assertEquals(9, features.size());
+        SimpleFeature first = features.get(0);
+        assertEquals("locations.0", first.getID());
+        assertEquals("Trento", first.getAttribute("CITY"));
+        assertEquals(140, first.getAttribute("NUMBER"));
+        Point point = (Point) first.getDefaultGeometry();
+        assertEquals(11.117, point.getX(), 0d);
+        assertEquals(46.067, point.getY(), 0d);
+        assertTrue(point.getCoordinateSequence() instanceof PackedCoordinateSequence);
+    }
+
+    @Test
+    public void testReadSubset() throws Exception {
+        URL url = TestData.url(GeoJSONReaderTest.class, "locations.json");
+        SimpleFeatureType schema;
+        try (InputStream is = url.openStream()) {
+            schema = GeoJSONStreamingReader.inferSchema(is, "locations", 100);
+        }
+        SimpleFeatureType subset = DataUtilities.createSubType(schema, "CITY");
+        List<SimpleFeature> features = readAll(new GeoJSONStreamingReader(url, subset), IdStrategy.AUTO, false);
+        assertEquals(9, features.size());
+        assertEquals(1, features.get(8).getAttributeCount());
+        assertEquals("Sydney", features.get(8).getAttribute("CITY"));
+    }
+
+    @Test
+    public void testGeometries() throws Exception {
+        String[] wkts = {
+            "POINT (1 2)",
+            "LINESTRING (0 0, 1 1)",
+            "POLYGON ((0 0, 1 0, 1 1, 0 0), (0.1 0.1, 0.2 0.1, 0.2 0.2, 0.1 0.1))",
+            "MULTIPOINT ((1 1), (2 2))",
+            "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))",
+            "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))",
+            "GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (0 0, 1 1))",
+            "POLYGON EMPTY"
+        };
+        String[] geometries = {
+            "{\"type\":\"Point\",\"coordinates\":[1,2]}",
+            "{\"type\":\"LineString\",\"coordinates\":[[0,0],[1,1]]}",
+            "{\"type\":\"Polygon\",\"coordinates\":"
+                    + "[[[0,0],[1,0],[1,1],[0,0]],[[0.1,0.1],[0.2,0.1],[0.2,0.2],[0.1,0.1]]]}",
+            "{\"type\":\"MultiPoint\",\"coordinates\":[[1,1],[2,2]]}",
+            "{\"type\":\"MultiLineString\",\"coordinates\":[[[0,0],[1,1]],[[2,2],[3,3]]]}",
+            "{\"type\":\"MultiPolygon\",\"coordinates\":"
+                    + "[[[[0,0],[1,0],[1,1],[0,0]]],[[[5,5],[6,5],[6,6],[5,5]]]]}",
+            "{\"type\":\"GeometryCollection\",\"geometries\":[{\"type\":\"Point\",\"coordinates\":[1,2]},"
+                    + "{\"type\":\"LineString\",\"coordinates\":[[0,0],[1,1]]}]}",
+            "{\"type\":\"Polygon\",\"coordinates\":[]}"
+        };
+        StringBuilder json = new StringBuilder("{\"type\":\"FeatureCollection\",\"features\":[");
+        for (int i = 0; i < geometries.length; i++) {
+            json.append(i > 0 ? "," : "")
+                    .append("{\"type\":\"Feature\",\"properties\":{},\"geometry\":")
+                    .append(geometries[i])
+                    .append("}");
+        }
+        json.append("]}");
+        SimpleFeatureType schema = DataUtilities.createType("test", "geometry:Geometry");
+        List<SimpleFeature> features =
+                readAll(new GeoJSONStreamingReader(stream(json.toString()), schema), IdStrategy.AUTO, false);
+        assertEquals(wkts.length, features.size());
+        WKTReader reader = new WKTReader();
+        for (int i = 0; i < wkts.length; i++) {
+            Geometry expected = reader.read(wkts[i]);
+            Geometry actual = (Geometry) features.get(i).getDefaultGeometry();
+            assertTrue(wkts[i] + " != " + actual, expected.equalsExact(actual));
+        }
+    }
+
+    @Test
+    public void testCoordinatesBeforeType() throws Exception {
+        String json = "{\"properties\":{\"name\":\"a\"},\"type\":\"Feature\",\"id\":\"f1\","
+                + "\"geometry\":{\"coordinates\":[[0,0,1],[1,1,2]],\"type\":\"LineString\"}}";
+        SimpleFeatureType schema = DataUtilities.createType("test", "geometry:LineString,name:String");
+        List<SimpleFeature> features =
+                readAll(new GeoJSONStreamingReader(stream(json), schema), IdStrategy.PROVIDED, false);
+        assertEquals(1, features.size());
+        assertEquals("f1", features.get(0).getID());
+        LineString line = (LineString) features.get(0).getDefaultGeometry();
+        assertEquals(3, line.getCoordinateSequence().getDimension());
+        assertEquals(2, line.getCoordinateSequence().getZ(1), 0d);
+    }
+
+    @Test
+    public void testTextSequence() throws Exception {
+        URL url = TestData.url(GeoJSONReaderTest.class, "locations.geojsons");
+        SimpleFeatureType schema;
+        try (InputStream is = url.openStream()) {
+            schema = GeoJSONStreamingReader.inferSchema(is, "locations", 100);
+        }
+        assertEquals(Integer.class, schema.getDescriptor("YEAR").getType().getBinding());
+        List<SimpleFeature> sequential = readAll(new GeoJSONStreamingReader(url, schema), IdStrategy.AUTO, false);
+        List<SimpleFeature> parallel = readAll(new GeoJSONStreamingReader(url, schema), IdStrategy.AUTO, true);
+        assertEquals(9, sequential.size());
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getID(), parallel.get(i).getID());
+            assertEquals(sequential.get(i).getAttributes(), parallel.get(i).getAttributes());
+        }
+    }
+
+    private List<SimpleFeature> readAll(GeoJSONStreamingReader reader, IdStrategy idStrategy, boolean parallel)
+            throws IOException {
+        List<SimpleFeature> result = new ArrayList<>();
+        try (GeoJSONStreamingReader r = reader) {
+            r.setIdStrategy(idStrategy);
+            r.setParallel(parallel);
+            SimpleFeature feature;
+            while ((feature = r.read()) != null) {
+                result.add(feature);
+            }
+        }
+        return result;
+    }
+
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
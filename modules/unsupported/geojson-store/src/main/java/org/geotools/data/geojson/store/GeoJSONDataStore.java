@@ -19,6 +19,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.geotools.api.data.FeatureReader;
@@ -32,7 +33,9 @@
 import org.geotools.api.feature.type.Name;
 import org.geotools.api.filter.Filter;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.data.geojson.GeoJSONIndex;
 import org.geotools.data.geojson.GeoJSONReader;
+import org.geotools.data.geojson.GeoJSONStreamingReader;
 import org.geotools.data.store.ContentDataStore;
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentFeatureSource;
@@ -40,6 +43,7 @@
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
 import org.geotools.util.URLs;
+import org.locationtech.jts.geom.Envelope;
 
 public class GeoJSONDataStore extends ContentDataStore implements FileDataStore {
 
@@ -51,6 +55,10 @@ public class GeoJSONDataStore extends ContentDataStore implements FileDataStore
 
     private ReferencedEnvelope bbox;
     private boolean quick = true;
+    private boolean streaming;
+    private int sampleSize = GeoJSONStreamingReader.DEFAULT_SAMPLE_SIZE;
+    private boolean spatialIndex;
+    private GeoJSONIndex index;
 
     public GeoJSONDataStore(URL url) {
         this.setUrl(url);
@@ -65,9 +73,44 @@ GeoJSONReader read() throws IOException {
         return reader;
     }
 
+    /**
+     * Returns a streaming reader for the given feature type, which can be a subset of the schema
+     *
+     * @see #isStreaming()
+     */
+    GeoJSONStreamingReader readStreaming(SimpleFeatureType featureType) throws IOException {
+        GeoJSONStreamingReader reader = new GeoJSONStreamingReader(getUrl(), featureType);
+        reader.setIdStrategy(GeoJSONReader.IdStrategy.PREFIX);
+        reader.setParallel(true);
+        return reader;
+    }
+
+    /**
+     * Returns a reader for the features whose envelope intersects the area, read by offset using the spatial index
+     *
+     * @see #isSpatialIndex()
+     */
+    GeoJSONStreamingReader readIndexed(SimpleFeatureType featureType, Envelope area) throws IOException {
+        GeoJSONStreamingReader reader = getIndex().createReader(featureType, area);
+        reader.setIdStrategy(GeoJSONReader.IdStrategy.PREFIX);
+        return reader;
+    }
+
+    /**
+     * Returns the spatial index of the file, loading it from the sidecar file, or building it if missing or older than
+     * the file
+     */
+    synchronized GeoJSONIndex getIndex() throws IOException {
+        if (index == null || index.isStale()) {
+            index = GeoJSONIndex.getIndex(URLs.urlToFile(getUrl()), sampleSize);
+        }
+        return index;
+    }
+
     @Override
     protected ContentFeatureSource createFeatureSource(ContentEntry entry) throws IOException {
-        if ("file".equalsIgnoreCase(getUrl().getProtocol())) {
+        // the feature writer produces feature collections, text sequences are read only
+        if ("file".equalsIgnoreCase(getUrl().getProtocol()) && !isSequence()) {
             File f = URLs.urlToFile(getUrl());
             if (!f.exists()) {
                 if (!f.createNewFile()) {
@@ -200,6 +243,50 @@ public boolean isQuick() {
         return quick;
     }
 
+    /** @param streaming */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Returns true if the features are read with the {@link GeoJSONStreamingReader}, with a schema inferred from the
+     * first {@link #getSampleSize()} features. Always true for GeoJSON text sequences and spatially indexed files.
+     */
+    public boolean isStreaming() {
+        return streaming || isSequence() || isSpatialIndex();
+    }
+
+    /** @param spatialIndex whether a sidecar spatial index should be built and used for local files */
+    public void setSpatialIndex(boolean spatialIndex) {
+        this.spatialIndex = spatialIndex;
+    }
+
+    /**
+     * Returns true if the features are located with a spatial index, saved next to the file, which also caches the
+     * bounds, count and schema. The index is built on first access, and rebuilt when the file is modified. Only
+     * available for local files.
+     */
+    public boolean isSpatialIndex() {
+        return spatialIndex && "file".equalsIgnoreCase(getUrl().getProtocol());
+    }
+
+    /** @param sampleSize the number of features used to infer the schema when streaming */
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    /** @return the number of features used to infer the schema when streaming */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /** Returns true if the source is a newline delimited GeoJSON text sequence, based on its extension */
+    public boolean isSequence() {
+        String path = getUrl().getPath().toLowerCase();
+        String extension = path.substring(path.lastIndexOf('.') + 1);
+        return Arrays.asList(GeoJSONDataStoreFactory.SEQUENCE_EXTENSIONS).contains(extension);
+    }
+
     public ReferencedEnvelope getBbox() {
         return bbox;
     }
@@ -36,7 +36,11 @@
 
 public class GeoJSONDataStoreFactory implements FileDataStoreFactorySpi {
 
-    private static final String[] EXTENSIONS = {"geojson", "json", "gjson"};
+    private static final String[] EXTENSIONS = {"geojson", "json", "gjson", "geojsonl", "geojsons"};
+
+    /** Extensions of newline delimited GeoJSON text sequences, always read with the streaming reader */
+    static final String[] SEQUENCE_EXTENSIONS = {"geojsonl", "geojsons"};
+
     private Boolean isAvailable;
 
     /** Parameter description of information required to connect */
@@ -54,6 +58,21 @@ public class GeoJSONDataStoreFactory implements FileDataStoreFactorySpi {
             Boolean.class,
             "Should the schema be described by the first element of the collection (Default true)",
             false);
+    public static final Param STREAMING = new Param(
+            "streaming",
+            Boolean.class,
+            "Should the features be read with the streaming parser, inferring the schema from a sample of the features (Default false)",
+            false);
+    public static final Param SAMPLE_SIZE = new Param(
+            "sampleSize",
+            Integer.class,
+            "Number of features used to infer the schema when streaming (Default 100)",
+            false);
+    public static final Param SPATIAL_INDEX = new Param(
+            "spatialIndex",
+            Boolean.class,
+            "Should a sidecar spatial index be built and used to read local files, implies streaming (Default false)",
+            false);
 
     public GeoJSONDataStoreFactory() {}
 
@@ -99,6 +118,18 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
         if (quick != null) {
             ret.setQuickSchema(quick);
         }
+        Boolean streaming = (Boolean) STREAMING.lookUp(params);
+        if (streaming != null) {
+            ret.setStreaming(streaming);
+        }
+        Integer sampleSize = (Integer) SAMPLE_SIZE.lookUp(params);
+        if (sampleSize != null) {
+            ret.setSampleSize(sampleSize);
+        }
+        Boolean spatialIndex = (Boolean) SPATIAL_INDEX.lookUp(params);
+        if (spatialIndex != null) {
+            ret.setSpatialIndex(spatialIndex);
+        }
         return ret;
     }
 
@@ -137,6 +168,18 @@ public DataStore createNewDataStore(Map<String, ?> params) throws IOException {
         if (quick != null) {
             ret.setQuickSchema(quick);
         }
+        Boolean streaming = (Boolean) STREAMING.lookUp(params);
+        if (streaming != null) {
+            ret.setStreaming(streaming);
+        }
+        Integer sampleSize = (Integer) SAMPLE_SIZE.lookUp(params);
+        if (sampleSize != null) {
+            ret.setSampleSize(sampleSize);
+        }
+        Boolean spatialIndex = (Boolean) SPATIAL_INDEX.lookUp(params);
+        if (spatialIndex != null) {
+            ret.setSpatialIndex(spatialIndex);
+        }
         return ret;
     }
 
@@ -17,7 +17,12 @@
 package org.geotools.data.geojson.store;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.Query;
 import org.geotools.api.feature.FeatureVisitor;
@@ -25,13 +30,18 @@
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.FeatureTypeFactory;
 import org.geotools.api.filter.Filter;
+import org.geotools.data.DataUtilities;
 import org.geotools.data.geojson.GeoJSONReader;
+import org.geotools.data.geojson.GeoJSONStreamingReader;
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentFeatureSource;
 import org.geotools.feature.FeatureIterator;
 import org.geotools.feature.NameImpl;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.feature.type.FeatureTypeFactoryImpl;
+import org.geotools.filter.visitor.ExtractBoundsFilterVisitor;
 import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 
 public class GeoJSONFeatureSource extends ContentFeatureSource {
@@ -65,6 +75,28 @@ protected ReferencedEnvelope getBoundsInternal(Query query) throws IOException {
         ReferencedEnvelope env = new ReferencedEnvelope(getDataStore().getCrs());
 
         if (query.getFilter() == Filter.INCLUDE) {
+            if (getDataStore().isSpatialIndex()) {
+                env.expandToInclude(getDataStore().getIndex().getBounds());
+                return env;
+            }
+            if (getDataStore().isStreaming()) {
+                SimpleFeatureType featureType = getSchema();
+                if (featureType.getGeometryDescriptor() == null) {
+                    return env;
+                }
+                String geometry = featureType.getGeometryDescriptor().getLocalName();
+                SimpleFeatureType geometryOnly = SimpleFeatureTypeBuilder.retype(featureType, geometry);
+                try (GeoJSONStreamingReader reader = getDataStore().readStreaming(geometryOnly)) {
+                    SimpleFeature f;
+                    while ((f = reader.read()) != null) {
+                        Geometry g = (Geometry) f.getDefaultGeometry();
+                        if (g != null) {
+                            env.expandToInclude(g.getEnvelopeInternal());
+                        }
+                    }
+                }
+                return env;
+            }
 
             try (GeoJSONReader reader = getDataStore().read()) {
                 try (FeatureIterator<SimpleFeature> itr = reader.getIterator()) {
@@ -81,6 +113,20 @@ protected ReferencedEnvelope getBoundsInternal(Query query) throws IOException {
     @Override
     protected int getCountInternal(Query query) throws IOException {
         if (query.getFilter() == Filter.INCLUDE) {
+            if (getDataStore().isSpatialIndex()) {
+                return getDataStore().getIndex().getCount();
+            }
+            if (getDataStore().isStreaming()) {
+                // no attributes, all properties and geometries are skipped
+                SimpleFeatureType empty = SimpleFeatureTypeBuilder.retype(getSchema(), new String[0]);
+                try (GeoJSONStreamingReader reader = getDataStore().readStreaming(empty)) {
+                    int count = 0;
+                    while (reader.read() != null) {
+                        count++;
+                    }
+                    return count;
+                }
+            }
 
             try (GeoJSONReader reader = getDataStore().read()) {
                 int count = 0;
@@ -98,11 +144,85 @@ protected int getCountInternal(Query query) throws IOException {
 
     @Override
     protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Query query) throws IOException {
+        if (getDataStore().isStreaming()) {
+            return getStreamingReader(query);
+        }
         return new GeoJSONFeatureReader(getState(), query);
     }
 
+    /**
+     * Returns a reader decoding only the requested properties, along with the ones needed to evaluate the filter. In
+     * the latter case {@link #canRetype(Query)} is false, and the retyping happens after the filtering. When the file
+     * is spatially indexed, only the features intersecting the filter bounds are read.
+     */
+    private FeatureReader<SimpleFeatureType, SimpleFeature> getStreamingReader(Query query) throws IOException {
+        SimpleFeatureType readType = getSchema();
+        if (query.getPropertyNames() != Query.ALL_NAMES) {
+            readType = SimpleFeatureTypeBuilder.retype(readType, new ArrayList<>(getRequiredProperties(query)));
+        }
+        if (getDataStore().isSpatialIndex()) {
+            Envelope bbox = getFilterBounds(query.getFilter());
+            if (bbox != null) {
+                return new GeoJSONStreamingFeatureReader(getDataStore().readIndexed(readType, bbox));
+            }
+        }
+        return new GeoJSONStreamingFeatureReader(getDataStore().readStreaming(readType));
+    }
+
+    /** Returns the bounds of the filter, or null if the filter is not spatially bounded */
+    private Envelope getFilterBounds(Filter filter) {
+        if (filter == null) {
+            return null;
+        }
+        Envelope bbox = (Envelope) filter.accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, new ReferencedEnvelope());
+        if (bbox == null || Double.isInfinite(bbox.getWidth()) || Double.isInfinite(bbox.getHeight())) {
+            return null;
+        }
+        return bbox;
+    }
+
+    /** Returns the requested properties, followed by the ones referenced by the filter */
+    private Set<String> getRequiredProperties(Query query) {
+        SimpleFeatureType featureType = getSchema();
+        Set<String> required = new LinkedHashSet<>(Arrays.asList(query.getPropertyNames()));
+        if (query.getFilter() != null) {
+            for (String name : DataUtilities.attributeNames(query.getFilter(), featureType)) {
+                if (featureType.getDescriptor(name) != null) {
+                    required.add(name);
+                }
+            }
+        }
+        return required;
+    }
+
+    /** The streaming reader decodes only the requested properties, unless the filter needs more */
+    @Override
+    protected boolean canRetype(Query query) {
+        if (!getDataStore().isStreaming()) {
+            return false;
+        }
+        return query.getPropertyNames() == Query.ALL_NAMES
+                || getRequiredProperties(query).size() == query.getPropertyNames().length;
+    }
+
     @Override
     protected SimpleFeatureType buildFeatureType() throws IOException {
+        if (getDataStore().isSpatialIndex()) {
+            schema = getDataStore().getIndex().getSchema(entry.getTypeName());
+            if (schema != null) {
+                return schema;
+            }
+        }
+        if (getDataStore().isStreaming()) {
+            // infer the schema from the first features
+            try (InputStream input = getDataStore().getUrl().openStream()) {
+                schema = GeoJSONStreamingReader.inferSchema(
+                        input, entry.getTypeName(), getDataStore().getSampleSize());
+            }
+            if (schema != null) {
+                return schema;
+            }
+        }
 
         // read headers
 
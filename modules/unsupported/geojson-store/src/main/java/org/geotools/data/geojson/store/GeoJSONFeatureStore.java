@@ -76,6 +76,11 @@ protected SimpleFeatureType buildFeatureType() throws IOException {
         return delegate.buildFeatureType();
     }
 
+    @Override
+    protected boolean canRetype(Query query) {
+        return delegate.canRetype(query);
+    }
+
     /** @see GeoJSONFeatureSource#getDataStore() */
     @Override
     public GeoJSONDataStore getDataStore() {
@@ -0,0 +1,68 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson.store;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.geojson.GeoJSONStreamingReader;
+
+/**
+ * Reads the features with a {@link GeoJSONStreamingReader}, against a fixed feature type
+ *
+ * @since 34.0
+ */
+class GeoJSONStreamingFeatureReader implements FeatureReader<SimpleFeatureType, SimpleFeature> {
+
+    private final GeoJSONStreamingReader reader;
+
+    private SimpleFeature next;
+
+    public GeoJSONStreamingFeatureReader(GeoJSONStreamingReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return reader.getSchema();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (next == null) {
+            next = reader.read();
+        }
+        return next != null;
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SimpleFeature result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -21,26 +21,41 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.data.SimpleFeatureStore;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.geojson.GeoJSONIndex;
 import org.geotools.data.geojson.GeoJSONReader;
+import org.geotools.factory.CommonFactoryFinder;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
 import org.geotools.test.TestData;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Point;
 
 public class GeoJSONDataStoreTest {
     GeoJSONDataStore ds;
 
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
     @Before
     public void setup() throws IOException {
         URL url = TestData.url(GeoJSONDataStore.class, "ne_110m_admin_1_states_provinces.geojson");
@@ -175,4 +190,81 @@ public void testEmptyFeatures() throws IOException {
             assertEquals(0, reader.getFeatureType().getAttributeCount());
         }
     }
+
+    @Test
+    public void testStreaming() throws IOException {
+        ds.setStreaming(true);
+        String type = ds.getNames().get(0).getLocalPart();
+        SimpleFeatureSource source = ds.getFeatureSource(type);
+        assertEquals(51, source.getCount(Query.ALL));
+        ReferencedEnvelope bounds = source.getBounds();
+        assertEquals(-171.79111060289117, bounds.getMinX(), 0.00001);
+        assertEquals(71.35776357694175, bounds.getMaxY(), 0.00001);
+
+        // filter on an attribute that is not returned
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+        Query query = new Query(type, ff.equals(ff.property("name"), ff.literal("Texas")), "postal");
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = ds.getFeatureReader(query, null)) {
+            assertEquals(1, reader.getFeatureType().getAttributeCount());
+            assertTrue(reader.hasNext());
+            assertEquals("TX", reader.next().getAttribute("postal"));
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testTextSequence() throws IOException {
+        URL url = TestData.url(GeoJSONDataStore.class, "locations.geojsonl");
+
+        GeoJSONDataStore fds = new GeoJSONDataStore(url);
+        assertTrue(fds.isStreaming());
+        SimpleFeatureSource source = fds.getFeatureSource(fds.getTypeNames()[0]);
+        assertFalse(source instanceof SimpleFeatureStore);
+        SimpleFeatureType schema = source.getSchema();
+        assertEquals(Point.class, schema.getGeometryDescriptor().getType().getBinding());
+        assertEquals(Integer.class, schema.getDescriptor("YEAR").getType().getBinding());
+        assertEquals(9, source.getCount(Query.ALL));
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                fds.getFeatureReader(new Query(schema.getTypeName()), null)) {
+            assertTrue(reader.hasNext());
+            assertEquals("Trento", reader.next().getAttribute("CITY"));
+        }
+    }
+
+    @Test
+    public void testSpatialIndex() throws IOException {
+        File file = temp.newFile("states.geojson");
+        try (InputStream is = TestData.url(GeoJSONDataStore.class, "ne_110m_admin_1_states_provinces.geojson")
+                .openStream()) {
+            Files.copy(is, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        GeoJSONDataStore fds = new GeoJSONDataStore(file);
+        fds.setSpatialIndex(true);
+        assertTrue(fds.isStreaming());
+        String type = fds.getTypeNames()[0];
+        SimpleFeatureSource source = fds.getFeatureSource(type);
+        assertEquals(51, source.getCount(Query.ALL));
+        assertTrue(GeoJSONIndex.getIndexFile(file).exists());
+        ReferencedEnvelope bounds = source.getBounds();
+        assertEquals(-171.79111060289117, bounds.getMinX(), 0.00001);
+        assertEquals(71.35776357694175, bounds.getMaxY(), 0.00001);
+
+        // a bbox around Texas, only the features whose envelope intersects it are read
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+        Query query = new Query(type, ff.bbox("", -100, 30, -99, 31, "EPSG:4326"), "postal");
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = fds.getFeatureReader(query, null)) {
+            assertTrue(reader.hasNext());
+            assertEquals("TX", reader.next().getAttribute("postal"));
+            assertFalse(reader.hasNext());
+        }
+
+        // a new store reads the sidecar index, which is rebuilt once the file changes
+        GeoJSONDataStore reopened = new GeoJSONDataStore(file);
+        reopened.setSpatialIndex(true);
+        assertEquals(51, reopened.getFeatureSource(type).getCount(Query.ALL));
+        assertTrue(file.setLastModified(file.lastModified() + 10000));
+        assertNull(GeoJSONIndex.read(file, GeoJSONIndex.getIndexFile(file)));
+        assertEquals(51, reopened.getFeatureSource(type).getCount(Query.ALL));
+        assertNotNull(GeoJSONIndex.read(file, GeoJSONIndex.getIndexFile(file)));
+    }
 }
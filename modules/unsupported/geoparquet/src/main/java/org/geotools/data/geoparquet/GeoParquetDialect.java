@@ -26,17 +26,22 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Struct;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import org.geotools.api.data.Transaction;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
 import org.geotools.api.feature.type.Name;
+import org.geotools.api.filter.Filter;
 import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.data.duckdb.DuckDBDialect;
@@ -45,6 +50,7 @@
 import org.geotools.feature.AttributeTypeBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.jackson.datatype.geoparquet.BboxCovering;
 import org.geotools.jackson.datatype.geoparquet.GeoParquetMetadata;
 import org.geotools.jdbc.AutoGeneratedPrimaryKeyColumn;
 import org.geotools.jdbc.JDBCDataStore;
@@ -55,6 +61,7 @@
 import org.geotools.referencing.CRS;
 import org.geotools.util.factory.Hints;
 import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 
@@ -77,7 +84,11 @@
  * <p>The dialect uses several performance optimizations:
  *
  * <ul>
- *   <li>Extracting bounds from GeoParquet metadata rather than computing them
+ *   <li>Extracting bounds from GeoParquet metadata, or the row group statistics of the bounding box columns, rather
+ *       than computing them
+ *   <li>Counting features from the row counts in the Parquet metadata
+ *   <li>Filtering on the GeoParquet 1.1 bounding box covering columns, so that DuckDB skips the row groups out of the
+ *       queried area
  *   <li>Creating SQL views for consistent access to partitioned datasets
  *   <li>Using DuckDB's spatial functions for efficient querying
  *   <li>Maintaining a cache of metadata to avoid repeated parsing
@@ -172,7 +183,7 @@ Connection getConnection() throws IOException {
      */
     @Override
     public FilterToSQL createFilterToSQL() {
-        return new GeoParquetFilterToSQL();
+        return new GeoParquetFilterToSQL(this);
     }
 
     /**
@@ -185,6 +196,9 @@ public FilterToSQL createFilterToSQL() {
      *   <li>parquet - For reading Parquet file format
      * </ul>
      *
+     * <p>It also enables the caching of the Parquet metadata and of the remote file metadata, which matters for
+     * datasets with many remote files queried repeatedly, like when rendering tiles.
+     *
      * @return List of SQL statements to initialize the database
      */
     @Override
@@ -194,6 +208,9 @@ public List<String> getDatabaseInitSql() {
         initScript.add("load httpfs");
         initScript.add("install parquet");
         initScript.add("load parquet");
+        // keep the footers and the remote file sizes around, repeated queries on the same files won't fetch them again
+        initScript.add("SET parquet_metadata_cache = true");
+        initScript.add("SET enable_http_metadata_cache = true");
         return initScript;
     }
 
@@ -345,13 +362,16 @@ public PrimaryKey getPrimaryKey(JDBCDataStore store, String schema, String table
      * <p>This method uses a multi-stage approach to efficiently determine dataset bounds:
      *
      * <ol>
-     *   <li>First tries to extract bounds from the GeoParquet 'geo' metadata field
-     *   <li>If 'geo' metadata is not available, checks for a 'bbox' column and uses aggregate functions on its
-     *       components (common in datasets like OvertureMaps)
+     *   <li>First tries to extract bounds from the GeoParquet 'geo' metadata field, if every file declares them
+     *   <li>If not available, checks for bounding box columns, either declared by the GeoParquet 1.1 covering metadata
+     *       or as a 'bbox' column (common in datasets like OvertureMaps), and uses the min/max statistics of their row
+     *       groups from the Parquet metadata
+     *   <li>If the statistics are not available, uses aggregate functions on the bounding box columns
      *   <li>Finally falls back to the generic DuckDB bounds computation using spatial functions
      * </ol>
      *
-     * <p>Each method is progressively more computationally expensive, so we try them in order of efficiency.
+     * <p>Each method is progressively more computationally expensive, so we try them in order of efficiency. The first
+     * two only read the Parquet file footers, without scanning the data.
      *
      * @param schema The database schema (unused in GeoParquet)
      * @param featureType The feature type to get bounds for
@@ -369,20 +389,91 @@ public List<ReferencedEnvelope> getOptimizedBounds(String schema, SimpleFeatureT
         }
 
         GeoparquetDatasetMetadata md = getGeoparquetMetadata(featureType.getTypeName(), cx);
-        ReferencedEnvelope bounds;
-        if (!md.isEmpty()) {
+        ReferencedEnvelope bounds = null;
+        if (md.hasBounds()) {
             bounds = md.getBounds();
-        } else if (featureType.getDescriptor("bbox") != null) {
-            // no geoparquet metadata ('geo' key present), see if there's a 'bbox' column
-            // anyways
-            bounds = computeBoundsFromBboxColumn(featureType, cx);
         } else {
+            String column = featureType.getGeometryDescriptor().getLocalName();
+            Optional<BboxCovering> covering = getBboxCovering(featureType, column);
+            if (covering.isPresent()) {
+                bounds = computeBoundsFromStatistics(featureType, covering.get(), cx);
+                if (bounds == null) {
+                    bounds = computeBoundsFromBboxColumn(featureType, covering.get(), cx);
+                }
+            }
+        }
+        if (bounds == null) {
             // fall back to ST_Extent_Agg(geometry)
             bounds = super.optimizedBounds(featureType, cx);
         }
         return List.of(requireNonNull(bounds));
     }
 
+    /**
+     * Computes bounds from the row group statistics of the bounding box columns.
+     *
+     * <p>This method reads the min/max statistics Parquet writers store for each column chunk, using DuckDB's
+     * {@code parquet_metadata()} function, so only the file footers are accessed.
+     *
+     * @param featureType The feature type to compute the bounds for
+     * @param covering The bounding box columns
+     * @param cx Database connection to use for querying
+     * @return The computed bounds, or null if some row groups have no statistics for the bounding box columns
+     * @throws SQLException If there's an error executing SQL
+     */
+    ReferencedEnvelope computeBoundsFromStatistics(SimpleFeatureType featureType, BboxCovering covering, Connection cx)
+            throws SQLException {
+        List<String> files = viewManager.getViewFiles(featureType.getTypeName());
+        return computeBoundsFromStatistics(featureType, covering, files, cx);
+    }
+
+    /** Computes bounds from the row group statistics of the bounding box columns of the given files. */
+    private ReferencedEnvelope computeBoundsFromStatistics(
+            SimpleFeatureType featureType, BboxCovering covering, List<String> files, Connection cx)
+            throws SQLException {
+
+        String xmin = toSchemaPath(covering.getXmin());
+        String xmax = toSchemaPath(covering.getXmax());
+        String ymin = toSchemaPath(covering.getYmin());
+        String ymax = toSchemaPath(covering.getYmax());
+        String sql = format(
+                "SELECT count(DISTINCT file_name || ':' || row_group_id),"
+                        + " min(TRY_CAST(stats_min_value AS DOUBLE)) FILTER (WHERE path_in_schema = %s),"
+                        + " count(stats_min_value) FILTER (WHERE path_in_schema = %s),"
+                        + " max(TRY_CAST(stats_max_value AS DOUBLE)) FILTER (WHERE path_in_schema = %s),"
+                        + " count(stats_max_value) FILTER (WHERE path_in_schema = %s),"
+                        + " min(TRY_CAST(stats_min_value AS DOUBLE)) FILTER (WHERE path_in_schema = %s),"
+                        + " count(stats_min_value) FILTER (WHERE path_in_schema = %s),"
+                        + " max(TRY_CAST(stats_max_value AS DOUBLE)) FILTER (WHERE path_in_schema = %s),"
+                        + " count(stats_max_value) FILTER (WHERE path_in_schema = %s)"
+                        + " FROM parquet_metadata(%s)",
+                xmin, xmin, xmax, xmax, ymin, ymin, ymax, ymax, GeoParquetViewManager.toSqlList(files));
+
+        try (Statement st = cx.createStatement();
+                ResultSet rs = st.executeQuery(sql)) {
+            if (!rs.next()) {
+                return null;
+            }
+            long rowGroups = rs.getLong(1);
+            double[] values = new double[4];
+            for (int i = 0; i < 4; i++) {
+                double value = rs.getDouble(2 + 2 * i);
+                // every row group must have statistics for the column, and they must be numbers
+                if (rowGroups == 0 || rs.wasNull() || rs.getLong(3 + 2 * i) != rowGroups) {
+                    return null;
+                }
+                values[i] = value;
+            }
+            CoordinateReferenceSystem crs = featureType.getGeometryDescriptor().getCoordinateReferenceSystem();
+            return new ReferencedEnvelope(new Envelope(values[0], values[1], values[2], values[3]), crs);
+        }
+    }
+
+    /** Returns the SQL literal of a column path as reported by {@code parquet_metadata()}, like {@code 'bbox, xmin'} */
+    private static String toSchemaPath(List<String> path) {
+        return "'" + String.join(", ", path).replace("'", "''") + "'";
+    }
+
     /**
      * Computes bounds from a 'bbox' column in the dataset.
      *
@@ -398,9 +489,31 @@ public List<ReferencedEnvelope> getOptimizedBounds(String schema, SimpleFeatureT
      */
     ReferencedEnvelope computeBoundsFromBboxColumn(SimpleFeatureType featureType, Connection cx)
             throws SQLException, IOException {
+        String column = featureType.getGeometryDescriptor().getLocalName();
+        BboxCovering covering = getBboxColumnCovering(featureType, column)
+                .orElseThrow(() -> new IOException("No bbox column found in " + featureType.getTypeName()));
+        return computeBoundsFromBboxColumn(featureType, covering, cx);
+    }
+
+    /**
+     * Computes bounds from the bounding box columns in the dataset, using SQL aggregate functions on them.
+     *
+     * @param featureType The feature type containing the bounding box columns
+     * @param covering The bounding box columns
+     * @param cx Database connection to use for querying
+     * @return The computed bounds as a ReferencedEnvelope
+     * @throws SQLException If there's an error executing SQL
+     * @throws IOException If there's an error accessing the data
+     */
+    ReferencedEnvelope computeBoundsFromBboxColumn(SimpleFeatureType featureType, BboxCovering covering, Connection cx)
+            throws SQLException, IOException {
 
         String sql = format(
-                "SELECT ST_AsWKB(ST_MakeEnvelope(MIN(bbox.xmin), MIN(bbox.ymin), MAX(bbox.xmax), MAX(bbox.ymax))::GEOMETRY)::BLOB FROM %s",
+                "SELECT ST_AsWKB(ST_MakeEnvelope(MIN(%s), MIN(%s), MAX(%s), MAX(%s))::GEOMETRY)::BLOB FROM %s",
+                encodeColumnPath(covering.getXmin()),
+                encodeColumnPath(covering.getYmin()),
+                encodeColumnPath(covering.getXmax()),
+                encodeColumnPath(covering.getYmax()),
                 escapeName(featureType.getTypeName()));
 
         try (PreparedStatement ps = cx.prepareStatement(sql);
@@ -413,6 +526,151 @@ ReferencedEnvelope computeBoundsFromBboxColumn(SimpleFeatureType featureType, Co
         }
     }
 
+    /** Encodes a column path like {@code ["bbox", "xmin"]} as {@code "bbox"."xmin"} */
+    private String encodeColumnPath(List<String> path) {
+        return path.stream().map(this::escapeName).collect(Collectors.joining("."));
+    }
+
+    /**
+     * Gets the bounding box columns of a geometry column.
+     *
+     * <p>These are the columns declared by the GeoParquet 1.1 {@code covering} metadata of the geometry column or, if
+     * there's no such metadata, the fields of a {@code bbox} struct column when the geometry column is the default one.
+     *
+     * @param featureType The feature type
+     * @param column The geometry column name
+     * @return The bounding box columns, or empty if there are none
+     * @throws IOException If there is an error retrieving the metadata
+     */
+    public Optional<BboxCovering> getBboxCovering(SimpleFeatureType featureType, String column) throws IOException {
+        GeoparquetDatasetMetadata md = getGeoparquetMetadata(featureType.getTypeName());
+        Optional<BboxCovering> covering = md.getBboxCovering(column);
+        if (covering.isPresent()) {
+            return covering;
+        }
+        return getBboxColumnCovering(featureType, column);
+    }
+
+    /**
+     * Returns the fields of the {@code bbox} struct column as the bounding box columns of the default geometry, for the
+     * datasets without GeoParquet covering metadata.
+     */
+    static Optional<BboxCovering> getBboxColumnCovering(SimpleFeatureType featureType, String column) {
+        GeometryDescriptor geometry = featureType.getGeometryDescriptor();
+        AttributeDescriptor bbox = featureType.getDescriptor("bbox");
+        if (geometry == null
+                || !geometry.getLocalName().equals(column)
+                || bbox == null
+                || !Struct.class.isAssignableFrom(bbox.getType().getBinding())) {
+            return Optional.empty();
+        }
+        BboxCovering covering = new BboxCovering();
+        covering.setXmin(List.of("bbox", "xmin"));
+        covering.setXmax(List.of("bbox", "xmax"));
+        covering.setYmin(List.of("bbox", "ymin"));
+        covering.setYmax(List.of("bbox", "ymax"));
+        return Optional.of(covering);
+    }
+
+    /**
+     * Returns the number of rows of a feature type from the Parquet metadata of its files, without scanning them.
+     *
+     * <p>The row counts are cached by file until the dialect is initialized again.
+     *
+     * @param typeName The feature type name
+     * @return The number of rows in the files of the feature type
+     * @throws IOException If there is an error reading the metadata
+     */
+    public long getRowCount(String typeName) throws IOException {
+        return getRowCount(typeName, viewManager.getViewFiles(typeName));
+    }
+
+    /**
+     * Tells whether the features matching a filter can be counted, or their bounds computed, from the Parquet metadata
+     * of the files whose Hive partition values match the filter, that is, whether the filter only depends on the
+     * partition columns.
+     *
+     * @param typeName The feature type name
+     * @param filter The filter
+     * @return true if the filter is {@link Filter#INCLUDE} or only references partition columns
+     */
+    public boolean isPartitionFilter(String typeName, Filter filter) {
+        return filter == null
+                || filter == Filter.INCLUDE
+                || viewManager.getPartitionFilter(typeName, filter).equals(filter);
+    }
+
+    /**
+     * Returns the number of features matching a {@linkplain #isPartitionFilter partition filter}, from the Parquet
+     * metadata of the files whose partition values match it, without opening the other files.
+     *
+     * @param featureType The feature type
+     * @param filter The partition filter
+     * @return The number of rows in the matching files
+     * @throws IOException If there is an error reading the metadata
+     */
+    public long getRowCount(SimpleFeatureType featureType, Filter filter) throws IOException {
+        return getRowCount(featureType.getTypeName(), viewManager.getFiles(featureType, filter));
+    }
+
+    private long getRowCount(String typeName, List<String> files) throws IOException {
+        Map<String, Long> rowCounts = viewManager.getRowCounts(typeName);
+        List<String> missing =
+                files.stream().filter(f -> !rowCounts.containsKey(f)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            String sql = format(
+                    "SELECT file_name, SUM(row_group_num_rows) FROM (SELECT DISTINCT file_name, row_group_id,"
+                            + " row_group_num_rows FROM parquet_metadata(%s)) GROUP BY file_name",
+                    GeoParquetViewManager.toSqlList(missing));
+            try (Connection cx = viewManager.getConnection();
+                    Statement st = cx.createStatement();
+                    ResultSet rs = st.executeQuery(sql)) {
+                while (rs.next()) {
+                    rowCounts.put(rs.getString(1), rs.getLong(2));
+                }
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+            // files without row groups are not reported
+            missing.forEach(f -> rowCounts.putIfAbsent(f, 0L));
+        }
+        return files.stream().mapToLong(rowCounts::get).sum();
+    }
+
+    /**
+     * Returns the bounds of the features matching a {@linkplain #isPartitionFilter partition filter}, from the
+     * GeoParquet metadata or the bounding box column statistics of the files whose partition values match it.
+     *
+     * @param featureType The feature type
+     * @param filter The partition filter
+     * @return The bounds, or null if they can't be computed from the metadata
+     * @throws IOException If there is an error reading the metadata
+     */
+    public ReferencedEnvelope getPartitionBounds(SimpleFeatureType featureType, Filter filter) throws IOException {
+        GeometryDescriptor geometry = featureType.getGeometryDescriptor();
+        if (geometry == null) {
+            return null;
+        }
+        List<String> files = viewManager.getFiles(featureType, filter);
+        if (files.isEmpty()) {
+            return new ReferencedEnvelope(geometry.getCoordinateReferenceSystem());
+        }
+        Optional<GeoparquetDatasetMetadata> md =
+                getGeoparquetMetadata(featureType.getTypeName()).subset(files);
+        if (md.isPresent() && md.get().hasBounds()) {
+            return md.get().getBounds();
+        }
+        Optional<BboxCovering> covering = getBboxCovering(featureType, geometry.getLocalName());
+        if (covering.isEmpty()) {
+            return null;
+        }
+        try (Connection cx = viewManager.getConnection()) {
+            return computeBoundsFromStatistics(featureType, covering.get(), files, cx);
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
     /**
      * Gets the SRID (Spatial Reference ID) for a geometry column.
      *
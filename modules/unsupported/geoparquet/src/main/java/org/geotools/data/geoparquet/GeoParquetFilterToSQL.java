@@ -16,10 +16,26 @@
  */
 package org.geotools.data.geoparquet;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
 import org.geotools.api.filter.spatial.BBOX;
+import org.geotools.api.filter.spatial.Beyond;
+import org.geotools.api.filter.spatial.BinarySpatialOperator;
+import org.geotools.api.filter.spatial.DWithin;
+import org.geotools.api.filter.spatial.Disjoint;
 import org.geotools.api.geometry.BoundingBox;
 import org.geotools.data.duckdb.DuckDBFilterToSQL;
+import org.geotools.jackson.datatype.geoparquet.BboxCovering;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
 
 /**
  * Filter SQL encoder for GeoParquet queries.
@@ -33,13 +49,38 @@
  * <ul>
  *   <li>Optimized BBOX filter translation that uses GeoParquet's bounding box information
  *   <li>Support for the standard set of spatial operations adapted to GeoParquet's spatial model
+ *   <li>Spatial operations implying an intersection are and'ed with a predicate on the bounding box columns
  * </ul>
  *
+ * <p>The bounding box columns are the ones declared by the GeoParquet 1.1 {@code covering} metadata of the geometry
+ * column, or the fields of a {@code bbox} struct column when there is no such metadata, as in OvertureMaps datasets.
+ * Being plain comparisons against constants, predicates on those columns are pushed down by DuckDB to the Parquet
+ * reader, which skips the row groups whose min/max statistics do not match without reading them. When no bounding box
+ * columns are available the spatial operations are encoded with the DuckDB spatial functions only.
+ *
  * <p>The implementation specifically targets the column structure and query patterns that perform well with GeoParquet
  * datasets, considering both the GeoParquet specification and DuckDB's spatial capabilities.
  */
 public class GeoParquetFilterToSQL extends DuckDBFilterToSQL {
 
+    private static final Logger LOGGER = Logging.getLogger(GeoParquetFilterToSQL.class);
+
+    private final GeoParquetDialect dialect;
+
+    /** Creates an encoder assuming a {@code bbox} struct column holds the bounding boxes */
+    public GeoParquetFilterToSQL() {
+        this(null);
+    }
+
+    /**
+     * Creates an encoder looking up the bounding box columns in the GeoParquet metadata of the encoded feature type.
+     *
+     * @param dialect The dialect providing the GeoParquet metadata, or null to assume a {@code bbox} struct column
+     */
+    public GeoParquetFilterToSQL(GeoParquetDialect dialect) {
+        this.dialect = dialect;
+    }
+
     /**
      * Returns a string representation of this filter encoder.
      *
@@ -53,12 +94,13 @@ public String toString() {
     /**
      * Converts a bounding box filter to optimized SQL using bbox components.
      *
-     * <p>This method optimizes bounding box queries by using the 'bbox' column components common in GeoParquet
-     * datasets. Instead of using expensive spatial functions, it uses simple comparisons on the xmin, xmax, ymin, ymax
+     * <p>This method optimizes bounding box queries by using the bounding box columns common in GeoParquet datasets.
+     * Instead of using expensive spatial functions, it uses simple comparisons on the xmin, xmax, ymin, ymax
      * components, which can be much more efficient.
      *
-     * <p>The generated SQL follows the pattern: {@code bbox.xmin <= maxX and bbox.xmax >= minX and bbox.ymin <= maxY
-     * and bbox.ymax >= minY} which implements a proper spatial intersection test using only simple comparisons.
+     * <p>The generated SQL follows the pattern: {@code "bbox"."xmin" <= maxX AND "bbox"."xmax" >= minX AND
+     * "bbox"."ymin" <= maxY AND "bbox"."ymax" >= minY} which implements a proper spatial intersection test using only
+     * simple comparisons. Without bounding box columns the filter is encoded as an {@code ST_Intersects} call.
      *
      * @param filter The BBOX filter to encode
      * @param leftExp The left expression (typically the geometry column)
@@ -67,16 +109,109 @@ public String toString() {
      * @return The extraData parameter, potentially modified
      */
     @Override
-    // TODO: apply a bbox and'ed filter to other spatial ops where appropriate to speed them up
     protected Object visitBBOX(BBOX filter, Expression leftExp, Expression rightExpt, Object extraData) {
         BoundingBox bounds = filter.getBounds();
-        double xmin = bounds.getMinX();
-        double xmax = bounds.getMaxX();
-        double ymin = bounds.getMinY();
-        double ymax = bounds.getMaxY();
+        Envelope envelope = new Envelope(bounds.getMinX(), bounds.getMaxX(), bounds.getMinY(), bounds.getMaxY());
+        Optional<BboxCovering> covering = getBboxCovering(leftExp, rightExpt);
+        if (covering.isEmpty()) {
+            return super.visitBBOX(filter, leftExp, rightExpt, extraData);
+        }
+        write(encodeCoveringPredicate(covering.get(), envelope));
+        return extraData;
+    }
 
-        // bbox intersection predicate
-        write("bbox.xmin <= %f and bbox.xmax >= %f and bbox.ymin <= %f and bbox.ymax >= %f", xmax, xmin, ymax, ymin);
+    /**
+     * Encodes the spatial operations implying an intersection with a literal geometry as the DuckDB spatial function
+     * and'ed with a predicate on the bounding box columns, for example {@code ("bbox"."xmin" <= 10.0 AND ... AND
+     * ST_Intersects("geometry", ST_GeomFromText('POLYGON(...)')))}, so that the row groups out of the geometry bounds
+     * are skipped before evaluating the spatial function. The bounds are expanded by the distance for {@link DWithin},
+     * while {@link Disjoint} and {@link Beyond} are encoded as is.
+     */
+    @Override
+    protected Object visitBinarySpatialOperator(
+            BinarySpatialOperator filter, Expression leftExp, Expression rightExpt, Object extraData) {
+
+        if (filter instanceof BBOX || filter instanceof Disjoint || filter instanceof Beyond) {
+            return super.visitBinarySpatialOperator(filter, leftExp, rightExpt, extraData);
+        }
+        Envelope envelope = getLiteralEnvelope(leftExp, rightExpt);
+        Optional<BboxCovering> covering = getBboxCovering(leftExp, rightExpt);
+        if (envelope == null || covering.isEmpty()) {
+            return super.visitBinarySpatialOperator(filter, leftExp, rightExpt, extraData);
+        }
+        if (filter instanceof DWithin) {
+            envelope.expandBy(getDistanceInNativeUnits((DWithin) filter));
+        }
+        write("(%s AND ", encodeCoveringPredicate(covering.get(), envelope));
+        super.visitBinarySpatialOperator(filter, leftExp, rightExpt, extraData);
+        write(")");
         return extraData;
     }
+
+    /**
+     * Encodes the intersection of the bounding box columns with an envelope. The coordinates are written in full, as
+     * rounding them could exclude the features touching the envelope.
+     */
+    String encodeCoveringPredicate(BboxCovering covering, Envelope envelope) {
+        return String.format(
+                "%s <= %s AND %s >= %s AND %s <= %s AND %s >= %s",
+                encodeColumnPath(covering.getXmin()),
+                envelope.getMaxX(),
+                encodeColumnPath(covering.getXmax()),
+                envelope.getMinX(),
+                encodeColumnPath(covering.getYmin()),
+                envelope.getMaxY(),
+                encodeColumnPath(covering.getYmax()),
+                envelope.getMinY());
+    }
+
+    /** Encodes a column path like {@code ["bbox", "xmin"]} as {@code "bbox"."xmin"} */
+    private String encodeColumnPath(List<String> path) {
+        return path.stream().map(this::escapeName).collect(Collectors.joining("."));
+    }
+
+    /**
+     * Gets the bounding box columns of the geometry property compared by a spatial filter.
+     *
+     * @return The bbox covering, or empty if the geometry column has none or the filter is not on a property
+     */
+    private Optional<BboxCovering> getBboxCovering(Expression leftExp, Expression rightExpt) {
+        PropertyName property = leftExp instanceof PropertyName
+                ? (PropertyName) leftExp
+                : rightExpt instanceof PropertyName ? (PropertyName) rightExpt : null;
+        if (property == null || featureType == null) {
+            return Optional.empty();
+        }
+        String column = property.getPropertyName();
+        if (column == null || column.isEmpty()) {
+            if (featureType.getGeometryDescriptor() == null) {
+                return Optional.empty();
+            }
+            column = featureType.getGeometryDescriptor().getLocalName();
+        }
+        if (dialect == null) {
+            return GeoParquetDialect.getBboxColumnCovering(featureType, column);
+        }
+        try {
+            return dialect.getBboxCovering(featureType, column);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Could not look up the bbox covering, encoding the spatial filter as is", e);
+            return Optional.empty();
+        }
+    }
+
+    /** Gets the envelope of the literal geometry compared by a spatial filter, or null if there's none */
+    private Envelope getLiteralEnvelope(Expression leftExp, Expression rightExpt) {
+        Literal literal = rightExpt instanceof Literal
+                ? (Literal) rightExpt
+                : leftExp instanceof Literal ? (Literal) leftExp : null;
+        if (literal == null) {
+            return null;
+        }
+        Geometry geometry = literal.evaluate(null, Geometry.class);
+        if (geometry == null || geometry.isEmpty()) {
+            return null;
+        }
+        return new Envelope(geometry.getEnvelopeInternal());
+    }
 }
@@ -19,6 +19,7 @@
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.logging.Level.CONFIG;
+import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.INFO;
 
 import java.io.IOException;
@@ -26,8 +27,13 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -37,6 +43,12 @@
 import java.util.stream.Collectors;
 import org.geotools.api.data.Transaction;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.And;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.jdbc.JDBCDataStore;
 import org.geotools.util.logging.Logging;
 
@@ -71,6 +83,8 @@ class GeoParquetViewManager {
 
     private static final Logger LOGGER = Logging.getLogger(GeoParquetViewManager.class);
 
+    private static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
     private final JDBCDataStore dataStore;
 
     private GeoParquetConfig config;
@@ -102,6 +116,7 @@ private class Partition {
         private final String uri;
         private final String viewName;
         private final List<String> files;
+        private final Map<String, Long> rowCounts = new ConcurrentHashMap<>();
         private SimpleFeatureType viewType;
 
         /** Creates a new partition entry. */
@@ -138,6 +153,16 @@ public List<String> getFiles() {
             return files;
         }
 
+        /**
+         * Returns the cached row counts of the files of this partition, by file.
+         *
+         * <p>The cache lives as long as the partition, so it's discarded together with the views when the manager is
+         * initialized again.
+         */
+        public Map<String, Long> getRowCounts() {
+            return rowCounts;
+        }
+
         /**
          * Gets the enhanced feature type for this partition with caching.
          *
@@ -480,6 +505,123 @@ public String getVieUri(String viewName) {
                 () -> String.format("No target URL exists for view %s", viewName));
     }
 
+    /**
+     * Gets the files of a view.
+     *
+     * @param viewName The name of the view
+     * @return The files of the view
+     * @throws NullPointerException if the view name is null or not found
+     */
+    public List<String> getViewFiles(String viewName) {
+        return getPartition(viewName).getFiles();
+    }
+
+    /**
+     * Gets the files of a view whose Hive partition values match a filter, without accessing the files.
+     *
+     * <p>Only the {@linkplain #getPartitionFilter(String, Filter) parts of the filter on the partition columns} are
+     * evaluated, against the partition values found in the file paths, so the returned files are a superset of the
+     * files holding the matching features.
+     *
+     * @param schema The feature type of the view, giving the types of the partition columns
+     * @param filter The query filter
+     * @return The files of the view which may hold features matching the filter
+     * @throws NullPointerException if the view is not found
+     */
+    public List<String> getFiles(SimpleFeatureType schema, Filter filter) {
+        Partition partition = getPartition(schema.getTypeName());
+        Filter partitionFilter = getPartitionFilter(schema.getTypeName(), filter);
+        if (partitionFilter == Filter.INCLUDE) {
+            return partition.getFiles();
+        }
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(schema);
+        List<String> files = new ArrayList<>();
+        for (String file : partition.getFiles()) {
+            HivePartitionResolver.getPartitionValues(file).forEach((key, value) -> {
+                if (schema.getDescriptor(key) != null) {
+                    builder.set(key, value);
+                }
+            });
+            if (partitionFilter.evaluate(builder.buildFeature(null))) {
+                files.add(file);
+            }
+        }
+        LOGGER.log(
+                FINE,
+                () -> format(
+                        "Pruned %s from %,d to %,d files with %s",
+                        schema.getTypeName(), partition.getFiles().size(), files.size(), partitionFilter));
+        return files;
+    }
+
+    /**
+     * Gets the part of a filter which only depends on the Hive partition columns of a view.
+     *
+     * <p>That's the whole filter if it only references partition columns or, for a conjunction, the conjunction of its
+     * members which do. Features matching the filter are always in the files matching the returned filter.
+     *
+     * @param viewName The name of the view
+     * @param filter The query filter
+     * @return The partition filter, {@link Filter#INCLUDE} if no part of the filter can be evaluated on the partitions
+     */
+    public Filter getPartitionFilter(String viewName, Filter filter) {
+        Set<String> columns = new HashSet<>();
+        for (String file : getPartition(viewName).getFiles()) {
+            columns.addAll(HivePartitionResolver.getPartitionValues(file).keySet());
+        }
+        return getPartitionFilter(filter, columns);
+    }
+
+    static Filter getPartitionFilter(Filter filter, Set<String> columns) {
+        if (filter == null || filter == Filter.INCLUDE || columns.isEmpty()) {
+            return Filter.INCLUDE;
+        }
+        String[] names = DataUtilities.attributeNames(filter);
+        if (names.length > 0 && columns.containsAll(Arrays.asList(names))) {
+            return filter;
+        }
+        if (filter instanceof And) {
+            List<Filter> children = new ArrayList<>();
+            for (Filter child : ((And) filter).getChildren()) {
+                Filter partitionFilter = getPartitionFilter(child, columns);
+                if (partitionFilter != Filter.INCLUDE) {
+                    children.add(partitionFilter);
+                }
+            }
+            if (children.size() == 1) {
+                return children.get(0);
+            } else if (children.size() > 1) {
+                return FF.and(children);
+            }
+        }
+        return Filter.INCLUDE;
+    }
+
+    /**
+     * Gets the cached row counts of the files of a view, by file. The cache is discarded when the manager is
+     * initialized again, together with the views.
+     *
+     * @param viewName The name of the view
+     * @return The mutable row counts cache of the view
+     * @throws NullPointerException if the view is not found
+     */
+    public Map<String, Long> getRowCounts(String viewName) {
+        return getPartition(viewName).getRowCounts();
+    }
+
+    private Partition getPartition(String viewName) {
+        return requireNonNull(
+                partitionsByViewName.get(requireNonNull(viewName, "viewName")),
+                () -> String.format("No partition exists for view %s", viewName));
+    }
+
+    /** Encodes a list of files as a SQL list literal */
+    static String toSqlList(List<String> files) {
+        return files.stream()
+                .map(file -> "'" + file.replace("'", "''") + "'")
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
     /**
      * Discovers partitions in the target URI.
      *
@@ -27,6 +27,8 @@
 import static org.locationtech.jts.geom.Geometry.TYPENAME_POLYGON;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +39,8 @@
 import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.jackson.datatype.geoparquet.BboxCovering;
+import org.geotools.jackson.datatype.geoparquet.Covering;
 import org.geotools.jackson.datatype.geoparquet.GeoParquetMetadata;
 import org.geotools.jackson.datatype.geoparquet.GeoParquetModule;
 import org.geotools.jackson.datatype.geoparquet.Geometry;
@@ -345,6 +349,49 @@ private CoordinateReferenceSystem defaultCrs() {
         }
     }
 
+    /**
+     * Gets the bbox covering of a geometry column, as declared by the GeoParquet 1.1 {@code covering} metadata.
+     *
+     * <p>The covering maps each bounding box component to the path of a column holding it, usually the fields of a
+     * {@code bbox} struct column. Filtering on those columns allows DuckDB to skip the row groups whose statistics fall
+     * outside of the queried area.
+     *
+     * @param column The geometry column name
+     * @return The bbox covering of the column, or empty if not declared
+     */
+    public Optional<BboxCovering> getBboxCovering(String column) {
+        return getColumn(column).map(Geometry::getCovering).map(Covering::getBbox);
+    }
+
+    /**
+     * Tells whether the metadata of every file declares the bounds of its primary geometry column, the {@code bbox}
+     * being optional in the GeoParquet specification.
+     *
+     * @return true if {@link #getBounds()} covers the whole dataset
+     */
+    public boolean hasBounds() {
+        return !md.isEmpty()
+                && md.values().stream().map(GeoParquetMetadata::bounds).noneMatch(Envelope::isNull);
+    }
+
+    /**
+     * Returns the metadata of some of the files of the dataset.
+     *
+     * @param files The file names
+     * @return The metadata of the files, or empty if some of them have no GeoParquet metadata
+     */
+    public Optional<GeoparquetDatasetMetadata> subset(Collection<String> files) {
+        Map<String, GeoParquetMetadata> subset = new HashMap<>();
+        for (String file : files) {
+            GeoParquetMetadata fileMetadata = md.get(file);
+            if (fileMetadata == null) {
+                return Optional.empty();
+            }
+            subset.put(file, fileMetadata);
+        }
+        return Optional.of(new GeoparquetDatasetMetadata(subset));
+    }
+
     public ReferencedEnvelope getBounds() {
         Stream<Envelope> allFilesBounds = md.values().stream().sequential().map(GeoParquetMetadata::bounds);
         Envelope fullBounds = allFilesBounds.reduce(new Envelope(), (b1, b2) -> {
@@ -27,6 +27,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -406,6 +407,25 @@ static String extractPartitionPath(String fileUri, Integer maxDepth) {
         return String.join("/", partitionParts.subList(0, depth));
     }
 
+    /**
+     * Extracts the Hive partition values from a file URI.
+     *
+     * <p>For example, {@code s3://bucket/data/year=2023/month=01/file.parquet} gives {@code {year=2023, month=01}}.
+     *
+     * @param fileUri The file URI to analyze
+     * @return The partition values by partition column, in path order
+     */
+    public static Map<String, String> getPartitionValues(String fileUri) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String part : fileUri.split("/")) {
+            int separator = part.indexOf('=');
+            if (separator > 0) {
+                values.put(part.substring(0, separator), part.substring(separator + 1));
+            }
+        }
+        return values;
+    }
+
     /**
      * Counts the number of Hive partition components in a file URI.
      *
@@ -18,13 +18,13 @@
 
 import java.io.IOException;
 import org.geotools.api.data.DataAccess;
-import org.geotools.api.data.DataStore;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.filter.Filter;
 import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.geometry.jts.ReferencedEnvelope;
 
 /**
  * A feature source implementation that overrides the schema of its delegate source.
@@ -38,13 +38,16 @@
  * <ul>
  *   <li>Overriding the feature type schema with one that has more specific geometry types
  *   <li>Wrapping feature collections to ensure features report the correct schema
+ *   <li>Counting all the features from the Parquet metadata, without scanning the files
+ *   <li>Counting the features, and computing their bounds, from the metadata of the files whose Hive partition values
+ *       match the query filter, when it only depends on the partition columns
  *   <li>Delegating all other operations to the underlying feature source
  * </ul>
  */
 class OverridingFeatureSource extends ForwardingFeatureSource {
 
     private SimpleFeatureType overridingType;
-    private DataStore dataStore;
+    private GeoparquetDataStore dataStore;
 
     /**
      * Creates a new overriding feature source.
@@ -54,7 +57,7 @@ class OverridingFeatureSource extends ForwardingFeatureSource {
      * @param overridingType The feature type with correct geometry types to use instead of the delegate's schema
      */
     public OverridingFeatureSource(
-            SimpleFeatureSource delegate, DataStore overridingStore, SimpleFeatureType overridingType) {
+            SimpleFeatureSource delegate, GeoparquetDataStore overridingStore, SimpleFeatureType overridingType) {
         super(delegate);
         this.dataStore = overridingStore;
         this.overridingType = overridingType;
@@ -70,6 +73,45 @@ public SimpleFeatureType getSchema() {
         return overridingType;
     }
 
+    /**
+     * Returns the number of features matching the query, taking the number of rows from the Parquet metadata when the
+     * query targets all the features, or all the features of some Hive partitions.
+     */
+    @Override
+    public int getCount(Query query) throws IOException {
+        if (isPartitionQuery(query)) {
+            long count = dataStore.getSQLDialect().getRowCount(overridingType, query.getFilter());
+            return (int) Math.min(count, Integer.MAX_VALUE);
+        }
+        return super.getCount(query);
+    }
+
+    /**
+     * Returns the bounds of the features matching the query, from the metadata of the files whose Hive partition values
+     * match the query filter, when it only depends on the partition columns.
+     */
+    @Override
+    public ReferencedEnvelope getBounds(Query query) throws IOException {
+        Filter filter = query.getFilter();
+        if (filter != null
+                && filter != Filter.INCLUDE
+                && query.getCoordinateSystemReproject() == null
+                && isPartitionQuery(query)) {
+            ReferencedEnvelope bounds = dataStore.getSQLDialect().getPartitionBounds(overridingType, filter);
+            if (bounds != null) {
+                return bounds;
+            }
+        }
+        return super.getBounds(query);
+    }
+
+    private boolean isPartitionQuery(Query query) {
+        return query.isMaxFeaturesUnlimited()
+                && (query.getStartIndex() == null || query.getStartIndex() == 0)
+                && query.getJoins().isEmpty()
+                && dataStore.getSQLDialect().isPartitionFilter(overridingType.getTypeName(), query.getFilter());
+    }
+
     @Override
     public SimpleFeatureCollection getFeatures() throws IOException {
         return new OverridingFeatureCollection(delegate.getFeatures(), overridingType);
@@ -22,6 +22,7 @@
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -59,12 +60,19 @@
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
 import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.NoSuchAuthorityCodeException;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.data.jdbc.FilterToSQL;
 import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.geometry.jts.JTS;
 import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.jackson.datatype.geoparquet.BboxCovering;
 import org.geotools.referencing.CRS;
 import org.geotools.util.logging.Logging;
 import org.junit.After;
@@ -72,6 +80,7 @@
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.MultiLineString;
@@ -85,6 +94,8 @@ public class GeoParquetDataStoreTest {
 
     private static final Logger LOGGER = Logging.getLogger(GeoParquetDataStoreTest.class);
 
+    private static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
     /** Flag to detect Windows OS */
     private static final boolean IS_WINDOWS =
             System.getProperty("os.name").toLowerCase().contains("windows");
@@ -599,4 +610,132 @@ public void testGeoParquetDialectComputeBoundsFromBboxColumn() throws Exception
             assertThat(bounds, equalTo(world));
         }
     }
+
+    @Test
+    public void testGetCountFromMetadata() throws Exception {
+        store = getDataStore(worldgridPartitionedParams);
+        SimpleFeatureSource featureSource = store.getFeatureSource("theme_points_type_point");
+
+        long rowCount = store.getSQLDialect().getRowCount("theme_points_type_point");
+        int scanned = 0;
+        try (SimpleFeatureIterator it = featureSource.getFeatures().features()) {
+            while (it.hasNext()) {
+                it.next();
+                scanned++;
+            }
+        }
+        assertEquals(scanned, rowCount);
+        assertEquals(scanned, featureSource.getCount(Query.ALL));
+
+        // not a full count, goes through the database
+        Query query = new Query("theme_points_type_point");
+        query.setMaxFeatures(10);
+        assertEquals(10, featureSource.getCount(query));
+    }
+
+    @Test
+    public void testGeoParquetDialectComputeBoundsFromStatistics() throws Exception {
+        store = getDataStore(worldgridPartitionedParams);
+        GeoParquetDialect dialect = store.getSQLDialect();
+        final ReferencedEnvelope world = new ReferencedEnvelope(-180, 180, -90, 90, CRS.decode("EPSG:4326", true));
+
+        try (Connection cx = dialect.getConnection()) {
+            SimpleFeatureType schema = store.getSchema("theme_points_type_point");
+            BboxCovering covering = dialect.getBboxCovering(schema, "geometry").orElseThrow();
+            ReferencedEnvelope bounds = dialect.computeBoundsFromStatistics(schema, covering, cx);
+            assertThat(bounds, equalTo(world));
+        }
+    }
+
+    @Test
+    public void testSpatialFiltersOnBboxColumns() throws Exception {
+        store = getDataStore(worldgridPartitionedParams);
+        SimpleFeatureSource featureSource = store.getFeatureSource("theme_points_type_point");
+        SimpleFeatureType schema = featureSource.getSchema();
+
+        Polygon area = JTS.toGeometry(new Envelope(-10.5, 10.5, -5.5, 5.5));
+        Filter intersects = FF.intersects(FF.property("geometry"), FF.literal(area));
+        Filter bbox = FF.bbox(FF.property("geometry"), -10.5, -5.5, 10.5, 5.5, "EPSG:4326");
+
+        FilterToSQL encoder = store.delegate.createFilterToSQL(schema);
+        String sql = encoder.encodeToString(intersects);
+        assertThat(sql, containsString("\"bbox\".\"xmin\" <= 10.5 AND \"bbox\".\"xmax\" >= -10.5"));
+        assertThat(sql, containsString("ST_Intersects("));
+        sql = store.delegate.createFilterToSQL(schema).encodeToString(bbox);
+        assertThat(sql, containsString("\"bbox\".\"ymin\" <= 5.5 AND \"bbox\".\"ymax\" >= -5.5"));
+
+        // 21 x 11 points on the integer grid
+        assertEquals(231, featureSource.getCount(new Query(schema.getTypeName(), intersects)));
+        assertEquals(231, featureSource.getCount(new Query(schema.getTypeName(), bbox)));
+
+        // a distance filter expands the bounding box predicate
+        Filter dwithin = FF.dwithin(FF.property("geometry"), FF.literal(area.getCentroid()), 1, "m");
+        sql = store.delegate.createFilterToSQL(schema).encodeToString(dwithin);
+        assertThat(sql, containsString("ST_DWithin("));
+        assertThat(sql, containsString("\"bbox\".\"xmin\" <="));
+
+        // disjoint can't use the bounding boxes
+        sql = store.delegate
+                .createFilterToSQL(schema)
+                .encodeToString(FF.disjoint(FF.property("geometry"), FF.literal(area)));
+        assertThat(sql, not(containsString("\"bbox\"")));
+    }
+
+    @Test
+    public void testSpatialFilterWithoutBboxColumns() throws Exception {
+        store = getDataStore(worldgridPartitionedParams);
+        SimpleFeatureType schema = store.getSchema("theme_points_type_point");
+        SimpleFeatureTypeBuilder builder = new SimpleFeatureTypeBuilder();
+        builder.init(schema);
+        builder.remove("bbox");
+        SimpleFeatureType noBbox = builder.buildFeatureType();
+
+        GeoParquetFilterToSQL encoder = new GeoParquetFilterToSQL();
+        encoder.setFeatureType(noBbox);
+        String sql = encoder.encodeToString(FF.bbox(FF.property("geometry"), -10, -5, 10, 5, "EPSG:4326"));
+        assertThat(sql, not(containsString("bbox")));
+        assertThat(sql, containsString("ST_Intersects("));
+    }
+
+    @Test
+    public void testHivePartitionPruning() throws Exception {
+        worldgridPartitionedParams.put(GeoParquetDataStoreFactory.MAX_HIVE_DEPTH.key, 0);
+        store = getDataStore(worldgridPartitionedParams);
+        String typeName = "worldgrid_partitioned";
+        SimpleFeatureSource featureSource = store.getFeatureSource(typeName);
+        SimpleFeatureType schema = featureSource.getSchema();
+        GeoParquetDialect dialect = store.getSQLDialect();
+
+        Filter points = FF.and(
+                FF.equals(FF.property("theme"), FF.literal("points")),
+                FF.equals(FF.property("type"), FF.literal("point")));
+        assertTrue(dialect.isPartitionFilter(typeName, points));
+        int scanned = 0;
+        try (SimpleFeatureIterator it = featureSource.getFeatures(points).features()) {
+            while (it.hasNext()) {
+                it.next();
+                scanned++;
+            }
+        }
+        assertTrue(scanned > 0);
+        // only the file of the theme=points/type=point partition is counted
+        assertEquals(scanned, dialect.getRowCount(schema, points));
+        assertEquals(scanned, featureSource.getCount(new Query(typeName, points)));
+        final ReferencedEnvelope world = new ReferencedEnvelope(-180, 180, -90, 90, CRS.decode("EPSG:4326", true));
+        assertThat(featureSource.getBounds(new Query(typeName, points)), equalTo(world));
+
+        Filter none = FF.equals(FF.property("theme"), FF.literal("none"));
+        assertEquals(0, featureSource.getCount(new Query(typeName, none)));
+        assertTrue(featureSource.getBounds(new Query(typeName, none)).isEmpty());
+
+        // a filter on other columns can't be answered from the partitions alone
+        Filter mixed = FF.and(points, FF.greater(FF.property("confidence"), FF.literal(0.5)));
+        assertFalse(dialect.isPartitionFilter(typeName, mixed));
+        assertEquals(points, GeoParquetViewManager.getPartitionFilter(mixed, Set.of("theme", "type")));
+        assertEquals(
+                Filter.INCLUDE,
+                GeoParquetViewManager.getPartitionFilter(
+                        FF.or(points, FF.greater(FF.property("confidence"), FF.literal(0.5))),
+                        Set.of("theme", "type")));
+    }
 }
@@ -121,6 +121,14 @@ private void testToNCName(String input, String expected) {
                 actual);
     }
 
+    @Test
+    public void testGetPartitionValues() {
+        assertEquals(
+                Map.of("year", "2023", "month", "01"),
+                HivePartitionResolver.getPartitionValues("s3://mybucket/data/year=2023/month=01/file1.parquet"));
+        assertEquals(Map.of(), HivePartitionResolver.getPartitionValues("/data/file1.parquet"));
+    }
+
     @Test
     public void testExtractPartitionPath() {
         String fileUri = "s3://mybucket/data/year=2023/month=01/day=01/file1.parquet";
@@ -20,6 +20,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,8 @@
 import org.geotools.referencing.CRS;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
@@ -43,6 +46,7 @@
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
 
 /** Parse GML geometries from a StAX XMLStreamReader. */
 public class XmlStreamGeometryReader {
@@ -62,6 +66,12 @@ public class XmlStreamGeometryReader {
 
     private String gmlNamespace;
 
+    /** The CRS decoded so far, by srsName, to avoid a lookup for every geometry of a response */
+    private final Map<String, CoordinateReferenceSystem> crsCache = new HashMap<>();
+
+    /** Reusable buffer for the ordinates of a posList */
+    private double[] ordinates = new double[64];
+
     /**
      * Create a new instance of the XML Stream Geometry Reader.
      *
@@ -647,7 +657,7 @@ private LinearRing parseLinearRing(final int dimension, CoordinateReferenceSyste
         reader.require(START_ELEMENT, this.gmlNamespace, GML.LinearRing);
 
         crs = crs(crs);
-        Coordinate[] lineCoords = parseLineStringInternal(dimension, crs);
+        CoordinateSequence lineCoords = parseLineStringInternal(dimension, crs, geomFac);
 
         reader.require(END_ELEMENT, this.gmlNamespace, GML.LinearRing);
 
@@ -674,7 +684,7 @@ private LineString parseLineString(int dimension, CoordinateReferenceSystem crs,
         reader.require(START_ELEMENT, this.gmlNamespace, lineStringElement);
 
         crs = crs(crs);
-        Coordinate[] coordinates = parseLineStringInternal(dimension, crs);
+        CoordinateSequence coordinates = parseLineStringInternal(dimension, crs, geomFac);
 
         reader.require(END_ELEMENT, this.gmlNamespace, lineStringElement);
 
@@ -683,13 +693,14 @@ private LineString parseLineString(int dimension, CoordinateReferenceSystem crs,
         return geom;
     }
 
-    private Coordinate[] parseLineStringInternal(int dimension, CoordinateReferenceSystem crs)
+    private CoordinateSequence parseLineStringInternal(
+            int dimension, CoordinateReferenceSystem crs, GeometryFactory factory)
             throws XMLStreamException, IOException {
 
         final String lineElementName = reader.getLocalName();
 
         reader.nextTag();
-        Coordinate[] lineCoords;
+        CoordinateSequence lineCoords;
 
         final String coordsName = reader.getLocalName();
         String tagName = reader.getLocalName();
@@ -705,13 +716,13 @@ private Coordinate[] parseLineStringInternal(int dimension, CoordinateReferenceS
                 eventType = reader.getEventType();
             } while (eventType == START_ELEMENT && GML.pos.equals(tagName));
 
-            lineCoords = coords.toArray(new Coordinate[0]);
+            lineCoords = factory.getCoordinateSequenceFactory().create(coords.toArray(new Coordinate[0]));
 
         } else if (GML.posList.equals(coordsName)) {
-            lineCoords = parseCoordList(dimension, crs);
+            lineCoords = parsePosList(dimension, crs, factory);
             reader.nextTag();
         } else if (GML.coordinates.equals(coordsName)) {
-            lineCoords = parseCoordinates(dimension, crs);
+            lineCoords = factory.getCoordinateSequenceFactory().create(parseCoordinates(dimension, crs));
             reader.nextTag();
         } else if (GML.coord.equals(coordsName)) {
             Coordinate point;
@@ -725,7 +736,7 @@ private Coordinate[] parseLineStringInternal(int dimension, CoordinateReferenceS
                 eventType = reader.getEventType();
             } while (eventType == START_ELEMENT && GML.coord.equals(tagName));
 
-            lineCoords = coords.toArray(new Coordinate[0]);
+            lineCoords = factory.getCoordinateSequenceFactory().create(coords.toArray(new Coordinate[0]));
         } else {
             throw new IllegalStateException("Expected posList or pos inside LinearRing: " + tagName);
         }
@@ -779,12 +790,11 @@ private LineString parseArc(int dimension, CoordinateReferenceSystem crs)
 
         crs = crs(crs);
 
-        Coordinate[] coordinates = parseLineStringInternal(dimension, crs);
+        CoordinateSequence coordinates = parseLineStringInternal(dimension, crs, curvedGeometryFactory);
 
         reader.require(END_ELEMENT, this.gmlNamespace, GML.Arc);
 
-        LineString geom = curvedGeometryFactory.createCircularString(
-                curvedGeometryFactory.getCoordinateSequenceFactory().create(coordinates));
+        LineString geom = curvedGeometryFactory.createCircularString(coordinates);
         geom.setUserData(crs);
         return geom;
     }
@@ -852,13 +862,19 @@ private CoordinateReferenceSystem crs(CoordinateReferenceSystem defaultValue)
         if (srsName == null) {
             return defaultValue;
         }
-        // boolean forceXY = false;
-        // forceXY=true breaks axis flipping handling
-        if (srsName.startsWith("http://") && srsName.indexOf('#') != -1) {
-            // forceXY = true;
-            srsName = "EPSG:" + srsName.substring(1 + srsName.lastIndexOf('#'));
+        CoordinateReferenceSystem crs = crsCache.get(srsName);
+        if (crs == null) {
+            String code = srsName;
+            // boolean forceXY = false;
+            // forceXY=true breaks axis flipping handling
+            if (code.startsWith("http://") && code.indexOf('#') != -1) {
+                // forceXY = true;
+                code = "EPSG:" + code.substring(1 + code.lastIndexOf('#'));
+            }
+            crs = CRS.decode(code);
+            crsCache.put(srsName, crs);
         }
-        return CRS.decode(srsName);
+        return crs;
     }
 
     private int crsDimension(final int defaultValue) {
@@ -877,6 +893,101 @@ private Coordinate[] parseCoordList(int dimension, CoordinateReferenceSystem crs
         return toCoordList(rawTextValue, dimension, crs);
     }
 
+    /**
+     * Parses a posList straight into a coordinate sequence built by the factory, without going through
+     * {@link Coordinate} objects unless the factory needs them.
+     */
+    private CoordinateSequence parsePosList(int dimension, CoordinateReferenceSystem crs, GeometryFactory factory)
+            throws XMLStreamException {
+        // we might be on a posList tag with srsDimension defined
+        dimension = crsDimension(dimension);
+        final int ordinatesLength = parseOrdinates(reader.getElementText());
+        if (ordinatesLength % dimension != 0) {
+            throw new IllegalArgumentException(
+                    "Number of ordinates (" + ordinatesLength + ") does not match crs dimension: " + dimension);
+        }
+        final boolean invertXY = this.checkInvertAxisNeededCache(crs);
+        final int nCoords = ordinatesLength / dimension;
+        final CoordinateSequenceFactory csFactory = factory.getCoordinateSequenceFactory();
+        if (csFactory instanceof CoordinateArraySequenceFactory) {
+            // the sequence would be built out of coordinates anyways
+            return csFactory.create(toCoordinates(ordinatesLength, dimension, invertXY));
+        }
+        final CoordinateSequence cs = csFactory.create(nCoords, dimension > 2 ? 3 : 2);
+        final int xIdx = invertXY ? 1 : 0;
+        final int yIdx = invertXY ? 0 : 1;
+        for (int i = 0, j = 0; i < nCoords; i++, j += dimension) {
+            cs.setOrdinate(i, CoordinateSequence.X, ordinates[j + xIdx]);
+            cs.setOrdinate(i, CoordinateSequence.Y, ordinates[j + yIdx]);
+            if (dimension > 2) {
+                cs.setOrdinate(i, CoordinateSequence.Z, ordinates[j + 2]);
+            }
+        }
+        return cs;
+    }
+
+    /**
+     * Parses the whitespace separated ordinates in the given text into the {@link #ordinates} buffer, without regular
+     * expressions or intermediate arrays of strings.
+     *
+     * @return the number of ordinates parsed
+     */
+    private int parseOrdinates(String text) {
+        final int length = text.length();
+        int count = 0;
+        int i = 0;
+        while (true) {
+            while (i < length && isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                return count;
+            }
+            int start = i;
+            while (i < length && !isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (count == ordinates.length) {
+                ordinates = Arrays.copyOf(ordinates, count * 2);
+            }
+            ordinates[count++] = Double.parseDouble(text.substring(start, i));
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /** Builds the coordinates out of the first ordinates in the {@link #ordinates} buffer */
+    private Coordinate[] toCoordinates(final int ordinatesLength, final int dimension, final boolean invertXY) {
+        final int nCoords = ordinatesLength / dimension;
+        Coordinate[] coords = new Coordinate[nCoords];
+        Coordinate coord;
+        int currCoordIdx = 0;
+        double x, y, z;
+        for (int i = 0; i < ordinatesLength; i += dimension) {
+            x = ordinates[i];
+            y = ordinates[i + 1];
+            if (dimension > 2) {
+                z = ordinates[i + 2];
+                if (invertXY) {
+                    coord = new Coordinate(y, x, z);
+                } else {
+                    coord = new Coordinate(x, y, z);
+                }
+            } else {
+                if (invertXY) {
+                    coord = new Coordinate(y, x);
+                } else {
+                    coord = new Coordinate(x, y);
+                }
+            }
+            coords[currCoordIdx] = coord;
+            currCoordIdx++;
+        }
+        return coords;
+    }
+
     private Coordinate[] parseCoordinates(int dimension, CoordinateReferenceSystem crs)
             throws XMLStreamException, IOException {
         reader.require(START_ELEMENT, this.gmlNamespace, GML.coordinates);
@@ -918,42 +1029,12 @@ private boolean checkInvertAxisNeededCache(final CoordinateReferenceSystem crs)
     }
 
     private Coordinate[] toCoordList(String rawTextValue, final int dimension, CoordinateReferenceSystem crs) {
-        rawTextValue = rawTextValue.trim();
-        rawTextValue = rawTextValue.replaceAll("\n", " ");
-        rawTextValue = rawTextValue.replaceAll("\r", " ");
-        String[] split = rawTextValue.trim().split(" +");
-        final int ordinatesLength = split.length;
+        final int ordinatesLength = parseOrdinates(rawTextValue);
         if (ordinatesLength % dimension != 0) {
             throw new IllegalArgumentException(
                     "Number of ordinates (" + ordinatesLength + ") does not match crs dimension: " + dimension);
         }
-        boolean invertXY = this.checkInvertAxisNeededCache(crs);
-        final int nCoords = ordinatesLength / dimension;
-        Coordinate[] coords = new Coordinate[nCoords];
-        Coordinate coord;
-        int currCoordIdx = 0;
-        double x, y, z;
-        for (int i = 0; i < ordinatesLength; i += dimension) {
-            x = Double.parseDouble(split[i]);
-            y = Double.parseDouble(split[i + 1]);
-            if (dimension > 2) {
-                z = Double.parseDouble(split[i + 2]);
-                if (invertXY) {
-                    coord = new Coordinate(y, x, z);
-                } else {
-                    coord = new Coordinate(x, y, z);
-                }
-            } else {
-                if (invertXY) {
-                    coord = new Coordinate(y, x);
-                } else {
-                    coord = new Coordinate(x, y);
-                }
-            }
-            coords[currCoordIdx] = coord;
-            currCoordIdx++;
-        }
-        return coords;
+        return toCoordinates(ordinatesLength, dimension, this.checkInvertAxisNeededCache(crs));
     }
 
     private Coordinate[] toCoordList(
@@ -29,9 +29,13 @@
 import org.geotools.api.referencing.FactoryException;
 import org.junit.Test;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 public class XmlStreamGeometryReaderTest {
     @Test
@@ -74,4 +78,53 @@ public void testZ() throws XMLStreamException, FactoryException, IOException {
         assertEquals(c.y, 2, 0);
         assertEquals(c.z, 3, 0);
     }
+
+    @Test
+    public void testPosListPacked() throws Exception {
+        XMLInputFactory f = XMLInputFactory.newInstance();
+        f.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        XMLStreamReader r = f.createXMLStreamReader(
+                new StringReader(
+                        "<gml:LineString xmlns:gml=\"http://www.opengis.net/gml\"><gml:posList>\n\t1 2 3.5\n\t4 -5 6\n</gml:posList></gml:LineString>"));
+        XmlStreamGeometryReader geometryReader =
+                new XmlStreamGeometryReader(r, new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+        r.nextTag();
+        LineString line = (LineString) geometryReader.readGeometry();
+        CoordinateSequence cs = line.getCoordinateSequence();
+        assertTrue(cs instanceof PackedCoordinateSequence.Double);
+        assertEquals(2, cs.getDimension());
+        assertEquals(3, cs.size());
+        assertEquals(new Coordinate(1, 2), cs.getCoordinate(0));
+        assertEquals(new Coordinate(3.5, 4), cs.getCoordinate(1));
+        assertEquals(new Coordinate(-5, 6), cs.getCoordinate(2));
+    }
+
+    @Test
+    public void testPosListZ() throws Exception {
+        XMLInputFactory f = XMLInputFactory.newInstance();
+        f.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        XMLStreamReader r = f.createXMLStreamReader(
+                new StringReader(
+                        "<gml:LineString xmlns:gml=\"http://www.opengis.net/gml\" srsDimension=\"3\"><gml:posList>1 2 3 4 5 6</gml:posList></gml:LineString>"));
+        XmlStreamGeometryReader geometryReader =
+                new XmlStreamGeometryReader(r, new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+        r.nextTag();
+        LineString line = (LineString) geometryReader.readGeometry();
+        CoordinateSequence cs = line.getCoordinateSequence();
+        assertEquals(3, cs.getDimension());
+        assertEquals(2, cs.size());
+        assertEquals(6, cs.getZ(1), 0);
+    }
+
+    @Test
+    public void testPosListOddOrdinates() throws Exception {
+        XMLInputFactory f = XMLInputFactory.newInstance();
+        f.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        XMLStreamReader r = f.createXMLStreamReader(
+                new StringReader(
+                        "<gml:LineString xmlns:gml=\"http://www.opengis.net/gml\"><gml:posList>1 2 3</gml:posList></gml:LineString>"));
+        XmlStreamGeometryReader geometryReader = new XmlStreamGeometryReader(r, new GeometryFactory());
+        r.nextTag();
+        assertThrows(IllegalArgumentException.class, geometryReader::readGeometry);
+    }
 }
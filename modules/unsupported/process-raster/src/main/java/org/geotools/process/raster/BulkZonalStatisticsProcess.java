@@ -0,0 +1,173 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.process.raster;
+
+import it.geosolutions.jaiext.range.NoDataContainer;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.metadata.spatial.PixelOrientation;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.coverage.grid.GridCoverage2D;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.geometry.jts.JTS;
+import org.geotools.process.ProcessException;
+import org.geotools.process.factory.DescribeParameter;
+import org.geotools.process.factory.DescribeProcess;
+import org.geotools.process.factory.DescribeResult;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.transform.ConcatenatedTransform;
+import org.geotools.util.SharedThreadPool;
+import org.jaitools.numeric.Range;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A process computing zonal statistics for a large set of polygonal zones in a single sweep over the raster, see
+ * {@link ZonalStatisticsSweep}. Compared to {@link RasterZonalStatistics}, which crops and reads the raster once per
+ * zone, each raster tile is read only once whatever the number of zones, and tiles are processed in parallel.
+ *
+ * <p>The tiles are processed by the {@link SharedThreadPool}.
+ */
+@DescribeProcess(
+        title = "Bulk Raster Zonal Statistics",
+        description =
+                "Computes statistics for the distribution of a certain quantity in a large set of polygonal zones, in a single pass over the raster.")
+public class BulkZonalStatisticsProcess implements RasterProcess {
+
+    @DescribeResult(
+            name = "statistics",
+            description =
+                    "A feature collection with the attributes of the zone layer (prefixed by 'z_') and the statistics fields count,min,max,sum,avg,stddev, plus histogram if requested")
+    public SimpleFeatureCollection execute(
+            @DescribeParameter(name = "data", description = "Input raster to compute statistics for")
+                    GridCoverage2D coverage,
+            @DescribeParameter(
+                            name = "band",
+                            description = "Source band used to compute statistics (default is 0)",
+                            min = 0,
+                            defaultValue = "0")
+                    Integer band,
+            @DescribeParameter(name = "zones", description = "Zone polygon features for which to compute statistics")
+                    SimpleFeatureCollection zones,
+            @DescribeParameter(
+                            name = "bins",
+                            description = "Number of histogram bins, the histogram is not computed if missing",
+                            min = 0)
+                    Integer bins,
+            @DescribeParameter(name = "histogramMin", description = "Inclusive lower bound of the histogram", min = 0)
+                    Double histogramMin,
+            @DescribeParameter(name = "histogramMax", description = "Exclusive upper bound of the histogram", min = 0)
+                    Double histogramMax) {
+        SimpleFeatureType targetSchema = buildTargetSchema(zones.getSchema(), bins != null);
+        CoordinateReferenceSystem dataCrs = coverage.getCoordinateReferenceSystem();
+        CoordinateReferenceSystem zonesCrs = zones.getSchema().getCoordinateReferenceSystem();
+
+        // load the zones, moving them to the raster space
+        List<SimpleFeature> features = new ArrayList<>();
+        List<Geometry> geometries = new ArrayList<>();
+        try {
+            // the sweep expects pixel centers at half integer coordinates
+            MathTransform worldToGrid = coverage.getGridGeometry().getCRSToGrid2D(PixelOrientation.UPPER_LEFT);
+            MathTransform toGrid = worldToGrid;
+            if (zonesCrs != null && !CRS.equalsIgnoreMetadata(zonesCrs, dataCrs)) {
+                toGrid = ConcatenatedTransform.create(CRS.findMathTransform(zonesCrs, dataCrs, true), worldToGrid);
+            }
+            try (SimpleFeatureIterator iterator = zones.features()) {
+                while (iterator.hasNext()) {
+                    SimpleFeature zone = iterator.next();
+                    Geometry geometry = (Geometry) zone.getDefaultGeometry();
+                    features.add(zone);
+                    geometries.add(geometry != null ? JTS.transform(geometry, toGrid) : null);
+                }
+            }
+        } catch (Exception e) {
+            throw new ProcessException("Failed to move the zones to the raster space", e);
+        }
+
+        ZonalStatisticsSweep sweep =
+                new ZonalStatisticsSweep(coverage.getRenderedImage(), band != null ? band : 0, geometries);
+        Object noData = coverage.getProperty(NoDataContainer.GC_NODATA);
+        if (noData instanceof NoDataContainer) {
+            it.geosolutions.jaiext.range.Range range = ((NoDataContainer) noData).getAsRange();
+            sweep.addNoData(range.getMin().doubleValue(), range.getMax().doubleValue());
+        }
+        List<Range<Double>> categories = CoverageUtilities.getNoDataAsList(coverage);
+        if (categories != null) {
+            for (Range<Double> range : categories) {
+                sweep.addNoData(range.getMin(), range.getMax());
+            }
+        }
+        if (bins != null) {
+            if (histogramMin == null || histogramMax == null) {
+                throw new ProcessException("The histogram requires both histogramMin and histogramMax");
+            }
+            sweep.setHistogram(bins, histogramMin, histogramMax);
+        }
+        ZoneStatistics stats = sweep.compute(SharedThreadPool.getExecutor());
+
+        ListFeatureCollection result = new ListFeatureCollection(targetSchema);
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(targetSchema);
+        for (int i = 0; i < features.size(); i++) {
+            SimpleFeature zone = features.get(i);
+            builder.addAll(zone.getAttributes());
+            builder.add(stats.getCount(i));
+            builder.add(stats.getMin(i));
+            builder.add(stats.getMax(i));
+            builder.add(stats.getSum(i));
+            builder.add(stats.getMean(i));
+            builder.add(stats.getStandardDeviation(i));
+            if (bins != null) {
+                builder.add(stats.getHistogram(i));
+            }
+            result.add(builder.buildFeature(zone.getID()));
+        }
+        return result;
+    }
+
+    private static SimpleFeatureType buildTargetSchema(SimpleFeatureType zones, boolean histogram) {
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        for (AttributeDescriptor att : zones.getAttributeDescriptors()) {
+            tb.minOccurs(att.getMinOccurs());
+            tb.maxOccurs(att.getMaxOccurs());
+            tb.restrictions(att.getType().getRestrictions());
+            if (att instanceof GeometryDescriptor) {
+                GeometryDescriptor gatt = (GeometryDescriptor) att;
+                tb.crs(gatt.getCoordinateReferenceSystem());
+            }
+            tb.add("z_" + att.getLocalName(), att.getType().getBinding());
+        }
+        tb.add("count", Long.class);
+        tb.add("min", Double.class);
+        tb.add("max", Double.class);
+        tb.add("sum", Double.class);
+        tb.add("avg", Double.class);
+        tb.add("stddev", Double.class);
+        if (histogram) {
+            tb.add("histogram", long[].class);
+        }
+        tb.setName(zones.getName());
+        return tb.buildFeatureType();
+    }
+}
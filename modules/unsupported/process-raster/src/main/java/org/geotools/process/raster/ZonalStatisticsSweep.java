@@ -0,0 +1,320 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.process.raster;
+
+import java.awt.Rectangle;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.geotools.process.ProcessException;
+import org.geotools.util.SharedThreadPool;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Computes statistics for a large number of zones over a raster in a single sweep. Instead of cropping and reading the
+ * raster once per zone, the raster is visited tile by tile: each tile is read once, the zones intersecting it are
+ * rasterized on the fly as horizontal spans of pixels, and the pixel values are accumulated into per zone primitive
+ * arrays. Tiles can be processed in parallel, the partial statistics of each tile being merged at the end of it.
+ *
+ * <p>A pixel belongs to a zone if its center is inside the zone polygon. Overlapping zones each get the pixels they
+ * cover. NaN values and values falling in one of the NoData ranges are skipped.
+ *
+ * <p>The zones must be expressed in the raster space of the image (i.e., already transformed with the inverse of the
+ * grid to world transform). Non polygonal geometries are ignored.
+ */
+public class ZonalStatisticsSweep {
+
+    private final RenderedImage image;
+
+    private final int band;
+
+    /** The polygon edges of each zone, as flat {@code x0, y0, x1, y1} quadruples */
+    private final double[][] edges;
+
+    private final Envelope[] envelopes;
+
+    private final STRtree index = new STRtree();
+
+    private final List<double[]> noData = new ArrayList<>();
+
+    private int bins;
+
+    private double histogramMin;
+
+    private double histogramMax;
+
+    /**
+     * @param image the image to compute statistics on
+     * @param band the band to compute statistics on
+     * @param zones the zones, in raster space
+     */
+    public ZonalStatisticsSweep(RenderedImage image, int band, List<? extends Geometry> zones) {
+        if (band < 0 || band >= image.getSampleModel().getNumBands()) {
+            throw new IllegalArgumentException("Invalid band " + band);
+        }
+        this.image = image;
+        this.band = band;
+        this.edges = new double[zones.size()][];
+        this.envelopes = new Envelope[zones.size()];
+        for (int i = 0; i < edges.length; i++) {
+            Geometry zone = zones.get(i);
+            edges[i] = zone != null ? collectEdges(zone) : new double[0];
+            if (edges[i].length > 0) {
+                envelopes[i] = zone.getEnvelopeInternal();
+                index.insert(envelopes[i], i);
+            }
+        }
+        index.build();
+    }
+
+    /** Adds an inclusive range of values to be skipped */
+    public void addNoData(double min, double max) {
+        noData.add(new double[] {min, max});
+    }
+
+    /**
+     * Enables the histogram computation
+     *
+     * @param bins the number of bins
+     * @param min the inclusive lower bound of the histogram
+     * @param max the exclusive upper bound of the histogram
+     */
+    public void setHistogram(int bins, double min, double max) {
+        if (bins <= 0 || !(max > min)) {
+            throw new IllegalArgumentException("Invalid histogram definition: " + bins + " bins in " + min + "-" + max);
+        }
+        this.bins = bins;
+        this.histogramMin = min;
+        this.histogramMax = max;
+    }
+
+    /**
+     * Computes the statistics of all the zones.
+     *
+     * @param executor the executor used to process the tiles in parallel, or null to process them on the calling thread
+     * @return the statistics, indexed in the same order as the zones
+     */
+    public ZoneStatistics compute(ExecutorService executor) {
+        ZoneStatistics result = new ZoneStatistics(edges.length, bins, histogramMin, histogramMax);
+        int minTileX = image.getMinTileX();
+        int minTileY = image.getMinTileY();
+        int maxTileX = minTileX + image.getNumXTiles();
+        int maxTileY = minTileY + image.getNumYTiles();
+        if (executor == null) {
+            for (int ty = minTileY; ty < maxTileY; ty++) {
+                for (int tx = minTileX; tx < maxTileX; tx++) {
+                    computeTile(tx, ty, result);
+                }
+            }
+            return result;
+        }
+
+        // keep a bounded number of tiles in flight, waiting for the oldest before submitting more
+        int maxPending = SharedThreadPool.getMaxPending();
+        Deque<Future<?>> futures = new ArrayDeque<>();
+        try {
+            for (int ty = minTileY; ty < maxTileY; ty++) {
+                for (int tx = minTileX; tx < maxTileX; tx++) {
+                    if (futures.size() >= maxPending) {
+                        futures.poll().get();
+                    }
+                    int x = tx;
+                    int y = ty;
+                    futures.add(executor.submit(() -> computeTile(x, y, result)));
+                }
+            }
+            while (!futures.isEmpty()) {
+                futures.poll().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessException("Interrupted while computing zonal statistics", e);
+        } catch (ExecutionException e) {
+            throw new ProcessException("Failed to compute zonal statistics", e.getCause());
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(false);
+            }
+        }
+        return result;
+    }
+
+    private void computeTile(int tx, int ty, ZoneStatistics result) {
+        Rectangle bounds = new Rectangle(
+                        image.getTileGridXOffset() + tx * image.getTileWidth(),
+                        image.getTileGridYOffset() + ty * image.getTileHeight(),
+                        image.getTileWidth(),
+                        image.getTileHeight())
+                .intersection(new Rectangle(image.getMinX(), image.getMinY(), image.getWidth(), image.getHeight()));
+        if (bounds.isEmpty()) {
+            return;
+        }
+        // pixel centers are at integer coordinates plus 0.5
+        Envelope tileEnvelope = new Envelope(
+                bounds.x + 0.5, bounds.x + bounds.width - 0.5, bounds.y + 0.5, bounds.y + bounds.height - 0.5);
+        @SuppressWarnings("unchecked")
+        List<Integer> hits = index.query(tileEnvelope);
+        if (hits.isEmpty()) {
+            return;
+        }
+
+        Raster tile = image.getTile(tx, ty);
+        double[] samples = tile.getSamples(bounds.x, bounds.y, bounds.width, bounds.height, band, (double[]) null);
+        boolean[] valid = new boolean[samples.length];
+        for (int i = 0; i < samples.length; i++) {
+            valid[i] = isValid(samples[i]);
+        }
+
+        int[] zoneIds = new int[hits.size()];
+        ZoneStatistics partial = new ZoneStatistics(zoneIds.length, bins, histogramMin, histogramMax);
+        double[] crossings = new double[16];
+        for (int k = 0; k < zoneIds.length; k++) {
+            int zone = hits.get(k);
+            zoneIds[k] = zone;
+            crossings = accumulate(zone, k, bounds, samples, valid, partial, crossings);
+        }
+        synchronized (result) {
+            result.merge(partial, zoneIds);
+        }
+    }
+
+    /** Rasterizes a zone over a tile, row by row, accumulating the pixels whose center falls inside the zone */
+    private double[] accumulate(
+            int zone,
+            int target,
+            Rectangle bounds,
+            double[] samples,
+            boolean[] valid,
+            ZoneStatistics partial,
+            double[] crossings) {
+        Envelope envelope = envelopes[zone];
+        int minRow = Math.max(bounds.y, (int) Math.ceil(envelope.getMinY() - 0.5));
+        int maxRow = Math.min(bounds.y + bounds.height - 1, (int) Math.floor(envelope.getMaxY() - 0.5));
+        if (minRow > maxRow) {
+            return crossings;
+        }
+        // keep only the edges spanning the rows of this tile
+        double[] all = edges[zone];
+        double[] local = new double[all.length];
+        int size = 0;
+        double minY = minRow + 0.5;
+        double maxY = maxRow + 0.5;
+        for (int e = 0; e < all.length; e += 4) {
+            double y0 = all[e + 1];
+            double y1 = all[e + 3];
+            if (Math.max(y0, y1) >= minY && Math.min(y0, y1) <= maxY) {
+                System.arraycopy(all, e, local, size, 4);
+                size += 4;
+            }
+        }
+
+        int minX = bounds.x;
+        int maxX = bounds.x + bounds.width;
+        for (int row = minRow; row <= maxRow; row++) {
+            double y = row + 0.5;
+            int n = 0;
+            for (int e = 0; e < size; e += 4) {
+                double y0 = local[e + 1];
+                double y1 = local[e + 3];
+                if ((y0 <= y) != (y1 <= y)) {
+                    if (n == crossings.length) {
+                        crossings = Arrays.copyOf(crossings, n * 2);
+                    }
+                    double x0 = local[e];
+                    crossings[n++] = x0 + (y - y0) * (local[e + 2] - x0) / (y1 - y0);
+                }
+            }
+            Arrays.sort(crossings, 0, n);
+            int offset = (row - bounds.y) * bounds.width - bounds.x;
+            for (int c = 0; c + 1 < n; c += 2) {
+                // pixels whose center is in [crossings[c], crossings[c + 1])
+                int start = Math.max(minX, (int) Math.ceil(crossings[c] - 0.5));
+                int end = Math.min(maxX, (int) Math.ceil(crossings[c + 1] - 0.5));
+                for (int x = start; x < end; x++) {
+                    int i = offset + x;
+                    if (valid[i]) {
+                        partial.add(target, samples[i]);
+                    }
+                }
+            }
+        }
+        return crossings;
+    }
+
+    private boolean isValid(double value) {
+        if (Double.isNaN(value)) {
+            return false;
+        }
+        for (double[] range : noData) {
+            if (value >= range[0] && value <= range[1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Collects the non horizontal edges of all the rings of a polygonal geometry */
+    private static double[] collectEdges(Geometry geometry) {
+        List<CoordinateSequence> rings = new ArrayList<>();
+        collectRings(geometry, rings);
+        int count = 0;
+        for (CoordinateSequence ring : rings) {
+            count += Math.max(0, ring.size() - 1);
+        }
+        double[] result = new double[count * 4];
+        int size = 0;
+        for (CoordinateSequence ring : rings) {
+            for (int i = 0; i + 1 < ring.size(); i++) {
+                double y0 = ring.getY(i);
+                double y1 = ring.getY(i + 1);
+                if (y0 != y1) {
+                    result[size++] = ring.getX(i);
+                    result[size++] = y0;
+                    result[size++] = ring.getX(i + 1);
+                    result[size++] = y1;
+                }
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static void collectRings(Geometry geometry, List<CoordinateSequence> rings) {
+        if (geometry instanceof Polygon) {
+            Polygon polygon = (Polygon) geometry;
+            rings.add(polygon.getExteriorRing().getCoordinateSequence());
+            for (int h = 0; h < polygon.getNumInteriorRing(); h++) {
+                rings.add(polygon.getInteriorRingN(h).getCoordinateSequence());
+            }
+        } else if (geometry instanceof GeometryCollection) {
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                collectRings(geometry.getGeometryN(i), rings);
+            }
+        }
+    }
+}
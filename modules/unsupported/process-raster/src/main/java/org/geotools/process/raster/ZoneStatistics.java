@@ -0,0 +1,176 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.process.raster;
+
+import java.util.Arrays;
+
+/**
+ * Statistics of a set of zones, kept in primitive arrays indexed by zone. Mean and variance are accumulated with
+ * Welford's algorithm, so that partial statistics computed on different tiles can be merged without loss of precision.
+ *
+ * @see ZonalStatisticsSweep
+ */
+public class ZoneStatistics {
+
+    private final int zones;
+
+    private final long[] count;
+
+    private final double[] sum;
+
+    private final double[] mean;
+
+    private final double[] m2;
+
+    private final double[] min;
+
+    private final double[] max;
+
+    private final int bins;
+
+    private final double histogramMin;
+
+    private final double binWidth;
+
+    private final long[][] histograms;
+
+    /**
+     * Creates empty statistics.
+     *
+     * @param zones the number of zones
+     * @param bins the number of histogram bins, or 0 to skip the histogram computation
+     * @param histogramMin the inclusive lower bound of the histogram
+     * @param histogramMax the exclusive upper bound of the histogram
+     */
+    ZoneStatistics(int zones, int bins, double histogramMin, double histogramMax) {
+        this.zones = zones;
+        this.count = new long[zones];
+        this.sum = new double[zones];
+        this.mean = new double[zones];
+        this.m2 = new double[zones];
+        this.min = new double[zones];
+        this.max = new double[zones];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        this.bins = bins;
+        this.histogramMin = histogramMin;
+        this.binWidth = bins > 0 ? (histogramMax - histogramMin) / bins : 0;
+        // allocated lazily, only for the zones actually hit
+        this.histograms = bins > 0 ? new long[zones][] : null;
+    }
+
+    /** Adds a value to the statistics of a zone */
+    void add(int zone, double value) {
+        long n = ++count[zone];
+        sum[zone] += value;
+        double delta = value - mean[zone];
+        mean[zone] += delta / n;
+        m2[zone] += delta * (value - mean[zone]);
+        if (value < min[zone]) min[zone] = value;
+        if (value > max[zone]) max[zone] = value;
+        if (histograms != null) {
+            int bin = (int) Math.floor((value - histogramMin) / binWidth);
+            if (bin >= 0 && bin < bins) {
+                long[] histogram = histograms[zone];
+                if (histogram == null) {
+                    histogram = histograms[zone] = new long[bins];
+                }
+                histogram[bin]++;
+            }
+        }
+    }
+
+    /**
+     * Merges partial statistics into this object.
+     *
+     * @param other the partial statistics
+     * @param zoneIds maps the zones of {@code other} to the zones of this object
+     */
+    void merge(ZoneStatistics other, int[] zoneIds) {
+        for (int i = 0; i < other.zones; i++) {
+            long nb = other.count[i];
+            if (nb == 0) {
+                continue;
+            }
+            int z = zoneIds[i];
+            long na = count[z];
+            long n = na + nb;
+            double delta = other.mean[i] - mean[z];
+            mean[z] += delta * nb / n;
+            m2[z] += other.m2[i] + delta * delta * ((double) na * nb / n);
+            count[z] = n;
+            sum[z] += other.sum[i];
+            min[z] = Math.min(min[z], other.min[i]);
+            max[z] = Math.max(max[z], other.max[i]);
+            if (histograms != null && other.histograms[i] != null) {
+                if (histograms[z] == null) {
+                    histograms[z] = other.histograms[i].clone();
+                } else {
+                    long[] target = histograms[z];
+                    long[] source = other.histograms[i];
+                    for (int b = 0; b < bins; b++) target[b] += source[b];
+                }
+            }
+        }
+    }
+
+    /** The number of zones */
+    public int getZoneCount() {
+        return zones;
+    }
+
+    /** The number of valid pixels in the zone */
+    public long getCount(int zone) {
+        return count[zone];
+    }
+
+    /** The sum of the valid pixels in the zone */
+    public double getSum(int zone) {
+        return sum[zone];
+    }
+
+    /** The minimum value in the zone, or NaN if the zone has no valid pixel */
+    public double getMin(int zone) {
+        return count[zone] > 0 ? min[zone] : Double.NaN;
+    }
+
+    /** The maximum value in the zone, or NaN if the zone has no valid pixel */
+    public double getMax(int zone) {
+        return count[zone] > 0 ? max[zone] : Double.NaN;
+    }
+
+    /** The mean value in the zone, or NaN if the zone has no valid pixel */
+    public double getMean(int zone) {
+        return count[zone] > 0 ? mean[zone] : Double.NaN;
+    }
+
+    /** The sample standard deviation in the zone, or NaN if the zone has less than two valid pixels */
+    public double getStandardDeviation(int zone) {
+        return count[zone] > 1 ? Math.sqrt(m2[zone] / (count[zone] - 1)) : Double.NaN;
+    }
+
+    /**
+     * The histogram of the zone, or null if the histogram was not requested. Values outside of the histogram range are
+     * not counted.
+     */
+    public long[] getHistogram(int zone) {
+        if (histograms == null) {
+            return null;
+        }
+        return histograms[zone] != null ? histograms[zone].clone() : new long[bins];
+    }
+}
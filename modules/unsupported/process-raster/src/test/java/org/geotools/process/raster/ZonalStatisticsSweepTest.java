@@ -0,0 +1,198 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.process.raster;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.awt.image.DataBuffer;
+import java.awt.image.RenderedImage;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.media.jai.RasterFactory;
+import javax.media.jai.TiledImage;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.coverage.CoverageFactoryFinder;
+import org.geotools.coverage.grid.GridCoverage2D;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.WKTReader;
+
+public class ZonalStatisticsSweepTest {
+
+    private static final int WIDTH = 211;
+
+    private static final int HEIGHT = 157;
+
+    private static final GeometryFactory GF = new GeometryFactory();
+
+    @Test
+    public void testAgainstPointInPolygon() throws Exception {
+        RenderedImage image = createImage(32, 32);
+        WKTReader reader = new WKTReader();
+        List<Geometry> zones = List.of(
+                reader.read("POLYGON ((10.3 12.7, 150.2 20.1, 120.6 140.9, 30.4 100.2, 10.3 12.7))"),
+                // with a hole
+                reader.read("POLYGON ((60.1 30.2, 200.7 30.9, 200.3 150.6, 60.8 150.1, 60.1 30.2), "
+                        + "(90.2 60.3, 150.6 60.7, 150.1 120.4, 90.9 120.8, 90.2 60.3))"),
+                // partially outside the image
+                reader.read("MULTIPOLYGON (((-20.2 -20.3, 40.1 -10.6, 30.7 35.3, -20.2 -20.3)), "
+                        + "((180.3 130.1, 260.4 140.2, 220.8 190.9, 180.3 130.1)))"),
+                // fully outside
+                reader.read("POLYGON ((300.1 300.2, 310.3 300.4, 305.6 310.8, 300.1 300.2))"));
+
+        ZonalStatisticsSweep sweep = new ZonalStatisticsSweep(image, 0, zones);
+        sweep.addNoData(7, 7);
+        sweep.setHistogram(10, 0, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        ZoneStatistics stats;
+        try {
+            stats = sweep.compute(executor);
+        } finally {
+            executor.shutdown();
+        }
+        ZoneStatistics sequential = sweep.compute(null);
+
+        for (int z = 0; z < zones.size(); z++) {
+            Geometry zone = zones.get(z);
+            long count = 0;
+            double sum = 0;
+            double sumSquares = 0;
+            double min = Double.NaN;
+            double max = Double.NaN;
+            long[] histogram = new long[10];
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    double v = value(x, y);
+                    if (v == 7 || !zone.contains(GF.createPoint(new Coordinate(x + 0.5, y + 0.5)))) {
+                        continue;
+                    }
+                    count++;
+                    sum += v;
+                    sumSquares += v * v;
+                    min = count == 1 ? v : Math.min(min, v);
+                    max = count == 1 ? v : Math.max(max, v);
+                    if (v < 100) histogram[(int) (v / 10)]++;
+                }
+            }
+            assertEquals(count, stats.getCount(z));
+            assertEquals(count, sequential.getCount(z));
+            assertEquals(sum, stats.getSum(z), 1e-6);
+            assertEquals(min, stats.getMin(z), 0d);
+            assertEquals(max, stats.getMax(z), 0d);
+            if (count > 1) {
+                double mean = sum / count;
+                double variance = (sumSquares - count * mean * mean) / (count - 1);
+                assertEquals(mean, stats.getMean(z), 1e-9);
+                assertEquals(Math.sqrt(variance), stats.getStandardDeviation(z), 1e-6);
+                assertEquals(stats.getStandardDeviation(z), sequential.getStandardDeviation(z), 1e-9);
+            }
+            assertArrayEquals(histogram, stats.getHistogram(z));
+        }
+        assertEquals(0, stats.getCount(3));
+        assertEquals(Double.NaN, stats.getMean(3), 0d);
+    }
+
+    @Test
+    public void testOverlappingZones() throws Exception {
+        RenderedImage image = createImage(WIDTH, HEIGHT);
+        Polygon square = (Polygon) GF.toGeometry(new Envelope(10, 20, 10, 20));
+        ZonalStatisticsSweep sweep = new ZonalStatisticsSweep(image, 0, List.of(square, square));
+        ZoneStatistics stats = sweep.compute(null);
+        assertEquals(100, stats.getCount(0));
+        assertEquals(100, stats.getCount(1));
+        assertEquals(stats.getSum(0), stats.getSum(1), 0d);
+        assertNull(stats.getHistogram(0));
+    }
+
+    @Test
+    public void testProcess() throws Exception {
+        RenderedImage image = createImage(64, 64);
+        ReferencedEnvelope envelope = new ReferencedEnvelope(0, WIDTH, 0, HEIGHT, DefaultGeographicCRS.WGS84);
+        GridCoverage2D coverage =
+                CoverageFactoryFinder.getGridCoverageFactory(null).create("test", image, envelope);
+
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        tb.setName("zones");
+        tb.add("geom", Polygon.class, DefaultGeographicCRS.WGS84);
+        tb.add("name", String.class);
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(tb.buildFeatureType());
+        ListFeatureCollection zones = new ListFeatureCollection(fb.getFeatureType());
+        // world y grows upwards, raster rows go downwards
+        fb.add(GF.toGeometry(new Envelope(0, 10, HEIGHT - 5, HEIGHT)));
+        fb.add("top-left");
+        zones.add(fb.buildFeature("z.1"));
+
+        SimpleFeatureCollection result = new BulkZonalStatisticsProcess().execute(coverage, null, zones, 4, 0d, 40d);
+        try (SimpleFeatureIterator it = result.features()) {
+            SimpleFeature feature = it.next();
+            assertEquals("top-left", feature.getAttribute("z_name"));
+            List<Double> values = new ArrayList<>();
+            for (int y = 0; y < 5; y++) {
+                for (int x = 0; x < 10; x++) {
+                    values.add(value(x, y));
+                }
+            }
+            assertEquals((long) values.size(), feature.getAttribute("count"));
+            double sum = values.stream().mapToDouble(Double::doubleValue).sum();
+            assertEquals(sum, (Double) feature.getAttribute("sum"), 1e-9);
+            assertEquals(sum / values.size(), (Double) feature.getAttribute("avg"), 1e-9);
+            long[] histogram = (long[]) feature.getAttribute("histogram");
+            assertEquals(4, histogram.length);
+        }
+    }
+
+    private static RenderedImage createImage(int tileWidth, int tileHeight) {
+        SampleModel sm =
+                RasterFactory.createPixelInterleavedSampleModel(DataBuffer.TYPE_FLOAT, tileWidth, tileHeight, 1);
+        TiledImage image = new TiledImage(0, 0, WIDTH, HEIGHT, 0, 0, sm, null);
+        for (int ty = 0; ty < image.getNumYTiles(); ty++) {
+            for (int tx = 0; tx < image.getNumXTiles(); tx++) {
+                WritableRaster tile = image.getWritableTile(tx, ty);
+                int maxY = Math.min(HEIGHT, tile.getMinY() + tile.getHeight());
+                int maxX = Math.min(WIDTH, tile.getMinX() + tile.getWidth());
+                for (int y = tile.getMinY(); y < maxY; y++) {
+                    for (int x = tile.getMinX(); x < maxX; x++) {
+                        tile.setSample(x, y, 0, value(x, y));
+                    }
+                }
+                image.releaseWritableTile(tx, ty);
+            }
+        }
+        return image;
+    }
+
+    private static double value(int x, int y) {
+        return (x * 7 + y * 13) % 113;
+    }
+}
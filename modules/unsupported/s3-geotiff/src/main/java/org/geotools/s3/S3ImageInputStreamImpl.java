@@ -23,9 +23,12 @@
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
 import javax.imageio.stream.ImageInputStreamImpl;
 import org.geotools.s3.cache.CacheEntryKey;
 import org.geotools.s3.cache.CacheManagement;
+import org.geotools.s3.cache.ChunkPrefetcher;
 
 /** ImageInputStream implementation that fetches and caches data from S3 */
 public class S3ImageInputStreamImpl extends ImageInputStreamImpl {
@@ -84,15 +87,19 @@ private String nameFromKey(String key) {
     }
 
     private byte[] getFromCache(int block) throws IOException {
-        int blockSizeForBlock = this.calculateBlockSizeForBlock(block);
-        CacheEntryKey keyForBlock = new CacheEntryKey(this.bucket, this.key, block, blockSizeForBlock);
+        CacheEntryKey keyForBlock = CacheEntryKey.forBlock(this.bucket, this.key, block, this.length, cacheBlockSize);
         return CacheManagement.DEFAULT.getChunk(keyForBlock, connector);
     }
 
-    private int calculateBlockSizeForBlock(int block) {
-        long offsetInFile = this.cacheBlockSize * block;
-        long remainingInFile = this.length - offsetInFile;
-        return (int) Math.min(this.cacheBlockSize, remainingInFile);
+    /**
+     * Loads in the cache the chunks covering the given byte ranges, merging nearby chunks into single range requests
+     * and issuing them concurrently, so that subsequent reads of these ranges do not hit S3 one chunk at a time.
+     *
+     * @param ranges the byte ranges, as <code>{start, end}</code> pairs with exclusive end
+     * @return the number of range requests that have been issued
+     */
+    public int prefetch(Collection<long[]> ranges) {
+        return new ChunkPrefetcher(CacheManagement.DEFAULT).prefetch(connector, bucket, key, length, ranges);
     }
 
     private byte readFromCache(int block, int offset) {
@@ -127,6 +134,11 @@ private int getCurrentOffset() {
     public int read(byte[] targetBuffer, int off, int len) throws IOException {
 
         int readRemaining = len;
+        // read-ahead all the chunks spanned by the read at once, if there is more than one
+        long readEnd = Math.min(streamPos + len, this.length);
+        if (readEnd > streamPos && getBlockIndex() != (int) ((readEnd - 1) / this.cacheBlockSize)) {
+            prefetch(Collections.singletonList(new long[] {streamPos, streamPos + len}));
+        }
         ByteBuffer readBuffer = ByteBuffer.allocate(len);
         while (readRemaining > 0 && streamPos < this.length) {
             int block = getBlockIndex();
@@ -155,7 +167,7 @@ public String readLine() throws IOException {
         throw new IOException("readLine NOT Supported");
     }
 
-    String getUrl() {
+    public String getUrl() {
         return url;
     }
 
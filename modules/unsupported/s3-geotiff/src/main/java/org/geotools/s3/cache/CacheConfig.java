@@ -61,6 +61,15 @@ public class CacheConfig {
     // time to live in seconds
     public static final String S3_CACHING_TIME_TO_LIVE = "s3.caching.timeToLive";
 
+    // max gap in bytes between two missing chunks that still get fetched with a single range request
+    public static final String S3_CACHING_COALESCE_GAP_BYTES = "s3.caching.coalesceGapBytes";
+
+    // max size in bytes of a single coalesced range request
+    public static final String S3_CACHING_MAX_REQUEST_BYTES = "s3.caching.maxRequestBytes";
+
+    // maximum number of coalesced range requests issued concurrently
+    public static final String S3_CACHING_PREFETCH_THREADS = "s3.caching.prefetchThreads";
+
     private boolean useDiskCache = true;
     private boolean useOffHeapCache = false;
     private int chunkSizeBytes = 5 * MEBIBYTE_IN_BYTES;
@@ -70,6 +79,9 @@ public class CacheConfig {
     private String configurationPath;
     private long timeToIdle = 0;
     private long timeToLive = 0;
+    private long coalesceGapBytes = 0;
+    private long maxRequestBytes = 64L * MEBIBYTE_IN_BYTES;
+    private int prefetchThreads = 8;
 
     public static CacheConfig getDefaultConfig() {
         CacheConfig config = new CacheConfig();
@@ -154,6 +166,33 @@ public static CacheConfig getDefaultConfig() {
             }
         }
 
+        if (System.getProperty(S3_CACHING_COALESCE_GAP_BYTES) != null) {
+            try {
+                long gap = Long.parseLong(System.getProperty(S3_CACHING_COALESCE_GAP_BYTES));
+                config.setCoalesceGapBytes(gap);
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.FINER, "Can't parse coalesce gap", e);
+            }
+        }
+
+        if (System.getProperty(S3_CACHING_MAX_REQUEST_BYTES) != null) {
+            try {
+                long maxRequest = Long.parseLong(System.getProperty(S3_CACHING_MAX_REQUEST_BYTES));
+                config.setMaxRequestBytes(maxRequest);
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.FINER, "Can't parse max request size", e);
+            }
+        }
+
+        if (System.getProperty(S3_CACHING_PREFETCH_THREADS) != null) {
+            try {
+                int threads = Integer.parseInt(System.getProperty(S3_CACHING_PREFETCH_THREADS));
+                config.setPrefetchThreads(threads);
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.FINER, "Can't parse prefetch threads", e);
+            }
+        }
+
         return config;
     }
 
@@ -228,4 +267,28 @@ public void setTimeToIdle(long timeToIdle) {
     public void setTimeToLive(long timeToLive) {
         this.timeToLive = timeToLive;
     }
+
+    public long getCoalesceGapBytes() {
+        return coalesceGapBytes;
+    }
+
+    public void setCoalesceGapBytes(long coalesceGapBytes) {
+        this.coalesceGapBytes = coalesceGapBytes;
+    }
+
+    public long getMaxRequestBytes() {
+        return maxRequestBytes;
+    }
+
+    public void setMaxRequestBytes(long maxRequestBytes) {
+        this.maxRequestBytes = maxRequestBytes;
+    }
+
+    public int getPrefetchThreads() {
+        return prefetchThreads;
+    }
+
+    public void setPrefetchThreads(int prefetchThreads) {
+        this.prefetchThreads = prefetchThreads;
+    }
 }
@@ -35,6 +35,16 @@ public CacheEntryKey(String bucket, String key, int block, int blockSize) {
         this.blockSize = blockSize;
     }
 
+    /**
+     * Builds the key for the given block of an object, the last block being shorter when the object length is not a
+     * multiple of the chunk size
+     */
+    public static CacheEntryKey forBlock(String bucket, String key, int block, long objectLength, int chunkSize) {
+        long offsetInFile = chunkSize * (long) block;
+        int blockSize = (int) Math.min(chunkSize, objectLength - offsetInFile);
+        return new CacheEntryKey(bucket, key, block, blockSize);
+    }
+
     public String getBucket() {
         return bucket;
     }
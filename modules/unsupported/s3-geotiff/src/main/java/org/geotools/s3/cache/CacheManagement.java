@@ -22,6 +22,7 @@
 import java.util.logging.Logger;
 import net.sf.ehcache.Cache;
 import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Element;
 import net.sf.ehcache.config.CacheConfiguration;
 import net.sf.ehcache.config.Configuration;
 import net.sf.ehcache.config.ConfigurationFactory;
@@ -122,6 +123,16 @@ public byte[] getChunk(CacheEntryKey key, S3Connector connector) {
         return (byte[]) this.manager.getEhcache(DEFAULT_CACHE).get(key).getObjectValue();
     }
 
+    /** Returns true if the chunk is already available in the cache, without loading it */
+    public boolean isCached(CacheEntryKey key) {
+        return this.manager.getEhcache(DEFAULT_CACHE).isKeyInCache(key);
+    }
+
+    /** Stores a chunk fetched outside of the cache, e.g., as part of a coalesced range request */
+    public void putChunk(CacheEntryKey key, byte[] chunk) {
+        this.manager.getEhcache(DEFAULT_CACHE).put(new Element(key, chunk));
+    }
+
     public CacheConfig getCacheConfig() {
         return this.config;
     }
@@ -0,0 +1,157 @@
+/*
+ * GeoTools - The Open Source Java GIS Toolkit
+ * http://geotools.org
+ *
+ * (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation;
+ * version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ */
+package org.geotools.s3.cache;
+
+import com.amazonaws.services.s3.AmazonS3;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.s3.S3Connector;
+import org.geotools.util.SharedThreadPool;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Loads in the cache all the chunks covering a set of byte ranges of an S3 object, before they are actually read. The
+ * chunks that are not cached yet are merged into as few range requests as possible, according to the coalescing gap and
+ * max request size found in the {@link CacheConfig}, and the requests are issued concurrently in the
+ * {@link SharedThreadPool}, at most {@link CacheConfig#getPrefetchThreads()} at a time.
+ *
+ * <p>Prefetching is best effort: failures are logged and the chunks will be loaded one by one when read.
+ */
+public class ChunkPrefetcher {
+
+    private static final Logger LOGGER = Logging.getLogger(ChunkPrefetcher.class);
+
+    private final CacheManagement cache;
+
+    public ChunkPrefetcher(CacheManagement cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Makes sure the chunks covering the given ranges are in the cache.
+     *
+     * @param connector the connector used to issue the requests
+     * @param bucket the bucket of the object
+     * @param key the key of the object
+     * @param length the length of the object
+     * @param ranges the byte ranges that are going to be read, as <code>{start, end}</code> pairs with exclusive end
+     * @return the number of range requests that have been issued
+     */
+    public int prefetch(S3Connector connector, String bucket, String key, long length, Collection<long[]> ranges) {
+        CacheConfig config = cache.getCacheConfig();
+        int chunkSize = config.getChunkSizeBytes();
+
+        // collect the chunks that are not cached yet
+        BitSet missing = new BitSet();
+        for (long[] range : ranges) {
+            long start = Math.max(0, range[0]);
+            long end = Math.min(length, range[1]);
+            if (end <= start) {
+                continue;
+            }
+            int first = (int) (start / chunkSize);
+            int last = (int) ((end - 1) / chunkSize);
+            for (int block = first; block <= last; block++) {
+                if (!missing.get(block)
+                        && !cache.isCached(CacheEntryKey.forBlock(bucket, key, block, length, chunkSize))) {
+                    missing.set(block);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        // merge them into range requests, which are aligned on chunk boundaries
+        List<long[]> chunkRanges = new ArrayList<>();
+        for (int block = missing.nextSetBit(0); block >= 0; block = missing.nextSetBit(block + 1)) {
+            long start = block * (long) chunkSize;
+            chunkRanges.add(new long[] {start, Math.min(length, start + chunkSize)});
+        }
+        long maxRequest = Math.max(chunkSize, Math.min(config.getMaxRequestBytes(), Integer.MAX_VALUE - chunkSize));
+        RangeCoalescer coalescer = new RangeCoalescer(config.getCoalesceGapBytes(), maxRequest);
+        List<long[]> requests = coalescer.coalesce(chunkRanges);
+
+        AmazonS3 s3Client = connector.getS3Client();
+        ExecutorService service = requests.size() > 1 ? SharedThreadPool.getExecutor() : null;
+        if (service == null) {
+            for (long[] request : requests) {
+                fetch(s3Client, bucket, key, length, chunkSize, request);
+            }
+            return requests.size();
+        }
+        int maxPending = Math.max(1, config.getPrefetchThreads());
+        ArrayDeque<Future<?>> pending = new ArrayDeque<>();
+        try {
+            for (long[] request : requests) {
+                if (pending.size() >= maxPending) {
+                    await(pending.poll());
+                }
+                pending.add(service.submit(() -> fetch(s3Client, bucket, key, length, chunkSize, request)));
+            }
+            while (!pending.isEmpty()) {
+                await(pending.poll());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (Future<?> future : pending) {
+                future.cancel(true);
+            }
+        }
+        return requests.size();
+    }
+
+    private void fetch(AmazonS3 s3Client, String bucket, String key, long length, int chunkSize, long[] request) {
+        try {
+            int requestLength = (int) (request[1] - request[0]);
+            byte[] bytes = S3ChunkEntryFactory.readRange(s3Client, bucket, key, request[0], requestLength);
+            for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+                int block = (int) ((request[0] + offset) / chunkSize);
+                CacheEntryKey entryKey = CacheEntryKey.forBlock(bucket, key, block, length, chunkSize);
+                int blockSize = entryKey.getBlockSize();
+                // do not cache partial chunks, the object is likely shorter than expected
+                if (offset + blockSize > bytes.length) {
+                    break;
+                }
+                byte[] chunk = new byte[blockSize];
+                System.arraycopy(bytes, offset, chunk, 0, blockSize);
+                cache.putChunk(entryKey, chunk);
+            }
+        } catch (Exception e) {
+            LOGGER.log(
+                    Level.FINE,
+                    "Failed to fetch range " + request[0] + "-" + request[1] + " of " + bucket + "/" + key,
+                    e);
+        }
+    }
+
+    private static void await(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.FINE, "Range request failed, chunks will be loaded on read", e);
+        }
+    }
+}
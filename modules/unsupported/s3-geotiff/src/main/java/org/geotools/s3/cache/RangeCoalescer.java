@@ -0,0 +1,77 @@
+/*
+ * GeoTools - The Open Source Java GIS Toolkit
+ * http://geotools.org
+ *
+ * (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation;
+ * version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ */
+package org.geotools.s3.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Merges byte ranges that are adjacent, overlapping or separated by a small gap, so that they can be fetched with a
+ * single range request. Ranges are expressed as <code>{start, end}</code> pairs, with <code>end</code> exclusive.
+ */
+public class RangeCoalescer {
+
+    private final long maxGap;
+
+    private final long maxLength;
+
+    /**
+     * @param maxGap the maximum number of unrequested bytes that can be read between two ranges in order to merge them
+     * @param maxLength the maximum length of a merged range. A single input range longer than this is never split.
+     */
+    public RangeCoalescer(long maxGap, long maxLength) {
+        if (maxGap < 0) {
+            throw new IllegalArgumentException("Max gap must be non negative: " + maxGap);
+        }
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("Max length must be positive: " + maxLength);
+        }
+        this.maxGap = maxGap;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the coalesced ranges, sorted by start offset. Empty ranges are ignored.
+     *
+     * @param ranges the ranges to coalesce, as <code>{start, end}</code> pairs with exclusive end
+     */
+    public List<long[]> coalesce(Collection<long[]> ranges) {
+        List<long[]> sorted = new ArrayList<>(ranges.size());
+        for (long[] range : ranges) {
+            if (range[1] > range[0]) {
+                sorted.add(new long[] {range[0], range[1]});
+            }
+        }
+        sorted.sort(Comparator.comparingLong(r -> r[0]));
+
+        List<long[]> result = new ArrayList<>();
+        long[] current = null;
+        for (long[] range : sorted) {
+            if (current != null
+                    && range[0] - current[1] <= maxGap
+                    && Math.max(current[1], range[1]) - current[0] <= maxLength) {
+                current[1] = Math.max(current[1], range[1]);
+            } else {
+                current = range;
+                result.add(current);
+            }
+        }
+        return result;
+    }
+}
@@ -50,25 +50,33 @@ public Object createEntry(Object key) throws Exception {
     }
 
     private Object createEntry(Object key, S3Connector connector) throws IOException {
-        byte[] val;
         CacheEntryKey entryKey = (CacheEntryKey) key;
-        int nBytes;
-        byte[] buffer = new byte[cacheBlockSize];
-        try (S3Object object = this.initStream(
-                entryKey.getBlock() * (long) this.cacheBlockSize,
+        return readRange(
+                connector.getS3Client(),
                 entryKey.getBucket(),
                 entryKey.getKey(),
-                entryKey.getBlockSize(),
-                connector.getS3Client())) {
+                entryKey.getBlock() * (long) this.cacheBlockSize,
+                entryKey.getBlockSize());
+    }
+
+    /**
+     * Reads a byte range from an S3 object. The returned array is shorter than the requested length only if the object
+     * ends before the end of the range.
+     */
+    static byte[] readRange(AmazonS3 s3Client, String bucket, String key, long offset, int length) throws IOException {
+        byte[] val;
+        int nBytes;
+        byte[] buffer = new byte[Math.min(length, 64 * 1024)];
+        try (S3Object object = initStream(offset, bucket, key, length, s3Client)) {
             if (object == null) {
                 throw new RuntimeException("Unable to instantiate S3 stream. See logs for details.");
             }
-            int readLength = this.cacheBlockSize;
+            int readLength = length;
 
             try (InputStream stream = object.getObjectContent()) {
-                try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                try (ByteArrayOutputStream out = new ByteArrayOutputStream(length)) {
                     while (readLength > 0) {
-                        nBytes = stream.read(buffer, 0, readLength);
+                        nBytes = stream.read(buffer, 0, Math.min(buffer.length, readLength));
 
                         if (nBytes > 0) {
                             out.write(buffer, 0, nBytes);
@@ -85,10 +93,10 @@ private Object createEntry(Object key, S3Connector connector) throws IOException
         return val;
     }
 
-    private S3Object initStream(long offset, String bucket, String key, int blockSize, AmazonS3 s3Client) {
+    private static S3Object initStream(long offset, String bucket, String key, int length, AmazonS3 s3Client) {
         try {
             S3Object object =
-                    s3Client.getObject((new GetObjectRequest(bucket, key)).withRange(offset, offset + blockSize));
+                    s3Client.getObject((new GetObjectRequest(bucket, key)).withRange(offset, offset + length - 1));
 
             return object;
         } catch (Exception e) {
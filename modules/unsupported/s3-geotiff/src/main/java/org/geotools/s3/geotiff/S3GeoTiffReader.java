@@ -16,17 +16,45 @@
  */
 package org.geotools.s3.geotiff;
 
+import it.geosolutions.imageioimpl.plugins.tiff.TIFFImageReaderSpi;
+import java.awt.Rectangle;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
 import org.geotools.api.data.DataSourceException;
+import org.geotools.api.geometry.Bounds;
+import org.geotools.api.parameter.GeneralParameterValue;
+import org.geotools.api.parameter.ParameterValue;
+import org.geotools.api.referencing.ReferenceIdentifier;
+import org.geotools.coverage.grid.GridCoverage2D;
+import org.geotools.coverage.grid.GridGeometry2D;
+import org.geotools.coverage.grid.io.AbstractGridFormat;
+import org.geotools.coverage.grid.io.OverviewPolicy;
 import org.geotools.gce.geotiff.GeoTiffReader;
+import org.geotools.geometry.GeneralBounds;
 import org.geotools.s3.S3ImageInputStreamImpl;
 import org.geotools.s3.S3ImageInputStreamImplSpi;
 import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
 
 /**
  * Very simple wrapper around GeoTIff reader in order to support S3 geotiff. The goal is to have this go away eventually
  * and to be able to support S3 with just the original GeoTiff reader
  */
 public class S3GeoTiffReader extends GeoTiffReader {
+
+    private static final Logger LOGGER = Logging.getLogger(S3GeoTiffReader.class);
+
+    private static final TIFFImageReaderSpi TIFF_READER_SPI = new TIFFImageReaderSpi();
+
+    /** Tile byte ranges for each image in the file, read lazily from the TIFF metadata */
+    private final Map<Integer, TiffTileRanges> tileRanges = new ConcurrentHashMap<>();
+
     public S3GeoTiffReader(Object input) throws DataSourceException {
         super(input);
 
@@ -52,4 +80,70 @@ public S3GeoTiffReader(Object input, Hints uHints) throws DataSourceException {
             }
         }
     }
+
+    /**
+     * Before performing the actual read, collects the byte ranges of all the tiles needed by the request and prefetches
+     * them with coalesced, concurrent range requests, instead of letting the TIFF reader fetch them one by one.
+     */
+    @Override
+    public GridCoverage2D read(GeneralParameterValue[] params) throws IOException {
+        if (source instanceof S3ImageInputStreamImpl) {
+            try {
+                prefetchTiles((S3ImageInputStreamImpl) source, params);
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, "Failed to prefetch tiles, they will be read on demand", e);
+            }
+        }
+        return super.read(params);
+    }
+
+    private void prefetchTiles(S3ImageInputStreamImpl input, GeneralParameterValue[] params) throws Exception {
+        GeneralBounds requestedEnvelope = null;
+        Rectangle dim = null;
+        OverviewPolicy overviewPolicy = null;
+        if (params != null) {
+            for (GeneralParameterValue generalParameterValue : params) {
+                final ParameterValue param = (ParameterValue) generalParameterValue;
+                final ReferenceIdentifier name = param.getDescriptor().getName();
+                if (name.equals(AbstractGridFormat.READ_GRIDGEOMETRY2D.getName())) {
+                    final GridGeometry2D gg = (GridGeometry2D) param.getValue();
+                    requestedEnvelope = new GeneralBounds((Bounds) gg.getEnvelope2D());
+                    dim = gg.getGridRange2D().getBounds();
+                } else if (name.equals(AbstractGridFormat.OVERVIEW_POLICY.getName())) {
+                    overviewPolicy = (OverviewPolicy) param.getValue();
+                }
+            }
+        }
+
+        ImageReadParam readP = new ImageReadParam();
+        Integer imageChoice = setReadParams(overviewPolicy, readP, requestedEnvelope, dim);
+        int overviewImageIndex = dtLayout != null ? dtLayout.getInternalOverviewImageIndex(imageChoice) : imageChoice;
+        int imageIndex = overviewImageIndex >= 0 ? overviewImageIndex : 0;
+
+        TiffTileRanges ranges = getTileRanges(input, imageIndex);
+        if (ranges != null) {
+            List<long[]> tiles = ranges.getRanges(readP.getSourceRegion());
+            int requests = input.prefetch(tiles);
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Prefetched " + tiles.size() + " tiles with " + requests + " range requests");
+            }
+        }
+    }
+
+    private TiffTileRanges getTileRanges(S3ImageInputStreamImpl input, int imageIndex) throws IOException {
+        TiffTileRanges result = tileRanges.get(imageIndex);
+        if (result == null) {
+            ImageReader reader = TIFF_READER_SPI.createReaderInstance();
+            try (S3ImageInputStreamImpl stream = new S3ImageInputStreamImpl(input.getUrl())) {
+                reader.setInput(stream);
+                result = TiffTileRanges.fromReader(reader, imageIndex);
+            } finally {
+                reader.dispose();
+            }
+            if (result != null) {
+                tileRanges.put(imageIndex, result);
+            }
+        }
+        return result;
+    }
 }
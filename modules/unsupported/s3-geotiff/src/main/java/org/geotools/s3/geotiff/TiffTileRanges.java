@@ -0,0 +1,133 @@
+/*
+ * GeoTools - The Open Source Java GIS Toolkit
+ * http://geotools.org
+ *
+ * (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation;
+ * version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ */
+package org.geotools.s3.geotiff;
+
+import it.geosolutions.imageio.plugins.tiff.BaselineTIFFTagSet;
+import it.geosolutions.imageio.plugins.tiff.TIFFField;
+import it.geosolutions.imageioimpl.plugins.tiff.TIFFImageMetadata;
+import java.awt.Rectangle;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+
+/**
+ * Byte ranges of the tiles (or strips) of a single TIFF image, used to plan all the reads needed by a raster request
+ * before the actual image read happens.
+ */
+class TiffTileRanges {
+
+    private final int width;
+
+    private final int height;
+
+    private final int tileWidth;
+
+    private final int tileHeight;
+
+    private final long[] offsets;
+
+    private final long[] byteCounts;
+
+    TiffTileRanges(int width, int height, int tileWidth, int tileHeight, long[] offsets, long[] byteCounts) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.offsets = offsets;
+        this.byteCounts = byteCounts;
+    }
+
+    /**
+     * Reads the tile layout of the given image from the reader metadata.
+     *
+     * @return the tile ranges, or null if the metadata does not contain the tile offsets
+     */
+    static TiffTileRanges fromReader(ImageReader reader, int imageIndex) throws IOException {
+        IIOMetadata metadata = reader.getImageMetadata(imageIndex);
+        if (!(metadata instanceof TIFFImageMetadata)) {
+            return null;
+        }
+        TIFFImageMetadata tiff = (TIFFImageMetadata) metadata;
+        int width = reader.getWidth(imageIndex);
+        int height = reader.getHeight(imageIndex);
+
+        TIFFField offsetsField = tiff.getTIFFField(BaselineTIFFTagSet.TAG_TILE_OFFSETS);
+        TIFFField countsField = tiff.getTIFFField(BaselineTIFFTagSet.TAG_TILE_BYTE_COUNTS);
+        int tileWidth;
+        int tileHeight;
+        if (offsetsField != null && countsField != null) {
+            tileWidth = tiff.getTIFFField(BaselineTIFFTagSet.TAG_TILE_WIDTH).getAsInt(0);
+            tileHeight = tiff.getTIFFField(BaselineTIFFTagSet.TAG_TILE_LENGTH).getAsInt(0);
+        } else {
+            offsetsField = tiff.getTIFFField(BaselineTIFFTagSet.TAG_STRIP_OFFSETS);
+            countsField = tiff.getTIFFField(BaselineTIFFTagSet.TAG_STRIP_BYTE_COUNTS);
+            if (offsetsField == null || countsField == null) {
+                return null;
+            }
+            TIFFField rowsPerStrip = tiff.getTIFFField(BaselineTIFFTagSet.TAG_ROWS_PER_STRIP);
+            tileWidth = width;
+            tileHeight = rowsPerStrip != null ? (int) Math.min(height, rowsPerStrip.getAsLong(0)) : height;
+        }
+        if (offsetsField.getCount() != countsField.getCount()) {
+            return null;
+        }
+        long[] offsets = new long[offsetsField.getCount()];
+        long[] byteCounts = new long[countsField.getCount()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = offsetsField.getAsLong(i);
+            byteCounts[i] = countsField.getAsLong(i);
+        }
+        return new TiffTileRanges(width, height, tileWidth, tileHeight, offsets, byteCounts);
+    }
+
+    /**
+     * Returns the byte ranges of all the tiles intersecting the given region, in all the planes of the image.
+     *
+     * @param region the region in raster space, or null to get the whole image
+     * @return the ranges as <code>{start, end}</code> pairs with exclusive end
+     */
+    List<long[]> getRanges(Rectangle region) {
+        Rectangle bounds = new Rectangle(0, 0, width, height);
+        Rectangle area = region == null ? bounds : bounds.intersection(region);
+        List<long[]> ranges = new ArrayList<>();
+        if (area.isEmpty() || tileWidth <= 0 || tileHeight <= 0) {
+            return ranges;
+        }
+        int tilesAcross = (width + tileWidth - 1) / tileWidth;
+        int tilesDown = (height + tileHeight - 1) / tileHeight;
+        int tilesPerPlane = tilesAcross * tilesDown;
+        int planes = Math.max(1, offsets.length / tilesPerPlane);
+
+        int minTileX = area.x / tileWidth;
+        int maxTileX = (area.x + area.width - 1) / tileWidth;
+        int minTileY = area.y / tileHeight;
+        int maxTileY = (area.y + area.height - 1) / tileHeight;
+        for (int plane = 0; plane < planes; plane++) {
+            for (int ty = minTileY; ty <= maxTileY; ty++) {
+                for (int tx = minTileX; tx <= maxTileX; tx++) {
+                    int index = plane * tilesPerPlane + ty * tilesAcross + tx;
+                    if (index < offsets.length && byteCounts[index] > 0) {
+                        ranges.add(new long[] {offsets[index], offsets[index] + byteCounts[index]});
+                    }
+                }
+            }
+        }
+        return ranges;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * GeoTools - The Open Source Java GIS Toolkit
+ * http://geotools.org
+ *
+ * (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation;
+ * version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ */
+package org.geotools.s3.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.geotools.s3.S3Connector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests the coalesced prefetching against an in memory S3 stand-in */
+public class ChunkPrefetcherTest {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private static final String BUCKET = "bucket";
+
+    private byte[] content;
+
+    private List<long[]> requests;
+
+    private S3Connector connector;
+
+    @Before
+    @SuppressWarnings("PMD.CloseResource")
+    public void setUp() {
+        System.setProperty(CacheConfig.S3_CACHING_CHUNK_SIZE_BYTES, String.valueOf(CHUNK_SIZE));
+        System.setProperty(CacheConfig.S3_CACHING_DISABLE_DISK, "true");
+        CacheManagement.DEFAULT.init(true);
+
+        content = new byte[10 * CHUNK_SIZE + 100];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        requests = new CopyOnWriteArrayList<>();
+        AmazonS3 s3Client = mock(AmazonS3.class);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            long[] range = request.getRange();
+            requests.add(range);
+            int start = (int) range[0];
+            int end = (int) Math.min(content.length - 1, range[1]);
+            S3Object object = new S3Object();
+            object.setObjectContent(new ByteArrayInputStream(content, start, end - start + 1));
+            return object;
+        });
+        connector = mock(S3Connector.class);
+        when(connector.getS3Client()).thenReturn(s3Client);
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CacheConfig.S3_CACHING_CHUNK_SIZE_BYTES);
+        System.clearProperty(CacheConfig.S3_CACHING_DISABLE_DISK);
+        CacheManagement.DEFAULT.init(true);
+    }
+
+    @Test
+    public void testAdjacentChunksSingleRequest() {
+        ChunkPrefetcher prefetcher = new ChunkPrefetcher(CacheManagement.DEFAULT);
+        // two tiles spanning chunks 1 to 4
+        List<long[]> tiles = Arrays.asList(new long[] {1500, 3000}, new long[] {3000, 4500});
+        int issued = prefetcher.prefetch(connector, BUCKET, "adjacent", content.length, tiles);
+        assertEquals(1, issued);
+        assertEquals(1, requests.size());
+        assertArrayEquals(new long[] {CHUNK_SIZE, 5 * CHUNK_SIZE - 1}, requests.get(0));
+
+        // all the chunks are now cached, reading them does not hit S3 anymore
+        for (int block = 1; block <= 4; block++) {
+            CacheEntryKey key = CacheEntryKey.forBlock(BUCKET, "adjacent", block, content.length, CHUNK_SIZE);
+            assertTrue(CacheManagement.DEFAULT.isCached(key));
+            byte[] chunk = CacheManagement.DEFAULT.getChunk(key, connector);
+            byte[] expected = Arrays.copyOfRange(content, block * CHUNK_SIZE, (block + 1) * CHUNK_SIZE);
+            assertArrayEquals(expected, chunk);
+        }
+        assertEquals(1, requests.size());
+
+        // prefetching again is a no-op
+        assertEquals(0, prefetcher.prefetch(connector, BUCKET, "adjacent", content.length, tiles));
+    }
+
+    @Test
+    public void testGapThreshold() {
+        List<long[]> tiles = Arrays.asList(new long[] {0, 100}, new long[] {3 * CHUNK_SIZE, 3 * CHUNK_SIZE + 100});
+        ChunkPrefetcher prefetcher = new ChunkPrefetcher(CacheManagement.DEFAULT);
+        assertEquals(2, prefetcher.prefetch(connector, BUCKET, "sparse", content.length, tiles));
+
+        CacheManagement.DEFAULT.getCacheConfig().setCoalesceGapBytes(2 * CHUNK_SIZE);
+        assertEquals(1, prefetcher.prefetch(connector, BUCKET, "sparse-gap", content.length, tiles));
+        assertArrayEquals(new long[] {0, 4 * CHUNK_SIZE - 1}, requests.get(requests.size() - 1));
+    }
+
+    @Test
+    public void testLastPartialChunk() {
+        ChunkPrefetcher prefetcher = new ChunkPrefetcher(CacheManagement.DEFAULT);
+        List<long[]> tiles = Collections.singletonList(new long[] {9 * CHUNK_SIZE + 10, content.length});
+        assertEquals(1, prefetcher.prefetch(connector, BUCKET, "tail", content.length, tiles));
+
+        CacheEntryKey key = CacheEntryKey.forBlock(BUCKET, "tail", 10, content.length, CHUNK_SIZE);
+        assertEquals(100, key.getBlockSize());
+        byte[] chunk = CacheManagement.DEFAULT.getChunk(key, connector);
+        assertArrayEquals(Arrays.copyOfRange(content, 10 * CHUNK_SIZE, content.length), chunk);
+        assertEquals(1, requests.size());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * GeoTools - The Open Source Java GIS Toolkit
+ * http://geotools.org
+ *
+ * (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation;
+ * version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ */
+package org.geotools.s3.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class RangeCoalescerTest {
+
+    @Test
+    public void testAdjacentAndOverlapping() {
+        RangeCoalescer coalescer = new RangeCoalescer(0, Long.MAX_VALUE);
+        List<long[]> result =
+                coalescer.coalesce(Arrays.asList(new long[] {100, 200}, new long[] {0, 100}, new long[] {150, 250}));
+        assertEquals(1, result.size());
+        assertArrayEquals(new long[] {0, 250}, result.get(0));
+    }
+
+    @Test
+    public void testGapThreshold() {
+        List<long[]> ranges = Arrays.asList(new long[] {0, 100}, new long[] {150, 200}, new long[] {1000, 1100});
+        List<long[]> strict = new RangeCoalescer(0, Long.MAX_VALUE).coalesce(ranges);
+        assertEquals(3, strict.size());
+
+        List<long[]> tolerant = new RangeCoalescer(50, Long.MAX_VALUE).coalesce(ranges);
+        assertEquals(2, tolerant.size());
+        assertArrayEquals(new long[] {0, 200}, tolerant.get(0));
+        assertArrayEquals(new long[] {1000, 1100}, tolerant.get(1));
+    }
+
+    @Test
+    public void testMaxLength() {
+        List<long[]> ranges = Arrays.asList(new long[] {0, 100}, new long[] {100, 200}, new long[] {200, 300});
+        List<long[]> result = new RangeCoalescer(0, 200).coalesce(ranges);
+        assertEquals(2, result.size());
+        assertArrayEquals(new long[] {0, 200}, result.get(0));
+        assertArrayEquals(new long[] {200, 300}, result.get(1));
+
+        // a single range longer than the max is never split
+        List<long[]> large = new RangeCoalescer(0, 10).coalesce(ranges);
+        assertEquals(3, large.size());
+    }
+
+    @Test
+    public void testEmptyRangesIgnored() {
+        List<long[]> result = new RangeCoalescer(0, 100).coalesce(Arrays.asList(new long[] {10, 10}));
+        assertEquals(0, result.size());
+    }
+}
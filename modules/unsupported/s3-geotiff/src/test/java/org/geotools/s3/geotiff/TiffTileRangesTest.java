@@ -0,0 +1,83 @@
+/*
+ * GeoTools - The Open Source Java GIS Toolkit
+ * http://geotools.org
+ *
+ * (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation;
+ * version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ */
+package org.geotools.s3.geotiff;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import it.geosolutions.imageioimpl.plugins.tiff.TIFFImageReaderSpi;
+import java.awt.Rectangle;
+import java.io.File;
+import java.util.List;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.FileImageInputStream;
+import org.junit.Test;
+
+public class TiffTileRangesTest {
+
+    @Test
+    public void testStripRanges() throws Exception {
+        File file =
+                new File(getClass().getClassLoader().getResource("salinity.tif").toURI());
+        ImageReader reader = new TIFFImageReaderSpi().createReaderInstance();
+        try (FileImageInputStream stream = new FileImageInputStream(file)) {
+            reader.setInput(stream);
+            TiffTileRanges ranges = TiffTileRanges.fromReader(reader, 0);
+            assertNotNull(ranges);
+
+            // the file has two strips, 49 rows each
+            List<long[]> all = ranges.getRanges(null);
+            assertEquals(2, all.size());
+            for (long[] range : all) {
+                assertTrue(range[0] > 0);
+                assertTrue(range[1] <= file.length());
+            }
+
+            List<long[]> top = ranges.getRanges(new Rectangle(0, 0, 10, 10));
+            assertEquals(1, top.size());
+            assertArrayEquals(all.get(0), top.get(0));
+
+            List<long[]> bottom = ranges.getRanges(new Rectangle(10, 60, 10, 10));
+            assertEquals(1, bottom.size());
+            assertArrayEquals(all.get(1), bottom.get(0));
+
+            assertEquals(0, ranges.getRanges(new Rectangle(1000, 1000, 10, 10)).size());
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    @Test
+    public void testTileRanges() {
+        // 3x2 tiles of 10x10 pixels, offsets in row major order
+        long[] offsets = {100, 200, 300, 400, 500, 600};
+        long[] counts = {50, 50, 50, 50, 50, 0};
+        TiffTileRanges ranges = new TiffTileRanges(25, 20, 10, 10, offsets, counts);
+
+        List<long[]> result = ranges.getRanges(new Rectangle(5, 5, 10, 10));
+        assertEquals(4, result.size());
+        assertArrayEquals(new long[] {100, 150}, result.get(0));
+        assertArrayEquals(new long[] {200, 250}, result.get(1));
+        assertArrayEquals(new long[] {400, 450}, result.get(2));
+        assertArrayEquals(new long[] {500, 550}, result.get(3));
+
+        // empty tiles are skipped
+        assertEquals(0, ranges.getRanges(new Rectangle(21, 11, 2, 2)).size());
+    }
+}
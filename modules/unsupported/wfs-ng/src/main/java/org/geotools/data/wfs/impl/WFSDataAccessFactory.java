@@ -116,7 +116,7 @@ public T lookUp(final Map params) throws IOException {
     }
 
     /** Access with {@link WFSDataStoreFactory#getParametersInfo()  */
-    private static final WFSFactoryParam<?>[] parametersInfo = new WFSFactoryParam[24];
+    private static final WFSFactoryParam<?>[] parametersInfo = new WFSFactoryParam[25];
 
     private static final int GMLComplianceLevel = 2;
 
@@ -484,6 +484,21 @@ public T lookUp(final Map params) throws IOException {
                 ADDITIONAL_HEADERS = new WFSFactoryParam<>(name, Map.class, title, description, null, "program");
     }
 
+    /**
+     * Optional {@code Boolean} parsing simple feature GetFeature responses with a plain StAX parser, instead of the
+     * schema driven one. Only affects WFS 2.0, WFS 1.x responses are always parsed this way.
+     */
+    public static final WFSFactoryParam<Boolean> FAST_GML_PARSING;
+
+    static {
+        String name = "WFSDataStoreFactory:FAST_GML_PARSING";
+        String title = "Fast GML parsing";
+        String description = "Parses WFS 2.0 simple feature responses with a streaming parser, instead of the"
+                + " schema driven one. Complex features are always parsed with the schema driven parser.";
+        parametersInfo[24] =
+                FAST_GML_PARSING = new WFSFactoryParam<>(name, Boolean.class, title, description, false, "advanced");
+    }
+
     /**
      * Checks whether {@code params} contains a valid set of parameters to connect to a WFS.
      *
@@ -21,6 +21,7 @@
 import static org.geotools.data.wfs.impl.WFSDataAccessFactory.BUFFER_SIZE;
 import static org.geotools.data.wfs.impl.WFSDataAccessFactory.ENCODING;
 import static org.geotools.data.wfs.impl.WFSDataAccessFactory.ENTITY_RESOLVER;
+import static org.geotools.data.wfs.impl.WFSDataAccessFactory.FAST_GML_PARSING;
 import static org.geotools.data.wfs.impl.WFSDataAccessFactory.FILTER_COMPLIANCE;
 import static org.geotools.data.wfs.impl.WFSDataAccessFactory.GML_COMPATIBLE_TYPENAMES;
 import static org.geotools.data.wfs.impl.WFSDataAccessFactory.LENIENT;
@@ -99,6 +100,8 @@ public class WFSConfig {
 
     protected Map<String, String> additionalHeaders;
 
+    protected boolean fastGmlParsing;
+
     public static enum PreferredHttpMethod {
         AUTO,
         HTTP_GET,
@@ -124,6 +127,7 @@ public WFSConfig() {
         entityResolver = (EntityResolver) ENTITY_RESOLVER.getDefaultValue();
         useHttpConnectionPooling = (Boolean) USE_HTTP_CONNECTION_POOLING.getDefaultValue();
         maxConnectionPoolSize = (Integer) MAX_CONNECTION_POOL_SIZE.getDefaultValue();
+        fastGmlParsing = (Boolean) FAST_GML_PARSING.getDefaultValue();
     }
 
     public static WFSConfig fromParams(Map<?, ?> params) throws IOException {
@@ -164,6 +168,7 @@ public static WFSConfig fromParams(Map<?, ?> params) throws IOException {
         config.entityResolver = ENTITY_RESOLVER.lookUp(params);
         config.useHttpConnectionPooling = USE_HTTP_CONNECTION_POOLING.lookUp(params);
         config.maxConnectionPoolSize = MAX_CONNECTION_POOL_SIZE.lookUp(params);
+        config.fastGmlParsing = FAST_GML_PARSING.lookUp(params);
 
         config.additionalHeaders = extractAdditionalHeaders(params);
         return config;
@@ -290,6 +295,11 @@ public EntityResolver getEntityResolver() {
         return entityResolver;
     }
 
+    /** @return if simple feature responses should be parsed with the streaming parser */
+    public boolean isFastGmlParsing() {
+        return fastGmlParsing;
+    }
+
     /** @return if http connection pooling should be used */
     public boolean isUseHttpConnectionPooling() {
         return useHttpConnectionPooling;
@@ -93,6 +93,15 @@ protected GetParser<SimpleFeature> parser(GetFeatureRequest request, InputStream
 
         FeatureType queryType = getRequestedType(request);
 
+        if (request.getStrategy().getConfig().isFastGmlParsing()) {
+            // canProcess only accepts simple feature types
+            return new XmlSimpleFeatureParser(
+                    in,
+                    (SimpleFeatureType) queryType,
+                    request.getTypeName(),
+                    request.getStrategy().getConfig().getAxisOrder());
+        }
+
         Configuration config = null;
         if (request.getStrategy().getVersion().equals(Versions.v2_0_0.toString())) {
             config = new org.geotools.wfs.v2_0.WFSConfiguration();
@@ -21,6 +21,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.logging.Logger;
@@ -74,6 +75,12 @@ public class XmlSimpleFeatureParser implements GetParser<SimpleFeature> {
 
     private final Map<String, AttributeDescriptor> expectedProperties;
 
+    /**
+     * The attribute indexes by the exact element names found in the response, filled while parsing, to avoid the case
+     * insensitive lookup on each element
+     */
+    private final Map<String, Integer> propertyIndexes = new HashMap<>();
+
     private int numberOfFeatures = -1;
 
     public XmlSimpleFeatureParser(
@@ -187,10 +194,10 @@ public SimpleFeature parse() throws IOException {
                     break;
                 }
                 if (START_ELEMENT == tagType) {
-                    AttributeDescriptor descriptor = expectedProperties.get(parser.getLocalName());
-                    if (descriptor != null) {
-                        attributeValue = parseAttributeValue();
-                        builder.set(descriptor.getLocalName(), attributeValue);
+                    int index = getPropertyIndex(parser.getLocalName());
+                    if (index != -1) {
+                        attributeValue = parseAttributeValue(targetType.getDescriptor(index));
+                        builder.set(index, attributeValue);
                     }
                 }
             }
@@ -201,10 +208,19 @@ public SimpleFeature parse() throws IOException {
         return feature;
     }
 
+    /** Returns the index of the attribute matching the element name, or -1 if the element is not an attribute */
+    private int getPropertyIndex(String name) {
+        Integer index = propertyIndexes.get(name);
+        if (index == null) {
+            AttributeDescriptor descriptor = expectedProperties.get(name);
+            index = descriptor == null ? -1 : targetType.indexOf(descriptor.getLocalName());
+            propertyIndexes.put(name, index);
+        }
+        return index;
+    }
+
     /** Parses the value of the current attribute, parser cursor shall be on a feature attribute START_ELEMENT event. */
-    private Object parseAttributeValue() throws XMLStreamException, IOException {
-        final String name = parser.getLocalName();
-        final AttributeDescriptor attribute = expectedProperties.get(name);
+    private Object parseAttributeValue(AttributeDescriptor attribute) throws XMLStreamException, IOException {
         final AttributeType type = attribute.getType();
         Object parsedValue;
         if (type instanceof GeometryType) {
@@ -239,7 +255,10 @@ private String seekFeature() throws IOException, XMLStreamException {
                 String name = parser.getLocalName();
                 if (featureNamespace.equals(namespace) && featureName.equals(name)) {
                     String featureId = parser.getAttributeValue(GML.id.getNamespaceURI(), GML.id.getLocalPart());
-
+                    if (featureId == null) {
+                        featureId = parser.getAttributeValue(
+                                org.geotools.gml3.v3_2.GML.id.getNamespaceURI(), GML.id.getLocalPart());
+                    }
                     if (featureId == null) {
                         featureId = parser.getAttributeValue(null, "fid");
                     }
@@ -180,6 +180,10 @@ public void setGmlCompatibleTypeNames(boolean gmlCompatibleTypeNames) {
         public void setEntityResolver(EntityResolver entityResolver) {
             this.entityResolver = entityResolver;
         }
+
+        public void setFastGmlParsing(boolean fastGmlParsing) {
+            this.fastGmlParsing = fastGmlParsing;
+        }
     }
 
     public static WFSConfig getGmlCompatibleConfig() {
@@ -0,0 +1,103 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.wfs.integration.v2_0;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import javax.xml.namespace.QName;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.wfs.TestHttpResponse;
+import org.geotools.data.wfs.WFSDataStore;
+import org.geotools.data.wfs.WFSTestData;
+import org.geotools.data.wfs.integration.IntegrationTestWFSClient;
+import org.geotools.data.wfs.internal.GetFeatureRequest;
+import org.geotools.data.wfs.internal.GetFeatureResponse;
+import org.geotools.data.wfs.internal.GetParser;
+import org.geotools.data.wfs.internal.parsers.PullParserFeatureReader;
+import org.geotools.data.wfs.internal.parsers.XmlSimpleFeatureParser;
+import org.geotools.feature.NameImpl;
+import org.junit.Test;
+import org.locationtech.jts.geom.Geometry;
+
+/** Parses the same WFS 2.0 response with and without {@code FAST_GML_PARSING} */
+public class FastGmlParsingTest {
+
+    private static final String BASE_DIRECTORY = "GeoServer_2.2.x/2.0.0/";
+
+    private static final String TYPE_NAME = "sf_roads";
+
+    @Test
+    public void testFastParsingToggle() throws Exception {
+        WFSDataStore slow = createDataStore(false);
+        WFSDataStore fast = createDataStore(true);
+        try {
+            assertTrue(getParser(slow) instanceof PullParserFeatureReader);
+            assertTrue(getParser(fast) instanceof XmlSimpleFeatureParser);
+
+            List<SimpleFeature> expected =
+                    DataUtilities.list(slow.getFeatureSource(TYPE_NAME).getFeatures());
+            List<SimpleFeature> actual =
+                    DataUtilities.list(fast.getFeatureSource(TYPE_NAME).getFeatures());
+            assertFalse(expected.isEmpty());
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                SimpleFeature e = expected.get(i);
+                SimpleFeature a = actual.get(i);
+                assertEquals(e.getID(), a.getID());
+                assertEquals(e.getAttributeCount(), a.getAttributeCount());
+                for (int j = 0; j < e.getAttributeCount(); j++) {
+                    Object ev = e.getAttribute(j);
+                    Object av = a.getAttribute(j);
+                    if (ev instanceof Geometry) {
+                        assertTrue(((Geometry) ev).equalsExact((Geometry) av));
+                    } else {
+                        assertEquals(ev, av);
+                    }
+                }
+            }
+        } finally {
+            slow.dispose();
+            fast.dispose();
+        }
+    }
+
+    private static WFSDataStore createDataStore(boolean fastGmlParsing) throws Exception {
+        WFSTestData.MutableWFSConfig config = new WFSTestData.MutableWFSConfig();
+        config.setGmlCompatibleTypeNames(true);
+        config.setFastGmlParsing(fastGmlParsing);
+        return new WFSDataStore(new IntegrationTestWFSClient(BASE_DIRECTORY, config));
+    }
+
+    /** Returns the parser picked for the GetFeature response of the test type */
+    private static GetParser<SimpleFeature> getParser(WFSDataStore store) throws Exception {
+        QName remoteName = store.getRemoteTypeName(new NameImpl(TYPE_NAME));
+        SimpleFeatureType fullType = store.getRemoteSimpleFeatureType(remoteName);
+        GetFeatureRequest request = store.getWfsClient().createGetFeatureRequest();
+        request.setTypeName(remoteName);
+        request.setFullType(fullType);
+        TestHttpResponse response = new TestHttpResponse(
+                "text/xml; subtype=gml/3.2", "UTF-8", WFSTestData.url(BASE_DIRECTORY + "GetFeature_roads.xml"));
+        GetParser<SimpleFeature> parser = ((GetFeatureResponse) request.createResponse(response)).getFeatures();
+        parser.close();
+        return parser;
+    }
+}
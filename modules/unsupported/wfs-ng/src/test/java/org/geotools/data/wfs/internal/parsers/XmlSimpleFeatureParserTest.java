@@ -22,8 +22,6 @@
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.data.wfs.internal.GetParser;
 import org.geotools.xsd.Configuration;
-import org.junit.Ignore;
-import org.junit.Test;
 
 public class XmlSimpleFeatureParserTest extends AbstractGetFeatureParserTest {
 
@@ -42,11 +40,4 @@ protected GetParser<SimpleFeature> getParser(
         GetParser<SimpleFeature> parser = new XmlSimpleFeatureParser(inputStream, featureType, featureName, axisOrder);
         return parser;
     }
-
-    @Override
-    @Test
-    @Ignore
-    public void testParseWfs200Gml32() throws Exception {
-        // parser is not supporting wfs 2.0.0/gml 3.2 so this impl is empty
-    }
 }